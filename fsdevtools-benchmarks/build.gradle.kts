@@ -0,0 +1,68 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+plugins {
+    idea
+}
+
+project.afterEvaluate {
+    disablePublishing()
+}
+
+dependencies {
+    implementation(project(":fsdevtools-cli"))
+    implementation(project(":fsdevtools-cli-api"))
+    implementation(project(":fsdevtools-commands:script"))
+    implementation(project(":fsdevtools-serverrunner"))
+    implementation(project(":fsdevtools-sharedutils"))
+
+    implementation(libs.airline)
+    implementation(libs.commons.compress)
+    implementation(libs.jackson.databind)
+    implementation(libs.jetbrains.annotations)
+
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+
+    // FirstSpirit API types are only stubbed in memory (see com.espirit.moddev.cli.benchmarks.stubs),
+    // the API classes themselves are still needed on the runtime classpath
+    runtimeOnly(group = "de.espirit.firstspirit", name = "fs-isolated-runtime", version = project.properties["fsRuntimeVersion"].toString(), ext = "jar")
+}
+
+///////////////////////////////////////////////////////
+// run the JMH benchmarks
+///////////////////////////////////////////////////////
+
+val jmh by tasks.registering(JavaExec::class) {
+    group = "verification"
+    description = "Runs the JMH benchmarks, use -PjmhInclude=<regex> to select benchmarks. Results are stored per version to track regressions between releases."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args = listOf(
+        project.findProperty("jmhInclude")?.toString() ?: ".*",
+        "-rf", "json",
+        "-rff", layout.buildDirectory.file("reports/jmh/results-${project.version}.json").get().asFile.absolutePath
+    )
+    doFirst {
+        mkdir(layout.buildDirectory.dir("reports/jmh"))
+    }
+}
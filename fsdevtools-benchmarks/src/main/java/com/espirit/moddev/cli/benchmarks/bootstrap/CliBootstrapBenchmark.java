@@ -0,0 +1,61 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.bootstrap;
+
+import com.espirit.moddev.cli.Cli;
+import com.espirit.moddev.cli.api.command.Command;
+import com.github.rvesse.airline.builder.CliBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CLI bootstrap: registering all indexed commands and groups and building the airline parser.
+ * Loading the command index itself happens once per JVM in the static initializer of {@link Cli}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CliBootstrapBenchmark {
+
+	@Benchmark
+	public CliBuilder<Command> getDefaultCliBuilder() {
+		return Cli.getDefaultCliBuilder();
+	}
+
+	@Benchmark
+	public com.github.rvesse.airline.Cli<Command> buildDefaultCli() {
+		return Cli.getDefaultCliBuilder().build();
+	}
+}
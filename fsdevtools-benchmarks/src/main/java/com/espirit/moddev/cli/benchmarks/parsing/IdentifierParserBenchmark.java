@@ -0,0 +1,118 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.parsing;
+
+import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
+import com.espirit.moddev.cli.api.parsing.identifier.UidMapping;
+import com.espirit.moddev.cli.api.parsing.parser.EntitiesIdentifierParser;
+import com.espirit.moddev.cli.api.parsing.parser.PathIdentifierParser;
+import com.espirit.moddev.cli.api.parsing.parser.ProjectPropertiesParser;
+import com.espirit.moddev.cli.api.parsing.parser.RegistryBasedParser;
+import com.espirit.moddev.cli.api.parsing.parser.RootNodeIdentifierParser;
+import com.espirit.moddev.cli.api.parsing.parser.SchemaIdentifierParser;
+import com.espirit.moddev.cli.api.parsing.parser.UidIdentifierParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of mixed export identifiers with the parser registry used by the export commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdentifierParserBenchmark {
+
+	private static final String[] STORES = {"templatestore", "pagestore", "contentstore", "sitestore", "mediastore", "globalstore"};
+
+	@Param("100000")
+	private int _identifierCount;
+
+	private RegistryBasedParser _parser;
+	private List<String> _identifiers;
+
+	@Setup
+	public void setUp() {
+		_parser = new RegistryBasedParser();
+		_parser.registerParser(new RootNodeIdentifierParser());
+		_parser.registerParser(new EntitiesIdentifierParser());
+		_parser.registerParser(new UidIdentifierParser());
+		_parser.registerParser(new ProjectPropertiesParser());
+		_parser.registerParser(new SchemaIdentifierParser());
+		_parser.registerParser(new PathIdentifierParser());
+
+		final UidMapping[] mappings = UidMapping.values();
+		final Random random = new Random(4711L);
+		_identifiers = new ArrayList<>(_identifierCount);
+		for (int index = 0; index < _identifierCount; index++) {
+			final int kind = random.nextInt(10);
+			final String identifier;
+			if (kind < 5) {
+				// uid identifiers are by far the most common ones, partly with whitespace around the delimiter
+				final String prefix = mappings[random.nextInt(mappings.length)].getPrefix();
+				identifier = (kind == 0 ? prefix.toUpperCase(Locale.ROOT) + " : " : prefix + ':') + "uid_" + index;
+			} else if (kind == 5) {
+				identifier = "root:" + STORES[random.nextInt(STORES.length)];
+			} else if (kind == 6) {
+				identifier = STORES[random.nextInt(STORES.length)];
+			} else if (kind == 7) {
+				identifier = "entities:schema_" + index;
+			} else if (kind == 8) {
+				identifier = "schema:schema_" + index;
+			} else {
+				identifier = "path:/PageStore/folder_" + (index % 100) + "/page_" + index;
+			}
+			_identifiers.add(identifier);
+		}
+	}
+
+	@Benchmark
+	public List<Identifier> parse() {
+		return _parser.parse(_identifiers);
+	}
+
+	@Benchmark
+	public void appliesTo(final Blackhole blackhole) {
+		for (final String identifier : _identifiers) {
+			blackhole.consume(_parser.appliesTo(identifier));
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.script;
+
+import com.espirit.moddev.cli.commands.script.common.LineReadingOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link LineReadingOutputStream} for about 1 MB of script output with mixed line
+ * breaks and multibyte characters, written in chunks of different sizes and passed on line by line or in batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineReadingOutputStreamBenchmark {
+
+	private static final String[] LINE_BREAKS = {"\n", "\r\n", "\r"};
+
+	@Param({"1", "128", "8192"})
+	private int _chunkSize;
+
+	@Param({"1", "64"})
+	private int _batchSize;
+
+	private byte[] _output;
+
+	@Setup
+	public void setUp() {
+		final StringBuilder builder = new StringBuilder();
+		int index = 0;
+		while (builder.length() < 1024 * 1024) {
+			builder.append("INFO  [").append(index).append("] processed element 'Startseite-übersicht € ").append(index).append('\'');
+			builder.append(LINE_BREAKS[index % LINE_BREAKS.length]);
+			index++;
+		}
+		_output = builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public void writeChunks(final Blackhole blackhole) throws IOException {
+		try (final LineReadingOutputStream stream = new LineReadingOutputStream(blackhole::consume, StandardCharsets.UTF_8, _batchSize)) {
+			if (_chunkSize == 1) {
+				for (final byte value : _output) {
+					stream.write(value);
+				}
+			} else {
+				for (int offset = 0; offset < _output.length; offset += _chunkSize) {
+					stream.write(_output, offset, Math.min(_chunkSize, _output.length - offset));
+				}
+			}
+		}
+	}
+}
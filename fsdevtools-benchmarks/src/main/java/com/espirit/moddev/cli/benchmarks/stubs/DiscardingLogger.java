@@ -0,0 +1,99 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.stubs;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * {@link org.slf4j.Logger} that formats every enabled message like a real logger would, but only counts it
+ * instead of writing it anywhere. Benchmarks can consume the counters to keep the logging calls alive.
+ */
+public class DiscardingLogger extends LegacyAbstractLogger {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Level _threshold;
+	private long _messageCount;
+	private long _characterCount;
+
+	/**
+	 * @param threshold the most verbose level that is enabled, e.g. {@link Level#INFO} enables info, warn and error
+	 */
+	public DiscardingLogger(@NotNull final Level threshold) {
+		_threshold = threshold;
+		name = "DiscardingLogger";
+	}
+
+	private boolean isEnabled(@NotNull final Level level) {
+		return level.toInt() >= _threshold.toInt();
+	}
+
+	@Override
+	public boolean isTraceEnabled() {
+		return isEnabled(Level.TRACE);
+	}
+
+	@Override
+	public boolean isDebugEnabled() {
+		return isEnabled(Level.DEBUG);
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return isEnabled(Level.INFO);
+	}
+
+	@Override
+	public boolean isWarnEnabled() {
+		return isEnabled(Level.WARN);
+	}
+
+	@Override
+	public boolean isErrorEnabled() {
+		return isEnabled(Level.ERROR);
+	}
+
+	@Override
+	protected String getFullyQualifiedCallerName() {
+		return null;
+	}
+
+	@Override
+	protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern, final Object[] arguments, final Throwable throwable) {
+		final String message = MessageFormatter.basicArrayFormat(messagePattern, arguments);
+		_messageCount++;
+		_characterCount += message == null ? 0 : message.length();
+	}
+
+	public long getMessageCount() {
+		return _messageCount;
+	}
+
+	public long getCharacterCount() {
+		return _characterCount;
+	}
+}
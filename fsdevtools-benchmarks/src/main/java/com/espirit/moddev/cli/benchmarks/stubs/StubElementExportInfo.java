@@ -0,0 +1,124 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.stubs;
+
+import de.espirit.common.util.Pair;
+import de.espirit.firstspirit.access.store.BasicElementInfo;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.store.access.BasicElementInfoImpl;
+import de.espirit.firstspirit.store.access.nexport.ElementExportInfo;
+import de.espirit.firstspirit.store.access.nexport.ExportStatus;
+import de.espirit.firstspirit.store.access.nexport.io.ExportInfoFileHandle;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * In-memory {@link ElementExportInfo} of a store element, including created and updated file handles.
+ */
+public class StubElementExportInfo implements ElementExportInfo {
+
+	private static final Store.Type[] STORE_TYPES = {Store.Type.PAGESTORE, Store.Type.SITESTORE, Store.Type.MEDIASTORE, Store.Type.TEMPLATESTORE};
+	private static final String[] NODE_TAGS = {"PAGE", "PAGEREF", "MEDIUM", "LINKTEMPLATE"};
+
+	private final String _name;
+	private final ExportStatus _status;
+	private final BasicElementInfo _elementInfo;
+	private final Set<ExportInfoFileHandle> _createdFileHandles = new HashSet<>();
+	private final Set<ExportInfoFileHandle> _updatedFileHandles = new HashSet<>();
+
+	public StubElementExportInfo(@NotNull final Store.Type storeType, @NotNull final String nodeTag, final long nodeId, @NotNull final String name, @NotNull final ExportStatus status, final int fileCount) {
+		_name = name;
+		_status = status;
+		_elementInfo = new BasicElementInfoImpl(storeType, nodeTag, nodeId, name, -1);
+		final Set<ExportInfoFileHandle> fileHandles = status == ExportStatus.CREATED ? _createdFileHandles : _updatedFileHandles;
+		for (int index = 0; index < fileCount; index++) {
+			final String fileName = index + ".xml";
+			fileHandles.add(new StubFileHandle(this, "/" + storeType.getName() + "/" + name + "/" + fileName, fileName));
+		}
+	}
+
+	/**
+	 * Creates export infos spread over the stores in random order, like a real export result of the given size.
+	 *
+	 * @param count the number of export infos to create
+	 * @param seed  the seed for the random order, so runs are comparable
+	 * @return the created export infos
+	 */
+	@NotNull
+	public static List<StubElementExportInfo> create(final int count, final long seed) {
+		final Random random = new Random(seed);
+		final List<StubElementExportInfo> result = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			final int kind = random.nextInt(STORE_TYPES.length);
+			final ExportStatus status = random.nextBoolean() ? ExportStatus.CREATED : ExportStatus.UPDATED;
+			result.add(new StubElementExportInfo(STORE_TYPES[kind], NODE_TAGS[kind], index, "element_" + random.nextInt(count), status, 1 + random.nextInt(3)));
+		}
+		return result;
+	}
+
+	@Override
+	public Type getType() {
+		return Type.ELEMENT;
+	}
+
+	@Override
+	public String getName() {
+		return _name;
+	}
+
+	@Override
+	public ExportStatus getStatus() {
+		return _status;
+	}
+
+	@Override
+	public Set<ExportInfoFileHandle> getCreatedFileHandles() {
+		return _createdFileHandles;
+	}
+
+	@Override
+	public Set<ExportInfoFileHandle> getUpdatedFileHandles() {
+		return _updatedFileHandles;
+	}
+
+	@Override
+	public Set<ExportInfoFileHandle> getDeletedFileHandles() {
+		return Set.of();
+	}
+
+	@Override
+	public Collection<Pair<ExportInfoFileHandle, ExportInfoFileHandle>> getMovedFileHandles() {
+		return List.of();
+	}
+
+	@Override
+	public BasicElementInfo getElementInfo() {
+		return _elementInfo;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.util;
+
+import com.espirit.moddev.util.ArchiveUtil;
+import com.espirit.moddev.util.FileUtil;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ArchiveUtil#decompressTarGz(Path, Path)} for an archive shaped like a server installer:
+ * many small text files in nested directories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArchiveUtilBenchmark {
+
+	@Param({"1000"})
+	private int _fileCount;
+
+	@Param({"8192"})
+	private int _fileSize;
+
+	private Path _workingDir;
+	private Path _archive;
+	private int _invocation;
+
+	@Setup
+	public void setUp() throws IOException {
+		_workingDir = Files.createTempDirectory("archive-benchmark");
+		_archive = _workingDir.resolve("archive.tar.gz");
+		final Random random = new Random(4711L);
+		try (final OutputStream fileStream = new BufferedOutputStream(Files.newOutputStream(_archive));
+			 final TarArchiveOutputStream tarStream = new TarArchiveOutputStream(new GzipCompressorOutputStream(fileStream))) {
+			for (int index = 0; index < _fileCount; index++) {
+				final byte[] content = createContent(random, _fileSize);
+				final TarArchiveEntry entry = new TarArchiveEntry("firstspirit5/dir_" + (index % 20) + "/file_" + index + ".conf");
+				entry.setSize(content.length);
+				tarStream.putArchiveEntry(entry);
+				tarStream.write(content);
+				tarStream.closeArchiveEntry();
+			}
+		}
+	}
+
+	private static byte[] createContent(final Random random, final int size) {
+		final StringBuilder builder = new StringBuilder(size);
+		while (builder.length() < size) {
+			builder.append("wrapper.java.additional.").append(random.nextInt(100)).append("=-Dvalue=").append(random.nextLong()).append('\n');
+		}
+		builder.setLength(size);
+		return builder.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteDecompressedFiles() throws IOException {
+		try (final var children = Files.list(_workingDir)) {
+			for (final Path child : (Iterable<Path>) children::iterator) {
+				if (Files.isDirectory(child)) {
+					FileUtil.deleteDirectory(child);
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtil.deleteDirectory(_workingDir);
+	}
+
+	@Benchmark
+	public Path decompressTarGz() throws IOException {
+		final Path targetDir = _workingDir.resolve("target_" + _invocation++);
+		ArchiveUtil.decompressTarGz(_archive, targetDir);
+		return targetDir;
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.benchmarks.util;
+
+import com.espirit.moddev.util.JacksonUtil;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON serialization of command results: creating the output mapper on its own, creating it per
+ * result like the result file writer used to do, and serializing with the shared mapper and writer. The
+ * deserialization of configuration files is measured the same way with a fresh input mapper and the shared reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonUtilBenchmark {
+
+	@Param({"10", "10000"})
+	private int _elementCount;
+
+	private JsonMapper _outputMapper;
+	private CommandResult _result;
+	private byte[] _configuration;
+
+	@Setup
+	public void setUp() {
+		_outputMapper = JacksonUtil.createOutputMapper();
+		final List<ElementResult> elements = new ArrayList<>(_elementCount);
+		for (int index = 0; index < _elementCount; index++) {
+			elements.add(new ElementResult("element_" + index, "/PageStore/folder_" + (index % 100) + "/element_" + index, index));
+		}
+		final Map<String, Integer> summary = new LinkedHashMap<>();
+		summary.put("updated", _elementCount / 2);
+		summary.put("created", _elementCount - _elementCount / 2);
+		_result = new CommandResult("export", elements, summary);
+		final StringBuilder configuration = new StringBuilder("[");
+		for (int index = 0; index < _elementCount; index++) {
+			if (index > 0) {
+				configuration.append(',');
+			}
+			configuration.append("{\"moduleName\": \"module_").append(index).append("\", \"deploy\": \"true\"}");
+		}
+		_configuration = configuration.append(']').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public JsonMapper createOutputMapper() {
+		return JacksonUtil.createOutputMapper();
+	}
+
+	@Benchmark
+	public String createOutputMapperAndSerialize() {
+		return JacksonUtil.createOutputMapper().writeValueAsString(_result);
+	}
+
+	@Benchmark
+	public String serializeWithExistingMapper() {
+		return _outputMapper.writeValueAsString(_result);
+	}
+
+	@Benchmark
+	public String serializeWithSharedWriter() {
+		return JacksonUtil.getOutputWriter(CommandResult.class).writeValueAsString(_result);
+	}
+
+	@Benchmark
+	public ModuleEntry[] createInputMapperAndDeserialize() {
+		return JacksonUtil.createInputMapper().readValue(_configuration, ModuleEntry[].class);
+	}
+
+	@Benchmark
+	public ModuleEntry[] deserializeWithSharedReader() {
+		return JacksonUtil.getInputReader(ModuleEntry[].class).readValue(_configuration);
+	}
+
+	@JsonSerialize
+	public static class CommandResult {
+
+		@JsonProperty("command")
+		private final String _command;
+		@JsonProperty("elements")
+		private final List<ElementResult> _elements;
+		@JsonProperty("summary")
+		private final Map<String, Integer> _summary;
+
+		CommandResult(final String command, final List<ElementResult> elements, final Map<String, Integer> summary) {
+			_command = command;
+			_elements = elements;
+			_summary = summary;
+		}
+	}
+
+	@JsonSerialize
+	public static class ElementResult {
+
+		@JsonProperty("uid")
+		private final String _uid;
+		@JsonProperty("path")
+		private final String _path;
+		@JsonProperty("revision")
+		private final long _revision;
+
+		ElementResult(final String uid, final String path, final long revision) {
+			_uid = uid;
+			_path = path;
+			_revision = revision;
+		}
+	}
+
+	public static class ModuleEntry {
+
+		private final String _moduleName;
+		private final String _deploy;
+
+		@JsonCreator
+		public ModuleEntry(@JsonProperty(value = "moduleName", required = true) final String moduleName, @JsonProperty("deploy") final String deploy) {
+			_moduleName = moduleName;
+			_deploy = deploy;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.results.logging;
+
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
+import com.espirit.moddev.cli.benchmarks.stubs.DiscardingLogger;
+import com.espirit.moddev.cli.benchmarks.stubs.StubElementExportInfo;
+import de.espirit.firstspirit.store.access.nexport.ExportInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the organization and logging of export results, using in-memory export infos and a logger that
+ * formats but discards all messages. The store agent is {@code null}, so no store lookups are involved. The result
+ * detail only affects {@link #logElements()}.
+ * <p>
+ * Unlike the other benchmarks this one lives in the package of the measured classes: {@link ReorganizedResult} and
+ * {@link AdvancedLogger#logElements} are package-private, the public API would require a complete export result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportResultLoggingBenchmark {
+
+	@Param({"1000", "20000"})
+	private int _elementCount;
+
+	@Param({"INFO", "DEBUG"})
+	private Level _logLevel;
+
+	@Param({"SUMMARY", "FULL"})
+	private ResultDetail _resultDetail;
+
+	private Collection<ExportInfo> _elements;
+	private DiscardingLogger _logger;
+
+	@Setup
+	public void setUp() {
+		_elements = new ArrayList<>(StubElementExportInfo.create(_elementCount, 4711L));
+		_logger = new DiscardingLogger(_logLevel);
+	}
+
+	@Benchmark
+	public ReorganizedResult reorganize() {
+		return new ReorganizedResult(_elements);
+	}
+
+	@Benchmark
+	public String logElements() {
+		return AdvancedLogger.logElements(_logger, null, _elements, "Created elements", _resultDetail);
+	}
+}
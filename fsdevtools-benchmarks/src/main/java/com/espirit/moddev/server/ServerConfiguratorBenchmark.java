@@ -0,0 +1,114 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.server;
+
+import com.espirit.moddev.util.FileUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.espirit.moddev.util.FsUtil.FILE_FS_WRAPPER_ISOLATED_CONF;
+
+/**
+ * Measures {@link ServerConfigurator#updateWrapperConfFile(Path, Map)} for a wrapper configuration of typical
+ * size. The update is idempotent, so every invocation rewrites the same file without resetting it.
+ * <p>
+ * Unlike the other benchmarks this one lives in the package of the measured class: the wrapper configuration is only
+ * updated by the package-private {@link ServerConfigurator#updateWrapperConfFile(Path, Map)}, the public API would
+ * install and start a server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerConfiguratorBenchmark {
+
+	@Param({"300"})
+	private int _lineCount;
+
+	@Param({"20"})
+	private int _additionalVMArgCount;
+
+	private Path _workingDir;
+	private Path _wrapperConf;
+	private Map<String, String> _arguments;
+
+	@Setup
+	public void setUp() throws IOException {
+		_workingDir = Files.createTempDirectory("server-configurator-benchmark");
+		_wrapperConf = _workingDir.resolve(FILE_FS_WRAPPER_ISOLATED_CONF);
+		final List<String> lines = new ArrayList<>(_lineCount);
+		for (int index = 0; index < _lineCount; index++) {
+			if (index % 10 == 0) {
+				lines.add("# section " + index);
+			} else {
+				lines.add("wrapper.java.additional." + index + "=-Dfirstspirit.setting" + index + "=value" + index);
+			}
+		}
+		lines.add("wrapper.java.initmemory=256");
+		lines.add("wrapper.java.maxmemory=1024");
+		Files.write(_wrapperConf, lines, StandardCharsets.UTF_8);
+
+		// same arguments as ServerConfigurator#updateWrapperConfFiles
+		_arguments = new HashMap<>();
+		for (int index = 0; index < _additionalVMArgCount; index++) {
+			_arguments.put("wrapper.java.additional." + (80 + index), "-Dbenchmark.argument" + index + "=true");
+		}
+		_arguments.put("wrapper.java.initmemory", "512");
+		_arguments.put("wrapper.java.maxmemory", "2048");
+		_arguments.put("wrapper.startup.timeout", "600");
+		_arguments.put("wrapper.disable_restarts.automatic", "true");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtil.deleteDirectory(_workingDir);
+	}
+
+	@Benchmark
+	public Path updateWrapperConfFile() throws IOException {
+		ServerConfigurator.updateWrapperConfFile(_wrapperConf, _arguments);
+		return _wrapperConf;
+	}
+}
@@ -122,6 +122,64 @@ public interface Config {
 	@NotNull
 	String getResultFile();
 
+	/**
+	 * Get the format of the result file.
+	 *
+	 * @return the {@link ResultFileFormat} to write, {@link ResultFileFormat#JSON} by default
+	 */
+	@NotNull
+	default ResultFileFormat getResultFileFormat() {
+		return ResultFileFormat.JSON;
+	}
+
+	/**
+	 * Indicates whether the result file is written gzip compressed.
+	 *
+	 * @return true if the result file should be compressed with gzip
+	 */
+	default boolean isResultFileCompressed() {
+		return false;
+	}
+
+	/**
+	 * Get the amount of detail logged for the result of a command.
+	 *
+	 * @return the {@link ResultDetail} to log, {@link ResultDetail#FULL} by default
+	 */
+	@NotNull
+	default ResultDetail getResultDetail() {
+		return ResultDetail.FULL;
+	}
+
+	/**
+	 * Indicates whether log events are handed over to the appenders by a background thread, so console and file I/O do
+	 * not slow down the command.
+	 *
+	 * @return true if the log should be written asynchronously
+	 */
+	default boolean isLogAsync() {
+		return false;
+	}
+
+	/**
+	 * Get the number of log events the asynchronous logging buffers, see {@link #isLogAsync()}.
+	 *
+	 * @return the size of the log queue
+	 */
+	default int getLogQueueSize() {
+		return 8192;
+	}
+
+	/**
+	 * Get the behaviour of the asynchronous logging if its queue is full, see {@link #isLogAsync()}.
+	 *
+	 * @return the {@link LogQueueFullPolicy}, {@link LogQueueFullPolicy#BLOCK} by default
+	 */
+	@NotNull
+	default LogQueueFullPolicy getLogQueueFullPolicy() {
+		return LogQueueFullPolicy.BLOCK;
+	}
+
 	/**
 	 * Get the name of the project that will be synchronized.
 	 *
@@ -0,0 +1,42 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.configuration;
+
+/**
+ * Behaviour of the asynchronous logging if its queue is full, see {@link Config#isLogAsync()}.
+ */
+public enum LogQueueFullPolicy {
+
+	/**
+	 * The logging thread waits until the queue has room again. No log event is lost.
+	 */
+	BLOCK,
+
+	/**
+	 * Events with level INFO or lower are dropped, more severe events are written synchronously. Because they bypass the
+	 * queue, such warnings and errors appear in the log before the events which are still queued. The number of dropped
+	 * events is logged when the asynchronous logging ends.
+	 */
+	DISCARD
+
+}
@@ -0,0 +1,64 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.configuration;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Amount of detail logged for the result of a command, e.g. the elements of an export or import.
+ */
+public enum ResultDetail {
+
+	/**
+	 * Only logs that the command is done, without any information about the affected elements. Problems, e.g. of an
+	 * import, are still logged one by one.
+	 */
+	NONE,
+
+	/**
+	 * Logs the number of affected elements per category and the summary, but no line per element. Problems are still
+	 * logged one by one.
+	 */
+	SUMMARY,
+
+	/**
+	 * Logs every affected element, including its files if DEBUG is enabled.
+	 */
+	FULL;
+
+	/**
+	 * Returns the detail level with the given name, ignoring the case. Used by the option parser, so {@code summary} is accepted
+	 * as well.
+	 *
+	 * @param value the name of the detail level
+	 * @return the detail level with the given name
+	 * @throws IllegalArgumentException if there is no detail level with the given name
+	 */
+	@NotNull
+	public static ResultDetail fromString(@NotNull final String value) {
+		return valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.configuration;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Layouts of the result file written after each command.
+ */
+public enum ResultFileFormat {
+
+	/**
+	 * A single, indented JSON document containing the command, the error flag and the result.
+	 */
+	JSON,
+
+	/**
+	 * Newline delimited JSON: a first line with the command and the error flag (or the exception), followed by one line
+	 * per element of an iterable result or a single line with the whole result. Suited for huge results, as consumers can
+	 * process the file line by line.
+	 */
+	NDJSON;
+
+	/**
+	 * Returns the format with the given name, ignoring the case. Used by the option parser, so {@code ndjson} is accepted
+	 * as well.
+	 *
+	 * @param value the name of the format
+	 * @return the format with the given name
+	 * @throws IllegalArgumentException if there is no format with the given name
+	 */
+	@NotNull
+	public static ResultFileFormat fromString(@NotNull final String value) {
+		return valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+
+}
@@ -24,6 +24,8 @@ package com.espirit.moddev.cli.api.parsing.parser;
 
 import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -49,4 +51,16 @@ public interface Parser<T extends Identifier> {
 	 * @return true if the input string can be handled somehow
 	 */
 	boolean appliesTo(String input);
+
+	/**
+	 * Returns the lower case dispatch keys this parser can apply to. A dispatch key is the prefix in front of
+	 * the first ':' of an input string, or the whole input string if it doesn't contain a ':'. Registries use
+	 * the keys to select candidate parsers without probing every parser for every input. Parsers returning
+	 * an empty collection (the default) are probed for every input.
+	 *
+	 * @return the lower case dispatch keys of this parser, or an empty collection if unknown
+	 */
+	default Collection<String> getPrefixes() {
+		return Collections.emptySet();
+	}
 }
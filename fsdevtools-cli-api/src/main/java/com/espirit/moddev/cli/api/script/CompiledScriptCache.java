@@ -0,0 +1,191 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.script;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Least recently used cache for the compiled form of script sources, to be held by a {@link ScriptEngine} so that a
+ * script which is executed several times is only compiled once. The entries are keyed by the SHA-256 hash of the
+ * source. The cache is bounded by the number of entries and by the total length of the cached sources, which serves
+ * as an estimate of the memory held by the compiled scripts. Sources longer than the weight limit are not cached.
+ *
+ * @param <T> the type of the compiled script
+ */
+public final class CompiledScriptCache<T> {
+
+	/**
+	 * The default maximum number of cached scripts.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 128;
+
+	/**
+	 * The default maximum total length of the cached script sources in characters.
+	 */
+	public static final long DEFAULT_MAX_WEIGHT = 4L * 1024 * 1024;
+
+	private final int _maxEntries;
+	private final long _maxWeight;
+	private final LinkedHashMap<String, Entry<T>> _entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long _weight;
+
+	/**
+	 * Creates a cache with {@link #DEFAULT_MAX_ENTRIES} and {@link #DEFAULT_MAX_WEIGHT}.
+	 */
+	public CompiledScriptCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT);
+	}
+
+	/**
+	 * Creates a cache with the given bounds.
+	 *
+	 * @param maxEntries the maximum number of cached scripts
+	 * @param maxWeight  the maximum total length of the cached script sources in characters
+	 */
+	public CompiledScriptCache(final int maxEntries, final long maxWeight) {
+		if (maxEntries < 1 || maxWeight < 1) {
+			throw new IllegalArgumentException("The bounds of the cache must be positive, but are " + maxEntries + " entries and a weight of " + maxWeight + '.');
+		}
+		_maxEntries = maxEntries;
+		_maxWeight = maxWeight;
+	}
+
+	/**
+	 * Returns the compiled form of the given source, compiling and caching it if it is not cached yet. Compilation
+	 * happens outside the lock of the cache, concurrent callers with the same uncached source may both compile it.
+	 *
+	 * @param source   the script source
+	 * @param compiler compiles the source on a cache miss
+	 * @param <E>      the type of the exception thrown by the compiler
+	 * @return the compiled script
+	 * @throws E if the source could not be compiled, failures are not cached
+	 */
+	@NotNull
+	public <E extends Exception> T get(@NotNull final String source, @NotNull final Compiler<T, E> compiler) throws E {
+		final String key = hash(source);
+		final T cached = lookup(key);
+		if (cached != null) {
+			return cached;
+		}
+		final T compiled = compiler.compile(source);
+		store(key, new Entry<>(compiled, source.length()));
+		return compiled;
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public synchronized void clear() {
+		_entries.clear();
+		_weight = 0;
+	}
+
+	/**
+	 * Returns the number of cached scripts.
+	 *
+	 * @return the number of cached scripts
+	 */
+	public synchronized int size() {
+		return _entries.size();
+	}
+
+	@VisibleForTesting
+	synchronized long getWeight() {
+		return _weight;
+	}
+
+	@Nullable
+	private synchronized T lookup(@NotNull final String key) {
+		final Entry<T> entry = _entries.get(key);
+		return entry != null ? entry._compiled : null;
+	}
+
+	private synchronized void store(@NotNull final String key, @NotNull final Entry<T> entry) {
+		if (entry._weight > _maxWeight) {
+			return;
+		}
+		final Entry<T> previous = _entries.put(key, entry);
+		if (previous != null) {
+			_weight -= previous._weight;
+		}
+		_weight += entry._weight;
+		// evict the least recently used entries, the new entry is the most recently used one
+		final Iterator<Entry<T>> iterator = _entries.values().iterator();
+		while (_entries.size() > _maxEntries || _weight > _maxWeight) {
+			_weight -= iterator.next()._weight;
+			iterator.remove();
+		}
+	}
+
+	@NotNull
+	private static String hash(@NotNull final String source) {
+		try {
+			final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+		} catch (final NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Compiles a script source.
+	 *
+	 * @param <T> the type of the compiled script
+	 * @param <E> the type of the exception thrown on compilation errors
+	 */
+	@FunctionalInterface
+	public interface Compiler<T, E extends Exception> {
+
+		/**
+		 * Compiles the given source.
+		 *
+		 * @param source the script source
+		 * @return the compiled script
+		 * @throws E if the source could not be compiled
+		 */
+		@NotNull
+		T compile(@NotNull String source) throws E;
+	}
+
+	private static final class Entry<T> {
+
+		private final T _compiled;
+		private final long _weight;
+
+		private Entry(@NotNull final T compiled, final long weight) {
+			_compiled = compiled;
+			_weight = weight;
+		}
+	}
+
+}
@@ -22,15 +22,21 @@
 
 package com.espirit.moddev.util;
 
+import com.espirit.moddev.cli.api.result.ExecutionResults;
 import com.espirit.moddev.util.serializer.ExceptionSerializer;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.jetbrains.annotations.NotNull;
 import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Utility class for things related to json.
  */
@@ -96,6 +102,53 @@ public class JacksonUtil {
 				.build();
 	}
 
+	/**
+	 * Returns the shared mapper created by {@link #createInputMapper()}. Mappers are immutable and thread-safe once built, so sharing one
+	 * instance keeps its deserializer cache warm across calls. Use {@link #createInputMapper()} if the mapper needs to be reconfigured.
+	 *
+	 * @return the shared {@link JsonMapper} for deserialization purposes
+	 */
+	@NotNull
+	public static JsonMapper getInputMapper() {
+		return InputHolder.MAPPER;
+	}
+
+	/**
+	 * Returns the shared mapper created by {@link #createOutputMapper()}. Mappers are immutable and thread-safe once built, so sharing one
+	 * instance keeps its serializer cache warm across calls. Use {@link #createOutputMapper()} if the mapper needs to be reconfigured.
+	 *
+	 * @return the shared {@link JsonMapper} for serialization purposes
+	 */
+	@NotNull
+	public static JsonMapper getOutputMapper() {
+		return OutputHolder.MAPPER;
+	}
+
+	/**
+	 * Returns a shared {@link ObjectReader} of the {@link #getInputMapper() input mapper} for the given type. The root deserializer of the
+	 * type is resolved when the reader is created for the first time, subsequent calls return the same reader.
+	 *
+	 * @param type the type to read
+	 * @return the shared reader for the given type
+	 */
+	@NotNull
+	public static ObjectReader getInputReader(@NotNull final Class<?> type) {
+		return InputHolder.READERS.computeIfAbsent(type, InputHolder.MAPPER::readerFor);
+	}
+
+	/**
+	 * Returns a shared {@link ObjectWriter} of the {@link #getOutputMapper() output mapper} for the given type. The root serializer of the
+	 * type is resolved when the writer is created for the first time, subsequent calls return the same writer. The writer for
+	 * {@link ExecutionResults} is created up front.
+	 *
+	 * @param type the type to write
+	 * @return the shared writer for the given type
+	 */
+	@NotNull
+	public static ObjectWriter getOutputWriter(@NotNull final Class<?> type) {
+		return OutputHolder.WRITERS.computeIfAbsent(type, OutputHolder.MAPPER::writerFor);
+	}
+
 	/**
 	 * Returns {@code true} if the given class carries an annotation whose fully-qualified type name ends with
 	 * {@code ".jackson.databind.annotation.JsonSerialize"}.
@@ -123,4 +176,22 @@ public class JacksonUtil {
 		return false;
 	}
 
+	private static final class InputHolder {
+
+		private static final JsonMapper MAPPER = createInputMapper();
+		private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+	}
+
+	private static final class OutputHolder {
+
+		private static final JsonMapper MAPPER = createOutputMapper();
+		private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+		static {
+			WRITERS.put(ExecutionResults.class, MAPPER.writerFor(ExecutionResults.class));
+		}
+
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.script;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledScriptCacheTest {
+
+	@Test
+	void compilesOncePerSource() {
+		// setup
+		final CompiledScriptCache<String> cache = new CompiledScriptCache<>();
+		final AtomicInteger compilations = new AtomicInteger();
+
+		// test
+		final String first = cache.get("return 42;", source -> "compiled " + compilations.incrementAndGet());
+		final String second = cache.get("return 42;", source -> "compiled " + compilations.incrementAndGet());
+		final String other = cache.get("return 23;", source -> "compiled " + compilations.incrementAndGet());
+
+		// verify
+		assertThat(first).isEqualTo("compiled 1").isSameAs(second);
+		assertThat(other).isEqualTo("compiled 2");
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntry() {
+		// setup
+		final CompiledScriptCache<String> cache = new CompiledScriptCache<>(2, CompiledScriptCache.DEFAULT_MAX_WEIGHT);
+		cache.get("a", source -> source + 1);
+		cache.get("b", source -> source + 1);
+		cache.get("a", source -> source + 2);
+
+		// test
+		cache.get("c", source -> source + 1);
+
+		// verify
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a", source -> source + 3)).isEqualTo("a1");
+		assertThat(cache.get("b", source -> source + 3)).isEqualTo("b3");
+	}
+
+	@Test
+	void evictsByWeight() {
+		// setup
+		final CompiledScriptCache<String> cache = new CompiledScriptCache<>(10, 10);
+
+		// test
+		cache.get("12345", String::valueOf);
+		cache.get("abcde", String::valueOf);
+		cache.get("xyz", String::valueOf);
+		cache.get("this source is too long", String::valueOf);
+
+		// verify
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getWeight()).isEqualTo(8);
+	}
+
+	@Test
+	void compilationFailureIsNotCached() {
+		// setup
+		final CompiledScriptCache<String> cache = new CompiledScriptCache<>();
+
+		// test & verify
+		assertThatThrownBy(() -> cache.get("broken", source -> {
+			throw new IOException("syntax error");
+		})).isInstanceOf(IOException.class);
+		assertThat(cache.size()).isZero();
+		assertThat(cache.get("broken", source -> "fixed")).isEqualTo("fixed");
+	}
+
+	@Test
+	void clear() {
+		// setup
+		final CompiledScriptCache<String> cache = new CompiledScriptCache<>();
+		cache.get("a", String::valueOf);
+
+		// test
+		cache.clear();
+
+		// verify
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getWeight()).isZero();
+	}
+
+	@Test
+	void invalidBounds() {
+		assertThatThrownBy(() -> new CompiledScriptCache<String>(0, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CompiledScriptCache<String>(1, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -22,10 +22,15 @@
 
 package com.espirit.moddev.util;
 
+import com.espirit.moddev.cli.api.result.ExecutionResults;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.annotation.JsonSerialize;
@@ -53,6 +58,39 @@ public class JacksonUtilTest {
 		Assertions.assertThat(mapper.serializationConfig().hasSerializationFeatures(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS.getMask())).isTrue();
 	}
 
+	@Test
+	public void getInputMapper_isShared() {
+		final JsonMapper mapper = JacksonUtil.getInputMapper();
+		assertThat(JacksonUtil.getInputMapper()).isSameAs(mapper);
+		Assertions.assertThat(mapper.deserializationConfig().hasDeserializationFeatures(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES.getMask())).isTrue();
+		Assertions.assertThat(mapper.deserializationConfig().hasDeserializationFeatures(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES.getMask())).isFalse();
+	}
+
+	@Test
+	public void getOutputMapper_isShared() {
+		final JsonMapper mapper = JacksonUtil.getOutputMapper();
+		assertThat(JacksonUtil.getOutputMapper()).isSameAs(mapper);
+		Assertions.assertThat(mapper.serializationConfig().hasSerializationFeatures(SerializationFeature.INDENT_OUTPUT.getMask())).isTrue();
+		Assertions.assertThat(mapper.writeValueAsString(new PlainPojoAutoDetectFixture())).doesNotContain("\"plainField\"");
+	}
+
+	@Test
+	public void getInputReader_isCachedPerType() throws JacksonException {
+		final ObjectReader reader = JacksonUtil.getInputReader(ReaderFixture[].class);
+		assertThat(JacksonUtil.getInputReader(ReaderFixture[].class)).isSameAs(reader);
+		assertThat(JacksonUtil.getInputReader(ReaderFixture.class)).isNotSameAs(reader);
+
+		final ReaderFixture[] fixtures = reader.readValue("[{\"name\": \"a\", \"unknown\": true}, {\"name\": \"b\"}]");
+		assertThat(fixtures).extracting(fixture -> fixture._name).containsExactly("a", "b");
+	}
+
+	@Test
+	public void getOutputWriter_isCachedPerType() throws JacksonException {
+		final ObjectWriter writer = JacksonUtil.getOutputWriter(ExecutionResults.class);
+		assertThat(JacksonUtil.getOutputWriter(ExecutionResults.class)).isSameAs(writer);
+		assertThat(writer.writeValueAsString(new ExecutionResults())).isEqualTo(JacksonUtil.createOutputMapper().writeValueAsString(new ExecutionResults()));
+	}
+
 	@Test
 	public void test_exception_serialization() throws JacksonException {
 		// setup
@@ -95,6 +133,16 @@ public class JacksonUtilTest {
 		public String getPlainGetter() { return "getterValue"; }
 	}
 
+	private static class ReaderFixture {
+
+		private final String _name;
+
+		@JsonCreator
+		ReaderFixture(@JsonProperty(value = "name", required = true) final String name) {
+			_name = name;
+		}
+	}
+
 	@JsonSerialize
 	private static class AnnotatedClass {
 	}
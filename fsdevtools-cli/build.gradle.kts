@@ -51,6 +51,28 @@ dependencies {
     runtimeOnly(files("/home/windmueller/Projects/FirstSpirit/firstspirit/fs/build/libs/fs-isolated-runtime.jar"))
 }
 
+///////////////////////////////////////////////////////
+// command index (replaces the classpath scan at startup)
+///////////////////////////////////////////////////////
+
+val commandIndexDir = layout.buildDirectory.dir("generated/resources/commandIndex")
+
+val generateCommandIndex by tasks.registering(JavaExec::class) {
+    group = "build"
+    description = "Writes the index of all commands and groups into the jar"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.espirit.moddev.cli.reflection.CommandIndexGenerator"
+    args = listOf(commandIndexDir.get().asFile.absolutePath)
+    outputs.dir(commandIndexDir)
+    doFirst {
+        delete(commandIndexDir)
+    }
+}
+
+tasks.jar {
+    from(generateCommandIndex)
+}
+
 tasks.test {
     jvmArgs("--add-opens=java.base/sun.reflect.annotation=ALL-UNNAMED", "--add-opens=java.base/java.util=ALL-UNNAMED")
 }
\ No newline at end of file
@@ -30,12 +30,11 @@ import com.espirit.moddev.cli.commands.help.DefaultCommand;
 import com.espirit.moddev.cli.commands.help.HelpCommand;
 import com.espirit.moddev.cli.exception.FsLoggingBridge;
 import com.espirit.moddev.cli.exception.SystemExitHandler;
-import com.espirit.moddev.cli.reflection.CommandUtils;
-import com.espirit.moddev.cli.reflection.GroupUtils;
+import com.espirit.moddev.cli.logging.AsyncLogging;
+import com.espirit.moddev.cli.reflection.CommandIndex;
 import org.jetbrains.annotations.VisibleForTesting;
 import com.espirit.moddev.util.JacksonUtil;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.annotation.JsonSerialize;
 import com.github.rvesse.airline.builder.CliBuilder;
 import de.espirit.common.VersionManager;
@@ -47,10 +46,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -72,18 +69,32 @@ import static com.espirit.moddev.cli.api.json.common.AttributeNames.*;
 public final class Cli {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(Cli.class);
-	private static final Set<Class<? extends Command>> commandClasses = CommandUtils.scanForCommandClasses();
-	private static final Set<Class<?>> groupClasses = GroupUtils.scanForGroupClasses();
+	private static final CommandIndex commandIndex = CommandIndex.load();
+	private static final Set<Class<? extends Command>> commandClasses = commandIndex.getCommandClasses();
+	private static final Set<Class<?>> groupClasses = commandIndex.getGroupClasses();
 
 	public static Throwable COMMAND_EXECUTION_EXCEPTION = null;
 
 	private final Properties buildProperties;
 	private final Properties gitProperties;
+	@Nullable
+	private final ConnectionPool connectionPool;
 
 	/**
 	 * Instantiates a new Cli.
 	 */
 	public Cli() {
+		this(null);
+	}
+
+	/**
+	 * Instantiates a new Cli that takes its FirstSpirit connections from the given pool, so that they can be reused
+	 * by subsequent command executions (e.g. in daemon mode).
+	 *
+	 * @param connectionPool the pool to reuse connections from, may be {@code null}
+	 */
+	public Cli(@Nullable final ConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
 		buildProperties = new Properties();
 		gitProperties = new Properties();
 		try (InputStream resourceAsStream = ClassLoader.getSystemClassLoader().getResourceAsStream("CliBuild.properties")) {
@@ -125,32 +136,58 @@ public final class Cli {
 	 * @param args the input arguments
 	 */
 	public void execute(final String[] args) throws Throwable {
+		if (!initialize()) {
+			return;
+		}
+
+		final CliBuilder<Command> builder = getDefaultCliBuilder();
+		final Command command = parseCommandLine(args, builder);
+		execute(command);
+	}
+
+	/**
+	 * Initializes the logging system and logs the version information. Has to be called once before commands are
+	 * executed with {@link #execute(Command)}.
+	 *
+	 * @return {@code false} if the version information could not be read and the execution should be aborted
+	 */
+	public boolean initialize() {
 		setLoggingSystemProperties();
 
 		try {
 			logVersionsAndGitHash();
 		} catch (IOException e) {
 			LOGGER.error("Error with version and/or git information, aborting operation...", e);
-			return;
+			return false;
 		}
+		return true;
+	}
 
-		final CliBuilder<Command> builder = getDefaultCliBuilder();
-		final Command command = parseCommandLine(args, builder);
+	/**
+	 * Executes an already parsed command and logs the execution time.
+	 *
+	 * @param command the command to execute
+	 */
+	public void execute(final Command command) throws Throwable {
 		StopWatch stopwatch = StopWatch.createStarted();
+		AsyncLogging asyncLogging = null;
 		try {
+			asyncLogging = AsyncLogging.start(command);
 			executeCommand(command);
 		} catch (Throwable throwable) {
 			throw throwable;
 		} finally {
 			stopwatch.stop();
 			logExecutionTime(stopwatch);
+			if (asyncLogging != null) {
+				asyncLogging.close();
+			}
 		}
 	}
 
 	private static void logExecutionTime(final StopWatch stopwatch) {
 		double milliseconds = stopwatch.getTime(TimeUnit.MILLISECONDS);
-		final String executionTime = String.format("Execution time: %ss", milliseconds / CliConstants.ONE_SECOND_IN_MILLIS.valueAsInt());
-		LOGGER.info(executionTime);
+		LOGGER.info("Execution time: {}s", milliseconds / CliConstants.ONE_SECOND_IN_MILLIS.valueAsInt());
 	}
 
 	private void logVersionsAndGitHash() throws IOException {
@@ -210,7 +247,7 @@ public final class Cli {
 	 * @param command the command instance to execute
 	 */
 	public void executeCommand(Command<Result<?>> command) throws Throwable {
-		LOGGER.info("Executing " + command.getClass().getSimpleName());
+		LOGGER.info("Executing {}", command.getClass().getSimpleName());
 		CliContext context = null;
 		Result<?> result = null;
 		try {
@@ -221,7 +258,7 @@ public final class Cli {
 		} catch (final Throwable throwable) {
 			// write result file
 			if (result == null || !writeCommandResultToResultFile(command, result, true)) {
-				writeObjectToResultFile(getResultFile(command), new WrappedExceptionResult(getCommandIdentifier(command), throwable));
+				writeResultFile(command, (writer, file) -> writer.writeExceptionResult(file, getCommandIdentifier(command), throwable));
 			}
 			// log error
 			COMMAND_EXECUTION_EXCEPTION = throwable;
@@ -271,39 +308,32 @@ public final class Cli {
 			return false;
 		}
 		// finally write the result to file
-		writeObjectToResultFile(getResultFile(command), new WrappedCommandResult(getCommandIdentifier(command), hasError, resultObject));
+		writeResultFile(command, (writer, file) -> writer.writeCommandResult(file, getCommandIdentifier(command), hasError, resultObject));
 		return true;
 	}
 
-	private static void writeObjectToResultFile(@Nullable final File file, @NotNull final Object object) throws IOException {
+	private static void writeResultFile(@NotNull final Command<Result<?>> command, @NotNull final ResultFileAction action) {
+		final File file = getResultFile(command);
 		try {
 			if (file == null) {
 				LOGGER.debug("File for command is null. Result file will not be written.");
 				return;
 			}
-
-			// delete the file (if it exists)
-			if (file.exists()) {
-				LOGGER.debug("Result file '{}' already exists. Deleting...", file);
-				if (!file.delete()) {
-					throw new IOException(String.format("Could not delete file '%s'!", file));
-				} else {
-					LOGGER.debug("Deleted result file '{}'.", file);
-				}
-			}
-
-			LOGGER.debug(String.format("Writing result file '%s'...", file));
-			final JsonMapper jsonMapper = JacksonUtil.createOutputMapper();
-			final String jsonString = jsonMapper.writeValueAsString(object);
-			try (final FileOutputStream outputStream = new FileOutputStream(file)) {
-				outputStream.write(jsonString.getBytes(StandardCharsets.UTF_8));
-			}
+			final Config config = (Config) command;
+			LOGGER.debug("Writing result file '{}' as {}{}...", file, config.getResultFileFormat(), config.isResultFileCompressed() ? " (gzip)" : "");
+			final ResultFileWriter writer = new ResultFileWriter(config.getResultFileFormat(), config.isResultFileCompressed());
+			action.write(writer, file.toPath());
 			LOGGER.debug("Result file '{}' written.", file);
 		} catch (final Exception e) {
 			LOGGER.error(String.format("Error writing result file '%s'!", file), e);
 		}
 	}
 
+	@FunctionalInterface
+	private interface ResultFileAction {
+		void write(@NotNull ResultFileWriter writer, @NotNull Path file) throws IOException;
+	}
+
 	@VisibleForTesting
 	@Nullable
 	static File getResultFile(@NotNull final Command<Result<?>> command) {
@@ -337,12 +367,12 @@ public final class Cli {
 		}
 	}
 
-	private static CliContext getCliContextOrNull(Command<Result<?>> command) {
+	private CliContext getCliContextOrNull(Command<Result<?>> command) {
 		CliContext context = null;
 		if (command instanceof Config) {
 			Config commandAsConfig = (Config) command;
 			if (commandAsConfig.needsContext()) {
-				context = new CliContextImpl(commandAsConfig);
+				context = new CliContextImpl(commandAsConfig, connectionPool);
 				commandAsConfig.setContext(context);
 			}
 		}
@@ -378,7 +408,7 @@ public final class Cli {
 
 	/**
 	 * A getter for command classes that can be found on the classpath. The classes are loaded at class-load
-	 * time only once.
+	 * time only once, from the build time generated {@link CommandIndex} if available.
 	 *
 	 * @return a reference to the actual list of loaded commands
 	 */
@@ -22,10 +22,13 @@
 
 package com.espirit.moddev.cli;
 
+import com.espirit.moddev.cli.daemon.DaemonClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.helpers.Reporter;
 
+import java.util.OptionalInt;
+
 public class Main {
 	private static final Logger LOGGER;
 
@@ -43,6 +46,11 @@ public class Main {
 	}
 
 	public static void main(final String[] args) {
+		// forward to a running daemon, if enabled
+		final OptionalInt daemonExitCode = DaemonClient.executeIfEnabled(args);
+		if (daemonExitCode.isPresent()) {
+			System.exit(daemonExitCode.getAsInt());
+		}
 		try {
 			Cli.main(args);
 		} catch (NoClassDefFoundError e) {
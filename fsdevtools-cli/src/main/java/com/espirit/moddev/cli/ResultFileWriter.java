@@ -0,0 +1,201 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli;
+
+import com.espirit.moddev.cli.api.configuration.ResultFileFormat;
+import com.espirit.moddev.util.JacksonUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPOutputStream;
+
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.*;
+
+/**
+ * Writes the result file of a command. The json is generated straight into the (optionally gzipped) file, so even huge results are never
+ * held in memory as a whole. The file is first written to a temporary file next to the target and then moved over it, so consumers never
+ * see a truncated result file.
+ *
+ * @see ResultFileFormat
+ */
+final class ResultFileWriter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ResultFileWriter.class);
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final ResultFileFormat _format;
+	private final boolean _compressed;
+	private final ObjectWriter _generatorWriter;
+
+	ResultFileWriter(@NotNull final ResultFileFormat format, final boolean compressed) {
+		_format = format;
+		_compressed = compressed;
+		// only configures the generator (indentation, line separators); the values are written with the shared writers of their type
+		final ObjectWriter writer = JacksonUtil.getOutputMapper().writer();
+		if (format == ResultFileFormat.NDJSON) {
+			_generatorWriter = writer.without(SerializationFeature.INDENT_OUTPUT).withRootValueSeparator("\n");
+		} else {
+			_generatorWriter = writer;
+		}
+	}
+
+	/**
+	 * Writes the result of a regular command execution.
+	 *
+	 * @param file     the result file
+	 * @param command  the identifier of the command
+	 * @param hasError {@code true} if the command failed
+	 * @param result   the result object of the command
+	 * @throws IOException if the file could not be written
+	 */
+	void writeCommandResult(@NotNull final Path file, @NotNull final String command, final boolean hasError, @NotNull final Object result) throws IOException {
+		if (_format == ResultFileFormat.NDJSON) {
+			final Map<String, Object> header = createHeader(command, hasError, null);
+			write(file, generator -> {
+				writeValue(generator, header);
+				if (result instanceof Iterable) {
+					for (final Object element : (Iterable<?>) result) {
+						writeValue(generator, element);
+					}
+				} else {
+					writeValue(generator, result);
+				}
+			});
+		} else {
+			final Cli.WrappedCommandResult wrapped = new Cli.WrappedCommandResult(command, hasError, result);
+			write(file, generator -> writeValue(generator, wrapped));
+		}
+	}
+
+	/**
+	 * Writes the result of a command execution that failed with an exception.
+	 *
+	 * @param file      the result file
+	 * @param command   the identifier of the command
+	 * @param throwable the exception the command failed with
+	 * @throws IOException if the file could not be written
+	 */
+	void writeExceptionResult(@NotNull final Path file, @NotNull final String command, @Nullable final Throwable throwable) throws IOException {
+		if (_format == ResultFileFormat.NDJSON) {
+			final Map<String, Object> header = createHeader(command, true, throwable);
+			write(file, generator -> writeValue(generator, header));
+		} else {
+			final Cli.WrappedExceptionResult wrapped = new Cli.WrappedExceptionResult(command, throwable);
+			write(file, generator -> writeValue(generator, wrapped));
+		}
+	}
+
+	/**
+	 * Writes the value with the {@link JacksonUtil#getOutputWriter(Class) shared writer} of its type, so the root serializer is resolved only
+	 * once per type and not again for every element of a result.
+	 */
+	private static void writeValue(@NotNull final JsonGenerator generator, @Nullable final Object value) {
+		if (value == null) {
+			generator.writeNull();
+		} else {
+			JacksonUtil.getOutputWriter(value.getClass()).writeValue(generator, value);
+		}
+	}
+
+	@NotNull
+	private static Map<String, Object> createHeader(@NotNull final String command, final boolean hasError, @Nullable final Throwable throwable) {
+		final Map<String, Object> header = new LinkedHashMap<>();
+		header.put(ATTR_COMMAND, command);
+		header.put(ATTR_ERROR, hasError);
+		if (throwable != null) {
+			header.put(ATTR_EXCEPTION, throwable);
+		}
+		return header;
+	}
+
+	private void write(@NotNull final Path file, @NotNull final GeneratorConsumer consumer) throws IOException {
+		final Path temporaryFile = createTemporaryFile(file);
+		try {
+			try (final OutputStream outputStream = openStream(temporaryFile);
+				 final JsonGenerator generator = _generatorWriter.createGenerator(outputStream)) {
+				consumer.accept(generator);
+				if (_format == ResultFileFormat.NDJSON) {
+					generator.writeRaw('\n');
+				}
+			}
+			try {
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException exception) {
+				LOGGER.debug("Atomic move not supported, replacing result file '{}' non-atomically.", file);
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Creates the temporary file next to the given target. Unlike {@link Files#createTempFile(Path, String, String, java.nio.file.attribute.FileAttribute[])},
+	 * which restricts the file to its owner, the file gets the default permissions of the file system, or the permissions of the target if it
+	 * already exists. Otherwise, moving the temporary file would silently make the result file unreadable for other users.
+	 */
+	@NotNull
+	private static Path createTemporaryFile(@NotNull final Path file) throws IOException {
+		final Path directory = file.toAbsolutePath().getParent();
+		final String name = file.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp";
+		final Path temporaryFile = Files.createFile(directory.resolve(name));
+		if (Files.exists(file)) {
+			try {
+				Files.setPosixFilePermissions(temporaryFile, Files.getPosixFilePermissions(file));
+			} catch (final UnsupportedOperationException exception) {
+				LOGGER.debug("File system does not support posix permissions, result file '{}' gets the default permissions.", file);
+			}
+		}
+		return temporaryFile;
+	}
+
+	@NotNull
+	private OutputStream openStream(@NotNull final Path file) throws IOException {
+		final OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+		if (_compressed) {
+			return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+		}
+		return outputStream;
+	}
+
+	@FunctionalInterface
+	private interface GeneratorConsumer {
+		void accept(@NotNull JsonGenerator generator) throws IOException;
+	}
+
+}
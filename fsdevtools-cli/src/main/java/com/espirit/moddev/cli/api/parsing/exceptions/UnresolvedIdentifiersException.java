@@ -0,0 +1,64 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.parsing.exceptions;
+
+import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * States, that one or more identifiers could not be resolved. Contains all unresolved identifiers together with the reason, so that every
+ * problem can be reported at once.
+ */
+public class UnresolvedIdentifiersException extends IDProviderNotFoundException {
+
+	private final Map<Identifier, String> _unresolvedIdentifiers;
+
+	/**
+	 * Create a new instance of this exception for the given identifiers.
+	 *
+	 * @param unresolvedIdentifiers the unresolved identifiers mapped to the reason why they could not be resolved
+	 */
+	public UnresolvedIdentifiersException(Map<Identifier, String> unresolvedIdentifiers) {
+		super(buildMessage(unresolvedIdentifiers));
+		_unresolvedIdentifiers = Collections.unmodifiableMap(new LinkedHashMap<>(unresolvedIdentifiers));
+	}
+
+	/**
+	 * @return the unresolved identifiers mapped to the reason why they could not be resolved
+	 */
+	public Map<Identifier, String> getUnresolvedIdentifiers() {
+		return _unresolvedIdentifiers;
+	}
+
+	private static String buildMessage(Map<Identifier, String> unresolvedIdentifiers) {
+		final StringBuilder message = new StringBuilder();
+		message.append(unresolvedIdentifiers.size()).append(" identifier(s) could not be resolved:");
+		for (final Map.Entry<Identifier, String> entry : unresolvedIdentifiers.entrySet()) {
+			message.append("\n  - ").append(entry.getKey()).append(": ").append(entry.getValue());
+		}
+		return message.toString();
+	}
+}
@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.api.parsing.identifier;
 
+import com.espirit.moddev.cli.api.parsing.parser.EntitiesIdentifierParser;
 import com.espirit.moddev.shared.StringUtils;
 import de.espirit.firstspirit.access.store.Store;
 import de.espirit.firstspirit.access.store.contentstore.Content2;
@@ -88,4 +89,9 @@ public class EntitiesIdentifier implements Identifier {
 	public int hashCode() {
 		return uid.hashCode();
 	}
+
+	@Override
+	public String toString() {
+		return EntitiesIdentifierParser.ENTITIES_IDENTIFIER + ":" + uid;
+	}
 }
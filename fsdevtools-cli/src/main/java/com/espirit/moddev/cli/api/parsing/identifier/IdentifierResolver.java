@@ -0,0 +1,226 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.parsing.identifier;
+
+import com.espirit.moddev.cli.api.parsing.exceptions.UnresolvedIdentifiersException;
+import com.espirit.moddev.cli.utils.ParallelExecutor;
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.agency.StoreAgent;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves many identifiers at once and adds them to an {@link ExportOperation}.
+ * <p>
+ * {@link UidIdentifier uid} and {@link PathIdentifier path} identifiers are deduplicated and grouped by store and uid type. Every store root
+ * is requested only once, and the groups are resolved in batches by up to {@code parallelism} concurrent workers. All other identifiers
+ * are added to the export operation one after the other. Identifiers which can not be resolved do not abort the resolution; all of them
+ * are reported together by an {@link UnresolvedIdentifiersException}.
+ */
+public class IdentifierResolver {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(IdentifierResolver.class);
+
+	/**
+	 * The default number of concurrent workers.
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	@VisibleForTesting
+	static final int BATCH_SIZE = 100;
+
+	private final StoreAgent _storeAgent;
+	private final boolean _useReleaseState;
+	private final int _parallelism;
+	private final Map<Store.Type, Store> _stores = new EnumMap<>(Store.Type.class);
+
+	/**
+	 * Creates a new resolver.
+	 *
+	 * @param storeAgent      the StoreAgent to retrieve store instances from
+	 * @param useReleaseState indicates whether to request elements from {@link Store#isRelease() release} or current store
+	 * @param parallelism     the maximum number of concurrent workers
+	 */
+	public IdentifierResolver(@NotNull final StoreAgent storeAgent, final boolean useReleaseState, final int parallelism) {
+		_storeAgent = storeAgent;
+		_useReleaseState = useReleaseState;
+		_parallelism = ParallelExecutor.checkParallelism(parallelism);
+	}
+
+	/**
+	 * Adds the elements of all given identifiers to the given export operation, keeping the order of the identifiers.
+	 *
+	 * @param identifiers     the identifiers to add
+	 * @param exportOperation the ExportOperation to add the elements to
+	 * @throws UnresolvedIdentifiersException if at least one identifier could not be resolved
+	 */
+	public void addToExportOperation(@NotNull final Collection<? extends Identifier> identifiers, @NotNull final ExportOperation exportOperation) {
+		final Map<Identifier, String> failures = new ConcurrentHashMap<>();
+		final Map<Identifier, IDProvider> elements = resolveElements(identifiers, failures);
+		for (final Identifier identifier : new LinkedHashSet<>(identifiers)) {
+			if (isResolvable(identifier)) {
+				final IDProvider element = elements.get(identifier);
+				if (element != null) {
+					LOGGER.debug("Adding store element: {}", element);
+					exportOperation.addElement(element);
+				}
+			} else {
+				try {
+					identifier.addToExportOperation(_storeAgent, _useReleaseState, exportOperation);
+				} catch (final RuntimeException exception) {
+					failures.put(identifier, String.valueOf(exception.getMessage()));
+				}
+			}
+		}
+		if (!failures.isEmpty()) {
+			// report the failures in the order of the identifiers
+			final Map<Identifier, String> orderedFailures = new LinkedHashMap<>();
+			for (final Identifier identifier : identifiers) {
+				final String failure = failures.get(identifier);
+				if (failure != null) {
+					orderedFailures.put(identifier, failure);
+				}
+			}
+			throw new UnresolvedIdentifiersException(orderedFailures);
+		}
+	}
+
+	/**
+	 * Resolves the store elements of all {@link UidIdentifier uid} and {@link PathIdentifier path} identifiers. Other identifiers are ignored.
+	 *
+	 * @param identifiers the identifiers to resolve
+	 * @param failures    the map to put the identifiers which could not be resolved into, mapped to the reason
+	 * @return the resolved elements by identifier
+	 */
+	@NotNull
+	public Map<Identifier, IDProvider> resolveElements(@NotNull final Collection<? extends Identifier> identifiers, @NotNull final Map<Identifier, String> failures) {
+		final long startTime = System.nanoTime();
+		final Map<String, List<Identifier>> groups = new LinkedHashMap<>();
+		for (final Identifier identifier : new LinkedHashSet<>(identifiers)) {
+			if (isResolvable(identifier)) {
+				groups.computeIfAbsent(getGroupKey(identifier), key -> new ArrayList<>()).add(identifier);
+			}
+		}
+		final Map<Identifier, IDProvider> elements = new ConcurrentHashMap<>();
+		if (groups.isEmpty()) {
+			return elements;
+		}
+		// request every store root once before the workers start
+		for (final List<Identifier> group : groups.values()) {
+			final Identifier first = group.get(0);
+			if (first instanceof UidIdentifier) {
+				getStore(((UidIdentifier) first).getUidMapping().getStoreType());
+			}
+		}
+		final List<List<Identifier>> batches = new ArrayList<>();
+		for (final List<Identifier> group : groups.values()) {
+			for (int index = 0; index < group.size(); index += BATCH_SIZE) {
+				batches.add(group.subList(index, Math.min(index + BATCH_SIZE, group.size())));
+			}
+		}
+		if (_parallelism == 1 || batches.size() == 1) {
+			batches.forEach(batch -> resolveBatch(batch, elements, failures));
+		} else {
+			resolveConcurrently(batches, elements, failures);
+		}
+		LOGGER.debug("Resolved {} of {} identifier(s) in {} group(s) and {} batch(es) in {} ms.", elements.size(), elements.size() + failures.size(), groups.size(), batches.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		return elements;
+	}
+
+	private void resolveConcurrently(@NotNull final List<List<Identifier>> batches, @NotNull final Map<Identifier, IDProvider> elements, @NotNull final Map<Identifier, String> failures) {
+		try (final ParallelExecutor executor = new ParallelExecutor("identifier-resolver", _parallelism, batches.size())) {
+			final List<Future<?>> futures = new ArrayList<>(batches.size());
+			for (final List<Identifier> batch : batches) {
+				futures.add(executor.submit(() -> resolveBatch(batch, elements, failures)));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while resolving identifiers.", exception);
+		} catch (final ExecutionException exception) {
+			throw new IllegalStateException("Error resolving identifiers.", exception.getCause());
+		}
+	}
+
+	private void resolveBatch(@NotNull final List<Identifier> batch, @NotNull final Map<Identifier, IDProvider> elements, @NotNull final Map<Identifier, String> failures) {
+		for (final Identifier identifier : batch) {
+			try {
+				elements.put(identifier, resolve(identifier));
+			} catch (final RuntimeException exception) {
+				failures.put(identifier, String.valueOf(exception.getMessage()));
+			}
+		}
+	}
+
+	@NotNull
+	private IDProvider resolve(@NotNull final Identifier identifier) {
+		if (identifier instanceof UidIdentifier) {
+			final UidIdentifier uidIdentifier = (UidIdentifier) identifier;
+			return uidIdentifier.resolve(getStore(uidIdentifier.getUidMapping().getStoreType()), _useReleaseState);
+		}
+		return ((PathIdentifier) identifier).resolve(_storeAgent, _useReleaseState);
+	}
+
+	@Nullable
+	private Store getStore(@NotNull final Store.Type storeType) {
+		synchronized (_stores) {
+			if (!_stores.containsKey(storeType)) {
+				_stores.put(storeType, _storeAgent.getStore(storeType, _useReleaseState));
+			}
+			return _stores.get(storeType);
+		}
+	}
+
+	private static boolean isResolvable(@NotNull final Identifier identifier) {
+		return identifier instanceof UidIdentifier || identifier instanceof PathIdentifier;
+	}
+
+	@NotNull
+	private static String getGroupKey(@NotNull final Identifier identifier) {
+		if (identifier instanceof UidIdentifier) {
+			final UidMapping uidMapping = ((UidIdentifier) identifier).getUidMapping();
+			return uidMapping.getStoreType() + ":" + uidMapping.getUidType();
+		}
+		return "path";
+	}
+
+}
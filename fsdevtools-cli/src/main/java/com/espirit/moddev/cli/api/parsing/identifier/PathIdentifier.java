@@ -51,13 +51,25 @@ public class PathIdentifier implements Identifier {
 
 	@Override
 	public void addToExportOperation(StoreAgent storeAgent, boolean useReleaseState, ExportOperation exportOperation) {
+		final IDProvider element = resolve(storeAgent, useReleaseState);
+		LOGGER.debug("Adding store element: {}", element);
+		exportOperation.addElement(element);
+	}
+
+	/**
+	 * Resolves the element identified by the path of this identifier.
+	 *
+	 * @param storeAgent      the StoreAgent to retrieve store instances from
+	 * @param useReleaseState indicates whether to request the element from the release or current store
+	 * @return the element
+	 * @throws IDProviderNotFoundException if the path does not lead to an element
+	 */
+	public IDProvider resolve(StoreAgent storeAgent, boolean useReleaseState) {
 		final IDProvider element = ExportUtil.getElementByPath(storeAgent, useReleaseState, _path);
-		if (element != null) {
-			LOGGER.debug("Adding store element: {}", element);
-			exportOperation.addElement(element);
-		} else {
+		if (element == null) {
 			throw new IDProviderNotFoundException("IDProvider cannot be retrieved via path '" + _path + '\'');
 		}
+		return element;
 	}
 
 	public String getPath() {
@@ -66,6 +66,15 @@ public class RootNodeIdentifier implements Identifier {
 		}
 	}
 
+	/**
+	 * Returns the {@link IDProvider.UidType} of the store root.
+	 *
+	 * @return the {@link IDProvider.UidType} of the store root
+	 */
+	public IDProvider.UidType getUidType() {
+		return uidType;
+	}
+
 	@Override
 	public String toString() {
 		return ROOT_NODE_IDENTIFIER + ":" + getAllStorePostfixes().inverse().get(uidType);
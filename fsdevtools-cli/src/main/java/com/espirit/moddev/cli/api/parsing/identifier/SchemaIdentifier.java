@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.api.parsing.identifier;
 
+import com.espirit.moddev.cli.api.parsing.parser.SchemaIdentifierParser;
 import com.espirit.moddev.shared.StringUtils;
 import org.jetbrains.annotations.VisibleForTesting;
 import de.espirit.firstspirit.access.store.Store;
@@ -37,6 +38,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
 
 /**
  * Identifier for FirstSpirit schemas.
@@ -114,6 +117,18 @@ public class SchemaIdentifier implements Identifier {
 		return Objects.hash(uid, schemaOptions);
 	}
 
+	@Override
+	public String toString() {
+		final StringBuilder result = new StringBuilder(SchemaIdentifierParser.CUSTOM_PREFIX_SCHEMA_OPTION).append(':').append(uid);
+		if (!schemaOptions.isEmpty()) {
+			// sorted to get the same representation for the same options
+			final StringJoiner options = new StringJoiner("|", "[", "]");
+			new TreeMap<>(schemaOptions).forEach((name, value) -> options.add(name + '=' + value));
+			result.append(options);
+		}
+		return result.toString();
+	}
+
 	public static boolean isSchemaOptionValid(@NotNull final String optionName) {
 		return VALID_SCHEMA_OPTIONS.contains(optionName.trim().toLowerCase());
 	}
@@ -118,22 +118,37 @@ public class UidIdentifier implements Identifier {
 	 */
 	@Override
 	public void addToExportOperation(StoreAgent storeAgent, boolean useReleaseState, ExportOperation exportOperation) {
+		final IDProvider storeElement = resolve(storeAgent.getStore(getUidMapping().getStoreType(), useReleaseState), useReleaseState);
+		LOGGER.debug("Adding store element: {}", storeElement);
+		exportOperation.addElement(storeElement);
+	}
+
+	/**
+	 * Selects the StoreElement of this identifier from the given store, see {@link #addToExportOperation(StoreAgent, boolean, ExportOperation)}.
+	 * Allows to request the store once for many identifiers.
+	 *
+	 * @param store           the store corresponding to this element's uidMapping
+	 * @param useReleaseState indicates whether the given store is the {@link Store#isRelease() release} store, only used for error messages
+	 * @return the matching store element
+	 * @throws IDProviderNotFoundException if no element of the expected class could be found
+	 */
+	public IDProvider resolve(Store store, boolean useReleaseState) {
 		final IDProvider.UidType uidType = getUidMapping().getUidType();
 		final Store.Type storeType = getUidMapping().getStoreType();
-		final IDProvider storeElement = storeAgent.getStore(storeType, useReleaseState).getStoreElement(getUid(), uidType);
-		if (storeElement != null) {
-			if (isAssignableFrom(storeElement)) {
-				LOGGER.debug("Adding store element: {}", storeElement);
-				exportOperation.addElement(storeElement);
-			} else {
-				final String errorMessage = "IDProvider of class " + storeElement.getClass().getSimpleName() +
-						" found, but expected to find one of class " + getUidMapping().getCorrespondingType().getSimpleName() +
-						" for uid=" + getUid() + ", uidType=" + uidType + ", store=" + storeType + ", release=" + useReleaseState;
-				throw new IDProviderNotFoundException(errorMessage);
-			}
-		} else {
+		if (store == null) {
+			throw new IDProviderNotFoundException("Store cannot be retrieved for uid=" + getUid() + ", uidType=" + uidType + ", store=" + storeType + ", release=" + useReleaseState);
+		}
+		final IDProvider storeElement = store.getStoreElement(getUid(), uidType);
+		if (storeElement == null) {
 			throw new IDProviderNotFoundException("IDProvider cannot be retrieved for uid=" + getUid() + ", uidType=" + uidType + ", store=" + storeType + ", release=" + useReleaseState);
 		}
+		if (!isAssignableFrom(storeElement)) {
+			final String errorMessage = "IDProvider of class " + storeElement.getClass().getSimpleName() +
+					" found, but expected to find one of class " + getUidMapping().getCorrespondingType().getSimpleName() +
+					" for uid=" + getUid() + ", uidType=" + uidType + ", store=" + storeType + ", release=" + useReleaseState;
+			throw new IDProviderNotFoundException(errorMessage);
+		}
+		return storeElement;
 	}
 
 	private boolean isAssignableFrom(IDProvider storeElement) {
@@ -26,7 +26,6 @@ import com.espirit.moddev.cli.api.parsing.identifier.EntitiesIdentifier;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 /**
  * Parser implementation that is able to parse FirstSpirit Content2 identifiers from a list of strings
@@ -35,8 +34,6 @@ import java.util.regex.Pattern;
  * and a Content2 uid as a postfix.
  */
 public class EntitiesIdentifierParser implements Parser<EntitiesIdentifier> {
-	private static final Pattern DELIMITER = Pattern.compile("\\s*:\\s*");
-
 	protected static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(EntitiesIdentifierParser.class);
 	public static final String ENTITIES_IDENTIFIER = "entities";
 
@@ -51,30 +48,27 @@ public class EntitiesIdentifierParser implements Parser<EntitiesIdentifier> {
 
 		final List<EntitiesIdentifier> list = new ArrayList<>(input.size());
 		for (final String identifier : input) {
-			try (Scanner uidScanner = new Scanner(identifier)) {
-				uidScanner.useDelimiter(DELIMITER);
-				if (uidScanner.hasNext()) {
-					uidScanner.next(); // skip the first part, which should be "entities"
-					if (uidScanner.hasNext()) {
-						final String secondPart = uidScanner.next();
-						final EntitiesIdentifier entitiesIdentifier = new EntitiesIdentifier(secondPart);
-						list.add(entitiesIdentifier);
-					} else {
-						throw new IllegalArgumentException("Wrong input format for input string " + identifier);
-					}
-				}
+			if (identifier.isBlank()) {
+				continue;
+			}
+			// the prefix, which should be "entities", is not checked here
+			final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(identifier);
+			if (prefixedIdentifier == null) {
+				throw new IllegalArgumentException("Wrong input format for input string " + identifier);
 			}
+			list.add(new EntitiesIdentifier(prefixedIdentifier.getValue()));
 		}
 		return list;
 	}
 
 	@Override
 	public boolean appliesTo(String input) {
-		String[] splitted = input.split(DELIMITER.pattern());
-		if (splitted.length != 2) {
-			return false;
-		}
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		return prefixedIdentifier != null && prefixedIdentifier.hasPrefix(ENTITIES_IDENTIFIER);
+	}
 
-		return splitted[0].toLowerCase(Locale.ROOT).trim().equals(ENTITIES_IDENTIFIER);
+	@Override
+	public Collection<String> getPrefixes() {
+		return Collections.singleton(ENTITIES_IDENTIFIER);
 	}
 }
@@ -25,14 +25,12 @@ package com.espirit.moddev.cli.api.parsing.parser;
 import com.espirit.moddev.cli.api.parsing.identifier.PathIdentifier;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
-import java.util.Scanner;
-import java.util.regex.Pattern;
 
 public class PathIdentifierParser implements Parser<PathIdentifier> {
 
-	private static final Pattern DELIMITER = Pattern.compile("\\s*:\\s*");
 	public static final String PATH_PREFIX = "path";
 
 
@@ -42,11 +40,8 @@ public class PathIdentifierParser implements Parser<PathIdentifier> {
 		final List<PathIdentifier> list = new ArrayList<>(input.size());
 
 		for (final String identifier : input) {
-			try (Scanner uidScanner = new Scanner(identifier)) {
-				uidScanner.useDelimiter(DELIMITER);
-				if (uidScanner.hasNext()) {
-					checkAndAddPath(list, identifier, uidScanner);
-				}
+			if (!identifier.isBlank()) {
+				checkAndAddPath(list, identifier);
 			}
 		}
 
@@ -54,27 +49,34 @@ public class PathIdentifierParser implements Parser<PathIdentifier> {
 	}
 
 
-	private static void checkAndAddPath(List<PathIdentifier> list, String identifier, Scanner uidScanner) {
-		final String prefix = uidScanner.next();
-		if (!PATH_PREFIX.equalsIgnoreCase(prefix)) {
+	private static void checkAndAddPath(List<PathIdentifier> list, String identifier) {
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(identifier);
+		if (prefixedIdentifier == null) {
+			if (PATH_PREFIX.equals(PrefixedIdentifier.dispatchKeyOf(identifier))) {
+				throw new IllegalArgumentException("Wrong input format for input string " + identifier);
+			}
+			throw new IllegalArgumentException("invalid prefix - should be 'path'");
+		}
+		if (!prefixedIdentifier.hasPrefix(PATH_PREFIX)) {
 			// normally checked by #appliesTo
 			throw new IllegalArgumentException("invalid prefix - should be 'path'");
 		}
-		if (uidScanner.hasNext()) {
-			final String path = uidScanner.next();
-			if (!path.startsWith("/")) {
-				throw new IllegalArgumentException("path should start with '/'");
-			}
-			list.add(new PathIdentifier(path));
-		} else {
-			throw new IllegalArgumentException("Wrong input format for input string " + identifier);
+		final String path = prefixedIdentifier.getValue();
+		if (!path.startsWith("/")) {
+			throw new IllegalArgumentException("path should start with '/'");
 		}
+		list.add(new PathIdentifier(path));
 	}
 
 
 	@Override
 	public boolean appliesTo(String input) {
-		final String[] splitted = input.split(DELIMITER.pattern());
-		return splitted.length == 2 && splitted[0].toLowerCase(Locale.ROOT).trim().equals(PATH_PREFIX);
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		return prefixedIdentifier != null && prefixedIdentifier.hasPrefix(PATH_PREFIX);
+	}
+
+	@Override
+	public Collection<String> getPrefixes() {
+		return Collections.singleton(PATH_PREFIX);
 	}
 }
@@ -0,0 +1,133 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.parsing.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Allocation-light tokenizer for identifier strings of the form <code>&lt;PREFIX&gt;:&lt;VALUE&gt;</code>.
+ * Whitespace around the delimiter is ignored, trailing delimiters are dropped and inputs with more than
+ * two tokens are rejected, which mirrors the former <code>input.split("\\s*:\\s*")</code> based checks
+ * without compiling a regular expression per call.
+ */
+public final class PrefixedIdentifier {
+
+	public static final char DELIMITER = ':';
+
+	private final String _prefix;
+	private final String _normalizedPrefix;
+	private final String _value;
+
+	private PrefixedIdentifier(@NotNull final String prefix, @NotNull final String value) {
+		_prefix = prefix;
+		_normalizedPrefix = prefix.toLowerCase(Locale.ROOT);
+		_value = value;
+	}
+
+	/**
+	 * Splits the given input into prefix and value.
+	 *
+	 * @param input the string to split
+	 * @return the split identifier or {@code null} if the input does not consist of exactly a non-empty prefix and a non-empty value
+	 */
+	@Nullable
+	public static PrefixedIdentifier parse(@NotNull final String input) {
+		final int delimiter = input.indexOf(DELIMITER);
+		if (delimiter < 0) {
+			return null;
+		}
+		int end = input.length();
+		while (end > delimiter + 1 && isIgnorableTail(input.charAt(end - 1))) {
+			end--;
+		}
+		final String value = input.substring(delimiter + 1, end).trim();
+		if (value.isEmpty() || value.indexOf(DELIMITER) >= 0) {
+			return null;
+		}
+		final String prefix = input.substring(0, delimiter).trim();
+		if (prefix.isEmpty()) {
+			return null;
+		}
+		return new PrefixedIdentifier(prefix, value);
+	}
+
+	/**
+	 * Computes the key that is used to dispatch the given input to a parser: the lower case prefix
+	 * if the input contains a delimiter, or the whole lower case input otherwise (e.g. "templatestore").
+	 *
+	 * @param input the string to compute the key for
+	 * @return the dispatch key, never {@code null}
+	 */
+	@NotNull
+	public static String dispatchKeyOf(@NotNull final String input) {
+		final int delimiter = input.indexOf(DELIMITER);
+		final String key = delimiter < 0 ? input : input.substring(0, delimiter);
+		return key.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static boolean isIgnorableTail(final char character) {
+		return character == DELIMITER || character <= ' ';
+	}
+
+	/**
+	 * @return the prefix as written in the input, without surrounding whitespace
+	 */
+	@NotNull
+	public String getPrefix() {
+		return _prefix;
+	}
+
+	/**
+	 * @return the lower case prefix
+	 */
+	@NotNull
+	public String getNormalizedPrefix() {
+		return _normalizedPrefix;
+	}
+
+	/**
+	 * @return the value following the delimiter, without surrounding whitespace
+	 */
+	@NotNull
+	public String getValue() {
+		return _value;
+	}
+
+	/**
+	 * Indicates whether this identifier uses the given lower case prefix.
+	 *
+	 * @param normalizedPrefix the lower case prefix to compare with
+	 * @return true if the prefixes match
+	 */
+	public boolean hasPrefix(@NotNull final String normalizedPrefix) {
+		return _normalizedPrefix.equals(normalizedPrefix);
+	}
+
+	@Override
+	public String toString() {
+		return _prefix + DELIMITER + _value;
+	}
+}
@@ -28,13 +28,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 public class ProjectPropertiesParser implements Parser<ProjectPropertiesIdentifier> {
 	protected static final Logger LOGGER = LoggerFactory.getLogger(ProjectPropertiesParser.class);
 
-	private static final Pattern DELIMITER = Pattern.compile("\\s*:\\s*");
-
 	public static final String CUSTOM_PREFIX_PROJECT_PROPERTIES = "projectproperty";
 
 	/**
@@ -55,23 +52,20 @@ public class ProjectPropertiesParser implements Parser<ProjectPropertiesIdentifi
 
 		final List<ProjectPropertiesIdentifier> list = new ArrayList<>(input.size());
 		for (final String identifier : input) {
-			try (Scanner uidScanner = new Scanner(identifier)) {
-				uidScanner.useDelimiter(DELIMITER);
-				if (uidScanner.hasNext()) {
-					uidScanner.next();
-					if (uidScanner.hasNext()) {
-						final String secondPart = uidScanner.next();
-						if (ALL.equalsIgnoreCase(secondPart)) {
-							// user wants to export all project properties --> ignore already collected properties and skip further collecting
-							tempEnum = EnumSet.allOf(PropertiesTransportOptions.ProjectPropertyType.class);
-							break;
-						} else {
-							tempEnum.add(PropertiesTransportOptions.ProjectPropertyType.valueOf(secondPart.toUpperCase(Locale.ROOT)));
-						}
-					} else {
-						throw new IllegalArgumentException("Wrong input format for input string " + identifier);
-					}
-				}
+			if (identifier.isBlank()) {
+				continue;
+			}
+			final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(identifier);
+			if (prefixedIdentifier == null) {
+				throw new IllegalArgumentException("Wrong input format for input string " + identifier);
+			}
+			final String secondPart = prefixedIdentifier.getValue();
+			if (ALL.equalsIgnoreCase(secondPart)) {
+				// user wants to export all project properties --> ignore already collected properties and skip further collecting
+				tempEnum = EnumSet.allOf(PropertiesTransportOptions.ProjectPropertyType.class);
+				break;
+			} else {
+				tempEnum.add(PropertiesTransportOptions.ProjectPropertyType.valueOf(secondPart.toUpperCase(Locale.ROOT)));
 			}
 		}
 		final ProjectPropertiesIdentifier fqUid = new ProjectPropertiesIdentifier(tempEnum);
@@ -95,8 +89,13 @@ public class ProjectPropertiesParser implements Parser<ProjectPropertiesIdentifi
 
 	@Override
 	public boolean appliesTo(String input) {
-		final String[] splitted = input.split(DELIMITER.pattern());
-		return splitted.length == 2 && splitted[0].toLowerCase(Locale.ROOT).trim().equals(CUSTOM_PREFIX_PROJECT_PROPERTIES);
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		return prefixedIdentifier != null && prefixedIdentifier.hasPrefix(CUSTOM_PREFIX_PROJECT_PROPERTIES);
+	}
+
+	@Override
+	public Collection<String> getPrefixes() {
+		return Collections.singleton(CUSTOM_PREFIX_PROJECT_PROPERTIES);
 	}
 
 }
@@ -24,19 +24,32 @@ package com.espirit.moddev.cli.api.parsing.parser;
 
 import com.espirit.moddev.cli.api.parsing.exceptions.NoSuitableParserRegisteredException;
 import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
-import org.apache.commons.collections4.map.HashedMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Parser that dispatches every input string to the first applicable parser of its registry. Parsers that
+ * declare their {@link Parser#getPrefixes() prefixes} are only probed for inputs with a matching dispatch
+ * key (see {@link PrefixedIdentifier#dispatchKeyOf(String)}), parsers without declared prefixes are probed
+ * for every input. The candidate lists per key are computed once after the registry changed.
+ */
 public class RegistryBasedParser implements Parser<Identifier> {
 	protected static final Logger LOGGER = LoggerFactory.getLogger(RegistryBasedParser.class);
 
 	private final List<Parser> registeredParsers = new ArrayList<>();
 
+	@Nullable
+	private volatile DispatchTable _dispatchTable;
+
 	public RegistryBasedParser() {
 	}
 
@@ -51,30 +64,18 @@ public class RegistryBasedParser implements Parser<Identifier> {
 	 */
 	@Override
 	public List<Identifier> parse(List<String> input) {
-		List result = new ArrayList(input.size());
-
-		Map<Parser, List<String>> inputForParser = new HashedMap<Parser, List<String>>();
+		final DispatchTable dispatchTable = getDispatchTable();
+		final Map<Parser, List<String>> inputForParser = new LinkedHashMap<>();
 
 		for (String currentInput : input) {
-			boolean suitableParserRegistered = false;
-			for (Parser currentParser : registeredParsers) {
-				if (currentParser.appliesTo(currentInput)) {
-					suitableParserRegistered = true;
-					List tempList;
-					if (!inputForParser.containsKey(currentParser)) {
-						tempList = new ArrayList();
-					} else {
-						tempList = inputForParser.get(currentParser);
-					}
-					tempList.add(currentInput);
-					inputForParser.put(currentParser, tempList);
-				}
-			}
-			if (!suitableParserRegistered) {
+			final Parser currentParser = dispatchTable.findParser(currentInput);
+			if (currentParser == null) {
 				throw new NoSuitableParserRegisteredException("No applicable parser found for input string " + currentInput);
 			}
+			inputForParser.computeIfAbsent(currentParser, parser -> new ArrayList<>()).add(currentInput);
 		}
 
+		final List<Identifier> result = new ArrayList<>(input.size());
 		for (Map.Entry<Parser, List<String>> entry : inputForParser.entrySet()) {
 			Parser currentParser = entry.getKey();
 			List parsed = currentParser.parse(entry.getValue());
@@ -96,12 +97,7 @@ public class RegistryBasedParser implements Parser<Identifier> {
 	 */
 	@Override
 	public boolean appliesTo(String input) {
-		for (Parser current : registeredParsers) {
-			if (current.appliesTo(input)) {
-				return true;
-			}
-		}
-		return false;
+		return getDispatchTable().findParser(input) != null;
 	}
 
 	/**
@@ -117,6 +113,7 @@ public class RegistryBasedParser implements Parser<Identifier> {
 		if (parser == null) {
 			throw new IllegalArgumentException("Don't register null parsers!");
 		}
+		_dispatchTable = null;
 		return registeredParsers.add(parser);
 	}
 
@@ -127,6 +124,55 @@ public class RegistryBasedParser implements Parser<Identifier> {
 	 * @return true if the supplied parser was unregistered successfully
 	 */
 	public boolean unregisterParser(Parser parser) {
+		_dispatchTable = null;
 		return registeredParsers.remove(parser);
 	}
+
+	@NotNull
+	private DispatchTable getDispatchTable() {
+		DispatchTable dispatchTable = _dispatchTable;
+		if (dispatchTable == null) {
+			dispatchTable = new DispatchTable(registeredParsers);
+			_dispatchTable = dispatchTable;
+		}
+		return dispatchTable;
+	}
+
+	/**
+	 * Precomputed mapping from dispatch keys to the candidate parsers, in registration order.
+	 */
+	private static final class DispatchTable {
+
+		private final Map<String, List<Parser>> _candidatesByKey = new HashMap<>();
+		private final List<Parser> _fallbackCandidates = new ArrayList<>();
+
+		DispatchTable(@NotNull final List<Parser> parsers) {
+			for (final Parser parser : parsers) {
+				final Collection<String> prefixes = parser.getPrefixes();
+				if (prefixes == null || prefixes.isEmpty()) {
+					// unknown prefixes --> candidate for every key, keeps the registration order within each list
+					_fallbackCandidates.add(parser);
+					_candidatesByKey.values().forEach(candidates -> candidates.add(parser));
+				} else {
+					for (final String prefix : prefixes) {
+						final List<Parser> candidates = _candidatesByKey.computeIfAbsent(prefix, key -> new ArrayList<>(_fallbackCandidates));
+						if (!candidates.contains(parser)) {
+							candidates.add(parser);
+						}
+					}
+				}
+			}
+		}
+
+		@Nullable
+		Parser findParser(@NotNull final String input) {
+			final List<Parser> candidates = _candidatesByKey.getOrDefault(PrefixedIdentifier.dispatchKeyOf(input), _fallbackCandidates);
+			for (final Parser candidate : candidates) {
+				if (candidate.appliesTo(input)) {
+					return candidate;
+				}
+			}
+			return null;
+		}
+	}
 }
@@ -30,7 +30,6 @@ import com.google.common.collect.Maps;
 import de.espirit.firstspirit.access.store.IDProvider;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 import static com.espirit.moddev.cli.api.parsing.identifier.RootNodeIdentifier.ROOT_NODE_IDENTIFIER;
 
@@ -42,10 +41,10 @@ import static com.espirit.moddev.cli.api.parsing.identifier.RootNodeIdentifier.R
  */
 public class RootNodeIdentifierParser implements Parser<RootNodeIdentifier> {
 
-	private static final Pattern DELIMITER = Pattern.compile("\\s*:\\s*");
-
 	private static final BiMap<String, IDProvider.UidType> STORE_POSTFIXES;
 
+	private static final Set<String> PREFIXES;
+
 	static {
 		STORE_POSTFIXES = HashBiMap.create();
 		STORE_POSTFIXES.put("templatestore", IDProvider.UidType.TEMPLATESTORE);
@@ -54,6 +53,11 @@ public class RootNodeIdentifierParser implements Parser<RootNodeIdentifier> {
 		STORE_POSTFIXES.put("sitestore", IDProvider.UidType.SITESTORE_FOLDER);
 		STORE_POSTFIXES.put("mediastore", IDProvider.UidType.MEDIASTORE_FOLDER);
 		STORE_POSTFIXES.put("globalstore", IDProvider.UidType.GLOBALSTORE);
+
+		// "root:<store>" as well as the naked store postfixes
+		final Set<String> prefixes = new HashSet<>(STORE_POSTFIXES.keySet());
+		prefixes.add(ROOT_NODE_IDENTIFIER);
+		PREFIXES = Collections.unmodifiableSet(prefixes);
 	}
 
 	/**
@@ -87,60 +91,43 @@ public class RootNodeIdentifierParser implements Parser<RootNodeIdentifier> {
 
 		final List<RootNodeIdentifier> list = new ArrayList<>(input.size());
 		for (final String identifier : input) {
-			try (Scanner uidScanner = new Scanner(identifier)) {
-				uidScanner.useDelimiter(DELIMITER);
-				if (uidScanner.hasNext()) {
-					final String firstPart = uidScanner.next();
-					IDProvider.UidType uidType;
-					if (uidScanner.hasNext()) {
-						final String secondPart = uidScanner.next();
-						if (!STORE_POSTFIXES.containsKey(secondPart)) {
-							throw new UnknownRootNodeException("No root node found for '" + secondPart + "'");
-						}
-						uidType = getAllStorePostfixes().get(secondPart);
-					} else {
-						if (STORE_POSTFIXES.keySet().contains(firstPart)) {
-							uidType = STORE_POSTFIXES.get(firstPart);
-						} else {
-							throw new UnknownRootNodeException("No root node found for '" + firstPart + "'");
-						}
-					}
-					final RootNodeIdentifier rootNodeIdentifier = new RootNodeIdentifier(uidType);
-					list.add(rootNodeIdentifier);
+			if (identifier.isBlank()) {
+				continue;
+			}
+			final String postfix;
+			if (identifier.indexOf(PrefixedIdentifier.DELIMITER) < 0) {
+				postfix = identifier.trim();
+			} else {
+				final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(identifier);
+				if (prefixedIdentifier == null) {
+					throw new UnknownRootNodeException("No root node found for '" + identifier + "'");
 				}
+				postfix = prefixedIdentifier.getValue();
+			}
+			final IDProvider.UidType uidType = STORE_POSTFIXES.get(postfix);
+			if (uidType == null) {
+				throw new UnknownRootNodeException("No root node found for '" + postfix + "'");
 			}
+			list.add(new RootNodeIdentifier(uidType));
 		}
 		return list;
 	}
 
 	@Override
 	public boolean appliesTo(String input) {
-		String[] splitted = input.split(DELIMITER.pattern());
-
-		if (couldBeNakedStoreIdentifier(splitted)) {
+		if (input.indexOf(PrefixedIdentifier.DELIMITER) < 0) {
 			return isKnownNakedStoreIdentifier(input);
-		} else if (hasTwoTokens(splitted)) {
-			return splitted[0].toLowerCase(Locale.ROOT).trim().equals(ROOT_NODE_IDENTIFIER);
 		}
-
-		return false;
-	}
-
-	private boolean hasTwoTokens(String[] splitted) {
-		return splitted.length == 2;
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		return prefixedIdentifier != null && prefixedIdentifier.hasPrefix(ROOT_NODE_IDENTIFIER);
 	}
 
-	private boolean couldBeNakedStoreIdentifier(String[] splitted) {
-		return splitted.length == 1;
+	@Override
+	public Collection<String> getPrefixes() {
+		return PREFIXES;
 	}
 
 	private boolean isKnownNakedStoreIdentifier(String input) {
-		for (String storeIdentifier : STORE_POSTFIXES.keySet()) {
-			boolean isKnownStoreIdentifier = storeIdentifier.equals(input);
-			if (isKnownStoreIdentifier) {
-				return true;
-			}
-		}
-		return false;
+		return STORE_POSTFIXES.containsKey(input);
 	}
 }
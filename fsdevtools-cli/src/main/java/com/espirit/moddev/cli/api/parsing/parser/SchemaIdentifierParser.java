@@ -29,14 +29,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.regex.Pattern;
 
 public class SchemaIdentifierParser implements Parser<SchemaIdentifier> {
 
 	protected static final Logger LOGGER = LoggerFactory.getLogger(SchemaIdentifierParser.class);
 
 	private static final String OPTION_DELIMITER = "[";
-	private static final Pattern DELIMITER = Pattern.compile("\\s*:\\s*");
 	public static final String CUSTOM_PREFIX_SCHEMA_OPTION = "schema";
 
 	@Override
@@ -51,17 +49,15 @@ public class SchemaIdentifierParser implements Parser<SchemaIdentifier> {
 
 		final List<SchemaIdentifier> list = new ArrayList<>(input.size());
 		for (final String identifier : input) {
-			try (final Scanner uidScanner = new Scanner(identifier)) {
-				uidScanner.useDelimiter(DELIMITER);
-				if (uidScanner.hasNext()) {
-					uidScanner.next(); // skip the first part, which should be "schema"
-					if (uidScanner.hasNext()) {
-						list.add(getSchemaIdentifier(uidScanner.next()));
-					} else {
-						throw new IllegalArgumentException("Wrong input format for input string " + identifier);
-					}
-				}
+			if (identifier.isBlank()) {
+				continue;
+			}
+			// the prefix, which should be "schema", is not checked here
+			final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(identifier);
+			if (prefixedIdentifier == null) {
+				throw new IllegalArgumentException("Wrong input format for input string " + identifier);
 			}
+			list.add(getSchemaIdentifier(prefixedIdentifier.getValue()));
 		}
 		return list;
 	}
@@ -77,8 +73,14 @@ public class SchemaIdentifierParser implements Parser<SchemaIdentifier> {
 
 	@Override
 	public boolean appliesTo(@NotNull final String input) {
-		final String[] split = input.split(DELIMITER.pattern());
-		return split.length == 2 && split[0].toLowerCase(Locale.ROOT).trim().equals(CUSTOM_PREFIX_SCHEMA_OPTION);
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		return prefixedIdentifier != null && prefixedIdentifier.hasPrefix(CUSTOM_PREFIX_SCHEMA_OPTION);
+	}
+
+	@NotNull
+	@Override
+	public Collection<String> getPrefixes() {
+		return Collections.singleton(CUSTOM_PREFIX_SCHEMA_OPTION);
 	}
 
 	@NotNull
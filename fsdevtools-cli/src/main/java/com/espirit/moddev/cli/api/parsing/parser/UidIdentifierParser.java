@@ -26,17 +26,25 @@ import com.espirit.moddev.cli.api.parsing.exceptions.UnknownRootNodeException;
 import com.espirit.moddev.cli.api.parsing.exceptions.UnregisteredPrefixException;
 import com.espirit.moddev.cli.api.parsing.identifier.UidIdentifier;
 import com.espirit.moddev.cli.api.parsing.identifier.UidMapping;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.*;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class UidIdentifierParser implements Parser<UidIdentifier> {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(UidIdentifierParser.class);
+	private static final Map<String, UidMapping> MAPPINGS_BY_PREFIX;
 
-	private static final Pattern DELIMITER = Pattern.compile("\\s*:\\s*");
+	static {
+		final Map<String, UidMapping> mappings = new HashMap<>();
+		for (final UidMapping mapping : UidMapping.values()) {
+			mappings.put(mapping.getPrefix(), mapping);
+		}
+		MAPPINGS_BY_PREFIX = Collections.unmodifiableMap(mappings);
+	}
 
 	/**
 	 * Parse a list of full qualified uid strings.
@@ -60,40 +68,30 @@ public class UidIdentifierParser implements Parser<UidIdentifier> {
 
 		final List<UidIdentifier> list = new ArrayList<>(input.size());
 		for (final String identifier : input) {
-			try (Scanner uidScanner = new Scanner(identifier)) {
-				uidScanner.useDelimiter(DELIMITER);
-				if (uidScanner.hasNext()) {
-					final String firstPart = uidScanner.next();
-					if (uidScanner.hasNext()) {
-						final String secondPart = uidScanner.next();
-						try {
-							final UidIdentifier fqUid = new UidIdentifier(UidMapping.valueOf(firstPart.toUpperCase(Locale.ROOT)), secondPart);
-							list.add(fqUid);
-						} catch (IllegalArgumentException e) {
-							LOGGER.trace("Identifier string caused an exception, leading to an UnregisteredPrefixException", e);
-							throw new UnregisteredPrefixException("No uid mapping found for identifier " + firstPart);
-						}
-					} else {
-						throw new IllegalArgumentException("Wrong input format for input string " + identifier);
-					}
-				}
+			if (identifier.isBlank()) {
+				continue;
+			}
+			final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(identifier);
+			if (prefixedIdentifier == null) {
+				throw new IllegalArgumentException("Wrong input format for input string " + identifier);
 			}
+			final UidMapping uidMapping = MAPPINGS_BY_PREFIX.get(prefixedIdentifier.getNormalizedPrefix());
+			if (uidMapping == null) {
+				throw new UnregisteredPrefixException("No uid mapping found for identifier " + prefixedIdentifier.getPrefix());
+			}
+			list.add(new UidIdentifier(uidMapping, prefixedIdentifier.getValue()));
 		}
 		return list;
 	}
 
 	@Override
 	public boolean appliesTo(String input) {
-		String[] splitted = input.split(DELIMITER.pattern());
-		if (splitted.length != 2) {
-			return false;
-		}
-		try {
-			UidMapping.valueOf(splitted[0].trim().toUpperCase(Locale.ROOT));
-			return true;
-		} catch (IllegalArgumentException e) {
-			LOGGER.trace("Identifier string caused an exception, leading to an UnregisteredPrefixException", e);
-			return false;
-		}
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		return prefixedIdentifier != null && MAPPINGS_BY_PREFIX.containsKey(prefixedIdentifier.getNormalizedPrefix());
+	}
+
+	@Override
+	public Collection<String> getPrefixes() {
+		return MAPPINGS_BY_PREFIX.keySet();
 	}
 }
@@ -146,7 +146,7 @@ public class ImportCommand extends SimpleCommand<ImportResult> implements Import
 			final String syncDirStr = getSynchronizationDirectoryString();
 			LOGGER.info("importing from directory '{}'", syncDirStr);
 			final ImportOperation.Result result = importOperation.perform(getSynchronizationDirectory(syncDirStr));
-			return new ImportResult(getContext().requireSpecialist(StoreAgent.TYPE), result);
+			return new ImportResult(getContext().requireSpecialist(StoreAgent.TYPE), result, getResultDetail());
 		} catch (final Exception e) {
 			return new ImportResult(e);
 		}
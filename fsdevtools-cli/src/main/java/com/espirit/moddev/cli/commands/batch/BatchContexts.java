@@ -0,0 +1,121 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.CliContextImpl;
+import com.espirit.moddev.cli.ConnectionPool;
+import com.espirit.moddev.cli.api.CliContext;
+import com.espirit.moddev.cli.api.configuration.Config;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shares {@link CliContext contexts} between the steps of a batch. Steps with the same connection settings use the
+ * same {@link de.espirit.firstspirit.access.Connection connection}, steps that additionally use the same project also
+ * share the project specific broker, so the connect and the broker lookup are done only once per batch.
+ */
+class BatchContexts implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BatchContexts.class);
+
+	private final ConnectionPool _connectionPool = new ConnectionPool();
+	private final Map<Key, CliContext> _contexts = new HashMap<>();
+
+	/**
+	 * Returns the shared context for the given config and creates it if necessary. A shared context whose connection
+	 * was lost in the meantime is replaced by a new one.
+	 *
+	 * @param config the config of the step
+	 * @return the context to use for the step
+	 */
+	@NotNull
+	CliContext getContext(@NotNull final Config config) {
+		final Key key = new Key(config);
+		final CliContext context = _contexts.get(key);
+		if (context != null && context.getConnection() != null && context.getConnection().isConnected()) {
+			LOGGER.debug("Reusing context for project '{}'.", key._project);
+			return context;
+		}
+		final CliContext newContext = createContext(config);
+		_contexts.put(key, newContext);
+		return newContext;
+	}
+
+	@NotNull
+	CliContext createContext(@NotNull final Config config) {
+		return new CliContextImpl(config, _connectionPool);
+	}
+
+	/**
+	 * @return the number of distinct contexts created so far
+	 */
+	int size() {
+		return _contexts.size();
+	}
+
+	@Override
+	public void close() {
+		_contexts.clear();
+		_connectionPool.close();
+	}
+
+	private static final class Key {
+
+		private final ConnectionPool.Key _connection;
+		private final String _project;
+		private final boolean _activateProject;
+		private final boolean _createProject;
+
+		private Key(@NotNull final Config config) {
+			_connection = new ConnectionPool.Key(config);
+			_project = config.getProject();
+			_activateProject = config.isActivateProjectIfDeactivated();
+			_createProject = config.isCreatingProjectIfMissing();
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return _activateProject == key._activateProject
+					&& _createProject == key._createProject
+					&& _connection.equals(key._connection)
+					&& Objects.equals(_project, key._project);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_connection, _project, _activateProject, _createProject);
+		}
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.Cli;
+import com.espirit.moddev.cli.CliConstants;
+import com.espirit.moddev.cli.api.annotations.ParameterExamples;
+import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.cli.api.result.AbstractCommandResult;
+import com.espirit.moddev.cli.api.result.ExecutionResults;
+import com.espirit.moddev.cli.api.result.Result;
+import com.espirit.moddev.cli.commands.daemon.DaemonCommandGroup;
+import com.espirit.moddev.cli.configuration.Environment;
+import com.espirit.moddev.cli.configuration.GlobalConfig;
+import com.espirit.moddev.util.JacksonUtil;
+import com.github.rvesse.airline.annotations.Command;
+import com.github.rvesse.airline.annotations.Option;
+import com.github.rvesse.airline.annotations.OptionType;
+import com.github.rvesse.airline.annotations.help.Examples;
+import com.github.rvesse.airline.annotations.restrictions.PathKind;
+import com.github.rvesse.airline.annotations.restrictions.Required;
+import org.apache.commons.lang3.time.StopWatch;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Executes the commands of a batch file in order. All steps share the FirstSpirit connection and, per project, the
+ * project specific broker, so the connect and the broker lookup are only done once for the whole batch. The results of
+ * all steps are written to one aggregated result file.
+ */
+@Command(name = BatchCommandNames.RUN, groupNames = BatchCommandGroup.NAME, description = "Executes the fs-cli commands of a batch file in order over one shared FirstSpirit connection. " +
+		"The global connection options of this call are used as defaults for all steps. The results of all steps are written to one aggregated result file.")
+@Examples(
+		examples = {
+				"-p \"Mithras Energy\" batch run -f \"steps.txt\"",
+				"batch run -f \"steps.json\" --continueOnError",
+				"# export, run a script and start a schedule\n" +
+						"export -- pagestore\n" +
+						"script run -n \"myScript\"\n" +
+						"schedule start -n \"Full deployment\"",
+				"[\n" +
+						"\t{ \"command\": \"export -- pagestore\" },\n" +
+						"\t{ \"arguments\": [ \"schedule\", \"start\", \"-n\", \"Full deployment\" ] }\n" +
+						"]"
+		},
+		descriptions = {
+				"Executes all steps of 'steps.txt' for the project 'Mithras Energy' and stops at the first failing step.",
+				"Executes all steps of 'steps.json', even if some of them fail.",
+				"Example steps.txt:",
+				"Example steps.json:"
+		}
+)
+public class BatchRunCommand extends GlobalConfig implements com.espirit.moddev.cli.api.command.Command<BatchRunResult> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BatchRunCommand.class);
+
+	@Option(type = OptionType.COMMAND, name = {"-f", "--file"}, description = "Path to the batch file. The file contains either one command per line or a json array of steps.", title = "batchFile")
+	@com.github.rvesse.airline.annotations.restrictions.Path(mustExist = true, kind = PathKind.FILE, writable = false)
+	@Required
+	@ParameterExamples(
+			examples = {
+					"-f \"path/to/steps.txt\"",
+					"--file \"C:/path/to/steps.json\"",
+			},
+			descriptions = {
+					"Sets the batch file to `path/to/steps.txt`.",
+					"Sets the batch file to `C:/path/to/steps.json`.",
+			}
+	)
+	private String _batchFile;
+
+	@Option(type = OptionType.COMMAND, name = {"-coe", "--continueOnError"}, description = "Continue with the next steps if a step fails. Default is to stop at the first failing step.")
+	private boolean _continueOnError;
+
+	@Override
+	public BatchRunResult call() {
+		try {
+			final List<BatchStep> steps = BatchStep.fromFile(Paths.get(_batchFile));
+			if (steps.isEmpty()) {
+				throw new IllegalArgumentException("File '" + _batchFile + "' must contain at least one command.");
+			}
+			final com.github.rvesse.airline.Cli<com.espirit.moddev.cli.api.command.Command> parser = Cli.getDefaultCliBuilder().build();
+			try (final BatchContexts contexts = new BatchContexts()) {
+				return execute(arguments -> parser.parse(arguments.toArray(new String[0])), contexts, steps);
+			}
+		} catch (final Exception e) {
+			return new BatchRunResult(e);
+		}
+	}
+
+	@NotNull
+	@VisibleForTesting
+	BatchRunResult execute(@NotNull final Function<List<String>, com.espirit.moddev.cli.api.command.Command> parser, @NotNull final BatchContexts contexts, @NotNull final List<BatchStep> steps) {
+		final ExecutionResults results = new ExecutionResults();
+		for (final BatchStep step : steps) {
+			LOGGER.info(AbstractCommandResult.LINE_SEPARATOR);
+			LOGGER.info("Executing step {}/{}: '{}'", step.getIndex(), steps.size(), step);
+			final BatchStepResult stepResult = executeStep(parser, contexts, step);
+			results.add(stepResult);
+			if (stepResult instanceof BatchStepErrorResult && !_continueOnError) {
+				final int skippedSteps = steps.size() - step.getIndex();
+				if (skippedSteps > 0) {
+					LOGGER.warn("Step {} failed, skipping the remaining {} step(s).", step.getIndex(), skippedSteps);
+				}
+				return new BatchRunResult(results, skippedSteps);
+			}
+		}
+		LOGGER.debug("Executed {} step(s) with {} shared context(s).", steps.size(), contexts.size());
+		return new BatchRunResult(results, 0);
+	}
+
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private BatchStepResult executeStep(@NotNull final Function<List<String>, com.espirit.moddev.cli.api.command.Command> parser, @NotNull final BatchContexts contexts, @NotNull final BatchStep step) {
+		final StopWatch stopWatch = StopWatch.createStarted();
+		Result<?> result = null;
+		try {
+			final com.espirit.moddev.cli.api.command.Command<Result<?>> command = parser.apply(step.getArguments());
+			verifyNotNested(command);
+			if (command instanceof GlobalConfig) {
+				applyDefaults((GlobalConfig) command);
+			}
+			if (command instanceof Config && ((Config) command).needsContext()) {
+				((Config) command).setContext(contexts.getContext((Config) command));
+			}
+			result = command.call();
+			if (result == null) {
+				LOGGER.warn("Command returned a null result, which should be avoided");
+				return new BatchStepResult(step, stopWatch.getTime(TimeUnit.MILLISECONDS), null);
+			}
+			result.log();
+			if (result.isError()) {
+				return new BatchStepErrorResult(step, stopWatch.getTime(TimeUnit.MILLISECONDS), getSerializableResult(result), result.getError());
+			}
+			return new BatchStepResult(step, stopWatch.getTime(TimeUnit.MILLISECONDS), getSerializableResult(result));
+		} catch (final Throwable throwable) {
+			LOGGER.error("Exception occurred during execution of step " + step.getIndex(), throwable);
+			return new BatchStepErrorResult(step, stopWatch.getTime(TimeUnit.MILLISECONDS), result == null ? null : getSerializableResult(result), throwable);
+		}
+	}
+
+	private static void verifyNotNested(@NotNull final com.espirit.moddev.cli.api.command.Command<?> command) {
+		final Command annotation = command.getClass().getAnnotation(Command.class);
+		if (annotation != null) {
+			final List<String> groupNames = Arrays.asList(annotation.groupNames());
+			if (groupNames.contains(BatchCommandGroup.NAME) || groupNames.contains(DaemonCommandGroup.NAME)) {
+				throw new IllegalArgumentException("Commands of the groups '" + BatchCommandGroup.NAME + "' and '" + DaemonCommandGroup.NAME + "' cannot be used in a batch.");
+			}
+		}
+	}
+
+	/**
+	 * Passes the connection settings of this command to the given step as environment defaults. Options that are
+	 * explicitly set for the step take precedence.
+	 */
+	private void applyDefaults(@NotNull final GlobalConfig step) {
+		final Environment environment = step.getEnvironment();
+		putIfNotNull(environment, CliConstants.KEY_FS_HOST, getHost());
+		putIfNotNull(environment, CliConstants.KEY_FS_PORT, getPort());
+		putIfNotNull(environment, CliConstants.KEY_FS_MODE, getConnectionMode());
+		putIfNotNull(environment, CliConstants.KEY_FS_ENCRYPTION, getConnectionEncryption());
+		putIfNotNull(environment, CliConstants.KEY_FS_COMPRESSION, getConnectionCompression());
+		putIfNotNull(environment, CliConstants.KEY_FS_USER, getUser());
+		putIfNotNull(environment, CliConstants.KEY_FS_PASSWORD, getPassword());
+		putIfNotNull(environment, CliConstants.KEY_FS_PROJECT, getProject());
+		if (!getHttpProxyHost().isEmpty()) {
+			putIfNotNull(environment, CliConstants.KEY_FS_HTTP_PROXYHOST, getHttpProxyHost());
+			putIfNotNull(environment, CliConstants.KEY_FS_HTTP_PROXYPORT, getHttpProxyPort());
+		}
+	}
+
+	private static void putIfNotNull(@NotNull final Environment environment, @NotNull final CliConstants key, @Nullable final Object value) {
+		if (value != null) {
+			environment.put(key.value(), value.toString());
+		}
+	}
+
+	@Nullable
+	private static Object getSerializableResult(@NotNull final Result<?> result) {
+		final Object resultObject = result.get();
+		if (resultObject == null || !JacksonUtil.hasJsonSerializeAnnotation(resultObject.getClass())) {
+			return null;
+		}
+		return resultObject;
+	}
+
+	/**
+	 * Sets whether the remaining steps should be executed after a step failed.
+	 *
+	 * @param continueOnError {@code true} to execute all steps
+	 */
+	public void setContinueOnError(final boolean continueOnError) {
+		_continueOnError = continueOnError;
+	}
+
+	@Override
+	public boolean needsContext() {
+		return false;
+	}
+
+}
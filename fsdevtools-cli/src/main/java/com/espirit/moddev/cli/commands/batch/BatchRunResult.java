@@ -0,0 +1,71 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.api.result.AbstractCommandResult;
+import com.espirit.moddev.cli.api.result.ExecutionResults;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implementation of a {@link com.espirit.moddev.cli.api.result.Result} for the {@link BatchRunCommand}. Contains one
+ * {@link BatchStepResult} per executed step.
+ */
+public class BatchRunResult extends AbstractCommandResult {
+
+	private final int _skippedSteps;
+
+	public BatchRunResult(@NotNull final ExecutionResults results, final int skippedSteps) {
+		super("There was at least one error during the execution of the batch!", results);
+		_skippedSteps = skippedSteps;
+	}
+
+	public BatchRunResult(@NotNull final Exception exception) {
+		super(exception.getMessage() == null ? exception.toString() : exception.getMessage(), new ExecutionResults());
+		_throwable = exception;
+		_skippedSteps = 0;
+	}
+
+	/**
+	 * @return the number of steps that were not executed because a previous step failed
+	 */
+	public int getSkippedSteps() {
+		return _skippedSteps;
+	}
+
+	@Override
+	public void log() {
+		_logger.info("");
+		_logger.info(LINE_SEPARATOR);
+		if (isError()) {
+			_logger.error("Batch completed with errors!");
+		} else {
+			_logger.info("Batch successfully completed.");
+		}
+		_logger.info(LINE_SEPARATOR);
+		logResults();
+		if (_skippedSteps > 0) {
+			_logger.warn("{} step(s) skipped.", _skippedSteps);
+		}
+		_logger.info("");
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.CliConstants;
+import com.espirit.moddev.util.JacksonUtil;
+import org.jetbrains.annotations.NotNull;
+import tools.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A single command of a batch file, i.e. the arguments of one fs-cli call.
+ */
+public class BatchStep {
+
+	static final String ATTR_COMMAND = "command";
+	static final String ATTR_ARGUMENTS = "arguments";
+	static final String MASKED_VALUE = "***";
+
+	/**
+	 * Options whose values must neither be logged nor written to the result file.
+	 */
+	private static final Set<String> CREDENTIAL_OPTIONS = Set.of("-pwd", "--password");
+	private static final Pattern CREDENTIAL_PATTERN = Pattern.compile("(?<!\\S)(-pwd|--password)(\\s+|=)(\"[^\"]*\"|'[^']*'|\\S+)");
+
+	/**
+	 * Reads the steps of the given batch file. The file either contains one command line per line (empty lines and
+	 * lines starting with {@code #} are ignored) or a json array of objects with either a {@code command} line or
+	 * a list of {@code arguments}.
+	 *
+	 * @param path the path of the batch file
+	 * @return the {@link List list} of steps in order of the file
+	 * @throws IOException if the file could not be read
+	 */
+	@NotNull
+	public static List<BatchStep> fromFile(@NotNull final Path path) throws IOException {
+		if (!Files.isRegularFile(path)) {
+			throw new IllegalArgumentException("File '" + path + "' does not exist.");
+		}
+		final String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		return content.trim().startsWith("[") ? fromJson(content) : fromLines(content);
+	}
+
+	@NotNull
+	static List<BatchStep> fromLines(@NotNull final String content) {
+		final List<BatchStep> steps = new ArrayList<>();
+		for (final String line : content.split("\\r?\\n")) {
+			final String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+				continue;
+			}
+			steps.add(new BatchStep(steps.size() + 1, trimmed, tokenize(trimmed)));
+		}
+		return steps;
+	}
+
+	@NotNull
+	static List<BatchStep> fromJson(@NotNull final String content) {
+		final JsonNode root = JacksonUtil.getInputMapper().readTree(content);
+		if (!root.isArray()) {
+			throw new IllegalArgumentException("Batch file must contain a json array.");
+		}
+		final List<BatchStep> steps = new ArrayList<>();
+		for (final JsonNode node : root) {
+			final int index = steps.size() + 1;
+			if (node.has(ATTR_COMMAND)) {
+				final String commandLine = node.get(ATTR_COMMAND).asString().trim();
+				steps.add(new BatchStep(index, commandLine, tokenize(commandLine)));
+			} else if (node.has(ATTR_ARGUMENTS) && node.get(ATTR_ARGUMENTS).isArray()) {
+				final List<String> arguments = new ArrayList<>();
+				node.get(ATTR_ARGUMENTS).forEach(argument -> arguments.add(argument.asString()));
+				steps.add(new BatchStep(index, String.join(" ", maskCredentials(arguments)), stripExecutable(arguments)));
+			} else {
+				throw new IllegalArgumentException("Step " + index + " of the batch file defines neither '" + ATTR_COMMAND + "' nor '" + ATTR_ARGUMENTS + "'.");
+			}
+		}
+		return steps;
+	}
+
+	/**
+	 * Splits a command line into its arguments. Whitespace separates arguments, single or double quotes group them.
+	 * Backslashes are kept as they are, so windows paths do not need to be escaped. A leading {@code fs-cli} is removed.
+	 *
+	 * @param commandLine the command line to split
+	 * @return the arguments of the command line
+	 */
+	@NotNull
+	static List<String> tokenize(@NotNull final String commandLine) {
+		final List<String> arguments = new ArrayList<>();
+		final StringBuilder current = new StringBuilder();
+		boolean inArgument = false;
+		char quote = 0;
+		for (int i = 0; i < commandLine.length(); i++) {
+			final char c = commandLine.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				} else {
+					current.append(c);
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+				inArgument = true;
+			} else if (Character.isWhitespace(c)) {
+				if (inArgument) {
+					arguments.add(current.toString());
+					current.setLength(0);
+					inArgument = false;
+				}
+			} else {
+				current.append(c);
+				inArgument = true;
+			}
+		}
+		if (quote != 0) {
+			throw new IllegalArgumentException("Unterminated quote in command line '" + commandLine + "'.");
+		}
+		if (inArgument) {
+			arguments.add(current.toString());
+		}
+		return stripExecutable(arguments);
+	}
+
+	@NotNull
+	private static List<String> stripExecutable(@NotNull final List<String> arguments) {
+		if (!arguments.isEmpty() && CliConstants.FS_CLI.value().equals(arguments.get(0))) {
+			return new ArrayList<>(arguments.subList(1, arguments.size()));
+		}
+		return arguments;
+	}
+
+	/**
+	 * Replaces the values of {@link #CREDENTIAL_OPTIONS credential options} in the given command line.
+	 *
+	 * @param commandLine the command line to mask
+	 * @return the command line without credentials
+	 */
+	@NotNull
+	static String maskCredentials(@NotNull final String commandLine) {
+		return CREDENTIAL_PATTERN.matcher(commandLine).replaceAll("$1$2" + MASKED_VALUE);
+	}
+
+	/**
+	 * Replaces the values of {@link #CREDENTIAL_OPTIONS credential options} in the given arguments.
+	 *
+	 * @param arguments the arguments to mask
+	 * @return a copy of the arguments without credentials
+	 */
+	@NotNull
+	static List<String> maskCredentials(@NotNull final List<String> arguments) {
+		final List<String> masked = new ArrayList<>(arguments.size());
+		boolean maskNext = false;
+		for (final String argument : arguments) {
+			final int separator = argument.indexOf('=');
+			if (maskNext) {
+				masked.add(MASKED_VALUE);
+				maskNext = false;
+			} else if (CREDENTIAL_OPTIONS.contains(argument)) {
+				masked.add(argument);
+				maskNext = true;
+			} else if (separator > 0 && CREDENTIAL_OPTIONS.contains(argument.substring(0, separator))) {
+				masked.add(argument.substring(0, separator + 1) + MASKED_VALUE);
+			} else {
+				masked.add(argument);
+			}
+		}
+		return masked;
+	}
+
+	private final int _index;
+	private final String _commandLine;
+	private final List<String> _arguments;
+
+	BatchStep(final int index, @NotNull final String commandLine, @NotNull final List<String> arguments) {
+		_index = index;
+		_commandLine = maskCredentials(commandLine);
+		_arguments = Collections.unmodifiableList(arguments);
+	}
+
+	/**
+	 * @return the 1-based position of the step in the batch file
+	 */
+	public int getIndex() {
+		return _index;
+	}
+
+	/**
+	 * Returns the command line of the step for logging and for the result file. Values of credential options like
+	 * {@code --password} are masked.
+	 *
+	 * @return the masked command line
+	 */
+	@NotNull
+	public String getCommandLine() {
+		return _commandLine;
+	}
+
+	@NotNull
+	public List<String> getArguments() {
+		return _arguments;
+	}
+
+	@Override
+	public String toString() {
+		return _commandLine;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.api.result.ExecutionErrorResult;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_EXCEPTION;
+
+/**
+ * The {@link ExecutionErrorResult result} of a {@link BatchStep step} that failed.
+ */
+@JsonSerialize
+public class BatchStepErrorResult extends BatchStepResult implements ExecutionErrorResult<Throwable> {
+
+	@JsonProperty(value = ATTR_EXCEPTION)
+	private final Throwable _throwable;
+
+	public BatchStepErrorResult(@NotNull final BatchStep step, final long durationMillis, @Nullable final Object result, @NotNull final Throwable throwable) {
+		super(step, true, durationMillis, result);
+		_throwable = throwable;
+	}
+
+	@NotNull
+	@Override
+	public Throwable getThrowable() {
+		return _throwable;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + ": " + _throwable.getMessage();
+	}
+
+}
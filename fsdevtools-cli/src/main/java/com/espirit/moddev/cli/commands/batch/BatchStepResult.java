@@ -0,0 +1,89 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.api.result.ExecutionResult;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_COMMAND;
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_ERROR;
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_RESULT;
+
+/**
+ * The {@link ExecutionResult result} of a single successfully executed {@link BatchStep step}.
+ */
+@JsonSerialize
+public class BatchStepResult implements ExecutionResult {
+
+	static final String ATTR_STEP = "step";
+	static final String ATTR_DURATION = "durationMillis";
+
+	@JsonProperty(value = ATTR_STEP)
+	private final int _step;
+	@JsonProperty(value = ATTR_COMMAND)
+	private final String _command;
+	@JsonProperty(value = ATTR_ERROR)
+	private final boolean _hasError;
+	@JsonProperty(value = ATTR_DURATION)
+	private final long _durationMillis;
+	@JsonProperty(value = ATTR_RESULT)
+	private final Object _result;
+
+	public BatchStepResult(@NotNull final BatchStep step, final long durationMillis, @Nullable final Object result) {
+		this(step, false, durationMillis, result);
+	}
+
+	protected BatchStepResult(@NotNull final BatchStep step, final boolean hasError, final long durationMillis, @Nullable final Object result) {
+		_step = step.getIndex();
+		_command = step.getCommandLine();
+		_hasError = hasError;
+		_durationMillis = durationMillis;
+		_result = result;
+	}
+
+	public int getStep() {
+		return _step;
+	}
+
+	@NotNull
+	public String getCommand() {
+		return _command;
+	}
+
+	public long getDurationMillis() {
+		return _durationMillis;
+	}
+
+	@Nullable
+	public Object getResult() {
+		return _result;
+	}
+
+	@Override
+	public String toString() {
+		return "Step " + _step + " '" + _command + "' " + (_hasError ? "failed" : "succeeded") + " after " + _durationMillis + "ms";
+	}
+
+}
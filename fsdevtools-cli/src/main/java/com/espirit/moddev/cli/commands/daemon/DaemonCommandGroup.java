@@ -0,0 +1,32 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.daemon;
+
+/**
+ * {@link com.github.rvesse.airline.annotations.Group} that contains commands to control the fs-cli daemon.
+ */
+@com.github.rvesse.airline.annotations.Group(name = DaemonCommandGroup.NAME, description = "All commands in this group refer to the fs-cli daemon")
+public class DaemonCommandGroup {
+
+	public static final String NAME = "daemon";
+
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.daemon;
+
+import com.espirit.moddev.cli.CliConstants;
+import com.espirit.moddev.cli.daemon.CliDaemon;
+import com.espirit.moddev.cli.daemon.DaemonProtocol;
+import com.espirit.moddev.cli.results.SimpleResult;
+import com.github.rvesse.airline.annotations.Command;
+import com.github.rvesse.airline.annotations.Option;
+import com.github.rvesse.airline.annotations.help.Examples;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Starts the fs-cli daemon in the foreground. Subsequent fs-cli calls with the environment variable
+ * {@link CliConstants#KEY_FS_DAEMON} are forwarded to it.
+ */
+@Command(name = DaemonCommandNames.START, groupNames = DaemonCommandGroup.NAME, description = "Starts a long-lived fs-cli process in the foreground that executes the commands of " +
+		"fs-cli calls with the environment variable 'fsdaemon' set (either 'true' or the path of the socket). The daemon reuses the command " +
+		"metadata and the FirstSpirit connections across calls. Only calls from the daemon's working directory are forwarded, all other calls are executed locally.")
+@Examples(examples =
+		{
+				"daemon start &",
+				"daemon start --socket /tmp/fs-cli.sock --idleTimeout 30"
+		},
+		descriptions = {
+				"Starts the daemon in the background on the default socket '~/.fs-cli/daemon.sock'. Use with 'export fsdaemon=true'.",
+				"Starts the daemon on the given socket and stops it after 30 minutes without commands. Use with 'export fsdaemon=/tmp/fs-cli.sock'."
+		})
+public class DaemonStartCommand implements com.espirit.moddev.cli.api.command.Command<SimpleResult<Boolean>> {
+
+	@Option(name = {"-s", "--socket"}, description = "Path of the unix domain socket. Default is '~/.fs-cli/daemon.sock'.", title = "socket")
+	private String _socket;
+
+	@Option(name = {"-it", "--idleTimeout"}, description = "Stops the daemon after the given number of minutes without commands, 0 to run until stopped. Default is 60.", title = "minutes")
+	private int _idleTimeoutMinutes = 60;
+
+	@Override
+	public SimpleResult<Boolean> call() {
+		try {
+			new CliDaemon(DaemonProtocol.getSocketPath(_socket), Duration.ofMinutes(Math.max(0, _idleTimeoutMinutes))).run();
+			return new SimpleResult<>(Boolean.TRUE);
+		} catch (final IOException e) {
+			return new SimpleResult<>(e);
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.daemon;
+
+import com.espirit.moddev.cli.daemon.DaemonClient;
+import com.espirit.moddev.cli.daemon.DaemonProtocol;
+import com.espirit.moddev.cli.results.SimpleResult;
+import com.github.rvesse.airline.annotations.Command;
+import com.github.rvesse.airline.annotations.Option;
+import com.github.rvesse.airline.annotations.help.Examples;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+/**
+ * Stops a running fs-cli daemon. The daemon closes all pooled FirstSpirit connections before it exits.
+ */
+@Command(name = DaemonCommandNames.STOP, groupNames = DaemonCommandGroup.NAME, description = "Stops a running fs-cli daemon. Has to be called from the daemon's working directory.")
+@Examples(examples =
+		{
+				"daemon stop",
+				"daemon stop --socket /tmp/fs-cli.sock"
+		},
+		descriptions = {
+				"Stops the daemon listening on the default socket.",
+				"Stops the daemon listening on the given socket."
+		})
+public class DaemonStopCommand implements com.espirit.moddev.cli.api.command.Command<SimpleResult<Boolean>> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DaemonStopCommand.class);
+
+	@Option(name = {"-s", "--socket"}, description = "Path of the unix domain socket. Default is '~/.fs-cli/daemon.sock'.", title = "socket")
+	private String _socket;
+
+	@Override
+	public SimpleResult<Boolean> call() {
+		final Path socketPath = DaemonProtocol.getSocketPath(_socket);
+		if (!DaemonClient.isDaemonRunning(socketPath)) {
+			LOGGER.info("No daemon is listening on '{}'.", socketPath);
+			return new SimpleResult<>(Boolean.FALSE);
+		}
+		final OptionalInt exitCode = DaemonClient.execute(socketPath, new String[]{DaemonCommandGroup.NAME, DaemonCommandNames.STOP}, System.out);
+		if (exitCode.isPresent() && exitCode.getAsInt() == DaemonProtocol.EXIT_SUCCESS) {
+			LOGGER.info("Daemon listening on '{}' stopped.", socketPath);
+			return new SimpleResult<>(Boolean.TRUE);
+		}
+		return new SimpleResult<>(new IllegalStateException("Daemon listening on '" + socketPath + "' could not be stopped."));
+	}
+
+}
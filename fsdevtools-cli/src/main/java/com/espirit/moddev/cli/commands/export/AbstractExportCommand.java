@@ -22,8 +22,11 @@
 
 package com.espirit.moddev.cli.commands.export;
 
-import com.espirit.moddev.cli.api.parsing.exceptions.IDProviderNotFoundException;
+import com.espirit.moddev.cli.api.parsing.exceptions.UnresolvedIdentifiersException;
 import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
+import com.espirit.moddev.cli.api.parsing.identifier.IdentifierResolver;
+import com.espirit.moddev.cli.api.parsing.identifier.PathIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.RootNodeIdentifier;
 import com.espirit.moddev.cli.api.parsing.identifier.UidIdentifier;
 import com.espirit.moddev.cli.api.parsing.parser.EntitiesIdentifierParser;
 import com.espirit.moddev.cli.api.parsing.parser.PathIdentifierParser;
@@ -36,24 +39,48 @@ import com.espirit.moddev.cli.commands.PermissionsMode;
 import com.espirit.moddev.cli.commands.SimpleCommand;
 import com.espirit.moddev.cli.commands.help.HelpCommand;
 import com.espirit.moddev.cli.results.ExportResult;
+import com.espirit.moddev.cli.results.MergedExportResult;
+import com.espirit.moddev.cli.utils.ParallelExecutor;
 import com.github.rvesse.airline.annotations.Arguments;
 import com.github.rvesse.airline.annotations.Option;
 import com.github.rvesse.airline.annotations.restrictions.AllowedRawValues;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
+import de.espirit.firstspirit.access.project.Project;
 import de.espirit.firstspirit.access.store.IDProvider;
 import de.espirit.firstspirit.access.store.Store;
 import de.espirit.firstspirit.agency.OperationAgent;
 import de.espirit.firstspirit.agency.StoreAgent;
+import de.espirit.firstspirit.io.FileHandle;
+import de.espirit.firstspirit.io.FileSystem;
+import de.espirit.firstspirit.storage.HistoryProvider;
+import de.espirit.firstspirit.storage.Revision;
 import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
 import de.espirit.firstspirit.transport.PropertiesTransportOptions;
 import de.espirit.firstspirit.transport.PropertiesTransportOptions.ProjectPropertyType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class gathers shared logic and options for different export commands. It can be extended for custom implementations of uid filtering, or to
@@ -94,6 +121,28 @@ public abstract class AbstractExportCommand extends SimpleCommand<ExportResult>
 	@AllowedRawValues(ignoreCase = true, allowedValues = {"NONE", "ALL", "STORE_ELEMENT", "WORKFLOW"})
 	private PermissionsMode _permissionMode = PermissionsMode.NONE;
 
+	@Option(name = "--incremental",
+			description = "Export only store elements created or changed since the last export into the sync dir and remove the files of deleted elements. "
+					+ "Incremental exports keep the exported project revision in the file '" + ExportWatermark.FILE_NAME + "' and the files of the exported elements in the file '" + ExportFileIndex.FILE_NAME + "' of the sync dir, "
+					+ "exports without this option neither read nor write these files. Without these files, with a different export configuration or if the files of a deleted element are unknown, a full export is performed (default = false).",
+			title = "incremental")
+	private boolean _incremental;
+
+	@Option(name = {"-par", "--parallelism"},
+			description = "Maximum number of export operations running concurrently. Values greater than 1 split the export by store and store subtrees "
+					+ "and require '--keepObsoleteFiles'. The operations write into the same sync dir: every operation rewrites the export meta files "
+					+ "in '.FirstSpirit', the first shard (a store root or the elements of the first store) is exported alone after all other shards so that its meta files are kept. "
+					+ "Elements contained in several shards, e.g. schemas of an exported template store root, are exported several times. At least 1 (default = 1).",
+			title = "parallelism")
+	@Positive
+	private int _parallelism = 1;
+
+	@Option(name = "--identifiersFile",
+			description = "Read additional identifiers from the given file, one identifier per line. Use '" + IdentifiersFileReader.STDIN + "' to read them from stdin. "
+					+ "Empty lines and lines starting with '#' are ignored, duplicates are skipped.",
+			title = "identifiersFile")
+	private String _identifiersFile;
+
 	@Arguments(title = "identifiers",
 			description = "A list of various parsable identifiers. Please have a look at the command description for further information.")
 	private List<String> _identifiers = new ArrayList<>();
@@ -158,6 +207,44 @@ public abstract class AbstractExportCommand extends SimpleCommand<ExportResult>
 		this._exportReleaseState = exportReleaseState;
 	}
 
+	/**
+	 * Indicates whether only the elements changed since the last incremental export should be exported.
+	 *
+	 * @return {@code true} for an incremental export, {@code false} (default) for a full export
+	 */
+	public boolean isIncremental() {
+		return _incremental;
+	}
+
+	/**
+	 * Defines whether only the elements changed since the last incremental export should be exported.
+	 *
+	 * @param incremental use {@code true} for an incremental export, {@code false} (default) for a full export
+	 * @see #isIncremental()
+	 */
+	public void setIncremental(final boolean incremental) {
+		_incremental = incremental;
+	}
+
+	/**
+	 * Gets the maximum number of concurrently running export operations.
+	 *
+	 * @return the maximum number of concurrently running export operations
+	 */
+	public int getParallelism() {
+		return _parallelism;
+	}
+
+	/**
+	 * Sets the maximum number of concurrently running export operations.
+	 *
+	 * @param parallelism the maximum number of concurrently running export operations, {@code 1} (default) disables sharding
+	 * @throws IllegalArgumentException if the parallelism is less than 1
+	 */
+	public void setParallelism(final int parallelism) {
+		_parallelism = ParallelExecutor.checkParallelism(parallelism);
+	}
+
 	/**
 	 * Log release state.
 	 *
@@ -174,7 +261,7 @@ public abstract class AbstractExportCommand extends SimpleCommand<ExportResult>
 	 * @param identifiers     the identifiers of elements that should be added to the ExportOperation
 	 * @param exportOperation the ExportOperation to add the elements to
 	 * @throws IllegalArgumentException    if the ExportOperation is null
-	 * @throws IDProviderNotFoundException if {@link Identifier#addToExportOperation(StoreAgent, boolean, ExportOperation)} throws it
+	 * @throws UnresolvedIdentifiersException if at least one identifier could not be resolved; lists all unresolved identifiers
 	 */
 	public void addExportElements(final StoreAgent storeAgent, final List<Identifier> identifiers, final ExportOperation exportOperation) {
 		if (exportOperation == null) {
@@ -186,9 +273,7 @@ public abstract class AbstractExportCommand extends SimpleCommand<ExportResult>
 			LOGGER.error("no identifiers found - pass at least 1 identifier --> call 'fs-cli help export' for details");
 		} else {
 			LOGGER.debug("addExportedElements - UIDs {}", identifiers);
-			for (Identifier identifier : identifiers) {
-				identifier.addToExportOperation(storeAgent, isExportReleaseState(), exportOperation);
-			}
+			new IdentifierResolver(storeAgent, isExportReleaseState(), IdentifierResolver.DEFAULT_PARALLELISM).addToExportOperation(identifiers, exportOperation);
 
 			if (isIncludeProjectProperties()) {
 				LOGGER.warn("usage of flag '--includeProjectProperties' is deprecated - use {}:{}' instead", ProjectPropertiesParser.CUSTOM_PREFIX_PROJECT_PROPERTIES, ProjectPropertiesParser.ALL);
@@ -198,12 +283,47 @@ public abstract class AbstractExportCommand extends SimpleCommand<ExportResult>
 	}
 
 	/**
-	 * Get a list of {@link UidIdentifier}s that specify the elements that should be synchronized.
+	 * Get a list of {@link UidIdentifier}s that specify the elements that should be synchronized. Contains the identifiers passed as arguments
+	 * followed by the identifiers of the {@link #getIdentifiersFile() identifiers file}, if set. The file (or stdin) is read on every call.
 	 *
 	 * @return a {@link java.util.List} of {@link UidIdentifier}s that specify the elements that should be synchronized
 	 */
 	public List<Identifier> getIdentifiers() {
-		return _identifiers.isEmpty() ? Collections.emptyList() : parser.parse(_identifiers);
+		if (_identifiersFile == null) {
+			return _identifiers.isEmpty() ? Collections.emptyList() : parser.parse(_identifiers);
+		}
+		final List<Identifier> identifiers = new ArrayList<>();
+		if (!_identifiers.isEmpty()) {
+			identifiers.addAll(parser.parse(_identifiers));
+		}
+		// parse the file chunk by chunk, so that only the parsed identifiers are kept in memory
+		final IdentifiersFileReader reader = new IdentifiersFileReader(_identifiers);
+		try {
+			reader.read(_identifiersFile, chunk -> identifiers.addAll(parser.parse(chunk)));
+		} catch (final IOException exception) {
+			throw new UncheckedIOException("Error reading identifiers from '" + _identifiersFile + "'.", exception);
+		}
+		LOGGER.debug("Read {} line(s) from '{}', skipped {} duplicate identifier(s).", reader.getLineCount(), _identifiersFile, reader.getDuplicateCount());
+		return identifiers;
+	}
+
+	/**
+	 * Gets the file to read additional identifiers from.
+	 *
+	 * @return the path of the file, {@link IdentifiersFileReader#STDIN} for stdin or {@code null} if no file is set
+	 */
+	@Nullable
+	public String getIdentifiersFile() {
+		return _identifiersFile;
+	}
+
+	/**
+	 * Sets the file to read additional identifiers from.
+	 *
+	 * @param identifiersFile the path of the file, {@link IdentifiersFileReader#STDIN} for stdin or {@code null} to read no file
+	 */
+	public void setIdentifiersFile(@Nullable final String identifiersFile) {
+		_identifiersFile = identifiersFile;
 	}
 
 	/**
@@ -270,23 +390,413 @@ public abstract class AbstractExportCommand extends SimpleCommand<ExportResult>
 			}
 
 			// create export operation
-			final ExportOperation exportOperation = this.getContext().requireSpecialist(OperationAgent.TYPE).getOperation(ExportOperation.TYPE);
-			exportOperation.configurePermissionTransport().setPermissionTransport(_permissionMode.getFirstSpiritPermissionMode());
-			exportOperation.setDeleteObsoleteFiles(isDeleteObsoleteFiles());
-			exportOperation.setExportChildElements(isExportChildElements());
-			exportOperation.setExportParentElements(isExportParentElements());
-			exportOperation.setExportRelease(isExportReleaseState());
-			addExportElements(this.getContext().requireSpecialist(StoreAgent.TYPE), identifierList, exportOperation);
+			final StoreAgent storeAgent = this.getContext().requireSpecialist(StoreAgent.TYPE);
+			final ExportOperation exportOperation = createExportOperation();
 
-			// export
 			final String syncDirStr = getSynchronizationDirectoryString();
-			LOGGER.info("exporting to directory '{}'", syncDirStr);
-			return new ExportResult(getContext().requireSpecialist(StoreAgent.TYPE), exportOperation.perform(getSynchronizationDirectory(syncDirStr)));
+			final Path syncDirectory = Paths.get(syncDirStr);
+			final Project project = getContext().getProject();
+			// the revision is determined before the export, changes made during the export are part of the next incremental export
+			final Revision exportRevision = project.getRevision(HistoryProvider.UNTIL_NOW);
+			// the watermark and the file index are only maintained for incremental exports, plain exports leave the sync dir untouched
+			final ExportFileIndex fileIndex = isIncremental() ? ExportFileIndex.read(syncDirectory) : null;
+			final boolean incremental = fileIndex != null && exportRevision != null && addChangedExportElements(storeAgent, project, exportRevision, identifierList, syncDirectory, fileIndex, exportOperation);
+
+			// export
+			final ExportOperation.Result result;
+			if (!incremental && isShardedExport()) {
+				result = exportSharded(storeAgent, identifierList, syncDirStr);
+			} else {
+				if (!incremental) {
+					exportOperation.setDeleteObsoleteFiles(isDeleteObsoleteFiles());
+					exportOperation.setExportChildElements(isExportChildElements());
+					addExportElements(storeAgent, identifierList, exportOperation);
+				}
+				LOGGER.info("exporting to directory '{}'", syncDirStr);
+				result = exportOperation.perform(getSynchronizationDirectory(syncDirStr));
+			}
+			if (fileIndex != null) {
+				// also after a full export, so the next export can be incremental
+				updateWatermark(syncDirectory, project, exportRevision, identifierList, fileIndex, result);
+			}
+			return new ExportResult(storeAgent, result, getResultDetail());
 		} catch (final Exception e) {
 			return new ExportResult(e);
 		}
 	}
 
+	/**
+	 * Creates an {@link ExportOperation} configured with the permission mode, the parent elements flag and the release state of this command.
+	 *
+	 * @return the new export operation
+	 */
+	@NotNull
+	private ExportOperation createExportOperation() {
+		final ExportOperation exportOperation = this.getContext().requireSpecialist(OperationAgent.TYPE).getOperation(ExportOperation.TYPE);
+		exportOperation.configurePermissionTransport().setPermissionTransport(_permissionMode.getFirstSpiritPermissionMode());
+		exportOperation.setExportParentElements(isExportParentElements());
+		exportOperation.setExportRelease(isExportReleaseState());
+		return exportOperation;
+	}
+
+	/**
+	 * Indicates whether the export should be split into several concurrently running export operations.
+	 * Every operation would delete the files of the other operations as obsolete, so sharding requires obsolete files to be kept.
+	 *
+	 * @return {@code true} if the export should be sharded
+	 */
+	@VisibleForTesting
+	boolean isShardedExport() {
+		if (getParallelism() <= 1) {
+			return false;
+		}
+		if (isDeleteObsoleteFiles()) {
+			LOGGER.warn("Parallel export requires '--keepObsoleteFiles', exporting with a single operation.");
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Splits the identifiers into {@link ExportShard shards} and exports them with up to {@link #getParallelism()} concurrent export operations
+	 * into the same synchronization directory.
+	 *
+	 * @param storeAgent  the StoreAgent to retrieve IDProviders with
+	 * @param identifiers the identifiers of elements that should be exported
+	 * @param syncDirStr  the synchronization directory
+	 * @return the merged result of all export operations
+	 * @throws Exception the first exception thrown by an export operation, further ones are added as suppressed
+	 */
+	@VisibleForTesting
+	@NotNull
+	ExportOperation.Result exportSharded(@NotNull final StoreAgent storeAgent, @NotNull final List<Identifier> identifiers, @NotNull final String syncDirStr) throws Exception {
+		final List<ExportShard> shards = ExportShard.plan(storeAgent, isExportReleaseState(), isExportChildElements(), identifiers, getParallelism());
+		if (isIncludeProjectProperties()) {
+			LOGGER.warn("usage of flag '--includeProjectProperties' is deprecated - use {}:{}' instead", ProjectPropertiesParser.CUSTOM_PREFIX_PROJECT_PROPERTIES, ProjectPropertiesParser.ALL);
+		}
+		final FileSystem<FileHandle> syncDirectory = getSynchronizationDirectory(syncDirStr);
+		try (final ParallelExecutor executor = new ParallelExecutor("export-shard", getParallelism(), shards.size())) {
+			LOGGER.info("exporting {} shard(s) with {} concurrent operation(s) to directory '{}'", shards.size(), executor.getThreadCount(), syncDirStr);
+			// every export operation rewrites the meta files of the sync dir, so the first shard is exported alone after all other
+			// shards to be the only operation writing them at that time
+			final List<Future<ExportOperation.Result>> futures = new ArrayList<>(shards.size());
+			for (final ExportShard shard : shards.subList(1, shards.size())) {
+				futures.add(executor.submit(() -> exportShard(storeAgent, shard, syncDirectory, false)));
+			}
+			final List<ExportOperation.Result> results = new ArrayList<>(shards.size());
+			Exception failure = collectResults(futures, results, null);
+			final ExportShard firstShard = shards.get(0);
+			failure = collectResults(Collections.singletonList(executor.submit(() -> exportShard(storeAgent, firstShard, syncDirectory, isIncludeProjectProperties()))), results, failure);
+			if (failure != null) {
+				throw failure;
+			}
+			return new MergedExportResult(results);
+		}
+	}
+
+	/**
+	 * Waits for the given futures and adds their results to the given list.
+	 *
+	 * @param futures the futures to wait for
+	 * @param results the list to add the results to
+	 * @param failure the failure of previous futures or {@code null}
+	 * @return the first failure, further failures are added as suppressed, or {@code null} if all futures succeeded
+	 */
+	@Nullable
+	private static Exception collectResults(@NotNull final List<Future<ExportOperation.Result>> futures, @NotNull final List<ExportOperation.Result> results, @Nullable final Exception failure) throws InterruptedException {
+		Exception firstFailure = failure;
+		for (final Future<ExportOperation.Result> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (final ExecutionException executionException) {
+				final Exception exception = executionException.getCause() instanceof Exception ? (Exception) executionException.getCause() : executionException;
+				if (firstFailure == null) {
+					firstFailure = exception;
+				} else {
+					firstFailure.addSuppressed(exception);
+				}
+			}
+		}
+		return firstFailure;
+	}
+
+	@VisibleForTesting
+	@NotNull
+	ExportOperation.Result exportShard(@NotNull final StoreAgent storeAgent, @NotNull final ExportShard shard, @NotNull final FileSystem<FileHandle> syncDirectory, final boolean addProjectProperties) {
+		final long startTime = System.nanoTime();
+		LOGGER.debug("Exporting shard {}...", shard);
+		final ExportOperation exportOperation = createExportOperation();
+		exportOperation.setDeleteObsoleteFiles(false);
+		exportOperation.setExportChildElements(isExportChildElements() && !shard.isExcludeChildElements());
+		if (shard.isSubtree()) {
+			// the store root is exported by the root shard of the store
+			exportOperation.setExportParentElements(false);
+		}
+		shard.addTo(storeAgent, isExportReleaseState(), exportOperation);
+		if (addProjectProperties) {
+			addProjectProperties(exportOperation);
+		}
+		final ExportOperation.Result result = exportOperation.perform(syncDirectory);
+		LOGGER.info("Shard '{}' exported in {} ms.", shard.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		return result;
+	}
+
+	/**
+	 * Configures the given export operation to export only the store elements created or changed since the revision of the
+	 * {@link ExportWatermark watermark} in the synchronization directory. Only changed elements within the elements specified by the
+	 * identifiers are exported; entities, schemas and project properties are always exported completely. The files of elements deleted in the
+	 * meantime are removed from the synchronization directory and the {@link ExportFileIndex file index}, unless obsolete files should be kept.
+	 * <p>
+	 * The export can not be incremental if there is no matching watermark, if the revision of the watermark is not available anymore or if
+	 * the file index does not know the files of a deleted element. In this case the export operation is left untouched and {@code false}
+	 * is returned.
+	 *
+	 * @param storeAgent      the StoreAgent to retrieve IDProviders with
+	 * @param project         the project to export
+	 * @param exportRevision  the revision to export
+	 * @param identifiers     the identifiers of elements that should be exported
+	 * @param syncDirectory   the synchronization directory
+	 * @param fileIndex       the files of the elements exported into the synchronization directory
+	 * @param exportOperation the ExportOperation to add the changed elements to
+	 * @return {@code true} if the export operation has been configured for an incremental export, {@code false} if a full export is needed
+	 * @throws UnresolvedIdentifiersException if at least one identifier could not be resolved
+	 * @throws UncheckedIOException           if the files of a deleted element could not be removed
+	 */
+	protected boolean addChangedExportElements(@NotNull final StoreAgent storeAgent, @NotNull final Project project, @NotNull final Revision exportRevision, @NotNull final List<Identifier> identifiers, @NotNull final Path syncDirectory, @NotNull final ExportFileIndex fileIndex, @NotNull final ExportOperation exportOperation) {
+		final ExportWatermark watermark = ExportWatermark.read(syncDirectory).orElse(null);
+		if (watermark == null) {
+			LOGGER.info("No export watermark found in '{}', performing full export.", syncDirectory);
+			return false;
+		}
+		if (!watermark.matches(project.getId(), getExportFingerprint(identifiers))) {
+			LOGGER.info("Export watermark in '{}' belongs to another project or export configuration, performing full export.", syncDirectory);
+			return false;
+		}
+		final long lastRevisionId = watermark.getRevisionId();
+		if (lastRevisionId > exportRevision.getId()) {
+			LOGGER.info("Export watermark revision {} is newer than the current project revision {}, performing full export.", lastRevisionId, exportRevision.getId());
+			return false;
+		}
+		final RevisionChanges changes;
+		try {
+			changes = RevisionChanges.collect(getRevisionsSince(project, lastRevisionId, exportRevision), lastRevisionId);
+		} catch (final IllegalArgumentException exception) {
+			// IllegalArgumentException is thrown by FirstSpirit if the revision does not exist
+			LOGGER.info("Revision {} of the export watermark is not available anymore, performing full export.", lastRevisionId);
+			return false;
+		}
+		LOGGER.debug("Changes since revision {}: {}", lastRevisionId, changes);
+		final Set<String> deletedFiles = getDeletedFiles(changes, fileIndex);
+		if (deletedFiles == null) {
+			return false;
+		}
+
+		LOGGER.info("Exporting changes of {} revision(s) since revision {}...", changes.getRevisionCount(), lastRevisionId);
+		exportOperation.setDeleteObsoleteFiles(false);
+		// changed children are part of the changes themselves
+		exportOperation.setExportChildElements(false);
+		final List<Identifier> elementIdentifiers = new ArrayList<>();
+		final List<Identifier> otherIdentifiers = new ArrayList<>();
+		for (final Identifier identifier : identifiers) {
+			if (identifier instanceof UidIdentifier || identifier instanceof RootNodeIdentifier || identifier instanceof PathIdentifier) {
+				elementIdentifiers.add(identifier);
+			} else {
+				otherIdentifiers.add(identifier);
+			}
+		}
+		final IdentifierResolver identifierResolver = new IdentifierResolver(storeAgent, isExportReleaseState(), IdentifierResolver.DEFAULT_PARALLELISM);
+		final Set<String> scope = resolveScope(storeAgent, identifierResolver, elementIdentifiers);
+		identifierResolver.addToExportOperation(otherIdentifiers, exportOperation);
+		if (isIncludeProjectProperties()) {
+			addProjectProperties(exportOperation);
+		}
+		removeDeletedElements(changes, syncDirectory, fileIndex, deletedFiles);
+		int changedElements = 0;
+		for (final Map.Entry<Store.Type, Set<Long>> entry : changes.getModifiedElements().entrySet()) {
+			final Store store = storeAgent.getStore(entry.getKey(), isExportReleaseState());
+			for (final long nodeId : entry.getValue()) {
+				final IDProvider element = store.getStoreElement(nodeId);
+				if (element == null) {
+					LOGGER.debug("Changed element {} not found in {} (release = {}).", nodeId, entry.getKey(), isExportReleaseState());
+				} else if (isInScope(element, scope)) {
+					exportOperation.addElement(element);
+					changedElements++;
+				}
+			}
+		}
+		LOGGER.info("{} changed element(s) to export.", changedElements);
+		return true;
+	}
+
+	/**
+	 * Returns the revisions of the given project from {@code revisionId} up to {@code untilRevision}.
+	 *
+	 * @param project       the project
+	 * @param revisionId    the id of the first revision
+	 * @param untilRevision the last revision
+	 * @return the revisions in ascending order
+	 * @throws IllegalArgumentException if the revision with the given id does not exist
+	 */
+	@NotNull
+	protected List<Revision> getRevisionsSince(@NotNull final Project project, final long revisionId, @NotNull final Revision untilRevision) {
+		final Revision startRevision = project.getRevision(revisionId);
+		return project.getRevisions(startRevision, untilRevision, Integer.MAX_VALUE, null);
+	}
+
+	/**
+	 * Computes the fingerprint of all options which influence the content of the synchronization directory. An incremental export is only
+	 * possible on top of an export with the same fingerprint.
+	 *
+	 * @param identifiers the identifiers to export
+	 * @return the fingerprint of the current export configuration
+	 */
+	@NotNull
+	protected String getExportFingerprint(@NotNull final List<Identifier> identifiers) {
+		final List<String> values = new ArrayList<>(identifiers.size() + 5);
+		for (final Identifier identifier : identifiers) {
+			values.add(identifier.toString());
+		}
+		values.add("release=" + isExportReleaseState());
+		values.add("children=" + isExportChildElements());
+		values.add("parents=" + isExportParentElements());
+		values.add("projectProperties=" + isIncludeProjectProperties());
+		values.add("permissions=" + _permissionMode);
+		return ExportWatermark.fingerprint(values);
+	}
+
+	/**
+	 * Returns the files of the elements deleted since the last export, which have to be removed from the synchronization directory.
+	 *
+	 * @param changes   the changes since the last export
+	 * @param fileIndex the files of the elements exported into the synchronization directory
+	 * @return the files to remove or {@code null} if the files of a deleted element are unknown and a full export is needed
+	 */
+	@Nullable
+	private Set<String> getDeletedFiles(@NotNull final RevisionChanges changes, @NotNull final ExportFileIndex fileIndex) {
+		final Set<String> deletedFiles = new LinkedHashSet<>();
+		if (!isDeleteObsoleteFiles()) {
+			return deletedFiles;
+		}
+		for (final Map.Entry<Store.Type, Set<Long>> entry : changes.getDeletedElements().entrySet()) {
+			for (final long nodeId : entry.getValue()) {
+				final Set<String> files = fileIndex.getFiles(entry.getKey(), nodeId);
+				if (files != null) {
+					deletedFiles.addAll(files);
+				} else if (!fileIndex.isComplete()) {
+					// the element may have been exported before the file index has been started
+					LOGGER.info("Files of deleted element {} in {} are unknown, performing full export to remove them. Export into an empty sync dir once to let incremental exports remove the files of deleted elements.", nodeId, entry.getKey());
+					return null;
+				}
+			}
+		}
+		return deletedFiles;
+	}
+
+	private void removeDeletedElements(@NotNull final RevisionChanges changes, @NotNull final Path syncDirectory, @NotNull final ExportFileIndex fileIndex, @NotNull final Set<String> deletedFiles) {
+		if (!changes.hasDeletions()) {
+			return;
+		}
+		if (isDeleteObsoleteFiles()) {
+			try {
+				ExportFileIndex.deleteFiles(syncDirectory, deletedFiles);
+			} catch (final IOException exception) {
+				throw new UncheckedIOException("Error removing the files of deleted elements from '" + syncDirectory + "'.", exception);
+			}
+			LOGGER.info("Removed {} file(s) of deleted elements.", deletedFiles.size());
+		} else {
+			LOGGER.info("Keeping the files of deleted elements.");
+		}
+		for (final Map.Entry<Store.Type, Set<Long>> entry : changes.getDeletedElements().entrySet()) {
+			for (final long nodeId : entry.getValue()) {
+				fileIndex.remove(entry.getKey(), nodeId);
+			}
+		}
+	}
+
+	/**
+	 * Resolves the keys of the store elements specified by the given identifiers, changed elements are only exported within these elements.
+	 *
+	 * @param storeAgent         the StoreAgent to retrieve the store roots with
+	 * @param identifierResolver the resolver for uid and path identifiers
+	 * @param identifiers        the uid, path and root node identifiers
+	 * @return the keys of the resolved elements
+	 * @throws UnresolvedIdentifiersException if at least one identifier could not be resolved
+	 */
+	@NotNull
+	private Set<String> resolveScope(@NotNull final StoreAgent storeAgent, @NotNull final IdentifierResolver identifierResolver, @NotNull final List<Identifier> identifiers) {
+		final Map<Identifier, String> failures = new ConcurrentHashMap<>();
+		final Map<Identifier, IDProvider> elements = identifierResolver.resolveElements(identifiers, failures);
+		final Set<String> scope = new HashSet<>();
+		// report the failures in the order of the identifiers
+		final Map<Identifier, String> orderedFailures = new LinkedHashMap<>();
+		for (final Identifier identifier : identifiers) {
+			if (identifier instanceof RootNodeIdentifier) {
+				final Store.Type storeType = ((RootNodeIdentifier) identifier).getUidType().getStoreType();
+				final Store store = storeAgent.getStore(storeType, isExportReleaseState());
+				if (store == null) {
+					orderedFailures.put(identifier, "Store root cannot be retrieved for uidType " + storeType);
+				} else {
+					scope.add(getScopeKey(store));
+				}
+			} else if (elements.containsKey(identifier)) {
+				scope.add(getScopeKey(elements.get(identifier)));
+			} else if (failures.containsKey(identifier)) {
+				orderedFailures.put(identifier, failures.get(identifier));
+			}
+		}
+		if (!orderedFailures.isEmpty()) {
+			throw new UnresolvedIdentifiersException(orderedFailures);
+		}
+		return scope;
+	}
+
+	/**
+	 * Records the exported files in the {@link ExportFileIndex file index} and sets the {@link ExportWatermark watermark} to the exported
+	 * revision, so the next export can be incremental. If the file index can not be written, both are deleted to force a full export.
+	 */
+	private void updateWatermark(@NotNull final Path syncDirectory, @NotNull final Project project, @Nullable final Revision exportRevision, @NotNull final List<Identifier> identifiers, @NotNull final ExportFileIndex fileIndex, @NotNull final ExportOperation.Result result) {
+		try {
+			fileIndex.record(result);
+			fileIndex.write(syncDirectory);
+		} catch (final IOException exception) {
+			LOGGER.warn("Could not update export file index in '{}', the next incremental export will be a full export: {}", syncDirectory, exception.toString());
+			try {
+				ExportWatermark.delete(syncDirectory);
+				ExportFileIndex.delete(syncDirectory);
+			} catch (final IOException deleteException) {
+				LOGGER.warn("Could not delete export watermark in '{}': {}", syncDirectory, deleteException.toString());
+			}
+			return;
+		}
+		try {
+			if (exportRevision == null) {
+				ExportWatermark.delete(syncDirectory);
+			} else {
+				new ExportWatermark(project.getId(), exportRevision.getId(), getExportFingerprint(identifiers)).write(syncDirectory);
+				LOGGER.debug("Export watermark set to revision {}.", exportRevision.getId());
+			}
+		} catch (final IOException exception) {
+			LOGGER.warn("Could not update export watermark in '{}', the next incremental export will be a full export: {}", syncDirectory, exception.toString());
+		}
+	}
+
+	private boolean isInScope(@NotNull final IDProvider element, @NotNull final Set<String> scope) {
+		for (IDProvider current = element; current != null; current = current.getParent()) {
+			if (scope.contains(getScopeKey(current))) {
+				return true;
+			}
+			if (!isExportChildElements()) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	@NotNull
+	private static String getScopeKey(@NotNull final IDProvider element) {
+		return element.getStore().getType() + ":" + element.getId();
+	}
+
 	/**
 	 * Adds the given string based UidIdentifier to this command's argument list. This method doesn't validate the input at all.
 	 *
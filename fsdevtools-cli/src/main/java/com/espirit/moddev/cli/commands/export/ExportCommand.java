@@ -51,7 +51,8 @@ import static com.espirit.moddev.cli.api.parsing.parser.SchemaIdentifierParser.C
 				"export -- schema:news",
 				"export -- schema:news[setExportGidMapping=true]",
 				"export -- projectproperty:LANGUAGES projectproperty:RESOLUTIONS",
-				"export -- projectproperty:ALL"
+				"export -- projectproperty:ALL",
+				"export --identifiersFile identifiers.txt"
 		},
 		descriptions = {
 				"Exports a pagetemplate and a page",
@@ -63,7 +64,8 @@ import static com.espirit.moddev.cli.api.parsing.parser.SchemaIdentifierParser.C
 				"Exports the database schema 'news'",
 				"Exports the database schema 'news' with an additional Mapping.xml",
 				"Exports the project properties languages and resolutions",
-				"Exports all project properties"
+				"Exports all project properties",
+				"Exports the identifiers listed in the file 'identifiers.txt', one per line ('-' reads them from stdin)"
 		})
 public class ExportCommand extends AbstractExportCommand {
 
@@ -0,0 +1,295 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import de.espirit.common.util.Pair;
+import de.espirit.firstspirit.access.store.BasicElementInfo;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.store.access.nexport.ElementExportInfo;
+import de.espirit.firstspirit.store.access.nexport.ExportInfo;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import de.espirit.firstspirit.store.access.nexport.io.ExportInfoFileHandle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The files of all store elements exported into a synchronization directory, persisted next to the {@link ExportWatermark watermark}. The
+ * export operation only removes the files of deleted elements during a full export, an incremental export uses the index to remove them itself.
+ * <p>
+ * The files of an element are only known if the element has been created in the synchronization directory after the index has been started.
+ * The index is {@link #isComplete() complete} if it has been started in an empty synchronization directory, elements it does not know have
+ * never been exported then.
+ */
+public class ExportFileIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExportFileIndex.class);
+
+	/**
+	 * The name of the index file in the synchronization directory.
+	 */
+	public static final String FILE_NAME = ".fs-cli-export-files.properties";
+
+	static final String KEY_COMPLETE = "complete";
+
+	private final Map<String, Set<String>> _files;
+	private final boolean _complete;
+
+	ExportFileIndex(@NotNull final Map<String, Set<String>> files, final boolean complete) {
+		_files = files;
+		_complete = complete;
+	}
+
+	/**
+	 * Indicates whether the index knows the files of all elements in the synchronization directory.
+	 *
+	 * @return {@code true} if an unknown element has never been exported into the synchronization directory
+	 */
+	public boolean isComplete() {
+		return _complete;
+	}
+
+	/**
+	 * Returns the files of the given element.
+	 *
+	 * @param storeType the store of the element
+	 * @param nodeId    the id of the element
+	 * @return the paths of the files relative to the synchronization directory or {@code null} if the element is unknown
+	 */
+	@Nullable
+	public Set<String> getFiles(@NotNull final Store.Type storeType, final long nodeId) {
+		final Set<String> files = _files.get(getKey(storeType, nodeId));
+		return files == null ? null : Collections.unmodifiableSet(files);
+	}
+
+	/**
+	 * Removes the given element from the index. Its files are left untouched.
+	 *
+	 * @param storeType the store of the element
+	 * @param nodeId    the id of the element
+	 */
+	public void remove(@NotNull final Store.Type storeType, final long nodeId) {
+		_files.remove(getKey(storeType, nodeId));
+	}
+
+	/**
+	 * Records the files created, updated, moved and deleted by an export into the synchronization directory. Created elements are added with
+	 * all their files, the files of known elements are updated and deleted elements are removed. Elements which were not created by the export
+	 * stay unknown, their unchanged files are not part of the result.
+	 *
+	 * @param result the result of the export
+	 */
+	public void record(@NotNull final ExportOperation.Result result) {
+		for (final ExportInfo exportInfo : result.getDeletedElements()) {
+			if (exportInfo.getType() == ExportInfo.Type.ELEMENT) {
+				final BasicElementInfo elementInfo = ((ElementExportInfo) exportInfo).getElementInfo();
+				remove(elementInfo.getStoreType(), elementInfo.getNodeId());
+			}
+		}
+		recordChanges(result.getMovedElements());
+		recordChanges(result.getUpdatedElements());
+		for (final ExportInfo exportInfo : result.getCreatedElements()) {
+			if (exportInfo.getType() == ExportInfo.Type.ELEMENT) {
+				final ElementExportInfo elementExportInfo = (ElementExportInfo) exportInfo;
+				final BasicElementInfo elementInfo = elementExportInfo.getElementInfo();
+				final Set<String> files = new LinkedHashSet<>();
+				_files.put(getKey(elementInfo.getStoreType(), elementInfo.getNodeId()), files);
+				addFiles(files, elementExportInfo);
+			}
+		}
+	}
+
+	private void recordChanges(@NotNull final Collection<? extends ExportInfo> exportInfos) {
+		for (final ExportInfo exportInfo : exportInfos) {
+			if (exportInfo.getType() != ExportInfo.Type.ELEMENT) {
+				continue;
+			}
+			final ElementExportInfo elementExportInfo = (ElementExportInfo) exportInfo;
+			final BasicElementInfo elementInfo = elementExportInfo.getElementInfo();
+			final Set<String> files = _files.get(getKey(elementInfo.getStoreType(), elementInfo.getNodeId()));
+			if (files != null) {
+				addFiles(files, elementExportInfo);
+			}
+		}
+	}
+
+	private static void addFiles(@NotNull final Set<String> files, @NotNull final ElementExportInfo exportInfo) {
+		for (final ExportInfoFileHandle fileHandle : exportInfo.getDeletedFileHandles()) {
+			files.remove(getPath(fileHandle));
+		}
+		for (final Pair<ExportInfoFileHandle, ExportInfoFileHandle> movedFileHandle : exportInfo.getMovedFileHandles()) {
+			files.remove(getPath(movedFileHandle.getKey()));
+			files.add(getPath(movedFileHandle.getValue()));
+		}
+		for (final ExportInfoFileHandle fileHandle : exportInfo.getCreatedFileHandles()) {
+			files.add(getPath(fileHandle));
+		}
+		for (final ExportInfoFileHandle fileHandle : exportInfo.getUpdatedFileHandles()) {
+			files.add(getPath(fileHandle));
+		}
+	}
+
+	/**
+	 * Reads the index of the given synchronization directory. Without a (valid) index file a new index is started, which is only complete if the
+	 * synchronization directory does not contain any exported files yet.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @return the index
+	 */
+	@NotNull
+	public static ExportFileIndex read(@NotNull final Path syncDirectory) {
+		final Path file = syncDirectory.resolve(FILE_NAME);
+		final Properties properties = new Properties();
+		try (final InputStream inputStream = Files.newInputStream(file)) {
+			properties.load(inputStream);
+		} catch (final NoSuchFileException exception) {
+			final boolean empty = isEmpty(syncDirectory);
+			LOGGER.debug("No export file index found in '{}', starting a new {} index.", syncDirectory, empty ? "complete" : "incomplete");
+			return new ExportFileIndex(new HashMap<>(), empty);
+		} catch (final IOException exception) {
+			LOGGER.warn("Could not read export file index '{}': {}", file, exception.toString());
+			return new ExportFileIndex(new HashMap<>(), false);
+		}
+		final Map<String, Set<String>> files = new HashMap<>();
+		for (final String key : properties.stringPropertyNames()) {
+			if (!KEY_COMPLETE.equals(key)) {
+				final Set<String> paths = new LinkedHashSet<>();
+				for (final String path : properties.getProperty(key).split("\n")) {
+					if (!path.isEmpty()) {
+						paths.add(path);
+					}
+				}
+				files.put(key, paths);
+			}
+		}
+		return new ExportFileIndex(files, Boolean.parseBoolean(properties.getProperty(KEY_COMPLETE)));
+	}
+
+	/**
+	 * Writes this index to the given synchronization directory. The file is replaced atomically where the file system supports it.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @throws IOException if the index could not be written
+	 */
+	public void write(@NotNull final Path syncDirectory) throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty(KEY_COMPLETE, Boolean.toString(_complete));
+		for (final Map.Entry<String, Set<String>> entry : _files.entrySet()) {
+			properties.setProperty(entry.getKey(), String.join("\n", entry.getValue()));
+		}
+		ExportWatermark.writeProperties(syncDirectory, FILE_NAME, properties, "Files of the exported store elements, do not edit");
+	}
+
+	/**
+	 * Deletes the index of the given synchronization directory. A new index is incomplete unless the synchronization directory is empty.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @throws IOException if the index exists but could not be deleted
+	 */
+	public static void delete(@NotNull final Path syncDirectory) throws IOException {
+		Files.deleteIfExists(syncDirectory.resolve(FILE_NAME));
+	}
+
+	/**
+	 * Deletes the given files of the synchronization directory and all directories which become empty by this.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @param files         the paths of the files relative to the synchronization directory
+	 * @throws IOException if a file could not be deleted
+	 */
+	public static void deleteFiles(@NotNull final Path syncDirectory, @NotNull final Collection<String> files) throws IOException {
+		final Path root = syncDirectory.toAbsolutePath().normalize();
+		for (final String path : files) {
+			final Path file = root.resolve(path).normalize();
+			if (file.equals(root) || !file.startsWith(root)) {
+				LOGGER.warn("Ignoring file '{}' outside of the synchronization directory '{}'.", path, syncDirectory);
+				continue;
+			}
+			if (!Files.deleteIfExists(file)) {
+				continue;
+			}
+			LOGGER.debug("Deleted file '{}'.", file);
+			for (Path directory = file.getParent(); !directory.equals(root) && hasNoEntries(directory); directory = directory.getParent()) {
+				Files.delete(directory);
+			}
+		}
+	}
+
+	private static boolean hasNoEntries(@NotNull final Path directory) throws IOException {
+		try (final DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+			return !entries.iterator().hasNext();
+		}
+	}
+
+	/**
+	 * Checks whether the given synchronization directory contains no exported files, files of the export state are ignored.
+	 */
+	private static boolean isEmpty(@NotNull final Path directory) {
+		try (final DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+			for (final Path entry : entries) {
+				final String name = entry.getFileName().toString();
+				if (!name.startsWith(ExportWatermark.FILE_NAME) && !name.startsWith(FILE_NAME)) {
+					return false;
+				}
+			}
+			return true;
+		} catch (final NoSuchFileException exception) {
+			return true;
+		} catch (final IOException exception) {
+			LOGGER.debug("Could not list directory '{}': {}", directory, exception.toString());
+			return false;
+		}
+	}
+
+	@NotNull
+	private static String getKey(@NotNull final Store.Type storeType, final long nodeId) {
+		return storeType.name() + ':' + nodeId;
+	}
+
+	@NotNull
+	private static String getPath(@NotNull final ExportInfoFileHandle fileHandle) {
+		final String path = fileHandle.getPath().replace('\\', '/');
+		return path.startsWith("/") ? path.substring(1) : path;
+	}
+
+	@Override
+	public String toString() {
+		return "ExportFileIndex{elements=" + _files.size() + ", complete=" + _complete + '}';
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import com.espirit.moddev.cli.api.parsing.identifier.EntitiesIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
+import com.espirit.moddev.cli.api.parsing.identifier.IdentifierResolver;
+import com.espirit.moddev.cli.api.parsing.identifier.PathIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.ProjectPropertiesIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.RootNodeIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.SchemaIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.UidIdentifier;
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.agency.StoreAgent;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A part of a sharded export. Every shard is exported by an own {@link ExportOperation}, so shards must not share elements.
+ * <p>
+ * Identifiers are grouped by their store, all identifiers of one store form one shard. A store root is split by subtree: the store root itself
+ * is exported without child elements and its top level children are distributed round-robin over several shards, which are exported without
+ * their parent elements.
+ */
+public class ExportShard {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExportShard.class);
+
+	private final String _name;
+	private final boolean _excludeChildElements;
+	private final boolean _subtree;
+	private final List<Identifier> _identifiers = new ArrayList<>();
+	private final List<IDProvider> _elements = new ArrayList<>();
+
+	@VisibleForTesting
+	ExportShard(@NotNull final String name, final boolean excludeChildElements, final boolean subtree) {
+		_name = name;
+		_excludeChildElements = excludeChildElements;
+		_subtree = subtree;
+	}
+
+	@NotNull
+	public String getName() {
+		return _name;
+	}
+
+	/**
+	 * @return {@code true} if only the elements of this shard themselves have to be exported, regardless of the export configuration
+	 */
+	public boolean isExcludeChildElements() {
+		return _excludeChildElements;
+	}
+
+	/**
+	 * @return {@code true} if this shard contains subtrees of a store root, whose parent elements are exported by the root shard of the store
+	 */
+	public boolean isSubtree() {
+		return _subtree;
+	}
+
+	@NotNull
+	public List<Identifier> getIdentifiers() {
+		return Collections.unmodifiableList(_identifiers);
+	}
+
+	@NotNull
+	public List<IDProvider> getElements() {
+		return Collections.unmodifiableList(_elements);
+	}
+
+	/**
+	 * Adds the identifiers and elements of this shard to the given export operation. The identifiers are resolved sequentially, the shards
+	 * are already exported concurrently.
+	 *
+	 * @param storeAgent      the StoreAgent to retrieve IDProviders with
+	 * @param useReleaseState whether to export the release state
+	 * @param exportOperation the ExportOperation to add the elements to
+	 */
+	public void addTo(@NotNull final StoreAgent storeAgent, final boolean useReleaseState, @NotNull final ExportOperation exportOperation) {
+		new IdentifierResolver(storeAgent, useReleaseState, 1).addToExportOperation(_identifiers, exportOperation);
+		for (final IDProvider element : _elements) {
+			exportOperation.addElement(element);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return _name + " (" + (_identifiers.size() + _elements.size()) + " entries)";
+	}
+
+	/**
+	 * Splits the given identifiers into shards.
+	 *
+	 * @param storeAgent          the StoreAgent to retrieve store roots with
+	 * @param useReleaseState     whether to export the release state
+	 * @param exportChildElements whether child elements are exported; store roots are only split by subtree if so
+	 * @param identifiers         the identifiers to export
+	 * @param parallelism         the number of shards to split a store root into
+	 * @return the shards
+	 */
+	@NotNull
+	public static List<ExportShard> plan(@NotNull final StoreAgent storeAgent, final boolean useReleaseState, final boolean exportChildElements, @NotNull final List<Identifier> identifiers, final int parallelism) {
+		final List<ExportShard> shards = new ArrayList<>();
+		final Set<Store.Type> splitStores = EnumSet.noneOf(Store.Type.class);
+		if (exportChildElements) {
+			for (final Identifier identifier : identifiers) {
+				if (identifier instanceof RootNodeIdentifier) {
+					final Store.Type storeType = ((RootNodeIdentifier) identifier).getUidType().getStoreType();
+					final Store store = storeAgent.getStore(storeType, useReleaseState);
+					if (store != null && splitStores.add(storeType)) {
+						shards.addAll(splitStore(store, storeType, parallelism));
+					}
+				}
+			}
+		}
+		final Map<String, ExportShard> shardsByKey = new LinkedHashMap<>();
+		for (final Identifier identifier : identifiers) {
+			final Store.Type storeType = getStoreType(identifier);
+			if (storeType != null && splitStores.contains(storeType)) {
+				// already part of the exported store root
+				LOGGER.debug("Identifier '{}' is contained in the exported {}.", identifier, storeType);
+				continue;
+			}
+			shardsByKey.computeIfAbsent(getShardKey(identifier, storeType), key -> new ExportShard(key, false, false))._identifiers.add(identifier);
+		}
+		shards.addAll(shardsByKey.values());
+		return shards;
+	}
+
+	@NotNull
+	private static List<ExportShard> splitStore(@NotNull final Store store, @NotNull final Store.Type storeType, final int parallelism) {
+		final List<ExportShard> shards = new ArrayList<>();
+		final ExportShard rootShard = new ExportShard(storeType + " root", true, false);
+		rootShard._elements.add(store);
+		shards.add(rootShard);
+		final List<IDProvider> children = store.getChildren(IDProvider.class).toList();
+		final int subtreeShardCount = Math.min(parallelism, children.size());
+		for (int index = 0; index < subtreeShardCount; index++) {
+			shards.add(new ExportShard(storeType + " #" + (index + 1), false, true));
+		}
+		for (int index = 0; index < children.size(); index++) {
+			shards.get(1 + index % subtreeShardCount)._elements.add(children.get(index));
+		}
+		return shards;
+	}
+
+	@NotNull
+	private static String getShardKey(@NotNull final Identifier identifier, @Nullable final Store.Type storeType) {
+		if (storeType != null) {
+			return storeType.name();
+		}
+		if (identifier instanceof EntitiesIdentifier || identifier instanceof SchemaIdentifier) {
+			// entities are exported together with their schema
+			return "SCHEMAS";
+		}
+		if (identifier instanceof ProjectPropertiesIdentifier) {
+			return "PROJECTPROPERTIES";
+		}
+		return "OTHER";
+	}
+
+	@VisibleForTesting
+	@Nullable
+	static Store.Type getStoreType(@NotNull final Identifier identifier) {
+		if (identifier instanceof RootNodeIdentifier) {
+			return ((RootNodeIdentifier) identifier).getUidType().getStoreType();
+		}
+		if (identifier instanceof UidIdentifier) {
+			return ((UidIdentifier) identifier).getUidMapping().getStoreType();
+		}
+		if (identifier instanceof PathIdentifier) {
+			final String path = ((PathIdentifier) identifier).getPath();
+			final String[] segments = (path.startsWith("/") ? path.substring(1) : path).split("/", 2);
+			final String storeName = segments[0].toUpperCase(Locale.ROOT);
+			for (final Store.Type storeType : Store.Type.values()) {
+				if (storeType.name().equals(storeName)) {
+					return storeType;
+				}
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * The revision of the last export, persisted in the synchronization directory. Together with the id of the exported project and
+ * a fingerprint of the export configuration it decides whether the next export may be incremental.
+ */
+public class ExportWatermark {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExportWatermark.class);
+
+	/**
+	 * The name of the watermark file in the synchronization directory.
+	 */
+	public static final String FILE_NAME = ".fs-cli-export.properties";
+
+	static final String KEY_PROJECT_ID = "projectId";
+	static final String KEY_REVISION = "revision";
+	static final String KEY_FINGERPRINT = "fingerprint";
+
+	private final long _projectId;
+	private final long _revisionId;
+	private final String _fingerprint;
+
+	public ExportWatermark(final long projectId, final long revisionId, @NotNull final String fingerprint) {
+		_projectId = projectId;
+		_revisionId = revisionId;
+		_fingerprint = fingerprint;
+	}
+
+	public long getProjectId() {
+		return _projectId;
+	}
+
+	public long getRevisionId() {
+		return _revisionId;
+	}
+
+	@NotNull
+	public String getFingerprint() {
+		return _fingerprint;
+	}
+
+	/**
+	 * Checks whether this watermark was written by an export of the given project with the same configuration.
+	 *
+	 * @param projectId   the id of the project to export
+	 * @param fingerprint the {@link #fingerprint(Collection) fingerprint} of the current export configuration
+	 * @return {@code true} if the watermark can be used as starting point of an incremental export
+	 */
+	public boolean matches(final long projectId, @NotNull final String fingerprint) {
+		return _projectId == projectId && _fingerprint.equals(fingerprint);
+	}
+
+	/**
+	 * Reads the watermark of the given synchronization directory.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @return the watermark or {@link Optional#empty() empty} if the directory contains no (valid) watermark
+	 */
+	@NotNull
+	public static Optional<ExportWatermark> read(@NotNull final Path syncDirectory) {
+		final Path file = syncDirectory.resolve(FILE_NAME);
+		final Properties properties = new Properties();
+		try (final InputStream inputStream = Files.newInputStream(file)) {
+			properties.load(inputStream);
+		} catch (final NoSuchFileException exception) {
+			LOGGER.debug("No export watermark found in '{}'.", syncDirectory);
+			return Optional.empty();
+		} catch (final IOException exception) {
+			LOGGER.warn("Could not read export watermark '{}': {}", file, exception.toString());
+			return Optional.empty();
+		}
+		try {
+			final long projectId = Long.parseLong(properties.getProperty(KEY_PROJECT_ID, ""));
+			final long revisionId = Long.parseLong(properties.getProperty(KEY_REVISION, ""));
+			final String fingerprint = properties.getProperty(KEY_FINGERPRINT, "");
+			return Optional.of(new ExportWatermark(projectId, revisionId, fingerprint));
+		} catch (final NumberFormatException exception) {
+			LOGGER.warn("Ignoring invalid export watermark '{}'.", file);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Writes this watermark to the given synchronization directory. The file is replaced atomically where the file system supports it, so
+	 * an interrupted write never leaves a truncated watermark behind.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @throws IOException if the watermark could not be written
+	 */
+	public void write(@NotNull final Path syncDirectory) throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty(KEY_PROJECT_ID, Long.toString(_projectId));
+		properties.setProperty(KEY_REVISION, Long.toString(_revisionId));
+		properties.setProperty(KEY_FINGERPRINT, _fingerprint);
+		writeProperties(syncDirectory, FILE_NAME, properties, "Last export of the FirstSpirit project, do not edit");
+	}
+
+	/**
+	 * Writes the given properties to a file of the synchronization directory, replacing the file atomically where the file system supports it.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @param fileName      the name of the file
+	 * @param properties    the properties to write
+	 * @param comment       the comment of the file
+	 * @throws IOException if the file could not be written
+	 */
+	static void writeProperties(@NotNull final Path syncDirectory, @NotNull final String fileName, @NotNull final Properties properties, @NotNull final String comment) throws IOException {
+		final Path file = syncDirectory.resolve(fileName);
+		final Path temporaryFile = syncDirectory.resolve(fileName + ".tmp");
+		try (final OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+			properties.store(outputStream, comment);
+		}
+		try {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (final AtomicMoveNotSupportedException exception) {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Deletes the watermark of the given synchronization directory, forcing the next incremental export to export everything.
+	 *
+	 * @param syncDirectory the synchronization directory
+	 * @throws IOException if the watermark exists but could not be deleted
+	 */
+	public static void delete(@NotNull final Path syncDirectory) throws IOException {
+		Files.deleteIfExists(syncDirectory.resolve(FILE_NAME));
+	}
+
+	/**
+	 * Computes a stable fingerprint of the given configuration values. The order of the values is significant.
+	 *
+	 * @param values the configuration values, e.g. identifiers and export flags
+	 * @return the hex encoded SHA-256 of the values
+	 */
+	@NotNull
+	public static String fingerprint(@NotNull final Collection<String> values) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is not supported.", exception);
+		}
+		for (final String value : values) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		final StringBuilder result = new StringBuilder();
+		for (final byte b : digest.digest()) {
+			result.append(String.format("%02x", b));
+		}
+		return result.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "ExportWatermark{projectId=" + _projectId + ", revision=" + _revisionId + '}';
+	}
+
+}
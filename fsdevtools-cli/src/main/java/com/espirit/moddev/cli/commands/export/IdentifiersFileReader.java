@@ -0,0 +1,147 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads identifiers line by line from a file or from stdin and passes them on in chunks, so that large identifier lists are never
+ * materialized as a whole. Empty lines and lines starting with {@code #} are ignored, duplicates are skipped.
+ */
+public class IdentifiersFileReader {
+
+	/**
+	 * The source name for reading identifiers from stdin.
+	 */
+	public static final String STDIN = "-";
+
+	@VisibleForTesting
+	static final int CHUNK_SIZE = 1000;
+
+	private final Set<String> _knownIdentifiers;
+	private final int _chunkSize;
+	private int _lineCount;
+	private int _duplicateCount;
+
+	/**
+	 * Creates a new reader.
+	 *
+	 * @param knownIdentifiers identifiers which are already known, e.g. from the command line; these are skipped as duplicates
+	 */
+	public IdentifiersFileReader(@NotNull final Collection<String> knownIdentifiers) {
+		this(knownIdentifiers, CHUNK_SIZE);
+	}
+
+	@VisibleForTesting
+	IdentifiersFileReader(@NotNull final Collection<String> knownIdentifiers, final int chunkSize) {
+		_knownIdentifiers = new HashSet<>(knownIdentifiers);
+		_chunkSize = chunkSize;
+	}
+
+	/**
+	 * Reads the identifiers of the given source.
+	 *
+	 * @param source        the path of the file to read or {@link #STDIN} to read from stdin
+	 * @param chunkConsumer receives the new identifiers in chunks of up to {@value #CHUNK_SIZE} identifiers
+	 * @throws IOException if the source could not be read
+	 */
+	public void read(@NotNull final String source, @NotNull final Consumer<List<String>> chunkConsumer) throws IOException {
+		if (STDIN.equals(source)) {
+			// stdin must stay open for the rest of the process
+			final FilterInputStream stdin = new FilterInputStream(System.in) {
+				@Override
+				public void close() {
+					// do not close stdin
+				}
+			};
+			try (final BufferedReader reader = new BufferedReader(new InputStreamReader(stdin, StandardCharsets.UTF_8))) {
+				read(reader, chunkConsumer);
+			}
+		} else {
+			try (final BufferedReader reader = Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+				read(reader, chunkConsumer);
+			}
+		}
+	}
+
+	/**
+	 * Reads the identifiers of the given reader.
+	 *
+	 * @param reader        the reader to read the identifiers from, one identifier per line
+	 * @param chunkConsumer receives the new identifiers in chunks
+	 * @throws IOException if the reader could not be read
+	 */
+	public void read(@NotNull final BufferedReader reader, @NotNull final Consumer<List<String>> chunkConsumer) throws IOException {
+		List<String> chunk = new ArrayList<>(_chunkSize);
+		String line;
+		while ((line = reader.readLine()) != null) {
+			_lineCount++;
+			final String identifier = line.trim();
+			if (identifier.isEmpty() || identifier.startsWith("#")) {
+				continue;
+			}
+			if (!_knownIdentifiers.add(identifier)) {
+				_duplicateCount++;
+				continue;
+			}
+			chunk.add(identifier);
+			if (chunk.size() >= _chunkSize) {
+				chunkConsumer.accept(chunk);
+				chunk = new ArrayList<>(_chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			chunkConsumer.accept(chunk);
+		}
+	}
+
+	/**
+	 * @return the number of lines read so far
+	 */
+	public int getLineCount() {
+		return _lineCount;
+	}
+
+	/**
+	 * @return the number of skipped duplicate identifiers
+	 */
+	public int getDuplicateCount() {
+		return _duplicateCount;
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.storage.Revision;
+import de.espirit.firstspirit.storage.RevisionMetaData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The store elements created, changed or deleted in a range of project {@link Revision revisions}, based on the {@link RevisionMetaData}.
+ */
+public class RevisionChanges {
+
+	private final Map<Store.Type, Set<Long>> _modifiedElements;
+	private final Map<Store.Type, Set<Long>> _deletedElements;
+	private final int _revisionCount;
+
+	private RevisionChanges(@NotNull final Map<Store.Type, Set<Long>> modifiedElements, @NotNull final Map<Store.Type, Set<Long>> deletedElements, final int revisionCount) {
+		_modifiedElements = modifiedElements;
+		_deletedElements = deletedElements;
+		_revisionCount = revisionCount;
+	}
+
+	/**
+	 * Collects the changes of all given revisions newer than {@code afterRevisionId}. Elements deleted in a later revision are only reported as
+	 * deleted, elements recreated after their deletion only as modified.
+	 *
+	 * @param revisions       the revisions to collect the changes of, in ascending order
+	 * @param afterRevisionId the id of the last revision which is already exported; older revisions are ignored
+	 * @return the collected changes
+	 */
+	@NotNull
+	public static RevisionChanges collect(@NotNull final Collection<Revision> revisions, final long afterRevisionId) {
+		final Map<Store.Type, Set<Long>> modifiedElements = new EnumMap<>(Store.Type.class);
+		final Map<Store.Type, Set<Long>> deletedElements = new EnumMap<>(Store.Type.class);
+		int revisionCount = 0;
+		for (final Revision revision : revisions) {
+			if (revision.getId() <= afterRevisionId) {
+				continue;
+			}
+			revisionCount++;
+			final RevisionMetaData metaData = revision.getMetaData();
+			if (metaData == null) {
+				continue;
+			}
+			for (final RevisionMetaData.ElementInfo elementInfo : metaData.getCreatedElements()) {
+				move(elementInfo, deletedElements, modifiedElements);
+			}
+			for (final RevisionMetaData.ElementInfo elementInfo : metaData.getChangedElements()) {
+				move(elementInfo, deletedElements, modifiedElements);
+			}
+			for (final RevisionMetaData.ElementInfo elementInfo : metaData.getDeletedElements()) {
+				move(elementInfo, modifiedElements, deletedElements);
+			}
+		}
+		return new RevisionChanges(modifiedElements, deletedElements, revisionCount);
+	}
+
+	private static void move(@NotNull final RevisionMetaData.ElementInfo elementInfo, @NotNull final Map<Store.Type, Set<Long>> from, @NotNull final Map<Store.Type, Set<Long>> to) {
+		final Store.Type storeType = elementInfo.getStoreType();
+		if (storeType == null) {
+			// not a store element, e.g. a dataset
+			return;
+		}
+		final long nodeId = elementInfo.getNodeId();
+		final Set<Long> previous = from.get(storeType);
+		if (previous != null) {
+			previous.remove(nodeId);
+		}
+		to.computeIfAbsent(storeType, type -> new LinkedHashSet<>()).add(nodeId);
+	}
+
+	/**
+	 * @return the ids of all created or changed store elements, grouped by store
+	 */
+	@NotNull
+	public Map<Store.Type, Set<Long>> getModifiedElements() {
+		return Collections.unmodifiableMap(_modifiedElements);
+	}
+
+	/**
+	 * @return the ids of all deleted store elements, grouped by store
+	 */
+	@NotNull
+	public Map<Store.Type, Set<Long>> getDeletedElements() {
+		return Collections.unmodifiableMap(_deletedElements);
+	}
+
+	public boolean hasDeletions() {
+		return _deletedElements.values().stream().anyMatch(ids -> !ids.isEmpty());
+	}
+
+	public boolean isEmpty() {
+		return !hasDeletions() && _modifiedElements.values().stream().allMatch(Set::isEmpty);
+	}
+
+	/**
+	 * @return the number of revisions the changes were collected from
+	 */
+	public int getRevisionCount() {
+		return _revisionCount;
+	}
+
+	@Override
+	public String toString() {
+		return "RevisionChanges{revisions=" + _revisionCount + ", modified=" + _modifiedElements + ", deleted=" + _deletedElements + '}';
+	}
+
+}
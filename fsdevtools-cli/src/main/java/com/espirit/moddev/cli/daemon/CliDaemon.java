@@ -0,0 +1,221 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import com.espirit.moddev.cli.Cli;
+import com.espirit.moddev.cli.ConnectionPool;
+import com.espirit.moddev.cli.api.command.Command;
+import com.espirit.moddev.cli.commands.daemon.DaemonCommandGroup;
+import com.espirit.moddev.cli.commands.daemon.DaemonCommandNames;
+import com.espirit.moddev.cli.configuration.Environment;
+import com.espirit.moddev.cli.configuration.GlobalConfig;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived cli process that executes command lines forwarded by {@link DaemonClient}s over a local unix domain
+ * socket. The daemon initializes logging and the command parser only once and keeps the FirstSpirit connections in a
+ * {@link ConnectionPool}, so subsequent commands skip the JVM startup, the command discovery and the login.
+ * <p>
+ * Requests are executed one after another, because commands share global state (e.g. the connection settings of the
+ * FirstSpirit {@code ConnectionManager}). Relative paths are resolved against the working directory of the daemon, so
+ * requests from clients in another working directory are rejected and executed locally by the client.
+ */
+public class CliDaemon {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CliDaemon.class);
+
+	private final Path _socketPath;
+	private final Duration _idleTimeout;
+	private final String _workingDirectory = Paths.get("").toAbsolutePath().toString();
+	private volatile long _lastActivity;
+	private volatile boolean _stopRequested;
+	private ServerSocketChannel _serverChannel;
+
+	/**
+	 * Creates a new daemon.
+	 *
+	 * @param socketPath  the path of the unix domain socket to listen on
+	 * @param idleTimeout the daemon stops after this time without requests, {@link Duration#ZERO} to run until stopped
+	 */
+	public CliDaemon(@NotNull final Path socketPath, @NotNull final Duration idleTimeout) {
+		_socketPath = socketPath;
+		_idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Runs the daemon until it is stopped by a client or the idle timeout elapsed.
+	 *
+	 * @throws IOException if the socket could not be opened
+	 */
+	public void run() throws IOException {
+		prepareSocketFile();
+		final ScheduledExecutorService idleWatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "fs-cli-daemon-idle-watcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try (final ConnectionPool connectionPool = new ConnectionPool();
+			 final ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			_serverChannel = serverChannel;
+			serverChannel.bind(UnixDomainSocketAddress.of(_socketPath));
+			restrictSocketPermissions();
+			_lastActivity = System.currentTimeMillis();
+			if (!_idleTimeout.isZero()) {
+				idleWatcher.scheduleWithFixedDelay(this::stopIfIdle, 1, 1, TimeUnit.MINUTES);
+			}
+
+			final Cli cli = new Cli(connectionPool);
+			final com.github.rvesse.airline.Cli<Command> parser = Cli.getDefaultCliBuilder().build();
+			LOGGER.info("fs-cli daemon listening on '{}' (working directory '{}').", _socketPath, _workingDirectory);
+
+			while (!_stopRequested) {
+				try (final SocketChannel clientChannel = serverChannel.accept()) {
+					_lastActivity = System.currentTimeMillis();
+					handleClient(clientChannel, cli, parser);
+					_lastActivity = System.currentTimeMillis();
+				} catch (final AsynchronousCloseException e) {
+					break;
+				} catch (final EOFException e) {
+					// e.g. a client that only checked whether the daemon is running
+					LOGGER.debug("Daemon client disconnected without a complete request.");
+				} catch (final IOException e) {
+					LOGGER.warn("Communication with daemon client failed.", e);
+				}
+			}
+		} finally {
+			idleWatcher.shutdownNow();
+			Files.deleteIfExists(_socketPath);
+			LOGGER.info("fs-cli daemon stopped.");
+		}
+	}
+
+	private void handleClient(@NotNull final SocketChannel clientChannel, @NotNull final Cli cli, @NotNull final com.github.rvesse.airline.Cli<Command> parser) throws IOException {
+		final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(clientChannel)));
+		final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(clientChannel)));
+		final DaemonRequest request = DaemonRequest.readFrom(in);
+		if (request.getVersion() != DaemonProtocol.VERSION) {
+			DaemonProtocol.writeRejected(out, "Unsupported protocol version " + request.getVersion() + ", daemon uses version " + DaemonProtocol.VERSION + ".");
+			return;
+		}
+		if (!_workingDirectory.equals(request.getWorkingDirectory())) {
+			DaemonProtocol.writeRejected(out, "Working directory '" + request.getWorkingDirectory() + "' differs from the daemon's working directory '" + _workingDirectory + "'.");
+			return;
+		}
+		if (isStopRequest(request.getArguments())) {
+			LOGGER.info("Stop requested by client.");
+			_stopRequested = true;
+			DaemonProtocol.writeExit(out, DaemonProtocol.EXIT_SUCCESS);
+			return;
+		}
+		DaemonProtocol.writeExit(out, execute(request, cli, parser, out));
+	}
+
+	private static int execute(@NotNull final DaemonRequest request, @NotNull final Cli cli, @NotNull final com.github.rvesse.airline.Cli<Command> parser, @NotNull final DataOutputStream out) {
+		try (final DaemonLogForwarder ignored = DaemonLogForwarder.start(out)) {
+			Cli.COMMAND_EXECUTION_EXCEPTION = null;
+			try {
+				final Command command = parser.parse(request.getArguments().toArray(new String[0]));
+				applyEnvironment(command, request);
+				cli.execute(command);
+				return DaemonProtocol.EXIT_SUCCESS;
+			} catch (final Throwable throwable) {
+				if (throwable != Cli.COMMAND_EXECUTION_EXCEPTION) {
+					LOGGER.error("An unexpected error occurred during CLI execution!", throwable);
+				}
+				return DaemonProtocol.EXIT_FAILURE;
+			}
+		}
+	}
+
+	/**
+	 * Commands read default values (e.g. {@code fshost}) from the environment, so the environment of the client is used
+	 * instead of the daemon's one.
+	 */
+	private static void applyEnvironment(@NotNull final Command command, @NotNull final DaemonRequest request) {
+		if (command instanceof GlobalConfig) {
+			final Environment environment = ((GlobalConfig) command).getEnvironment();
+			environment.clear();
+			request.getEnvironment().forEach(environment::put);
+		}
+	}
+
+	static boolean isStopRequest(@NotNull final List<String> arguments) {
+		return arguments.size() == 2 && DaemonCommandGroup.NAME.equals(arguments.get(0)) && DaemonCommandNames.STOP.equals(arguments.get(1));
+	}
+
+	private void stopIfIdle() {
+		if (System.currentTimeMillis() - _lastActivity > _idleTimeout.toMillis()) {
+			LOGGER.info("No requests for {} minute(s), stopping daemon.", _idleTimeout.toMinutes());
+			_stopRequested = true;
+			try {
+				_serverChannel.close();
+			} catch (final IOException e) {
+				LOGGER.debug("Closing daemon socket caused an exception.", e);
+			}
+		}
+	}
+
+	private void prepareSocketFile() throws IOException {
+		Files.createDirectories(_socketPath.toAbsolutePath().getParent());
+		if (Files.exists(_socketPath)) {
+			if (DaemonClient.isDaemonRunning(_socketPath)) {
+				throw new IOException("A daemon is already listening on '" + _socketPath + "'.");
+			}
+			LOGGER.debug("Deleting stale daemon socket '{}'.", _socketPath);
+			Files.delete(_socketPath);
+		}
+	}
+
+	private void restrictSocketPermissions() {
+		// the daemon executes everything it receives with the stored credentials, so only the owner may connect
+		try {
+			Files.setPosixFilePermissions(_socketPath, PosixFilePermissions.fromString("rw-------"));
+		} catch (final UnsupportedOperationException | IOException e) {
+			LOGGER.debug("Could not restrict permissions of daemon socket '{}'.", _socketPath, e);
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import com.espirit.moddev.cli.CliConstants;
+import com.espirit.moddev.cli.commands.daemon.DaemonCommandGroup;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * Thin client that forwards a command line to a running {@link CliDaemon} and prints its output. Used by
+ * {@link com.espirit.moddev.cli.Main} if the environment variable {@link CliConstants#KEY_FS_DAEMON} is set.
+ */
+public final class DaemonClient {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DaemonClient.class);
+
+	private DaemonClient() {
+	}
+
+	/**
+	 * Forwards the given arguments to the daemon if the daemon mode is enabled via {@link CliConstants#KEY_FS_DAEMON}.
+	 * Commands of the {@value DaemonCommandGroup#NAME} group are never forwarded.
+	 *
+	 * @param args the command line arguments
+	 * @return the exit code of the command or an empty optional if the command has to be executed locally
+	 */
+	@NotNull
+	public static OptionalInt executeIfEnabled(@NotNull final String[] args) {
+		final String daemonValue = System.getenv(CliConstants.KEY_FS_DAEMON.value());
+		if (daemonValue == null || daemonValue.trim().isEmpty() || (args.length > 0 && DaemonCommandGroup.NAME.equals(args[0]))) {
+			return OptionalInt.empty();
+		}
+		return execute(DaemonProtocol.getSocketPath(daemonValue), args, System.out);
+	}
+
+	/**
+	 * Forwards the given arguments to the daemon listening on the given socket.
+	 *
+	 * @param socketPath the socket of the daemon
+	 * @param args       the command line arguments
+	 * @param output     the stream to print the output of the daemon to
+	 * @return the exit code of the command or an empty optional if the daemon is not available or rejected the request.
+	 * If the connection is lost after the request has been sent, {@link DaemonProtocol#EXIT_FAILURE} is returned because
+	 * the daemon may already have executed the command.
+	 */
+	@NotNull
+	public static OptionalInt execute(@NotNull final Path socketPath, @NotNull final String[] args, @NotNull final PrintStream output) {
+		if (!Files.exists(socketPath)) {
+			LOGGER.debug("No daemon socket at '{}', executing locally.", socketPath);
+			return OptionalInt.empty();
+		}
+		boolean requestSent = false;
+		try (final SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+			final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			new DaemonRequest(Paths.get("").toAbsolutePath().toString(), Arrays.asList(args), System.getenv()).writeTo(out);
+			requestSent = true;
+			return readResponse(in, output);
+		} catch (final IOException e) {
+			if (!requestSent) {
+				LOGGER.warn("Could not execute command with daemon at '{}', executing locally.", socketPath);
+				LOGGER.debug("", e);
+				return OptionalInt.empty();
+			}
+			// the daemon may already have executed the command (partially), so it must not be executed a second time
+			output.flush();
+			LOGGER.error("Lost connection to daemon at '{}' while executing the command, the command may have been executed partially.", socketPath);
+			LOGGER.debug("", e);
+			return OptionalInt.of(DaemonProtocol.EXIT_FAILURE);
+		}
+	}
+
+	@NotNull
+	private static OptionalInt readResponse(@NotNull final DataInputStream in, @NotNull final PrintStream output) throws IOException {
+		while (true) {
+			final byte frameType = DaemonProtocol.readFrameType(in);
+			switch (frameType) {
+				case DaemonProtocol.FRAME_OUTPUT:
+					output.print(DaemonProtocol.readString(in));
+					break;
+				case DaemonProtocol.FRAME_EXIT:
+					output.flush();
+					return OptionalInt.of(in.readInt());
+				case DaemonProtocol.FRAME_REJECTED:
+					// the daemon rejects requests before executing them
+					LOGGER.warn("Daemon rejected the command, executing locally: {}", DaemonProtocol.readString(in));
+					return OptionalInt.empty();
+				default:
+					throw new IOException("Unknown frame type " + frameType + " received from daemon.");
+			}
+		}
+	}
+
+	/**
+	 * Checks if a daemon accepts connections on the given socket.
+	 *
+	 * @param socketPath the socket of the daemon
+	 * @return {@code true} if a daemon is listening
+	 */
+	public static boolean isDaemonRunning(@Nullable final Path socketPath) {
+		if (socketPath == null || !Files.exists(socketPath)) {
+			return false;
+		}
+		try (final SocketChannel ignored = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+			return true;
+		} catch (final IOException e) {
+			return false;
+		}
+	}
+
+}
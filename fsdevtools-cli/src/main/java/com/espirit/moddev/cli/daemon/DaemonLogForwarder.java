@@ -0,0 +1,149 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.WriterAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+
+/**
+ * Forwards the console log output of the daemon to a connected client for the duration of one request. A log4j
+ * appender with the layout of the console appender is attached to the root logger and removed again on {@link #close()}.
+ */
+final class DaemonLogForwarder implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DaemonLogForwarder.class);
+
+	private static final String APPENDER_NAME = "DaemonClient";
+	private static final String CONSOLE_APPENDER_NAME = "LogToConsole";
+	private static final String DEFAULT_PATTERN = "%5p %m%n";
+
+	@Nullable
+	private final LoggerContext _context;
+	@Nullable
+	private final WriterAppender _appender;
+
+	private DaemonLogForwarder(@Nullable final LoggerContext context, @Nullable final WriterAppender appender) {
+		_context = context;
+		_appender = appender;
+	}
+
+	/**
+	 * Starts forwarding the log output to the given client stream.
+	 *
+	 * @param out the stream of the client
+	 * @return the forwarder, has to be closed after the request
+	 */
+	@NotNull
+	static DaemonLogForwarder start(@NotNull final DataOutputStream out) {
+		if (!(LogManager.getContext(false) instanceof LoggerContext)) {
+			LOGGER.warn("Log output can not be forwarded to the client, log4j core is not the active logging backend.");
+			return new DaemonLogForwarder(null, null);
+		}
+		final LoggerContext context = (LoggerContext) LogManager.getContext(false);
+		final Configuration configuration = context.getConfiguration();
+		final WriterAppender appender = WriterAppender.newBuilder()
+				.setName(APPENDER_NAME)
+				.setTarget(new FrameWriter(out))
+				.setLayout(getConsoleLayout(configuration))
+				.setFilter(ThresholdFilter.createFilter(Level.INFO, Filter.Result.ACCEPT, Filter.Result.DENY))
+				.build();
+		appender.start();
+		configuration.addAppender(appender);
+		configuration.getRootLogger().addAppender(appender, null, null);
+		context.updateLoggers();
+		return new DaemonLogForwarder(context, appender);
+	}
+
+	@NotNull
+	private static Layout<? extends Serializable> getConsoleLayout(@NotNull final Configuration configuration) {
+		final Appender consoleAppender = configuration.getAppender(CONSOLE_APPENDER_NAME);
+		if (consoleAppender != null && consoleAppender.getLayout() != null) {
+			return consoleAppender.getLayout();
+		}
+		return PatternLayout.newBuilder().withPattern(DEFAULT_PATTERN).withConfiguration(configuration).build();
+	}
+
+	@Override
+	public void close() {
+		if (_context == null || _appender == null) {
+			return;
+		}
+		final Configuration configuration = _context.getConfiguration();
+		configuration.getRootLogger().removeAppender(APPENDER_NAME);
+		_context.updateLoggers();
+		_appender.stop();
+	}
+
+	/**
+	 * Writes each chunk of formatted log output as one {@link DaemonProtocol#FRAME_OUTPUT} frame.
+	 */
+	private static final class FrameWriter extends Writer {
+
+		private final DataOutputStream _out;
+		private boolean _broken;
+
+		private FrameWriter(@NotNull final DataOutputStream out) {
+			_out = out;
+		}
+
+		@Override
+		public synchronized void write(final char[] buffer, final int offset, final int length) {
+			if (_broken || length == 0) {
+				return;
+			}
+			try {
+				DaemonProtocol.writeOutput(_out, new String(buffer, offset, length));
+			} catch (final IOException e) {
+				// the client has gone away - keep executing the command, but stop forwarding
+				_broken = true;
+			}
+		}
+
+		@Override
+		public void flush() {
+			// frames are flushed on write
+		}
+
+		@Override
+		public void close() {
+			// the stream is owned by the daemon
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import com.espirit.moddev.cli.CliConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Wire format between {@link DaemonClient} and {@link CliDaemon}. The client sends one {@link DaemonRequest}, the
+ * daemon answers with a sequence of frames: any number of {@link #FRAME_OUTPUT} frames followed by exactly one
+ * {@link #FRAME_EXIT} or {@link #FRAME_REJECTED} frame.
+ */
+public final class DaemonProtocol {
+
+	/**
+	 * Version of the wire format, the daemon rejects requests of other versions.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * A line of log output, followed by the line as string.
+	 */
+	public static final byte FRAME_OUTPUT = 1;
+
+	/**
+	 * The command has been executed, followed by the exit code as int.
+	 */
+	public static final byte FRAME_EXIT = 2;
+
+	/**
+	 * The daemon did not execute the request, followed by the reason as string. The client executes the command locally.
+	 */
+	public static final byte FRAME_REJECTED = 3;
+
+	/**
+	 * Exit code for successful executions.
+	 */
+	public static final int EXIT_SUCCESS = 0;
+
+	/**
+	 * Exit code for failed executions.
+	 */
+	public static final int EXIT_FAILURE = 1;
+
+	private static final String DEFAULT_SOCKET_FILE_NAME = "daemon.sock";
+	private static final int MAX_STRING_LENGTH = 64 * 1024 * 1024;
+
+	private DaemonProtocol() {
+	}
+
+	/**
+	 * Resolves the socket path from the given value of the {@link CliConstants#KEY_FS_DAEMON} environment variable or
+	 * the {@code --socket} option.
+	 *
+	 * @param value {@code null}, empty or {@code true} for the default socket, otherwise the path of the socket
+	 * @return the path of the socket
+	 */
+	@NotNull
+	public static Path getSocketPath(@Nullable final String value) {
+		if (value == null || value.trim().isEmpty() || CliConstants.TRUE.equalsValue(value.trim().toLowerCase())) {
+			return Paths.get(System.getProperty(CliConstants.USER_HOME.value()) + CliConstants.FS_CLI_DIR, DEFAULT_SOCKET_FILE_NAME);
+		}
+		return Paths.get(value.trim());
+	}
+
+	static void writeString(@NotNull final DataOutputStream out, @NotNull final String value) throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	@NotNull
+	static String readString(@NotNull final DataInputStream in) throws IOException {
+		final int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH) {
+			throw new IOException("Invalid string length " + length + " in daemon request.");
+		}
+		final byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static void writeOutput(@NotNull final DataOutputStream out, @NotNull final String output) throws IOException {
+		synchronized (out) {
+			out.writeByte(FRAME_OUTPUT);
+			writeString(out, output);
+			out.flush();
+		}
+	}
+
+	static void writeExit(@NotNull final DataOutputStream out, final int exitCode) throws IOException {
+		synchronized (out) {
+			out.writeByte(FRAME_EXIT);
+			out.writeInt(exitCode);
+			out.flush();
+		}
+	}
+
+	static void writeRejected(@NotNull final DataOutputStream out, @NotNull final String reason) throws IOException {
+		synchronized (out) {
+			out.writeByte(FRAME_REJECTED);
+			writeString(out, reason);
+			out.flush();
+		}
+	}
+
+	static byte readFrameType(@NotNull final DataInputStream in) throws IOException {
+		final int frameType = in.read();
+		if (frameType < 0) {
+			throw new EOFException("Daemon closed the connection unexpectedly.");
+		}
+		return (byte) frameType;
+	}
+
+}
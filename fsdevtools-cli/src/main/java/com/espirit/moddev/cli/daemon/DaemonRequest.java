@@ -0,0 +1,118 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A command line forwarded by the {@link DaemonClient} to the {@link CliDaemon}, together with the working directory
+ * and the environment variables of the client.
+ */
+public final class DaemonRequest {
+
+	private final int _version;
+	private final String _workingDirectory;
+	private final List<String> _arguments;
+	private final Map<String, String> _environment;
+
+	public DaemonRequest(@NotNull final String workingDirectory, @NotNull final List<String> arguments, @NotNull final Map<String, String> environment) {
+		this(DaemonProtocol.VERSION, workingDirectory, arguments, environment);
+	}
+
+	private DaemonRequest(final int version, @NotNull final String workingDirectory, @NotNull final List<String> arguments, @NotNull final Map<String, String> environment) {
+		_version = version;
+		_workingDirectory = workingDirectory;
+		_arguments = Collections.unmodifiableList(new ArrayList<>(arguments));
+		_environment = Collections.unmodifiableMap(new LinkedHashMap<>(environment));
+	}
+
+	public int getVersion() {
+		return _version;
+	}
+
+	@NotNull
+	public String getWorkingDirectory() {
+		return _workingDirectory;
+	}
+
+	@NotNull
+	public List<String> getArguments() {
+		return _arguments;
+	}
+
+	@NotNull
+	public Map<String, String> getEnvironment() {
+		return _environment;
+	}
+
+	void writeTo(@NotNull final DataOutputStream out) throws IOException {
+		out.writeInt(_version);
+		DaemonProtocol.writeString(out, _workingDirectory);
+		out.writeInt(_arguments.size());
+		for (final String argument : _arguments) {
+			DaemonProtocol.writeString(out, argument);
+		}
+		out.writeInt(_environment.size());
+		for (final Map.Entry<String, String> entry : _environment.entrySet()) {
+			DaemonProtocol.writeString(out, entry.getKey());
+			DaemonProtocol.writeString(out, entry.getValue());
+		}
+		out.flush();
+	}
+
+	@NotNull
+	static DaemonRequest readFrom(@NotNull final DataInputStream in) throws IOException {
+		final int version = in.readInt();
+		if (version != DaemonProtocol.VERSION) {
+			// do not try to read the rest, the format may be different
+			return new DaemonRequest(version, "", Collections.emptyList(), Collections.emptyMap());
+		}
+		final String workingDirectory = DaemonProtocol.readString(in);
+		final int argumentCount = in.readInt();
+		if (argumentCount < 0) {
+			throw new IOException("Invalid argument count " + argumentCount + " in daemon request.");
+		}
+		final List<String> arguments = new ArrayList<>(argumentCount);
+		for (int i = 0; i < argumentCount; i++) {
+			arguments.add(DaemonProtocol.readString(in));
+		}
+		final int environmentSize = in.readInt();
+		if (environmentSize < 0) {
+			throw new IOException("Invalid environment size " + environmentSize + " in daemon request.");
+		}
+		final Map<String, String> environment = new LinkedHashMap<>();
+		for (int i = 0; i < environmentSize; i++) {
+			environment.put(DaemonProtocol.readString(in), DaemonProtocol.readString(in));
+		}
+		return new DaemonRequest(version, workingDirectory, arguments, environment);
+	}
+
+}
@@ -0,0 +1,348 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.logging;
+
+import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.cli.api.configuration.LogQueueFullPolicy;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.filter.Filterable;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the log asynchronously for the duration of one command execution. The appenders of the root logger (console and
+ * log file) are replaced by a single appender which puts the events into a bounded queue, a background thread hands them
+ * over to the original appenders. {@link #close()} drains the queue and restores the original appenders.
+ *
+ * @see Config#isLogAsync()
+ */
+public final class AsyncLogging implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLogging.class);
+
+	private static final String APPENDER_NAME = "AsyncQueue";
+	private static final long DRAIN_TIMEOUT_SECONDS = 30;
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	@Nullable
+	private final LoggerContext _context;
+	@Nullable
+	private final QueueAppender _appender;
+	private final List<Appender> _originalAppenders;
+	private final Map<String, AppenderRef> _appenderRefs;
+
+	private AsyncLogging(@Nullable final LoggerContext context, @Nullable final QueueAppender appender, @NotNull final List<Appender> originalAppenders, @NotNull final Map<String, AppenderRef> appenderRefs) {
+		_context = context;
+		_appender = appender;
+		_originalAppenders = originalAppenders;
+		_appenderRefs = appenderRefs;
+	}
+
+	/**
+	 * Starts the asynchronous logging if it is enabled by the given command.
+	 *
+	 * @param command the command to execute
+	 * @return the started logging, has to be closed after the execution; does nothing if the asynchronous logging is disabled
+	 */
+	@NotNull
+	public static AsyncLogging start(@NotNull final Object command) {
+		if (!(command instanceof Config) || !((Config) command).isLogAsync()) {
+			return new AsyncLogging(null, null, List.of(), Map.of());
+		}
+		if (!(LogManager.getContext(false) instanceof LoggerContext)) {
+			LOGGER.warn("Asynchronous logging is not available, log4j core is not the active logging backend.");
+			return new AsyncLogging(null, null, List.of(), Map.of());
+		}
+		final Config config = (Config) command;
+		return start((LoggerContext) LogManager.getContext(false), config.getLogQueueSize(), config.getLogQueueFullPolicy());
+	}
+
+	@VisibleForTesting
+	@NotNull
+	static AsyncLogging start(@NotNull final LoggerContext context, final int queueSize, @NotNull final LogQueueFullPolicy policy) {
+		if (queueSize < 1) {
+			throw new IllegalArgumentException("The log queue size must be positive, but is " + queueSize + '.');
+		}
+		final Configuration configuration = context.getConfiguration();
+		final LoggerConfig rootLogger = configuration.getRootLogger();
+		// appenders may also be attached programmatically, level and filter only exist for the configured ones
+		final Map<String, AppenderRef> appenderRefs = new HashMap<>();
+		for (final AppenderRef appenderRef : rootLogger.getAppenderRefs()) {
+			appenderRefs.put(appenderRef.getRef(), appenderRef);
+		}
+		final List<Appender> originalAppenders = new ArrayList<>(rootLogger.getAppenders().values());
+		final List<Target> targets = new ArrayList<>();
+		for (final Appender appender : originalAppenders) {
+			final AppenderRef appenderRef = appenderRefs.get(appender.getName());
+			targets.add(new Target(appender, appenderRef != null ? appenderRef.getLevel() : null, appenderRef != null ? appenderRef.getFilter() : null));
+		}
+		final QueueAppender queueAppender = new QueueAppender(targets, queueSize, policy);
+		queueAppender.start();
+		configuration.addAppender(queueAppender);
+		for (final Appender appender : originalAppenders) {
+			rootLogger.removeAppender(appender.getName());
+		}
+		rootLogger.addAppender(queueAppender, null, null);
+		context.updateLoggers();
+		return new AsyncLogging(context, queueAppender, originalAppenders, appenderRefs);
+	}
+
+	/**
+	 * Returns the number of events dropped so far because the queue was full.
+	 *
+	 * @return the number of dropped events
+	 */
+	@VisibleForTesting
+	long getDiscardedEvents() {
+		return _appender != null ? _appender.getDiscardedEvents() : 0;
+	}
+
+	@Override
+	public void close() {
+		if (_context == null || _appender == null) {
+			return;
+		}
+		// drain the queue before the original appenders are used directly again, so the order of the events is kept
+		_appender.stop();
+		final Configuration configuration = _context.getConfiguration();
+		final LoggerConfig rootLogger = configuration.getRootLogger();
+		rootLogger.removeAppender(APPENDER_NAME);
+		for (final Appender appender : _originalAppenders) {
+			final AppenderRef appenderRef = _appenderRefs.get(appender.getName());
+			rootLogger.addAppender(appender, appenderRef != null ? appenderRef.getLevel() : null, appenderRef != null ? appenderRef.getFilter() : null);
+		}
+		_context.updateLoggers();
+		final long discardedEvents = _appender.getDiscardedEvents();
+		if (discardedEvents > 0) {
+			LOGGER.warn("{} log events with level INFO or lower were discarded, because the log queue was full. Consider increasing --logQueueSize.", discardedEvents);
+		}
+	}
+
+	/**
+	 * One of the original appenders together with the level and filter of its reference in the configuration.
+	 */
+	private static final class Target {
+
+		private final Appender _appender;
+		@Nullable
+		private final Level _level;
+		@Nullable
+		private final Filter _filter;
+		private final AppenderControl _control;
+
+		private Target(@NotNull final Appender appender, @Nullable final Level level, @Nullable final Filter filter) {
+			_appender = appender;
+			_level = level;
+			_filter = filter;
+			// level and filter of the reference are already checked by the logging thread
+			_control = new AppenderControl(appender, null, null);
+		}
+
+		/**
+		 * Checks the level and filter of the reference and the filter of the appender, like {@link AppenderControl} does when it is
+		 * called. Done on the logging thread before the event is queued, so filtered events are neither copied nor queued. The filter
+		 * of the appender is checked once more on delivery.
+		 */
+		private boolean accepts(@NotNull final LogEvent event) {
+			if (_level != null && _level.intLevel() < event.getLevel().intLevel()) {
+				return false;
+			}
+			if (_filter != null && _filter.filter(event) == Filter.Result.DENY) {
+				return false;
+			}
+			return !(_appender instanceof Filterable) || !((Filterable) _appender).isFiltered(event);
+		}
+
+		private void call(@NotNull final LogEvent event) {
+			_control.callAppender(event);
+		}
+
+	}
+
+	/**
+	 * A copied event and the targets which accept it.
+	 */
+	private static final class QueuedEvent {
+
+		private final LogEvent _event;
+		private final List<Target> _targets;
+
+		private QueuedEvent(@NotNull final LogEvent event, @NotNull final List<Target> targets) {
+			_event = event;
+			_targets = targets;
+		}
+
+	}
+
+	/**
+	 * Puts the events into a bounded queue, a single daemon thread passes them to the original appenders.
+	 */
+	private static final class QueueAppender extends AbstractAppender {
+
+		private static final QueuedEvent END_OF_QUEUE = new QueuedEvent(Log4jLogEvent.newBuilder().build(), List.of());
+
+		private final List<Target> _targets;
+		private final BlockingQueue<QueuedEvent> _queue;
+		private final LogQueueFullPolicy _policy;
+		private final AtomicLong _discardedEvents = new AtomicLong();
+		private final Thread _thread;
+
+		private QueueAppender(@NotNull final List<Target> targets, final int queueSize, @NotNull final LogQueueFullPolicy policy) {
+			super(APPENDER_NAME, null, null, true, Property.EMPTY_ARRAY);
+			_targets = targets;
+			_queue = new ArrayBlockingQueue<>(queueSize);
+			_policy = policy;
+			_thread = new Thread(this::drain, "fs-cli-log-" + THREAD_COUNTER.incrementAndGet());
+			_thread.setDaemon(true);
+		}
+
+		@Override
+		public void start() {
+			super.start();
+			_thread.start();
+		}
+
+		@Override
+		public void append(@NotNull final LogEvent event) {
+			final List<Target> targets = getAcceptingTargets(event);
+			if (targets.isEmpty()) {
+				return;
+			}
+			if (!isStarted()) {
+				// stopping, the worker may already be gone
+				callTargets(new QueuedEvent(event, targets));
+				return;
+			}
+			// freeze the message, its parameters may change after the call returns
+			event.getMessage().getFormattedMessage();
+			final QueuedEvent queuedEvent = new QueuedEvent(event.toImmutable(), targets);
+			if (_policy == LogQueueFullPolicy.DISCARD) {
+				if (!_queue.offer(queuedEvent)) {
+					if (event.getLevel().isMoreSpecificThan(Level.WARN)) {
+						// never lose warnings and errors; written right away, so they overtake the queued events
+						callTargets(queuedEvent);
+					} else {
+						_discardedEvents.incrementAndGet();
+					}
+				}
+				return;
+			}
+			try {
+				_queue.put(queuedEvent);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				callTargets(queuedEvent);
+			}
+		}
+
+		@NotNull
+		private List<Target> getAcceptingTargets(@NotNull final LogEvent event) {
+			List<Target> acceptingTargets = null;
+			for (int index = 0; index < _targets.size(); index++) {
+				final Target target = _targets.get(index);
+				if (target.accepts(event)) {
+					if (acceptingTargets != null) {
+						acceptingTargets.add(target);
+					}
+				} else if (acceptingTargets == null) {
+					// usually all targets accept the event, only a partial match needs its own list
+					acceptingTargets = new ArrayList<>(_targets.subList(0, index));
+				}
+			}
+			return acceptingTargets != null ? acceptingTargets : _targets;
+		}
+
+		private void drain() {
+			try {
+				while (true) {
+					final QueuedEvent queuedEvent = _queue.take();
+					if (queuedEvent == END_OF_QUEUE) {
+						return;
+					}
+					callTargets(queuedEvent);
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private static void callTargets(@NotNull final QueuedEvent queuedEvent) {
+			for (final Target target : queuedEvent._targets) {
+				target.call(queuedEvent._event);
+			}
+		}
+
+		private long getDiscardedEvents() {
+			return _discardedEvents.get();
+		}
+
+		@Override
+		public boolean stop(final long timeout, final TimeUnit timeUnit) {
+			setStopping();
+			try {
+				if (_queue.offer(END_OF_QUEUE, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+					_thread.join(TimeUnit.SECONDS.toMillis(DRAIN_TIMEOUT_SECONDS));
+				}
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// events which could not be handed over in time are written by the stopping thread
+			_thread.interrupt();
+			QueuedEvent queuedEvent;
+			while ((queuedEvent = _queue.poll()) != null) {
+				if (queuedEvent != END_OF_QUEUE) {
+					callTargets(queuedEvent);
+				}
+			}
+			setStopped();
+			return true;
+		}
+
+	}
+
+}
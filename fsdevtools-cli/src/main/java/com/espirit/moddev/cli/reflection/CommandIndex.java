@@ -0,0 +1,277 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.reflection;
+
+import com.espirit.moddev.cli.api.command.Command;
+import com.github.rvesse.airline.annotations.Group;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Index of all command and group classes of the cli. The index is written at build time by the
+ * {@link CommandIndexGenerator} into the resource {@value #INDEX_RESOURCE}, so that the cli does not need to scan
+ * the whole uber jar with ClassGraph on every startup.
+ * <p>
+ * Classpath elements without an index (e.g. plugin jars) are still scanned, but only those. If no index can be found
+ * at all (e.g. when running from the IDE or in tests), the whole classpath is scanned like before.
+ */
+public final class CommandIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CommandIndex.class);
+
+	/**
+	 * The path of the index resource inside a classpath element.
+	 */
+	public static final String INDEX_RESOURCE = "META-INF/fs-cli/command.index";
+
+	static final String COMMAND_PREFIX = "command=";
+	static final String GROUP_PREFIX = "group=";
+	private static final String COMMENT_PREFIX = "#";
+	private static final String FS_RUNTIME_JAR_PREFIX = "fs-isolated-runtime";
+
+	private final Set<Class<? extends Command>> commandClasses;
+	private final Set<Class<?>> groupClasses;
+
+	private CommandIndex(@NotNull final Set<Class<? extends Command>> commandClasses, @NotNull final Set<Class<?>> groupClasses) {
+		this.commandClasses = commandClasses;
+		this.groupClasses = groupClasses;
+	}
+
+	/**
+	 * Loads all command and group classes. Uses the index resources found on the classpath and only scans the
+	 * classpath elements that are not covered by an index. Falls back to a full classpath scan if no index exists.
+	 *
+	 * @return the loaded index
+	 */
+	@NotNull
+	public static CommandIndex load() {
+		final ClassLoader classLoader = CommandIndex.class.getClassLoader();
+		try {
+			final List<URL> indexUrls = Collections.list(classLoader.getResources(INDEX_RESOURCE));
+			if (indexUrls.isEmpty()) {
+				LOGGER.debug("No command index found. Scanning the whole classpath...");
+				return new CommandIndex(CommandUtils.scanForCommandClasses(), GroupUtils.scanForGroupClasses());
+			}
+			final Set<String> commandNames = new LinkedHashSet<>();
+			final Set<String> groupNames = new LinkedHashSet<>();
+			for (final URL indexUrl : indexUrls) {
+				readIndex(indexUrl, commandNames, groupNames);
+			}
+			final List<File> unindexedElements = getUnindexedClasspathElements(indexUrls);
+			if (!unindexedElements.isEmpty()) {
+				LOGGER.debug("Scanning classpath elements without command index: {}", unindexedElements);
+				scanForAnnotatedClassNames(unindexedElements, commandNames, groupNames);
+			}
+			final CommandIndex commandIndex = new CommandIndex(loadCommandClasses(commandNames, classLoader), loadClasses(groupNames, classLoader));
+			LOGGER.debug("Loaded {} commands and {} command groups from command index.", commandIndex.commandClasses.size(), commandIndex.groupClasses.size());
+			return commandIndex;
+		} catch (final IOException | URISyntaxException e) {
+			LOGGER.warn("Could not read command index. Scanning the whole classpath...", e);
+			return new CommandIndex(CommandUtils.scanForCommandClasses(), GroupUtils.scanForGroupClasses());
+		}
+	}
+
+	/**
+	 * @return all command classes of this index
+	 */
+	@NotNull
+	public Set<Class<? extends Command>> getCommandClasses() {
+		return commandClasses;
+	}
+
+	/**
+	 * @return all group classes of this index
+	 */
+	@NotNull
+	public Set<Class<?>> getGroupClasses() {
+		return groupClasses;
+	}
+
+	/**
+	 * Collects the names of all non-abstract {@link Command} implementations and all classes annotated with
+	 * airline's {@link Group} annotation. Uses the same rules as {@link CommandUtils} and {@link GroupUtils}.
+	 *
+	 * @param scanResult   the scan result to read from
+	 * @param commandNames the set to add the command class names to
+	 * @param groupNames   the set to add the group class names to
+	 */
+	static void collectClassNames(@NotNull final ScanResult scanResult, @NotNull final Set<String> commandNames, @NotNull final Set<String> groupNames) {
+		for (final ClassInfo classInfo : scanResult.getClassesImplementing(Command.class.getName())) {
+			if (!classInfo.isAbstract()) {
+				commandNames.add(classInfo.getName());
+			}
+		}
+		for (final ClassInfo classInfo : scanResult.getClassesWithAnnotation(Group.class.getName())) {
+			groupNames.add(classInfo.getName());
+		}
+	}
+
+	/**
+	 * Writes the given class names to the given index file. The entries are sorted to keep the file reproducible.
+	 *
+	 * @param indexFile    the file to write
+	 * @param commandNames the command class names
+	 * @param groupNames   the group class names
+	 * @throws IOException if the file could not be written
+	 */
+	static void writeIndex(@NotNull final Path indexFile, @NotNull final Collection<String> commandNames, @NotNull final Collection<String> groupNames) throws IOException {
+		Files.createDirectories(indexFile.getParent());
+		try (final BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+			writer.write(COMMENT_PREFIX + " generated at build time - do not edit");
+			writer.newLine();
+			for (final String commandName : new TreeSet<>(commandNames)) {
+				writer.write(COMMAND_PREFIX + commandName);
+				writer.newLine();
+			}
+			for (final String groupName : new TreeSet<>(groupNames)) {
+				writer.write(GROUP_PREFIX + groupName);
+				writer.newLine();
+			}
+		}
+	}
+
+	@VisibleForTesting
+	static void readIndex(@NotNull final URL indexUrl, @NotNull final Set<String> commandNames, @NotNull final Set<String> groupNames) throws IOException {
+		try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.startsWith(COMMAND_PREFIX)) {
+					commandNames.add(line.substring(COMMAND_PREFIX.length()));
+				} else if (line.startsWith(GROUP_PREFIX)) {
+					groupNames.add(line.substring(GROUP_PREFIX.length()));
+				} else if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX)) {
+					LOGGER.warn("Ignoring invalid line '{}' in command index '{}'.", line, indexUrl);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Scans the given classpath elements for commands and groups. Only the given elements are scanned, so the type
+	 * hierarchy of classes extending e.g. an abstract command of the cli is unknown. Commands are therefore detected by
+	 * airline's command annotation, which is mandatory for every command anyway. {@link #loadCommandClasses} ensures that
+	 * the found classes really implement {@link Command}.
+	 */
+	private static void scanForAnnotatedClassNames(@NotNull final List<File> classpathElements, @NotNull final Set<String> commandNames, @NotNull final Set<String> groupNames) {
+		final ClassGraph classGraph = new ClassGraph().enableClassInfo().enableAnnotationInfo().overrideClasspath(classpathElements);
+		try (final ScanResult scanResult = classGraph.scan()) {
+			for (final ClassInfo classInfo : scanResult.getClassesWithAnnotation(com.github.rvesse.airline.annotations.Command.class.getName())) {
+				if (!classInfo.isAbstract() && !classInfo.isInterface()) {
+					commandNames.add(classInfo.getName());
+				}
+			}
+			for (final ClassInfo classInfo : scanResult.getClassesWithAnnotation(Group.class.getName())) {
+				groupNames.add(classInfo.getName());
+			}
+		}
+	}
+
+	@VisibleForTesting
+	@NotNull
+	static List<File> getUnindexedClasspathElements(@NotNull final List<URL> indexUrls) throws IOException, URISyntaxException {
+		final Set<Path> indexedElements = new LinkedHashSet<>();
+		for (final URL indexUrl : indexUrls) {
+			indexedElements.add(getClasspathElement(indexUrl));
+		}
+		final List<File> result = new ArrayList<>();
+		final String classPath = System.getProperty("java.class.path", "");
+		for (final String entry : classPath.split(File.pathSeparator)) {
+			if (entry.isEmpty()) {
+				continue;
+			}
+			final Path element = Paths.get(entry).toAbsolutePath().normalize();
+			final String fileName = element.getFileName() == null ? "" : element.getFileName().toString();
+			if (indexedElements.contains(element) || fileName.startsWith(FS_RUNTIME_JAR_PREFIX) || !Files.exists(element)) {
+				continue;
+			}
+			result.add(element.toFile());
+		}
+		return result;
+	}
+
+	@NotNull
+	private static Path getClasspathElement(@NotNull final URL indexUrl) throws IOException, URISyntaxException {
+		if ("jar".equals(indexUrl.getProtocol())) {
+			final String path = indexUrl.getPath();
+			final URL jarUrl = new URL(path.substring(0, path.indexOf("!/")));
+			return Paths.get(jarUrl.toURI()).toAbsolutePath().normalize();
+		}
+		// directory on the classpath: strip the resource path from the file path
+		Path path = Paths.get(indexUrl.toURI());
+		for (int i = 0; i < INDEX_RESOURCE.split("/").length; i++) {
+			path = path.getParent();
+		}
+		return path.toAbsolutePath().normalize();
+	}
+
+	@NotNull
+	private static Set<Class<? extends Command>> loadCommandClasses(@NotNull final Set<String> classNames, @NotNull final ClassLoader classLoader) {
+		final Set<Class<? extends Command>> result = new LinkedHashSet<>();
+		for (final Class<?> clazz : loadClasses(classNames, classLoader)) {
+			if (Command.class.isAssignableFrom(clazz)) {
+				result.add(clazz.asSubclass(Command.class));
+			} else {
+				LOGGER.debug("Class '{}' does not implement {}, so it is ignored.", clazz.getName(), Command.class.getSimpleName());
+			}
+		}
+		return result;
+	}
+
+	@NotNull
+	private static Set<Class<?>> loadClasses(@NotNull final Set<String> classNames, @NotNull final ClassLoader classLoader) {
+		final Set<Class<?>> result = new LinkedHashSet<>();
+		for (final String className : classNames) {
+			try {
+				result.add(Class.forName(className, false, classLoader));
+			} catch (final ClassNotFoundException | LinkageError e) {
+				LOGGER.warn("Could not load class '{}' from command index, ignoring it.", className, e);
+			}
+		}
+		return result;
+	}
+
+}
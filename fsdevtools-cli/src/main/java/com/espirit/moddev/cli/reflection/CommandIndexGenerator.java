@@ -0,0 +1,63 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.reflection;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Build time generator for the {@link CommandIndex}. Scans its own classpath for commands and groups and writes the
+ * index resource into the given output directory. Used by the {@code generateCommandIndex} gradle task.
+ */
+public final class CommandIndexGenerator {
+
+	private CommandIndexGenerator() {
+	}
+
+	/**
+	 * Writes the command index.
+	 *
+	 * @param args the output directory, the index is written to {@value CommandIndex#INDEX_RESOURCE} relative to it
+	 * @throws IOException if the index could not be written
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: " + CommandIndexGenerator.class.getSimpleName() + " <outputDirectory>");
+		}
+		final Set<String> commandNames = new LinkedHashSet<>();
+		final Set<String> groupNames = new LinkedHashSet<>();
+		final ClassGraph classGraph = new ClassGraph().enableClassInfo().enableAnnotationInfo();
+		try (final ScanResult scanResult = classGraph.scan()) {
+			CommandIndex.collectClassNames(scanResult, commandNames, groupNames);
+		}
+		final Path indexFile = Paths.get(args[0]).resolve(CommandIndex.INDEX_RESOURCE);
+		CommandIndex.writeIndex(indexFile, commandNames, groupNames);
+		System.out.println("Wrote " + commandNames.size() + " commands and " + groupNames.size() + " groups to '" + indexFile + "'.");
+	}
+
+}
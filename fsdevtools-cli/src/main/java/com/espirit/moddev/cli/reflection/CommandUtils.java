@@ -74,11 +74,13 @@ public final class CommandUtils {
 					//noinspection unchecked --> we already know that this command implements the Command.class
 					matchingClasses.add((Class<? extends Command>) classInfo.loadClass());
 				} else {
-					LOGGER.debug("Found command " + classInfo.getSimpleName() + ", which is abstract, so it is ignored.");
+					LOGGER.debug("Found command {}, which is abstract, so it is ignored.", classInfo.getSimpleName());
 				}
 			}
 		}
-		LOGGER.debug("Found " + matchingClasses.size() + " commands. " + matchingClasses.stream().map(Class::getSimpleName).collect(Collectors.joining(",", "[ ", " ]")));
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Found {} commands. {}", matchingClasses.size(), matchingClasses.stream().map(Class::getSimpleName).collect(Collectors.joining(",", "[ ", " ]")));
+		}
 		return matchingClasses;
 	}
 }
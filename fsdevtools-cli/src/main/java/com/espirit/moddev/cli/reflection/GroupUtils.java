@@ -62,7 +62,9 @@ public final class GroupUtils {
 				result.add(classInfo.loadClass());
 			}
 		}
-		LOGGER.debug("Found " + result.size() + " command groups. " + result.stream().map(Class::getSimpleName).collect(Collectors.joining(",", "[ ", " ]")));
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Found {} command groups. {}", result.size(), result.stream().map(Class::getSimpleName).collect(Collectors.joining(",", "[ ", " ]")));
+		}
 		return result;
 	}
 
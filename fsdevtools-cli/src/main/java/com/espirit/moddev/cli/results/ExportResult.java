@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.results;
 
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
 import com.espirit.moddev.cli.results.logging.AdvancedLogger;
 import de.espirit.firstspirit.agency.StoreAgent;
 import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
@@ -33,6 +34,7 @@ import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
 public class ExportResult extends SimpleResult<ExportOperation.Result> {
 
 	private final StoreAgent _storeAgent;
+	private final ResultDetail _resultDetail;
 
 	/**
 	 * Creates a new instance using the given command result.
@@ -42,8 +44,21 @@ public class ExportResult extends SimpleResult<ExportOperation.Result> {
 	 * @see com.espirit.moddev.cli.results.SimpleResult#SimpleResult(Object)
 	 */
 	public ExportResult(final StoreAgent storeAgent, ExportOperation.Result result) {
+		this(storeAgent, result, ResultDetail.FULL);
+	}
+
+	/**
+	 * Creates a new instance using the given command result, which is logged with the given amount of detail.
+	 *
+	 * @param storeAgent   used to request related FirstSpirit elements
+	 * @param result       Result produced by the command
+	 * @param resultDetail the amount of detail to log
+	 * @see com.espirit.moddev.cli.results.SimpleResult#SimpleResult(Object)
+	 */
+	public ExportResult(final StoreAgent storeAgent, ExportOperation.Result result, final ResultDetail resultDetail) {
 		super(result);
 		_storeAgent = storeAgent;
+		_resultDetail = resultDetail;
 	}
 
 	/**
@@ -55,6 +70,7 @@ public class ExportResult extends SimpleResult<ExportOperation.Result> {
 	public ExportResult(Exception exception) {
 		super(exception);
 		_storeAgent = null;
+		_resultDetail = ResultDetail.FULL;
 	}
 
 	@Override
@@ -74,7 +90,7 @@ public class ExportResult extends SimpleResult<ExportOperation.Result> {
 	 * @see de.espirit.firstspirit.store.access.nexport.ExportInfo
 	 */
 	private void logElementBasedResult(final ExportOperation.Result exportResult) {
-		AdvancedLogger.logExportResult(LOGGER, _storeAgent, exportResult);
+		AdvancedLogger.logExportResult(LOGGER, _storeAgent, exportResult, _resultDetail);
 	}
 
 
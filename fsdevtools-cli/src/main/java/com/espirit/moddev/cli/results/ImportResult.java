@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.results;
 
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
 import com.espirit.moddev.cli.results.logging.AdvancedLogger;
 import de.espirit.firstspirit.agency.StoreAgent;
 import de.espirit.firstspirit.store.access.nexport.operations.ImportOperation;
@@ -32,6 +33,7 @@ import de.espirit.firstspirit.store.access.nexport.operations.ImportOperation;
 public class ImportResult extends SimpleResult<ImportOperation.Result> {
 
 	private final StoreAgent storeAgent;
+	private final ResultDetail resultDetail;
 
 	/**
 	 * Creates a new instance using the given command result.
@@ -40,8 +42,20 @@ public class ImportResult extends SimpleResult<ImportOperation.Result> {
 	 * @param result     Result produced by the command
 	 */
 	public ImportResult(final StoreAgent storeAgent, ImportOperation.Result result) {
+		this(storeAgent, result, ResultDetail.FULL);
+	}
+
+	/**
+	 * Creates a new instance using the given command result, which is logged with the given amount of detail.
+	 *
+	 * @param storeAgent   a store agent
+	 * @param result       Result produced by the command
+	 * @param resultDetail the amount of detail to log
+	 */
+	public ImportResult(final StoreAgent storeAgent, ImportOperation.Result result, final ResultDetail resultDetail) {
 		super(result);
 		this.storeAgent = storeAgent;
+		this.resultDetail = resultDetail;
 	}
 
 	/**
@@ -52,6 +66,7 @@ public class ImportResult extends SimpleResult<ImportOperation.Result> {
 	public ImportResult(Exception exception) {
 		super(exception);
 		storeAgent = null;
+		resultDetail = ResultDetail.FULL;
 	}
 
 	@Override
@@ -60,7 +75,7 @@ public class ImportResult extends SimpleResult<ImportOperation.Result> {
 			LOGGER.error("Import operation not successful", exception);
 		} else {
 			LOGGER.info("Import operation successful");
-			AdvancedLogger.logImportResult(LOGGER, storeAgent, get());
+			AdvancedLogger.logImportResult(LOGGER, storeAgent, get(), resultDetail);
 		}
 	}
 }
@@ -0,0 +1,134 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.results;
+
+import de.espirit.common.util.Pair;
+import de.espirit.firstspirit.io.FileHandle;
+import de.espirit.firstspirit.store.access.nexport.ExportInfo;
+import de.espirit.firstspirit.store.access.nexport.io.ExportInfoFileHandle;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Combines the {@link ExportOperation.Result results} of several export operations, e.g. of a sharded export, into a single result.
+ */
+public class MergedExportResult implements ExportOperation.Result {
+
+	private final List<ExportOperation.Result> _results;
+
+	/**
+	 * Creates a new instance merging the given results.
+	 *
+	 * @param results the results to merge
+	 */
+	public MergedExportResult(@NotNull final Collection<? extends ExportOperation.Result> results) {
+		_results = new ArrayList<>(results);
+	}
+
+	@NotNull
+	private <T> Set<T> mergeSets(@NotNull final Function<ExportOperation.Result, Set<T>> getter) {
+		final Set<T> merged = new LinkedHashSet<>();
+		for (final ExportOperation.Result result : _results) {
+			final Set<T> values = getter.apply(result);
+			if (values != null) {
+				merged.addAll(values);
+			}
+		}
+		return merged;
+	}
+
+	@NotNull
+	private <T> Collection<T> mergeCollections(@NotNull final Function<ExportOperation.Result, Collection<T>> getter) {
+		final Collection<T> merged = new ArrayList<>();
+		for (final ExportOperation.Result result : _results) {
+			final Collection<T> values = getter.apply(result);
+			if (values != null) {
+				merged.addAll(values);
+			}
+		}
+		return merged;
+	}
+
+	@Override
+	public Set<FileHandle> getCreatedFiles() {
+		return mergeSets(ExportOperation.Result::getCreatedFiles);
+	}
+
+	@Override
+	public Set<FileHandle> getUpdatedFiles() {
+		return mergeSets(ExportOperation.Result::getUpdatedFiles);
+	}
+
+	@Override
+	public Set<FileHandle> getDeletedFiles() {
+		return mergeSets(ExportOperation.Result::getDeletedFiles);
+	}
+
+	@Override
+	public Set<ExportInfoFileHandle> getCreatedFileHandles() {
+		return mergeSets(ExportOperation.Result::getCreatedFileHandles);
+	}
+
+	@Override
+	public Set<ExportInfoFileHandle> getUpdatedFileHandles() {
+		return mergeSets(ExportOperation.Result::getUpdatedFileHandles);
+	}
+
+	@Override
+	public Set<ExportInfoFileHandle> getDeletedFileHandles() {
+		return mergeSets(ExportOperation.Result::getDeletedFileHandles);
+	}
+
+	@Override
+	public Collection<Pair<ExportInfoFileHandle, ExportInfoFileHandle>> getMovedFileHandles() {
+		return mergeCollections(ExportOperation.Result::getMovedFileHandles);
+	}
+
+	@Override
+	public Collection<ExportInfo> getCreatedElements() {
+		return mergeCollections(ExportOperation.Result::getCreatedElements);
+	}
+
+	@Override
+	public Collection<ExportInfo> getUpdatedElements() {
+		return mergeCollections(ExportOperation.Result::getUpdatedElements);
+	}
+
+	@Override
+	public Collection<ExportInfo> getDeletedElements() {
+		return mergeCollections(ExportOperation.Result::getDeletedElements);
+	}
+
+	@Override
+	public Collection<ExportInfo> getMovedElements() {
+		return mergeCollections(ExportOperation.Result::getMovedElements);
+	}
+
+}
@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.results.logging;
 
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
 import com.espirit.moddev.cli.results.imports.ElementImportInfoImpl;
 import com.espirit.moddev.cli.results.imports.EntityTypeImportInfoImpl;
 import com.espirit.moddev.cli.results.imports.PropertyTypeImportInfoImpl;
@@ -64,18 +65,35 @@ public enum AdvancedLogger {
 	 * @param exportResult the result to be loggged
 	 */
 	public static void logExportResult(final Logger logger, final StoreAgent storeAgent, final ExportOperation.Result exportResult) {
+		logExportResult(logger, storeAgent, exportResult, ResultDetail.FULL);
+	}
+
+	/**
+	 * Logs the given {@code exportResult} to the given logger with the given amount of detail. Only performed if the log level
+	 * is at least INFO.
+	 *
+	 * @param logger       the logger the export result information will be logged to
+	 * @param storeAgent   the store agent to use
+	 * @param exportResult the result to be loggged
+	 * @param detail       the amount of detail to log
+	 * @see #logExportResult(Logger, StoreAgent, ExportOperation.Result)
+	 */
+	public static void logExportResult(final Logger logger, final StoreAgent storeAgent, final ExportOperation.Result exportResult, final ResultDetail detail) {
 		if (!logger.isInfoEnabled()) {
 			// nothing to do if loglevel is not at least info
 			return;
 		}
 		logger.info("Export done.");
+		if (detail == ResultDetail.NONE) {
+			return;
+		}
 
 		// log details and fetch summary
 		logger.info("== DETAILS ==");
-		final String created = logElements(logger, storeAgent, exportResult.getCreatedElements(), "Created elements");
-		final String updated = logElements(logger, storeAgent, exportResult.getUpdatedElements(), "Updated elements");
-		final String deleted = logElements(logger, storeAgent, exportResult.getDeletedElements(), "Deleted elements");
-		final String moved = logElements(logger, storeAgent, exportResult.getMovedElements(), "  Moved elements");
+		final String created = logElements(logger, storeAgent, exportResult.getCreatedElements(), "Created elements", detail);
+		final String updated = logElements(logger, storeAgent, exportResult.getUpdatedElements(), "Updated elements", detail);
+		final String deleted = logElements(logger, storeAgent, exportResult.getDeletedElements(), "Deleted elements", detail);
+		final String moved = logElements(logger, storeAgent, exportResult.getMovedElements(), "  Moved elements", detail);
 
 		// log summary
 		logger.info("== SUMMARY ==");
@@ -95,19 +113,38 @@ public enum AdvancedLogger {
 	 * @param importResult the result to be logged
 	 */
 	public static void logImportResult(final Logger logger, final StoreAgent storeAgent, final ImportOperation.Result importResult) {
+		logImportResult(logger, storeAgent, importResult, ResultDetail.FULL);
+	}
+
+	/**
+	 * Logs the given {@code importResult} to the given logger with the given amount of detail. Only performed if the log level
+	 * is at least INFO.
+	 *
+	 * @param logger       the logger the import result information will be logged to
+	 * @param storeAgent   the store agent to use
+	 * @param importResult the result to be logged
+	 * @param detail       the amount of detail to log
+	 * @see #logImportResult(Logger, StoreAgent, ImportOperation.Result)
+	 */
+	public static void logImportResult(final Logger logger, final StoreAgent storeAgent, final ImportOperation.Result importResult, final ResultDetail detail) {
 		if (!logger.isInfoEnabled()) {
 			// nothing to do if loglevel is not at least info
 			return;
 		}
 		logger.info("Import done.");
+		if (detail == ResultDetail.NONE) {
+			// problems are logged in every detail level, only the elements and the summary are omitted
+			logImportProblems(logger, storeAgent, importResult);
+			return;
+		}
 
 		// log details and fetch summary
 		logger.info("== DETAILS ==");
-		final String created = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getCreatedElements(), ExportStatus.CREATED, null), "Created elements");
-		final String updated = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getUpdatedElements(), ExportStatus.UPDATED, importResult.getModifiedProjectProperties()), "Updated elements");
-		final String deleted = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getDeletedElements(), ExportStatus.DELETED, null), "Deleted elements");
-		final String moved = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getMovedElements(), ExportStatus.MOVED, null), "  Moved elements");
-		final String lostAndFound = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getLostAndFoundElements(), ExportStatus.MOVED, null), "L&Found elements");
+		final String created = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getCreatedElements(), ExportStatus.CREATED, null), "Created elements", detail);
+		final String updated = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getUpdatedElements(), ExportStatus.UPDATED, importResult.getModifiedProjectProperties()), "Updated elements", detail);
+		final String deleted = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getDeletedElements(), ExportStatus.DELETED, null), "Deleted elements", detail);
+		final String moved = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getMovedElements(), ExportStatus.MOVED, null), "  Moved elements", detail);
+		final String lostAndFound = logElements(logger, storeAgent, createElementExportInfo(storeAgent, importResult, importResult.getLostAndFoundElements(), ExportStatus.MOVED, null), "L&Found elements", detail);
 		final String importProblems = logImportProblems(logger, storeAgent, importResult);
 
 		// log summary
@@ -121,25 +158,23 @@ public enum AdvancedLogger {
 	}
 
 	static String logElements(final Logger logger, final StoreAgent storeAgent, final Collection<ExportInfo> elements, final String description) {
+		return logElements(logger, storeAgent, elements, description, ResultDetail.FULL);
+	}
+
+	static String logElements(final Logger logger, final StoreAgent storeAgent, final Collection<ExportInfo> elements, final String description, final ResultDetail detail) {
 		if (logger.isInfoEnabled()) {
 			// re-organize result
 			final ReorganizedResult reorganizedResult = new ReorganizedResult(elements);
 
 			// log short description
-			final StringBuilder headline = new StringBuilder(description).append(": ");
-			int count = elements.size();
-			if (reorganizedResult.containsFsMeta()) {
-				// ExportInfo.Type.FS_META (.FirstSpirit/Import*.txt) is always update --> do not show in result summary
-				count--;
-			}
-			headline.append(count);
-
-			logger.info(headline.toString().trim());
+			logger.info((description + ": " + reorganizedResult.getElementCount()).trim());
 
 			// log elements
-			logProjectProperties(logger, reorganizedResult.getProjectProperties());
-			logStoreElements(logger, storeAgent, reorganizedResult.getStoreElements());
-			logEntityTypes(logger, reorganizedResult.getEntityTypes());
+			if (detail == ResultDetail.FULL) {
+				logProjectProperties(logger, reorganizedResult.getProjectProperties());
+				logStoreElements(logger, storeAgent, reorganizedResult.getStoreElements());
+				logEntityTypes(logger, reorganizedResult.getEntityTypes());
+			}
 			return buildSummary(elements, description, reorganizedResult);
 		}
 		return "";
@@ -151,22 +186,25 @@ public enum AdvancedLogger {
 		final StringBuilder builder = new StringBuilder();
 		final String description = new StringBuilder("Problems: ").append(problems.size()).toString();
 		logger.info(description);
-		for (final ImportOperation.Problem problem : problems) {
-			builder.setLength(0);
-			builder.append(" - store: ").append(problem.getStoreType());
-			problemAppendUidOrName(builder, storeAgent, problem);
-			builder.append(" | reason: ").append(problem.getMessage());
-			final String text = builder.toString();
-			logger.info(text);
+		if (logger.isInfoEnabled()) {
+			// elements are only resolved if the lines are logged, each element at most once
+			final StoreElementLookup lookup = storeAgent != null ? new StoreElementLookup(storeAgent) : null;
+			for (final ImportOperation.Problem problem : problems) {
+				builder.setLength(0);
+				builder.append(" - store: ").append(problem.getStoreType());
+				problemAppendUidOrName(builder, lookup, problem);
+				builder.append(" | reason: ").append(problem.getMessage());
+				final String text = builder.toString();
+				logger.info(text);
+			}
 		}
 		return getSpacedString(8) + "Problems: " + importResult.getProblems().size();
 	}
 
-	private static void problemAppendUidOrName(final StringBuilder builder, final StoreAgent storeAgent, final ImportOperation.Problem problem) {
-		// we need a store agent
-		if (storeAgent != null) {
-			final Store store = storeAgent.getStore(problem.getStoreType());
-			final IDProvider storeElement = store.getStoreElement(problem.getNodeId());
+	private static void problemAppendUidOrName(final StringBuilder builder, final StoreElementLookup lookup, final ImportOperation.Problem problem) {
+		// we need a store agent to look up elements
+		if (lookup != null) {
+			final IDProvider storeElement = lookup.getStoreElement(problem.getStoreType(), problem.getNodeId());
 			// we need a store element
 			if (storeElement != null) {
 				if (storeElement.hasUid()) {
@@ -182,17 +220,12 @@ public enum AdvancedLogger {
 		final StringBuilder summaryOutput = new StringBuilder();
 		summaryOutput.append(description);
 		summaryOutput.append(": ");
-		int summaryCount = allElements.size();
-		if (reorganizedResult.containsFsMeta()) {
-			// ExportInfo.Type.FS_META (.FirstSpirit/Import*.txt) is always update --> do not show in result summary
-			summaryCount--;
-		}
-		summaryOutput.append(summaryCount);
+		summaryOutput.append(reorganizedResult.getElementCount());
 
 		// append project properties
 		appendProjectPropertySummary(summaryOutput, reorganizedResult.getProjectProperties());
 		// append store elements
-		appendStoreElementSummary(summaryOutput, reorganizedResult.getStoreElements());
+		appendStoreElementSummary(summaryOutput, reorganizedResult.getStoreElements(), reorganizedResult.getStoreElementCount());
 		// append entity types
 		appendEntityTypeSummary(summaryOutput, reorganizedResult.getEntityTypes());
 
@@ -208,12 +241,11 @@ public enum AdvancedLogger {
 	}
 
 	static void appendStoreElementSummary(final StringBuilder stringBuilder, final Map<Store.Type, List<ElementExportInfo>> storeElements) {
+		appendStoreElementSummary(stringBuilder, storeElements, countStoreElements(storeElements));
+	}
+
+	private static void appendStoreElementSummary(final StringBuilder stringBuilder, final Map<Store.Type, List<ElementExportInfo>> storeElements, final int totalStoreElements) {
 		if (!storeElements.isEmpty()) {
-			// count total elements
-			int totalStoreElements = 0;
-			for (final List<ElementExportInfo> list : storeElements.values()) {
-				totalStoreElements += list.size();
-			}
 			stringBuilder.append(" | store elements: ");
 			stringBuilder.append(totalStoreElements);
 			stringBuilder.append(" ( ");
@@ -290,33 +322,37 @@ public enum AdvancedLogger {
 			return;
 		}
 
-		// count total elements
-		int totalElements = 0;
-		for (final Map.Entry<Store.Type, List<ElementExportInfo>> entry : storeElements.entrySet()) {
-			totalElements += entry.getValue().size();
-		}
-
 		// append headline
-		logger.info("- store elements: " + totalElements);
+		logger.info("- store elements: " + countStoreElements(storeElements));
 
-		// append single elements
-		final List<ElementExportInfo> sortedElements = new ArrayList<>();
+		// append single elements, each store is sorted on its own and the line buffer is shared by all elements
+		final ExportInfoComparator comparator = new ExportInfoComparator();
+		final StringBuilder line = new StringBuilder(128);
 		for (final Map.Entry<Store.Type, List<ElementExportInfo>> entry : storeElements.entrySet()) {
-			sortedElements.addAll(entry.getValue());
-			sortedElements.sort(new ExportInfoComparator());
+			final List<ElementExportInfo> sortedElements = new ArrayList<>(entry.getValue());
+			sortedElements.sort(comparator);
 			logger.info(" - " + entry.getKey().getName() + ": " + sortedElements.size());
 			for (final ElementExportInfo element : sortedElements) {
-				String identifier = getStoreElementIdentifier(storeAgent, element);
-				identifier += ": '" + element.getName() + "'";
-				final String spacedString = getSpacedString(SPACE_INDENT - identifier.length());
-				final String files = getFilesStringForElement(element);
-				logger.info("  - " + identifier + spacedString + files);
+				line.setLength(0);
+				line.append("  - ");
+				final int identifierStart = line.length();
+				line.append(getStoreElementIdentifier(storeAgent, element)).append(": '").append(element.getName()).append('\'');
+				appendSpaces(line, SPACE_INDENT - (line.length() - identifierStart));
+				appendFilesForElement(line, element);
+				logger.info(line.toString());
 				logFileInfos(logger, element, " ");
 			}
-			sortedElements.clear();
 		}
 	}
 
+	private static int countStoreElements(final Map<Store.Type, List<ElementExportInfo>> storeElements) {
+		int totalElements = 0;
+		for (final List<ElementExportInfo> list : storeElements.values()) {
+			totalElements += list.size();
+		}
+		return totalElements;
+	}
+
 	static void logEntityTypes(Logger logger, final Collection<EntityTypeExportInfo> entityTypes) {
 		if (!logger.isInfoEnabled()) {
 			return;
@@ -487,34 +523,52 @@ public enum AdvancedLogger {
 
 	static String getFilesStringForElement(final ExportInfo element) {
 		final StringBuilder builder = new StringBuilder();
-		String fileString = getFilesString("created files", element.getCreatedFileHandles());
-		fileString += getFilesString("updated files", element.getUpdatedFileHandles());
-		fileString += getFilesString("deleted files", element.getDeletedFileHandles());
-		fileString += getFilesString("moved files", element.getMovedFileHandles());
-		if (!fileString.isEmpty()) {
-			fileString = fileString.substring(0, fileString.length() - 1);
-		}
-		if (!fileString.isEmpty()) {
-			builder.append(" (");
-			builder.append(fileString);
-			builder.append(" )");
-		}
+		appendFilesForElement(builder, element);
 		return builder.toString();
 	}
 
+	/**
+	 * Appends the file counts of the given element in the format of {@link #getFilesStringForElement(ExportInfo)}.
+	 */
+	static void appendFilesForElement(final StringBuilder builder, final ExportInfo element) {
+		final int start = builder.length();
+		builder.append(" (");
+		appendFiles(builder, "created files", element.getCreatedFileHandles());
+		appendFiles(builder, "updated files", element.getUpdatedFileHandles());
+		appendFiles(builder, "deleted files", element.getDeletedFileHandles());
+		appendFiles(builder, "moved files", element.getMovedFileHandles());
+		if (builder.length() == start + 2) {
+			// no files at all
+			builder.setLength(start);
+			return;
+		}
+		// replace the trailing comma
+		builder.setCharAt(builder.length() - 1, ' ');
+		builder.append(')');
+	}
+
 	static String getFilesString(final String description, final Collection<?> collection) {
-		if (collection.isEmpty()) {
-			return "";
+		final StringBuilder builder = new StringBuilder();
+		appendFiles(builder, description, collection);
+		return builder.toString();
+	}
+
+	private static void appendFiles(final StringBuilder builder, final String description, final Collection<?> collection) {
+		if (!collection.isEmpty()) {
+			builder.append(' ').append(description).append(": ").append(collection.size()).append(',');
 		}
-		return ' ' + description + ": " + collection.size() + ',';
 	}
 
 	static String getSpacedString(final int length) {
 		final StringBuilder stringBuilder = new StringBuilder();
+		appendSpaces(stringBuilder, length);
+		return stringBuilder.toString();
+	}
+
+	private static void appendSpaces(final StringBuilder builder, final int length) {
 		for (int index = 0; index < length; index++) {
-			stringBuilder.append(" ");
+			builder.append(' ');
 		}
-		return stringBuilder.toString();
 	}
 
 	private static Collection<ExportInfo> createElementExportInfo(final StoreAgent storeAgent, final ImportOperation.Result importResult, final Collection<BasicElementInfo> elements, final ExportStatus status, final EnumSet<PropertiesTransportOptions.ProjectPropertyType> projectProperties) {
@@ -41,6 +41,8 @@ class ReorganizedResult {
 	 * Indicates whether an FS_META file is contained in this result set
 	 */
 	private boolean _containsFsMeta;
+	private int _elementCount;
+	private int _storeElementCount;
 
 	ReorganizedResult(final Collection<ExportInfo> elements) {
 		_projectProperties = new HashMap<>();
@@ -66,6 +68,7 @@ class ReorganizedResult {
 						_storeElements.put(storeType, exportInfoList);
 					}
 					exportInfoList.add(exportInfo);
+					_storeElementCount++;
 					break;
 				}
 				case ENTITY_TYPE: {
@@ -82,6 +85,8 @@ class ReorganizedResult {
 				}
 			}
 		}
+		// ExportInfo.Type.FS_META (.FirstSpirit/Import*.txt) is always update --> do not show in result summary
+		_elementCount = _containsFsMeta ? elements.size() - 1 : elements.size();
 	}
 
 	Collection<PropertyTypeExportInfo> getProjectProperties() {
@@ -92,6 +97,20 @@ class ReorganizedResult {
 		return _storeElements;
 	}
 
+	/**
+	 * Number of reorganized elements, without the FS_META file
+	 */
+	int getElementCount() {
+		return _elementCount;
+	}
+
+	/**
+	 * Number of elements in {@link #getStoreElements()}, summed up over all stores
+	 */
+	int getStoreElementCount() {
+		return _storeElementCount;
+	}
+
 	Collection<EntityTypeExportInfo> getEntityTypes() {
 		return Collections.unmodifiableCollection(_entityTypes);
 	}
@@ -0,0 +1,71 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.results.logging;
+
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.agency.StoreAgent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves store elements by node id and remembers the outcome, including ids which could not be resolved. Every lookup
+ * is a round trip to the server, so each store and each node id is requested at most once.
+ */
+class StoreElementLookup {
+
+	private final StoreAgent _storeAgent;
+	private final Map<Store.Type, Store> _stores = new EnumMap<>(Store.Type.class);
+	private final Map<Store.Type, Map<Long, IDProvider>> _elements = new EnumMap<>(Store.Type.class);
+
+	StoreElementLookup(@NotNull final StoreAgent storeAgent) {
+		_storeAgent = storeAgent;
+	}
+
+	/**
+	 * Returns the element with the given node id of the given store.
+	 *
+	 * @param storeType the type of the store
+	 * @param nodeId    the node id of the element
+	 * @return the element or {@code null} if the store or the element does not exist
+	 */
+	@Nullable
+	IDProvider getStoreElement(@NotNull final Store.Type storeType, final long nodeId) {
+		final Map<Long, IDProvider> elements = _elements.computeIfAbsent(storeType, type -> new HashMap<>());
+		if (elements.containsKey(nodeId)) {
+			return elements.get(nodeId);
+		}
+		if (!_stores.containsKey(storeType)) {
+			_stores.put(storeType, _storeAgent.getStore(storeType));
+		}
+		final Store store = _stores.get(storeType);
+		final IDProvider element = store != null ? store.getStoreElement(nodeId) : null;
+		elements.put(nodeId, element);
+		return element;
+	}
+
+}
@@ -23,6 +23,8 @@
 package com.espirit.moddev.cli;
 
 import com.espirit.moddev.cli.api.command.Command;
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
+import com.espirit.moddev.cli.api.configuration.ResultFileFormat;
 import com.espirit.moddev.cli.commands.help.DefaultCommand;
 import com.espirit.moddev.cli.commands.help.HelpCommand;
 import com.espirit.moddev.cli.configuration.GlobalConfig;
@@ -86,6 +88,21 @@ public class CliTest {
 		assertTrue(hasTestConnectionCommand);
 	}
 
+	@Test
+	public void resultDetail_is_parsed_ignoring_the_case() {
+		final com.github.rvesse.airline.Cli<Command> cli = Cli.getDefaultCliBuilder().build();
+		assertEquals(ResultDetail.NONE, ((GlobalConfig) cli.parse("test", "connection", "--resultDetail", "none")).getResultDetail());
+		assertEquals(ResultDetail.SUMMARY, ((GlobalConfig) cli.parse("test", "connection", "--resultDetail", "summary")).getResultDetail());
+		assertEquals(ResultDetail.FULL, ((GlobalConfig) cli.parse("test", "connection", "--resultDetail", "Full")).getResultDetail());
+	}
+
+	@Test
+	public void resultFileFormat_is_parsed_ignoring_the_case() {
+		final com.github.rvesse.airline.Cli<Command> cli = Cli.getDefaultCliBuilder().build();
+		assertEquals(ResultFileFormat.JSON, ((GlobalConfig) cli.parse("test", "connection", "--resultFileFormat", "json")).getResultFileFormat());
+		assertEquals(ResultFileFormat.NDJSON, ((GlobalConfig) cli.parse("test", "connection", "--resultFileFormat", "ndjson")).getResultFileFormat());
+	}
+
 	@Test
 	public void getResultFile_non_config_instance() {
 		assertNull(Cli.getResultFile((Command) new HelpCommand()));
@@ -0,0 +1,169 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli;
+
+import com.espirit.moddev.cli.api.configuration.ResultFileFormat;
+import com.espirit.moddev.util.JacksonUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ResultFileWriterTest {
+
+	private static final JsonMapper MAPPER = JacksonUtil.createOutputMapper();
+
+	@TempDir
+	public Path _directory;
+
+	@Test
+	public void json_command_result() throws IOException {
+		final Path file = _directory.resolve("result.json");
+		new ResultFileWriter(ResultFileFormat.JSON, false).writeCommandResult(file, "test command", false, Collections.singletonMap("uid", "a"));
+
+		final JsonNode root = MAPPER.readTree(Files.readString(file));
+		assertThat(root.get("command").asString()).isEqualTo("test command");
+		assertThat(root.get("error").asBoolean()).isFalse();
+		assertThat(root.get("result").get("uid").asString()).isEqualTo("a");
+		assertThat(temporaryFiles()).isEmpty();
+	}
+
+	@Test
+	public void json_exception_result() throws IOException {
+		final Path file = _directory.resolve("result.json");
+		new ResultFileWriter(ResultFileFormat.JSON, false).writeExceptionResult(file, "test command", new RuntimeException("boom"));
+
+		final JsonNode root = MAPPER.readTree(Files.readString(file));
+		assertThat(root.get("command").asString()).isEqualTo("test command");
+		assertThat(root.get("error").asBoolean()).isTrue();
+		assertThat(root.has("exception")).isTrue();
+	}
+
+	@Test
+	public void json_replaces_existing_file() throws IOException {
+		final Path file = _directory.resolve("result.json");
+		Files.writeString(file, "this is no json and much longer than the result that replaces it, so truncation would show");
+		new ResultFileWriter(ResultFileFormat.JSON, false).writeCommandResult(file, "test command", true, Collections.emptyList());
+
+		final JsonNode root = MAPPER.readTree(Files.readString(file));
+		assertThat(root.get("error").asBoolean()).isTrue();
+		assertThat(root.get("result").isArray()).isTrue();
+		assertThat(temporaryFiles()).isEmpty();
+	}
+
+	@Test
+	public void new_file_gets_default_permissions() throws IOException {
+		assumeTrue(_directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+		final Path reference = Files.createFile(_directory.resolve("reference.json"));
+		final Path file = _directory.resolve("result.json");
+		new ResultFileWriter(ResultFileFormat.JSON, false).writeCommandResult(file, "test command", false, Collections.emptyList());
+
+		assertThat(Files.getPosixFilePermissions(file)).isEqualTo(Files.getPosixFilePermissions(reference));
+	}
+
+	@Test
+	public void existing_file_keeps_permissions() throws IOException {
+		assumeTrue(_directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+		final Path file = _directory.resolve("result.json");
+		Files.writeString(file, "old");
+		final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+		Files.setPosixFilePermissions(file, permissions);
+		new ResultFileWriter(ResultFileFormat.JSON, false).writeCommandResult(file, "test command", false, Collections.emptyList());
+
+		assertThat(Files.getPosixFilePermissions(file)).isEqualTo(permissions);
+		assertThat(temporaryFiles()).isEmpty();
+	}
+
+	@Test
+	public void ndjson_writes_one_line_per_element() throws IOException {
+		final Path file = _directory.resolve("result.ndjson");
+		final List<Object> result = Arrays.asList(Collections.singletonMap("uid", "a"), Collections.singletonMap("uid", "b"));
+		new ResultFileWriter(ResultFileFormat.NDJSON, false).writeCommandResult(file, "test command", false, result);
+
+		final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(3);
+		final JsonNode header = MAPPER.readTree(lines.get(0));
+		assertThat(header.get("command").asString()).isEqualTo("test command");
+		assertThat(header.get("error").asBoolean()).isFalse();
+		assertThat(MAPPER.readTree(lines.get(1)).get("uid").asString()).isEqualTo("a");
+		assertThat(MAPPER.readTree(lines.get(2)).get("uid").asString()).isEqualTo("b");
+	}
+
+	@Test
+	public void ndjson_writes_non_iterable_result_as_single_line() throws IOException {
+		final Path file = _directory.resolve("result.ndjson");
+		new ResultFileWriter(ResultFileFormat.NDJSON, false).writeCommandResult(file, "test command", false, Collections.singletonMap("uid", "a"));
+
+		final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(2);
+		assertThat(MAPPER.readTree(lines.get(1)).get("uid").asString()).isEqualTo("a");
+	}
+
+	@Test
+	public void ndjson_exception_result() throws IOException {
+		final Path file = _directory.resolve("result.ndjson");
+		new ResultFileWriter(ResultFileFormat.NDJSON, false).writeExceptionResult(file, "test command", new RuntimeException("boom"));
+
+		final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(1);
+		final JsonNode header = MAPPER.readTree(lines.get(0));
+		assertThat(header.get("error").asBoolean()).isTrue();
+		assertThat(header.has("exception")).isTrue();
+	}
+
+	@Test
+	public void gzip() throws IOException {
+		final Path file = _directory.resolve("result.json.gz");
+		new ResultFileWriter(ResultFileFormat.JSON, true).writeCommandResult(file, "test command", false, Collections.singletonMap("uid", "a"));
+
+		try (final InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+			final JsonNode root = MAPPER.readTree(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+			assertThat(root.get("command").asString()).isEqualTo("test command");
+			assertThat(root.get("result").get("uid").asString()).isEqualTo("a");
+		}
+	}
+
+	private List<Path> temporaryFiles() throws IOException {
+		try (final var files = Files.list(_directory)) {
+			return files.filter(path -> path.getFileName().toString().endsWith(".tmp")).collect(Collectors.toList());
+		}
+	}
+
+}
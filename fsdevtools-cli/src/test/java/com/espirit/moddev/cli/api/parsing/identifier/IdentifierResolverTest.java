@@ -0,0 +1,160 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.parsing.identifier;
+
+import com.espirit.moddev.cli.api.parsing.exceptions.UnresolvedIdentifiersException;
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.access.store.mediastore.Media;
+import de.espirit.firstspirit.access.store.mediastore.MediaStoreRoot;
+import de.espirit.firstspirit.access.store.templatestore.PageTemplate;
+import de.espirit.firstspirit.access.store.templatestore.TemplateStoreRoot;
+import de.espirit.firstspirit.agency.StoreAgent;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdentifierResolverTest {
+
+	private StoreAgent _storeAgent;
+	private Store _mediaStore;
+	private Store _templateStore;
+	private ExportOperation _exportOperation;
+
+	@BeforeEach
+	public void setUp() {
+		_storeAgent = mock(StoreAgent.class);
+		_mediaStore = mock(MediaStoreRoot.class);
+		_templateStore = mock(TemplateStoreRoot.class);
+		_exportOperation = mock(ExportOperation.class);
+		when(_storeAgent.getStore(Store.Type.MEDIASTORE, false)).thenReturn(_mediaStore);
+		when(_storeAgent.getStore(Store.Type.TEMPLATESTORE, false)).thenReturn(_templateStore);
+	}
+
+	private IDProvider addMedia(final String uid) {
+		final Media media = mock(Media.class);
+		when(_mediaStore.getStoreElement(uid, UidMapping.MEDIA.getUidType())).thenReturn(media);
+		return media;
+	}
+
+	@Test
+	public void invalid_parallelism() {
+		assertThatThrownBy(() -> new IdentifierResolver(_storeAgent, false, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void addToExportOperation_keeps_order_and_requests_stores_once() {
+		final IDProvider media1 = addMedia("media1");
+		final IDProvider media2 = addMedia("media2");
+		final PageTemplate template = mock(PageTemplate.class);
+		when(_templateStore.getStoreElement("template", UidMapping.PAGETEMPLATE.getUidType())).thenReturn(template);
+		final List<Identifier> identifiers = Arrays.asList(
+				new UidIdentifier(UidMapping.MEDIA, "media1"),
+				new UidIdentifier(UidMapping.PAGETEMPLATE, "template"),
+				new UidIdentifier(UidMapping.MEDIA, "media2"),
+				new UidIdentifier(UidMapping.MEDIA, "media1"));
+
+		new IdentifierResolver(_storeAgent, false, 4).addToExportOperation(identifiers, _exportOperation);
+
+		final InOrder inOrder = inOrder(_exportOperation);
+		inOrder.verify(_exportOperation).addElement(media1);
+		inOrder.verify(_exportOperation).addElement(template);
+		inOrder.verify(_exportOperation).addElement(media2);
+		verify(_exportOperation, times(3)).addElement(any());
+		verify(_storeAgent, times(1)).getStore(Store.Type.MEDIASTORE, false);
+		verify(_storeAgent, times(1)).getStore(Store.Type.TEMPLATESTORE, false);
+	}
+
+	@Test
+	public void addToExportOperation_resolves_many_identifiers_in_batches() {
+		final List<Identifier> identifiers = new ArrayList<>();
+		final List<IDProvider> elements = new ArrayList<>();
+		for (int index = 0; index < IdentifierResolver.BATCH_SIZE * 3 + 7; index++) {
+			identifiers.add(new UidIdentifier(UidMapping.MEDIA, "media" + index));
+			elements.add(addMedia("media" + index));
+		}
+
+		new IdentifierResolver(_storeAgent, false, 4).addToExportOperation(identifiers, _exportOperation);
+
+		final InOrder inOrder = inOrder(_exportOperation);
+		for (final IDProvider element : elements) {
+			inOrder.verify(_exportOperation).addElement(element);
+		}
+	}
+
+	@Test
+	public void addToExportOperation_reports_all_unresolved_identifiers() {
+		addMedia("media1");
+		final UidIdentifier missing1 = new UidIdentifier(UidMapping.MEDIA, "missing1");
+		final UidIdentifier wrongType = new UidIdentifier(UidMapping.PAGETEMPLATE, "media1");
+		when(_templateStore.getStoreElement("media1", UidMapping.PAGETEMPLATE.getUidType())).thenReturn(mock(Media.class));
+		final UidIdentifier missing2 = new UidIdentifier(UidMapping.MEDIA, "missing2");
+		final UidIdentifier missingStore = new UidIdentifier(UidMapping.PAGE, "page");
+		final List<Identifier> identifiers = Arrays.asList(missing1, new UidIdentifier(UidMapping.MEDIA, "media1"), wrongType, missing2, missingStore);
+
+		final Throwable throwable = catchThrowable(() -> new IdentifierResolver(_storeAgent, false, 2).addToExportOperation(identifiers, _exportOperation));
+
+		assertThat(throwable).isInstanceOf(UnresolvedIdentifiersException.class);
+		final UnresolvedIdentifiersException exception = (UnresolvedIdentifiersException) throwable;
+		assertThat(exception.getUnresolvedIdentifiers()).containsOnlyKeys(missing1, wrongType, missing2, missingStore);
+		assertThat(new ArrayList<>(exception.getUnresolvedIdentifiers().keySet())).containsExactly(missing1, wrongType, missing2, missingStore);
+		assertThat(exception.getMessage()).startsWith("4 identifier(s) could not be resolved:").contains("uid=missing1", "uid=missing2", "expected to find one of class PageTemplate", "Store cannot be retrieved");
+	}
+
+	@Test
+	public void addToExportOperation_delegates_other_identifiers() {
+		final Identifier other = mock(Identifier.class);
+		new IdentifierResolver(_storeAgent, true, 1).addToExportOperation(Arrays.asList(other), _exportOperation);
+		verify(other).addToExportOperation(_storeAgent, true, _exportOperation);
+		verify(_exportOperation, never()).addElement(any());
+	}
+
+	@Test
+	public void resolveElements_ignores_other_identifiers() {
+		final IDProvider media = addMedia("media");
+		final Map<Identifier, String> failures = new HashMap<>();
+		final Map<Identifier, IDProvider> elements = new IdentifierResolver(_storeAgent, false, 1).resolveElements(Arrays.asList(new UidIdentifier(UidMapping.MEDIA, "media"), new RootNodeIdentifier(IDProvider.UidType.MEDIASTORE_LEAF)), failures);
+		assertThat(elements).containsOnlyKeys(new UidIdentifier(UidMapping.MEDIA, "media"));
+		assertThat(elements).containsValue(media);
+		assertThat(failures).isEmpty();
+	}
+
+}
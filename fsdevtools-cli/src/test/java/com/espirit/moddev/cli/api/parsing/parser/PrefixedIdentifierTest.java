@@ -0,0 +1,63 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.api.parsing.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrefixedIdentifierTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"page:myuid", "PAGE:myuid", "PAGE :myuid", "PAGE : myuid", " page:myuid ", "page:myuid:"})
+	public void parse(final String input) {
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+		assertThat(prefixedIdentifier).isNotNull();
+		assertThat(prefixedIdentifier.getNormalizedPrefix()).isEqualTo("page");
+		assertThat(prefixedIdentifier.hasPrefix("page")).isTrue();
+		assertThat(prefixedIdentifier.getValue()).isEqualTo("myuid");
+	}
+
+	@Test
+	public void parse_keepsPrefixAsWritten() {
+		final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse("PAGE : myuid");
+		assertThat(prefixedIdentifier).isNotNull();
+		assertThat(prefixedIdentifier.getPrefix()).isEqualTo("PAGE");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "page", "page:", "page: ", "page: :", ":myuid", "page:my:uid"})
+	public void parse_invalidInput(final String input) {
+		assertThat(PrefixedIdentifier.parse(input)).isNull();
+	}
+
+	@Test
+	public void dispatchKeyOf() {
+		assertThat(PrefixedIdentifier.dispatchKeyOf("PAGE : myuid")).isEqualTo("page");
+		assertThat(PrefixedIdentifier.dispatchKeyOf("path:/TemplateStore/PageTemplates")).isEqualTo("path");
+		assertThat(PrefixedIdentifier.dispatchKeyOf("templatestore")).isEqualTo("templatestore");
+		assertThat(PrefixedIdentifier.dispatchKeyOf("")).isEmpty();
+	}
+}
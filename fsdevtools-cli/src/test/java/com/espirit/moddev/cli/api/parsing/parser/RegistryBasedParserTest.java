@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.api.parsing.parser;
 
+import com.espirit.moddev.cli.api.parsing.exceptions.NoSuitableParserRegisteredException;
 import com.espirit.moddev.cli.api.parsing.identifier.*;
 import com.google.common.collect.Lists;
 import de.espirit.firstspirit.access.store.IDProvider;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -155,4 +157,82 @@ public class RegistryBasedParserTest {
 		List<Identifier> result = testling.parse(Lists.newArrayList("path:/TemplateStore/Pagetemplates/<FOLDER_NAME>/UID", "entities:Produkte", "projectprops:RESOLUTION", "pagetemplate:homepage", "projectprops:COMMON"));
 		assertEquals(4, result.size());
 	}
+
+	@Test
+	public void parse_inputIsOnlyPassedToFirstApplicableParser() {
+		final List<String> firstInput = new ArrayList<>();
+		final List<String> secondInput = new ArrayList<>();
+		testling.registerParser(new RecordingParser(firstInput, "page"));
+		testling.registerParser(new RecordingParser(secondInput, "page"));
+
+		final List<Identifier> result = testling.parse(List.of("page:first", "PAGE : second"));
+
+		assertThat(result).hasSize(2);
+		assertThat(firstInput).containsExactly("page:first", "PAGE : second");
+		assertThat(secondInput).isEmpty();
+	}
+
+	@Test
+	public void parse_parserWithoutPrefixesIsProbedInRegistrationOrder() {
+		final List<String> fallbackInput = new ArrayList<>();
+		testling.registerParser(new Parser<Identifier>() {
+			@Override
+			public List<Identifier> parse(List<String> input) {
+				fallbackInput.addAll(input);
+				return Collections.nCopies(input.size(), (storeAgent, useReleaseState, exportOperation) -> {
+				});
+			}
+
+			@Override
+			public boolean appliesTo(String input) {
+				return input.startsWith("pagetemplate:");
+			}
+		});
+		testling.registerParser(new UidIdentifierParser());
+
+		final List<Identifier> result = testling.parse(List.of("pagetemplate:homepage", "page:homepage"));
+
+		assertThat(fallbackInput).containsExactly("pagetemplate:homepage");
+		assertThat(result).contains(new UidIdentifier(UidMapping.PAGE, "homepage"));
+	}
+
+	@Test
+	public void appliesTo_unknownPrefix() {
+		testling.registerParser(new UidIdentifierParser());
+		testling.registerParser(new RootNodeIdentifierParser());
+
+		assertTrue(testling.appliesTo("templatestore"));
+		assertTrue(testling.appliesTo("Root : templatestore"));
+		assertFalse(testling.appliesTo("unknown:homepage"));
+		assertThrows(NoSuitableParserRegisteredException.class, () -> testling.parse(List.of("unknown:homepage")));
+	}
+
+	private static final class RecordingParser implements Parser<Identifier> {
+
+		private final List<String> _input;
+		private final String _prefix;
+
+		RecordingParser(final List<String> input, final String prefix) {
+			_input = input;
+			_prefix = prefix;
+		}
+
+		@Override
+		public List<Identifier> parse(List<String> input) {
+			_input.addAll(input);
+			return Collections.nCopies(input.size(), (storeAgent, useReleaseState, exportOperation) -> {
+			});
+		}
+
+		@Override
+		public boolean appliesTo(String input) {
+			final PrefixedIdentifier prefixedIdentifier = PrefixedIdentifier.parse(input);
+			return prefixedIdentifier != null && prefixedIdentifier.hasPrefix(_prefix);
+		}
+
+		@Override
+		public Collection<String> getPrefixes() {
+			return Collections.singleton(_prefix);
+		}
+	}
 }
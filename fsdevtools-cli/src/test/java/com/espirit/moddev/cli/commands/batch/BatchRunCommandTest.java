@@ -0,0 +1,197 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import com.espirit.moddev.cli.api.CliContext;
+import com.espirit.moddev.cli.api.command.Command;
+import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.cli.api.result.Result;
+import com.espirit.moddev.cli.commands.daemon.DaemonStopCommand;
+import de.espirit.firstspirit.access.Connection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class BatchRunCommandTest {
+
+	private BatchRunCommand _command;
+	private Map<String, Command> _commands;
+	private Function<List<String>, Command> _parser;
+	private TestContexts _contexts;
+
+	@BeforeEach
+	public void setUp() {
+		_command = new BatchRunCommand();
+		_commands = new HashMap<>();
+		_parser = arguments -> _commands.get(String.join(" ", arguments));
+		_contexts = new TestContexts();
+	}
+
+	@Test
+	public void allStepsSucceed() {
+		_commands.put("first", createCommand(false));
+		_commands.put("second", createCommand(false));
+
+		final BatchRunResult result = _command.execute(_parser, _contexts, steps("first", "second"));
+
+		assertThat(result.isError()).isFalse();
+		assertThat(result.get().size()).isEqualTo(2);
+		assertThat(result.getSkippedSteps()).isZero();
+	}
+
+	@Test
+	public void stepsShareOneContext() throws Exception {
+		final Config firstCommand = (Config) createConfigCommand();
+		final Config secondCommand = (Config) createConfigCommand();
+		_commands.put("first", (Command) firstCommand);
+		_commands.put("second", (Command) secondCommand);
+
+		final BatchRunResult result = _command.execute(_parser, _contexts, steps("first", "second"));
+
+		assertThat(result.isError()).isFalse();
+		assertThat(_contexts._createdContexts).hasSize(1);
+		verify(firstCommand, times(1)).setContext(_contexts._createdContexts.get(0));
+		verify(secondCommand, times(1)).setContext(_contexts._createdContexts.get(0));
+	}
+
+	@Test
+	public void stopsAtFirstFailingStep() throws Exception {
+		final Command thirdCommand = createCommand(false);
+		_commands.put("first", createCommand(false));
+		_commands.put("second", createCommand(true));
+		_commands.put("third", thirdCommand);
+
+		final BatchRunResult result = _command.execute(_parser, _contexts, steps("first", "second", "third"));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(result.get().size()).isEqualTo(2);
+		assertThat(result.get().get(1)).isInstanceOf(BatchStepErrorResult.class);
+		assertThat(result.getSkippedSteps()).isEqualTo(1);
+		verify(thirdCommand, never()).call();
+	}
+
+	@Test
+	public void continuesOnError() throws Exception {
+		final Command thirdCommand = createCommand(false);
+		_commands.put("first", createCommand(true));
+		_commands.put("second", createCommand(false));
+		_commands.put("third", thirdCommand);
+		_command.setContinueOnError(true);
+
+		final BatchRunResult result = _command.execute(_parser, _contexts, steps("first", "second", "third"));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(result.get().size()).isEqualTo(3);
+		assertThat(result.getSkippedSteps()).isZero();
+		verify(thirdCommand, times(1)).call();
+	}
+
+	@Test
+	public void exceptionInStepIsRecorded() throws Exception {
+		final Command command = mock(Command.class);
+		when(command.call()).thenThrow(new IllegalStateException("broken"));
+		_commands.put("first", command);
+
+		final BatchRunResult result = _command.execute(_parser, _contexts, steps("first"));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(((BatchStepErrorResult) result.get().get(0)).getThrowable()).hasMessage("broken");
+	}
+
+	@Test
+	public void nestedDaemonCommandIsRejected() {
+		_commands.put("daemon stop", new DaemonStopCommand());
+
+		final BatchRunResult result = _command.execute(_parser, _contexts, steps("daemon stop"));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(((BatchStepErrorResult) result.get().get(0)).getThrowable()).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@NotNull
+	private static List<BatchStep> steps(@NotNull final String... commandLines) {
+		final List<BatchStep> steps = new ArrayList<>();
+		for (final String commandLine : commandLines) {
+			steps.add(new BatchStep(steps.size() + 1, commandLine, Arrays.asList(commandLine.split(" "))));
+		}
+		return steps;
+	}
+
+	@NotNull
+	private static Command createCommand(final boolean error) {
+		final Command command = mock(Command.class);
+		when(command.call()).thenReturn(createResult(error));
+		return command;
+	}
+
+	@NotNull
+	private static Command createConfigCommand() {
+		final Command command = mock(Command.class, withSettings().extraInterfaces(Config.class));
+		when(((Config) command).needsContext()).thenReturn(true);
+		when(((Config) command).getProject()).thenReturn("project");
+		when(command.call()).thenReturn(createResult(false));
+		return command;
+	}
+
+	@NotNull
+	private static Result<?> createResult(final boolean error) {
+		final Result<?> result = mock(Result.class);
+		when(result.isError()).thenReturn(error);
+		if (error) {
+			when(result.getError()).thenReturn(new IllegalStateException("failed"));
+		}
+		return result;
+	}
+
+	private static class TestContexts extends BatchContexts {
+
+		private final List<CliContext> _createdContexts = new ArrayList<>();
+
+		@NotNull
+		@Override
+		CliContext createContext(@NotNull final Config config) {
+			final Connection connection = mock(Connection.class);
+			when(connection.isConnected()).thenReturn(true);
+			final CliContext context = mock(CliContext.class);
+			when(context.getConnection()).thenReturn(connection);
+			_createdContexts.add(context);
+			return context;
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BatchStepTest {
+
+	@TempDir
+	public Path _tempDir;
+
+	@Test
+	public void tokenize() {
+		assertThat(BatchStep.tokenize("export -- pagestore")).containsExactly("export", "--", "pagestore");
+		assertThat(BatchStep.tokenize("  schedule   start -n \"Full deployment\" ")).containsExactly("schedule", "start", "-n", "Full deployment");
+		assertThat(BatchStep.tokenize("script run -n 'my script' -sd C:\\sync")).containsExactly("script", "run", "-n", "my script", "-sd", "C:\\sync");
+		assertThat(BatchStep.tokenize("test -p \"\"")).containsExactly("test", "-p", "");
+	}
+
+	@Test
+	public void tokenizeRemovesExecutable() {
+		assertThat(BatchStep.tokenize("fs-cli -p project export")).containsExactly("-p", "project", "export");
+	}
+
+	@Test
+	public void tokenizeUnterminatedQuote() {
+		assertThatThrownBy(() -> BatchStep.tokenize("export \"pagestore")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void fromLinesSkipsCommentsAndEmptyLines() {
+		final List<BatchStep> steps = BatchStep.fromLines("# comment\n\nexport -- pagestore\r\n  # indented comment\nschedule start -n \"Full deployment\"\n");
+		assertThat(steps).hasSize(2);
+		assertThat(steps.get(0).getIndex()).isEqualTo(1);
+		assertThat(steps.get(0).getCommandLine()).isEqualTo("export -- pagestore");
+		assertThat(steps.get(1).getIndex()).isEqualTo(2);
+		assertThat(steps.get(1).getArguments()).containsExactly("schedule", "start", "-n", "Full deployment");
+	}
+
+	@Test
+	public void fromJson() {
+		final List<BatchStep> steps = BatchStep.fromJson("[ { \"command\": \"export -- pagestore\" }, { \"arguments\": [ \"schedule\", \"start\", \"-n\", \"Full deployment\" ] } ]");
+		assertThat(steps).hasSize(2);
+		assertThat(steps.get(0).getArguments()).containsExactly("export", "--", "pagestore");
+		assertThat(steps.get(1).getArguments()).containsExactly("schedule", "start", "-n", "Full deployment");
+		assertThat(steps.get(1).getIndex()).isEqualTo(2);
+	}
+
+	@Test
+	public void fromJsonWithoutCommand() {
+		assertThatThrownBy(() -> BatchStep.fromJson("[ { \"cmd\": \"export\" } ]"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("Step 1");
+	}
+
+	@Test
+	public void fromFileDetectsFormat() throws Exception {
+		final Path textFile = _tempDir.resolve("steps.txt");
+		Files.write(textFile, "export\nimport\n".getBytes(StandardCharsets.UTF_8));
+		assertThat(BatchStep.fromFile(textFile)).extracting(BatchStep::getCommandLine).containsExactly("export", "import");
+
+		final Path jsonFile = _tempDir.resolve("steps.json");
+		Files.write(jsonFile, "\n[ { \"command\": \"export\" } ]".getBytes(StandardCharsets.UTF_8));
+		assertThat(BatchStep.fromFile(jsonFile)).extracting(BatchStep::getCommandLine).containsExactly("export");
+	}
+
+	@Test
+	public void fromFileNotExisting() {
+		assertThatThrownBy(() -> BatchStep.fromFile(_tempDir.resolve("missing.txt"))).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void passwordIsMaskedInCommandLine() {
+		final List<BatchStep> steps = BatchStep.fromLines("-pwd secret export\n--password \"my secret\" -u admin export\n--password=secret export\n");
+		assertThat(steps).extracting(BatchStep::getCommandLine).containsExactly("-pwd *** export", "--password *** -u admin export", "--password=*** export");
+		assertThat(steps.get(1).getArguments()).containsExactly("--password", "my secret", "-u", "admin", "export");
+		assertThat(steps.get(0)).hasToString("-pwd *** export");
+	}
+
+	@Test
+	public void passwordIsMaskedInJsonArguments() {
+		final List<BatchStep> steps = BatchStep.fromJson("[ { \"arguments\": [ \"-pwd\", \"my secret\", \"export\" ] } ]");
+		assertThat(steps.get(0).getCommandLine()).isEqualTo("-pwd *** export");
+		assertThat(steps.get(0).getArguments()).containsExactly("-pwd", "my secret", "export");
+	}
+
+}
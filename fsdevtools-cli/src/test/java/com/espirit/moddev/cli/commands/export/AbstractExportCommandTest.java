@@ -0,0 +1,470 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import com.espirit.moddev.cli.api.parsing.identifier.EntitiesIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
+import com.espirit.moddev.cli.api.parsing.identifier.RootNodeIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.UidIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.UidMapping;
+import com.espirit.moddev.cli.results.ExportResult;
+import com.espirit.moddev.cli.results.MergedExportResult;
+import de.espirit.firstspirit.access.project.Project;
+import de.espirit.firstspirit.access.project.ProjectScriptContext;
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.agency.OperationAgent;
+import de.espirit.firstspirit.agency.StoreAgent;
+import de.espirit.firstspirit.io.FileHandle;
+import de.espirit.firstspirit.io.FileSystem;
+import de.espirit.firstspirit.io.FileSystemsAgent;
+import de.espirit.firstspirit.storage.HistoryProvider;
+import de.espirit.firstspirit.storage.Revision;
+import de.espirit.firstspirit.storage.RevisionMetaData;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class AbstractExportCommandTest {
+
+	private static final long PROJECT_ID = 1L;
+
+	@TempDir
+	public Path _syncDirectory;
+
+	private ExportCommand _command;
+	private StoreAgent _storeAgent;
+	private ExportOperation _exportOperation;
+	private FileSystem<FileHandle> _fileSystem;
+	private Project _project;
+	private Revision _exportRevision;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		final ProjectScriptContext context = mock(ProjectScriptContext.class);
+		_storeAgent = mock(StoreAgent.class);
+		when(context.requireSpecialist(StoreAgent.TYPE)).thenReturn(_storeAgent);
+		_exportOperation = mock(ExportOperation.class, RETURNS_DEEP_STUBS);
+		final OperationAgent operationAgent = mock(OperationAgent.class);
+		when(operationAgent.getOperation(ExportOperation.TYPE)).thenReturn(_exportOperation);
+		when(context.requireSpecialist(OperationAgent.TYPE)).thenReturn(operationAgent);
+		_fileSystem = mock(FileSystem.class);
+		final FileSystemsAgent fileSystemsAgent = mock(FileSystemsAgent.class);
+		doReturn(_fileSystem).when(fileSystemsAgent).getOSFileSystem(anyString());
+		when(context.requireSpecialist(FileSystemsAgent.TYPE)).thenReturn(fileSystemsAgent);
+		_project = mock(Project.class);
+		when(context.getProject()).thenReturn(_project);
+		when(_project.getId()).thenReturn(PROJECT_ID);
+		_exportRevision = mock(Revision.class);
+		when(_exportRevision.getId()).thenReturn(20L);
+
+		_command = spy(new ExportCommand());
+		_command.setContext(context);
+		_command.setSynchronizationDirectory(_syncDirectory.toString());
+	}
+
+	@NotNull
+	private List<ExportShard> planShards(@NotNull final List<Identifier> identifiers) {
+		return ExportShard.plan(_storeAgent, false, true, identifiers, _command.getParallelism());
+	}
+
+	@NotNull
+	private static Store store(@NotNull final Store.Type storeType, final long id) {
+		final Store store = mock(Store.class);
+		when(store.getStore()).thenReturn(store);
+		when(store.getType()).thenReturn(storeType);
+		when(store.getId()).thenReturn(id);
+		when(store.getStoreElement(id)).thenReturn(store);
+		return store;
+	}
+
+	@NotNull
+	private static IDProvider element(@NotNull final Store store, final long id, @NotNull final IDProvider parent) {
+		final IDProvider element = mock(IDProvider.class);
+		when(element.getStore()).thenReturn(store);
+		when(element.getId()).thenReturn(id);
+		when(element.getParent()).thenReturn(parent);
+		when(store.getStoreElement(id)).thenReturn(element);
+		return element;
+	}
+
+	@NotNull
+	private static RevisionMetaData.ElementInfo elementInfo(@Nullable final Store.Type storeType, final long nodeId) {
+		final RevisionMetaData.ElementInfo elementInfo = mock(RevisionMetaData.ElementInfo.class);
+		when(elementInfo.getStoreType()).thenReturn(storeType);
+		when(elementInfo.getNodeId()).thenReturn(nodeId);
+		return elementInfo;
+	}
+
+	@NotNull
+	private static Revision revision(final long id, @NotNull final Set<RevisionMetaData.ElementInfo> changed, @NotNull final Set<RevisionMetaData.ElementInfo> deleted) {
+		final RevisionMetaData metaData = mock(RevisionMetaData.class);
+		when(metaData.getCreatedElements()).thenReturn(Collections.emptySet());
+		when(metaData.getChangedElements()).thenReturn(changed);
+		when(metaData.getDeletedElements()).thenReturn(deleted);
+		final Revision revision = mock(Revision.class);
+		when(revision.getId()).thenReturn(id);
+		when(revision.getMetaData()).thenReturn(metaData);
+		return revision;
+	}
+
+	@NotNull
+	private static Set<RevisionMetaData.ElementInfo> elements(@NotNull final RevisionMetaData.ElementInfo... elementInfos) {
+		return new HashSet<>(Arrays.asList(elementInfos));
+	}
+
+	private void writeWatermark(final long revisionId, @NotNull final List<Identifier> identifiers) throws IOException {
+		new ExportWatermark(PROJECT_ID, revisionId, _command.getExportFingerprint(identifiers)).write(_syncDirectory);
+	}
+
+	private void writeFileIndex(@NotNull final String key, @NotNull final String path) throws IOException {
+		final Properties properties = new Properties();
+		properties.setProperty(ExportFileIndex.KEY_COMPLETE, "true");
+		properties.setProperty(key, path);
+		ExportWatermark.writeProperties(_syncDirectory, ExportFileIndex.FILE_NAME, properties, "test");
+	}
+
+	private boolean addChangedExportElements(@NotNull final List<Identifier> identifiers) {
+		return _command.addChangedExportElements(_storeAgent, _project, _exportRevision, identifiers, _syncDirectory, ExportFileIndex.read(_syncDirectory), _exportOperation);
+	}
+
+	@NotNull
+	private static List<String> captureWarnings(@NotNull final Runnable runnable) {
+		final String loggerName = AbstractExportCommand.class.getName();
+		final LoggerContext loggerContext = LoggerContext.getContext(false);
+		final Level previousLevel = loggerContext.getConfiguration().getLoggerConfig(loggerName).getLevel();
+		final List<String> warnings = new CopyOnWriteArrayList<>();
+		final AbstractAppender appender = new AbstractAppender("ExportWarnings", null, null, true, Property.EMPTY_ARRAY) {
+			@Override
+			public void append(@NotNull final LogEvent event) {
+				if (event.getLevel() == Level.WARN) {
+					warnings.add(event.getMessage().getFormattedMessage());
+				}
+			}
+		};
+		appender.start();
+		Configurator.setLevel(loggerName, Level.WARN);
+		final LoggerConfig loggerConfig = loggerContext.getConfiguration().getLoggerConfig(loggerName);
+		loggerConfig.addAppender(appender, Level.WARN, null);
+		loggerContext.updateLoggers();
+		try {
+			runnable.run();
+		} finally {
+			loggerConfig.removeAppender(appender.getName());
+			Configurator.setLevel(loggerName, previousLevel);
+			appender.stop();
+		}
+		return warnings;
+	}
+
+	@Test
+	public void exportStoreElements_uses_a_single_operation_for_parallelism_without_keepObsoleteFiles() {
+		// GIVEN
+		final List<Identifier> identifiers = Arrays.asList(new UidIdentifier(UidMapping.PAGE, "homepage"), new UidIdentifier(UidMapping.PAGETEMPLATE, "default"));
+		doReturn(identifiers).when(_command).getIdentifiers();
+		doNothing().when(_command).addExportElements(any(), any(), any());
+		final ExportOperation.Result result = mock(ExportOperation.Result.class);
+		when(_exportOperation.perform(any())).thenReturn(result);
+		_command.setParallelism(4);
+
+		// WHEN
+		final ExportResult[] exportResult = new ExportResult[1];
+		final List<String> warnings = captureWarnings(() -> exportResult[0] = _command.exportStoreElements());
+
+		// THEN
+		assertThat(exportResult[0].isError()).isFalse();
+		assertThat(exportResult[0].get()).isSameAs(result);
+		assertThat(warnings).containsExactly("Parallel export requires '--keepObsoleteFiles', exporting with a single operation.");
+		verify(_command, never()).exportShard(any(), any(), any(), anyBoolean());
+		verify(_command).addExportElements(_storeAgent, identifiers, _exportOperation);
+		verify(_exportOperation).setDeleteObsoleteFiles(true);
+		verify(_exportOperation).perform(_fileSystem);
+	}
+
+	@Test
+	public void isShardedExport_with_keepObsoleteFiles() {
+		doReturn(false).when(_command).isDeleteObsoleteFiles();
+		assertThat(_command.isShardedExport()).isFalse();
+		_command.setParallelism(2);
+		assertThat(_command.isShardedExport()).isTrue();
+	}
+
+	@Test
+	public void exportSharded_exports_the_first_shard_last_and_alone_with_project_properties() throws Exception {
+		// GIVEN
+		final List<Identifier> identifiers = Arrays.asList(new UidIdentifier(UidMapping.PAGE, "homepage"), new UidIdentifier(UidMapping.PAGETEMPLATE, "default"), new EntitiesIdentifier("news"));
+		_command.setParallelism(4);
+		_command.setIncludeProjectProperties(true);
+		final List<String> events = Collections.synchronizedList(new ArrayList<>());
+		doAnswer(invocation -> {
+			final ExportShard shard = invocation.getArgument(1);
+			events.add("start " + shard.getName());
+			events.add("end " + shard.getName());
+			return mock(ExportOperation.Result.class);
+		}).when(_command).exportShard(any(), any(), any(), anyBoolean());
+
+		// WHEN
+		final ExportOperation.Result result = _command.exportSharded(_storeAgent, identifiers, _syncDirectory.toString());
+
+		// THEN
+		assertThat(result).isInstanceOf(MergedExportResult.class);
+		assertThat(planShards(identifiers)).extracting(ExportShard::getName).containsExactly("PAGESTORE", "TEMPLATESTORE", "SCHEMAS");
+		// all other shards are finished before the first one is started
+		assertThat(events).hasSize(6);
+		assertThat(events.subList(0, 4)).containsExactlyInAnyOrder("start TEMPLATESTORE", "end TEMPLATESTORE", "start SCHEMAS", "end SCHEMAS");
+		assertThat(events.subList(4, 6)).containsExactly("start PAGESTORE", "end PAGESTORE");
+		verify(_command).exportShard(eq(_storeAgent), argThat(shard -> "PAGESTORE".equals(shard.getName())), eq(_fileSystem), eq(true));
+		verify(_command).exportShard(eq(_storeAgent), argThat(shard -> "TEMPLATESTORE".equals(shard.getName())), eq(_fileSystem), eq(false));
+		verify(_command).exportShard(eq(_storeAgent), argThat(shard -> "SCHEMAS".equals(shard.getName())), eq(_fileSystem), eq(false));
+	}
+
+	@Test
+	public void exportSharded_throws_the_first_failure_with_the_others_suppressed() {
+		// GIVEN
+		final List<Identifier> identifiers = Arrays.asList(new UidIdentifier(UidMapping.PAGE, "homepage"), new UidIdentifier(UidMapping.PAGETEMPLATE, "default"), new EntitiesIdentifier("news"));
+		_command.setParallelism(4);
+		final IllegalStateException pageStoreFailure = new IllegalStateException("PAGESTORE");
+		final IllegalStateException templateStoreFailure = new IllegalStateException("TEMPLATESTORE");
+		final IllegalStateException schemasFailure = new IllegalStateException("SCHEMAS");
+		doAnswer(invocation -> {
+			final ExportShard shard = invocation.getArgument(1);
+			switch (shard.getName()) {
+				case "PAGESTORE":
+					throw pageStoreFailure;
+				case "TEMPLATESTORE":
+					throw templateStoreFailure;
+				default:
+					throw schemasFailure;
+			}
+		}).when(_command).exportShard(any(), any(), any(), anyBoolean());
+
+		// WHEN / THEN
+		// the failures are collected in the order the shards are submitted, the first shard is still exported after the others failed
+		assertThatThrownBy(() -> _command.exportSharded(_storeAgent, identifiers, _syncDirectory.toString()))
+				.isSameAs(templateStoreFailure)
+				.satisfies(exception -> assertThat(exception.getSuppressed()).containsExactly(schemasFailure, pageStoreFailure));
+	}
+
+	@Test
+	public void addChangedExportElements_without_watermark() {
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		assertThat(addChangedExportElements(identifiers)).isFalse();
+		verifyNoInteractions(_exportOperation);
+	}
+
+	@Test
+	public void addChangedExportElements_with_another_fingerprint() throws IOException {
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		writeWatermark(10L, Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.MEDIASTORE_LEAF)));
+		assertThat(addChangedExportElements(identifiers)).isFalse();
+		verifyNoInteractions(_exportOperation);
+	}
+
+	@Test
+	public void addChangedExportElements_with_newer_watermark() throws IOException {
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		writeWatermark(30L, identifiers);
+		assertThat(addChangedExportElements(identifiers)).isFalse();
+		verifyNoInteractions(_exportOperation);
+	}
+
+	@Test
+	public void addChangedExportElements_with_unavailable_revision() throws IOException {
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		writeWatermark(10L, identifiers);
+		when(_project.getRevision(10L)).thenThrow(new IllegalArgumentException("unknown revision"));
+		assertThat(addChangedExportElements(identifiers)).isFalse();
+		verifyNoInteractions(_exportOperation);
+	}
+
+	@Test
+	public void addChangedExportElements_with_unknown_files_of_deleted_element() throws IOException {
+		// GIVEN
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		writeWatermark(10L, identifiers);
+		// the sync dir has been exported before the file index was started
+		Files.createDirectories(_syncDirectory.resolve("PageStore"));
+		doReturn(Collections.singletonList(revision(11L, elements(), elements(elementInfo(Store.Type.PAGESTORE, 5L))))).when(_command).getRevisionsSince(_project, 10L, _exportRevision);
+
+		// WHEN / THEN
+		assertThat(addChangedExportElements(identifiers)).isFalse();
+		verifyNoInteractions(_exportOperation);
+	}
+
+	@Test
+	public void addChangedExportElements_exports_changed_elements_within_the_identifiers() throws IOException {
+		// GIVEN
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		writeWatermark(10L, identifiers);
+		final Store pageStore = store(Store.Type.PAGESTORE, 100L);
+		final Store mediaStore = store(Store.Type.MEDIASTORE, 200L);
+		when(_storeAgent.getStore(Store.Type.PAGESTORE, false)).thenReturn(pageStore);
+		when(_storeAgent.getStore(Store.Type.MEDIASTORE, false)).thenReturn(mediaStore);
+		final IDProvider folder = element(pageStore, 1L, pageStore);
+		final IDProvider page = element(pageStore, 2L, folder);
+		final IDProvider media = element(mediaStore, 3L, mediaStore);
+		doReturn(Collections.singletonList(revision(11L, elements(elementInfo(Store.Type.PAGESTORE, 100L), elementInfo(Store.Type.PAGESTORE, 2L), elementInfo(Store.Type.MEDIASTORE, 3L)), elements()))).when(_command).getRevisionsSince(_project, 10L, _exportRevision);
+
+		// WHEN
+		final boolean incremental = addChangedExportElements(identifiers);
+
+		// THEN
+		assertThat(incremental).isTrue();
+		verify(_exportOperation).setDeleteObsoleteFiles(false);
+		verify(_exportOperation).setExportChildElements(false);
+		verify(_exportOperation).addElement(pageStore);
+		verify(_exportOperation).addElement(page);
+		verify(_exportOperation, never()).addElement(folder);
+		verify(_exportOperation, never()).addElement(media);
+	}
+
+	@Test
+	public void addChangedExportElements_without_child_elements_exports_only_the_identified_elements() throws IOException {
+		// GIVEN
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		doReturn(false).when(_command).isExportChildElements();
+		writeWatermark(10L, identifiers);
+		final Store pageStore = store(Store.Type.PAGESTORE, 100L);
+		when(_storeAgent.getStore(Store.Type.PAGESTORE, false)).thenReturn(pageStore);
+		final IDProvider page = element(pageStore, 2L, pageStore);
+		doReturn(Collections.singletonList(revision(11L, elements(elementInfo(Store.Type.PAGESTORE, 100L), elementInfo(Store.Type.PAGESTORE, 2L)), elements()))).when(_command).getRevisionsSince(_project, 10L, _exportRevision);
+
+		// WHEN
+		final boolean incremental = addChangedExportElements(identifiers);
+
+		// THEN
+		assertThat(incremental).isTrue();
+		verify(_exportOperation).addElement(pageStore);
+		verify(_exportOperation, never()).addElement(page);
+	}
+
+	@Test
+	public void addChangedExportElements_deletes_the_indexed_files_of_deleted_elements() throws IOException {
+		// GIVEN
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		writeWatermark(10L, identifiers);
+		final Path deletedPage = Files.createDirectories(_syncDirectory.resolve("PageStore/deleted"));
+		Files.createFile(deletedPage.resolve("StoreElement.xml"));
+		Files.createFile(_syncDirectory.resolve("PageStore/StoreElement.xml"));
+		writeFileIndex("PAGESTORE:5", "PageStore/deleted/StoreElement.xml");
+		when(_storeAgent.getStore(Store.Type.PAGESTORE, false)).thenReturn(store(Store.Type.PAGESTORE, 100L));
+		doReturn(Collections.singletonList(revision(11L, elements(), elements(elementInfo(Store.Type.PAGESTORE, 5L))))).when(_command).getRevisionsSince(_project, 10L, _exportRevision);
+		final ExportFileIndex fileIndex = ExportFileIndex.read(_syncDirectory);
+
+		// WHEN
+		final boolean incremental = _command.addChangedExportElements(_storeAgent, _project, _exportRevision, identifiers, _syncDirectory, fileIndex, _exportOperation);
+
+		// THEN
+		assertThat(incremental).isTrue();
+		assertThat(deletedPage).doesNotExist();
+		assertThat(_syncDirectory.resolve("PageStore/StoreElement.xml")).exists();
+		assertThat(fileIndex.getFiles(Store.Type.PAGESTORE, 5L)).isNull();
+	}
+
+	@Test
+	public void exportStoreElements_incremental_updates_the_watermark() throws IOException {
+		// GIVEN
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		doReturn(identifiers).when(_command).getIdentifiers();
+		_command.setIncremental(true);
+		writeWatermark(10L, identifiers);
+		when(_storeAgent.getStore(Store.Type.PAGESTORE, false)).thenReturn(store(Store.Type.PAGESTORE, 100L));
+		when(_project.getRevision(HistoryProvider.UNTIL_NOW)).thenReturn(_exportRevision);
+		doReturn(Collections.emptyList()).when(_command).getRevisionsSince(_project, 10L, _exportRevision);
+		when(_exportOperation.perform(any())).thenReturn(mock(ExportOperation.Result.class));
+
+		// WHEN
+		final ExportResult result = _command.exportStoreElements();
+
+		// THEN
+		assertThat(result.isError()).isFalse();
+		verify(_command, never()).addExportElements(any(), any(), any());
+		assertThat(ExportWatermark.read(_syncDirectory)).hasValueSatisfying(watermark -> assertThat(watermark.getRevisionId()).isEqualTo(20L));
+		assertThat(_syncDirectory.resolve(ExportFileIndex.FILE_NAME)).exists();
+	}
+
+	@Test
+	public void exportStoreElements_incremental_resets_the_watermark_if_the_file_index_can_not_be_written() throws IOException {
+		// GIVEN
+		final List<Identifier> identifiers = Collections.singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE));
+		doReturn(identifiers).when(_command).getIdentifiers();
+		_command.setIncremental(true);
+		writeWatermark(10L, identifiers);
+		// a directory in place of the temporary file lets writing the file index fail
+		Files.createDirectories(_syncDirectory.resolve(ExportFileIndex.FILE_NAME + ".tmp"));
+		when(_storeAgent.getStore(Store.Type.PAGESTORE, false)).thenReturn(store(Store.Type.PAGESTORE, 100L));
+		when(_project.getRevision(HistoryProvider.UNTIL_NOW)).thenReturn(_exportRevision);
+		doReturn(Collections.emptyList()).when(_command).getRevisionsSince(_project, 10L, _exportRevision);
+		when(_exportOperation.perform(any())).thenReturn(mock(ExportOperation.Result.class));
+
+		// WHEN
+		final ExportResult result = _command.exportStoreElements();
+
+		// THEN
+		assertThat(result.isError()).isFalse();
+		assertThat(ExportWatermark.read(_syncDirectory)).isEmpty();
+		assertThat(_syncDirectory.resolve(ExportFileIndex.FILE_NAME)).doesNotExist();
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import de.espirit.common.util.Pair;
+import de.espirit.firstspirit.access.store.BasicElementInfo;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.store.access.nexport.ElementExportInfo;
+import de.espirit.firstspirit.store.access.nexport.ExportInfo;
+import de.espirit.firstspirit.store.access.nexport.io.ExportInfoFileHandle;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExportFileIndexTest {
+
+	@TempDir
+	public Path _syncDirectory;
+
+	@Test
+	public void new_index_of_empty_directory_is_complete() throws IOException {
+		new ExportWatermark(1L, 10L, "a").write(_syncDirectory);
+		assertThat(ExportFileIndex.read(_syncDirectory).isComplete()).isTrue();
+	}
+
+	@Test
+	public void new_index_of_exported_directory_is_incomplete() throws IOException {
+		Files.createDirectories(_syncDirectory.resolve("PageStore"));
+		assertThat(ExportFileIndex.read(_syncDirectory).isComplete()).isFalse();
+	}
+
+	@Test
+	public void record_and_read() throws IOException {
+		final ExportFileIndex index = ExportFileIndex.read(_syncDirectory);
+		final ElementExportInfo created = element(Store.Type.PAGESTORE, 1L);
+		final Set<ExportInfoFileHandle> createdFiles = fileHandles("/PageStore/page/StoreElement.xml", "/PageStore/page/content.txt");
+		when(created.getCreatedFileHandles()).thenReturn(createdFiles);
+		index.record(result(Collections.singletonList(created), Collections.emptyList(), Collections.emptyList()));
+		index.write(_syncDirectory);
+
+		final ExportFileIndex readIndex = ExportFileIndex.read(_syncDirectory);
+		assertThat(readIndex.isComplete()).isTrue();
+		assertThat(readIndex.getFiles(Store.Type.PAGESTORE, 1L)).containsExactly("PageStore/page/StoreElement.xml", "PageStore/page/content.txt");
+		assertThat(readIndex.getFiles(Store.Type.PAGESTORE, 2L)).isNull();
+		assertThat(Files.exists(_syncDirectory.resolve(ExportFileIndex.FILE_NAME + ".tmp"))).isFalse();
+	}
+
+	@Test
+	public void record_changes_of_known_elements_only() {
+		final ExportFileIndex index = ExportFileIndex.read(_syncDirectory);
+		final ElementExportInfo created = element(Store.Type.PAGESTORE, 1L);
+		final Set<ExportInfoFileHandle> createdFiles = fileHandles("PageStore/page/StoreElement.xml", "PageStore/page/old.txt");
+		when(created.getCreatedFileHandles()).thenReturn(createdFiles);
+		index.record(result(Collections.singletonList(created), Collections.emptyList(), Collections.emptyList()));
+
+		final ElementExportInfo updated = element(Store.Type.PAGESTORE, 1L);
+		final Set<ExportInfoFileHandle> newFiles = fileHandles("PageStore/page/new.txt");
+		when(updated.getCreatedFileHandles()).thenReturn(newFiles);
+		final Set<ExportInfoFileHandle> oldFiles = fileHandles("PageStore/page/old.txt");
+		when(updated.getDeletedFileHandles()).thenReturn(oldFiles);
+		final ElementExportInfo unknown = element(Store.Type.PAGESTORE, 2L);
+		final Set<ExportInfoFileHandle> unknownFiles = fileHandles("PageStore/other/StoreElement.xml");
+		when(unknown.getUpdatedFileHandles()).thenReturn(unknownFiles);
+		index.record(result(Collections.emptyList(), Arrays.asList(updated, unknown), Collections.emptyList()));
+
+		assertThat(index.getFiles(Store.Type.PAGESTORE, 1L)).containsExactlyInAnyOrder("PageStore/page/StoreElement.xml", "PageStore/page/new.txt");
+		assertThat(index.getFiles(Store.Type.PAGESTORE, 2L)).isNull();
+
+		index.record(result(Collections.emptyList(), Collections.emptyList(), Collections.singletonList(element(Store.Type.PAGESTORE, 1L))));
+		assertThat(index.getFiles(Store.Type.PAGESTORE, 1L)).isNull();
+	}
+
+	@Test
+	public void delete_files_and_empty_directories() throws IOException {
+		final Path page = Files.createDirectories(_syncDirectory.resolve("PageStore/folder/page"));
+		Files.createFile(page.resolve("StoreElement.xml"));
+		Files.createFile(_syncDirectory.resolve("PageStore/folder/StoreElement.xml"));
+
+		ExportFileIndex.deleteFiles(_syncDirectory, Arrays.asList("PageStore/folder/page/StoreElement.xml", "PageStore/missing.xml", "../outside.xml"));
+
+		assertThat(page).doesNotExist();
+		assertThat(_syncDirectory.resolve("PageStore/folder/StoreElement.xml")).exists();
+	}
+
+	private static ExportOperation.Result result(final List<ExportInfo> created, final List<ExportInfo> updated, final List<ExportInfo> deleted) {
+		final ExportOperation.Result result = mock(ExportOperation.Result.class);
+		when(result.getCreatedElements()).thenReturn(created);
+		when(result.getUpdatedElements()).thenReturn(updated);
+		when(result.getDeletedElements()).thenReturn(deleted);
+		when(result.getMovedElements()).thenReturn(Collections.emptyList());
+		return result;
+	}
+
+	private static ElementExportInfo element(final Store.Type storeType, final long nodeId) {
+		final BasicElementInfo elementInfo = mock(BasicElementInfo.class);
+		when(elementInfo.getStoreType()).thenReturn(storeType);
+		when(elementInfo.getNodeId()).thenReturn(nodeId);
+		final ElementExportInfo exportInfo = mock(ElementExportInfo.class);
+		when(exportInfo.getType()).thenReturn(ExportInfo.Type.ELEMENT);
+		when(exportInfo.getElementInfo()).thenReturn(elementInfo);
+		when(exportInfo.getCreatedFileHandles()).thenReturn(Collections.emptySet());
+		when(exportInfo.getUpdatedFileHandles()).thenReturn(Collections.emptySet());
+		when(exportInfo.getDeletedFileHandles()).thenReturn(Collections.emptySet());
+		when(exportInfo.getMovedFileHandles()).thenReturn(Collections.<Pair<ExportInfoFileHandle, ExportInfoFileHandle>>emptyList());
+		return exportInfo;
+	}
+
+	private static Set<ExportInfoFileHandle> fileHandles(final String... paths) {
+		final Set<ExportInfoFileHandle> fileHandles = new LinkedHashSet<>();
+		for (final String path : paths) {
+			final ExportInfoFileHandle fileHandle = mock(ExportInfoFileHandle.class);
+			when(fileHandle.getPath()).thenReturn(path);
+			fileHandles.add(fileHandle);
+		}
+		return fileHandles;
+	}
+
+}
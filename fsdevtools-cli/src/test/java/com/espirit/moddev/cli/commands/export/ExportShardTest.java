@@ -0,0 +1,139 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import com.espirit.moddev.cli.api.parsing.identifier.EntitiesIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.Identifier;
+import com.espirit.moddev.cli.api.parsing.identifier.PathIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.RootNodeIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.UidIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.UidMapping;
+import de.espirit.common.util.Listable;
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.agency.StoreAgent;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExportShardTest {
+
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private static Store mockStore(@NotNull final StoreAgent storeAgent, @NotNull final Store.Type storeType, final int childCount) {
+		final Store store = mock(Store.class);
+		final List<IDProvider> children = new ArrayList<>();
+		for (int index = 0; index < childCount; index++) {
+			children.add(mock(IDProvider.class));
+		}
+		final Listable<IDProvider> listable = mock(Listable.class);
+		when(listable.toList()).thenReturn(children);
+		when(store.getChildren(IDProvider.class)).thenReturn(listable);
+		when(storeAgent.getStore(storeType, false)).thenReturn(store);
+		return store;
+	}
+
+	@Test
+	public void getStoreType() {
+		assertThat(ExportShard.getStoreType(new RootNodeIdentifier(IDProvider.UidType.MEDIASTORE_LEAF))).isEqualTo(Store.Type.MEDIASTORE);
+		assertThat(ExportShard.getStoreType(new UidIdentifier(UidMapping.PAGETEMPLATE, "default"))).isEqualTo(Store.Type.TEMPLATESTORE);
+		assertThat(ExportShard.getStoreType(new PathIdentifier("/PageStore/folder/page"))).isEqualTo(Store.Type.PAGESTORE);
+		assertThat(ExportShard.getStoreType(new PathIdentifier("sitestore/folder"))).isEqualTo(Store.Type.SITESTORE);
+		assertThat(ExportShard.getStoreType(new PathIdentifier("/unknown/folder"))).isNull();
+		assertThat(ExportShard.getStoreType(new EntitiesIdentifier("news"))).isNull();
+	}
+
+	@Test
+	public void plan_groups_identifiers_by_store() {
+		final StoreAgent storeAgent = mock(StoreAgent.class);
+		final UidIdentifier page = new UidIdentifier(UidMapping.PAGE, "homepage");
+		final PathIdentifier pageByPath = new PathIdentifier("/PageStore/folder/page");
+		final UidIdentifier template = new UidIdentifier(UidMapping.PAGETEMPLATE, "default");
+		final EntitiesIdentifier entities = new EntitiesIdentifier("news");
+
+		final List<ExportShard> shards = ExportShard.plan(storeAgent, false, true, Arrays.asList(page, template, pageByPath, entities), 4);
+
+		assertThat(shards).extracting(ExportShard::getName).containsExactly("PAGESTORE", "TEMPLATESTORE", "SCHEMAS");
+		assertThat(shards.get(0).getIdentifiers()).containsExactly(page, pageByPath);
+		assertThat(shards.get(1).getIdentifiers()).containsExactly(template);
+		assertThat(shards.get(2).getIdentifiers()).containsExactly(entities);
+		assertThat(shards).noneMatch(ExportShard::isExcludeChildElements);
+		assertThat(shards).noneMatch(ExportShard::isSubtree);
+	}
+
+	@Test
+	public void plan_splits_store_root_by_subtree() {
+		final StoreAgent storeAgent = mock(StoreAgent.class);
+		final Store mediaStore = mockStore(storeAgent, Store.Type.MEDIASTORE, 5);
+		final UidIdentifier media = new UidIdentifier(UidMapping.MEDIA, "logo");
+		final UidIdentifier page = new UidIdentifier(UidMapping.PAGE, "homepage");
+
+		final List<ExportShard> shards = ExportShard.plan(storeAgent, false, true, Arrays.asList(new RootNodeIdentifier(IDProvider.UidType.MEDIASTORE_LEAF), media, page), 2);
+
+		assertThat(shards).extracting(ExportShard::getName).containsExactly("MEDIASTORE root", "MEDIASTORE #1", "MEDIASTORE #2", "PAGESTORE");
+		// the store root itself is exported without children
+		assertThat(shards.get(0).isExcludeChildElements()).isTrue();
+		assertThat(shards.get(0).getElements()).containsExactly(mediaStore);
+		// the subtrees are exported without the store root, which is part of the root shard
+		assertThat(shards).extracting(ExportShard::isSubtree).containsExactly(false, true, true, false);
+		// the children are distributed round-robin
+		final List<IDProvider> children = mediaStore.getChildren(IDProvider.class).toList();
+		assertThat(shards.get(1).getElements()).containsExactly(children.get(0), children.get(2), children.get(4));
+		assertThat(shards.get(2).getElements()).containsExactly(children.get(1), children.get(3));
+		// the media identifier is already part of the media store
+		assertThat(shards.stream().flatMap(shard -> shard.getIdentifiers().stream()).collect(Collectors.toList())).containsExactly(page);
+	}
+
+	@Test
+	public void plan_does_not_split_store_root_without_child_elements() {
+		final StoreAgent storeAgent = mock(StoreAgent.class);
+		final RootNodeIdentifier mediaStore = new RootNodeIdentifier(IDProvider.UidType.MEDIASTORE_LEAF);
+
+		final List<ExportShard> shards = ExportShard.plan(storeAgent, false, false, Collections.<Identifier>singletonList(mediaStore), 4);
+
+		assertThat(shards).hasSize(1);
+		assertThat(shards.get(0).getIdentifiers()).containsExactly(mediaStore);
+		assertThat(shards.get(0).getElements()).isEmpty();
+	}
+
+	@Test
+	public void plan_empty_store_root() {
+		final StoreAgent storeAgent = mock(StoreAgent.class);
+		final Store pageStore = mockStore(storeAgent, Store.Type.PAGESTORE, 0);
+
+		final List<ExportShard> shards = ExportShard.plan(storeAgent, false, true, Collections.<Identifier>singletonList(new RootNodeIdentifier(IDProvider.UidType.PAGESTORE)), 4);
+
+		assertThat(shards).hasSize(1);
+		assertThat(shards.get(0).getElements()).containsExactly(pageStore);
+	}
+
+}
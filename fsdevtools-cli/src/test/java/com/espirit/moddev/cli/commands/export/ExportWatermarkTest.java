@@ -0,0 +1,115 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import com.espirit.moddev.cli.api.parsing.identifier.EntitiesIdentifier;
+import com.espirit.moddev.cli.api.parsing.identifier.SchemaIdentifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExportWatermarkTest {
+
+	@TempDir
+	public Path _syncDirectory;
+
+	@Test
+	public void read_missing_watermark() {
+		assertThat(ExportWatermark.read(_syncDirectory)).isEmpty();
+	}
+
+	@Test
+	public void write_and_read() throws IOException {
+		final String fingerprint = ExportWatermark.fingerprint(Arrays.asList("templatestore", "release=false"));
+		new ExportWatermark(42L, 1337L, fingerprint).write(_syncDirectory);
+
+		final Optional<ExportWatermark> watermark = ExportWatermark.read(_syncDirectory);
+		assertThat(watermark).isPresent();
+		assertThat(watermark.get().getProjectId()).isEqualTo(42L);
+		assertThat(watermark.get().getRevisionId()).isEqualTo(1337L);
+		assertThat(watermark.get().matches(42L, fingerprint)).isTrue();
+		assertThat(watermark.get().matches(43L, fingerprint)).isFalse();
+		assertThat(watermark.get().matches(42L, ExportWatermark.fingerprint(Arrays.asList("pagestore", "release=false")))).isFalse();
+		assertThat(Files.exists(_syncDirectory.resolve(ExportWatermark.FILE_NAME + ".tmp"))).isFalse();
+	}
+
+	@Test
+	public void write_replaces_existing_watermark() throws IOException {
+		new ExportWatermark(1L, 10L, "a").write(_syncDirectory);
+		new ExportWatermark(1L, 20L, "a").write(_syncDirectory);
+		assertThat(ExportWatermark.read(_syncDirectory).map(ExportWatermark::getRevisionId)).contains(20L);
+	}
+
+	@Test
+	public void read_invalid_watermark() throws IOException {
+		Files.write(_syncDirectory.resolve(ExportWatermark.FILE_NAME), "revision=abc\n".getBytes(StandardCharsets.ISO_8859_1));
+		assertThat(ExportWatermark.read(_syncDirectory)).isEmpty();
+	}
+
+	@Test
+	public void delete() throws IOException {
+		new ExportWatermark(1L, 10L, "a").write(_syncDirectory);
+		ExportWatermark.delete(_syncDirectory);
+		assertThat(ExportWatermark.read(_syncDirectory)).isEmpty();
+		// deleting a missing watermark is no error
+		ExportWatermark.delete(_syncDirectory);
+	}
+
+	@Test
+	public void fingerprint_depends_on_values_and_order() {
+		final String fingerprint = ExportWatermark.fingerprint(Arrays.asList("a", "b"));
+		assertThat(fingerprint).hasSize(64).isEqualTo(ExportWatermark.fingerprint(Arrays.asList("a", "b")));
+		assertThat(fingerprint).isNotEqualTo(ExportWatermark.fingerprint(Arrays.asList("b", "a")));
+		assertThat(fingerprint).isNotEqualTo(ExportWatermark.fingerprint(Arrays.asList("ab")));
+	}
+
+	@Test
+	public void export_fingerprint_is_stable_across_parses() {
+		final List<String> arguments = Arrays.asList("entities:news", "schema:products[exportGidMapping=true]", "pagetemplate:default", "root:templatestore", "path:/PageStore/folder");
+		final ExportCommand firstCommand = new ExportCommand();
+		final ExportCommand secondCommand = new ExportCommand();
+		arguments.forEach(firstCommand::addIdentifier);
+		arguments.forEach(secondCommand::addIdentifier);
+
+		final String fingerprint = firstCommand.getExportFingerprint(firstCommand.getIdentifiers());
+		assertThat(fingerprint).isEqualTo(secondCommand.getExportFingerprint(secondCommand.getIdentifiers()));
+		assertThat(fingerprint).isEqualTo(firstCommand.getExportFingerprint(firstCommand.getIdentifiers()));
+	}
+
+	@Test
+	public void identifiers_have_stable_string_representation() {
+		assertThat(new EntitiesIdentifier("news").toString()).isEqualTo("entities:news");
+		assertThat(new SchemaIdentifier("products", Collections.emptyMap()).toString()).isEqualTo("schema:products");
+	}
+
+}
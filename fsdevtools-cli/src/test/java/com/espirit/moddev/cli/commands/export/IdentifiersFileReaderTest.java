@@ -0,0 +1,87 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdentifiersFileReaderTest {
+
+	@TempDir
+	public Path _tempDir;
+
+	@Test
+	public void read_skips_comments_empty_lines_and_duplicates() throws IOException {
+		final IdentifiersFileReader reader = new IdentifiersFileReader(Collections.singletonList("page:known"));
+		final List<List<String>> chunks = new ArrayList<>();
+
+		reader.read(new BufferedReader(new StringReader("# comment\npage:homepage\n\n  pagetemplate:default  \npage:homepage\npage:known\n")), chunks::add);
+
+		assertThat(chunks).containsExactly(Arrays.asList("page:homepage", "pagetemplate:default"));
+		assertThat(reader.getLineCount()).isEqualTo(6);
+		assertThat(reader.getDuplicateCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void read_in_chunks() throws IOException {
+		final IdentifiersFileReader reader = new IdentifiersFileReader(Collections.emptyList(), 2);
+		final List<List<String>> chunks = new ArrayList<>();
+
+		reader.read(new BufferedReader(new StringReader("a\nb\nc\nd\ne")), chunks::add);
+
+		assertThat(chunks).containsExactly(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Collections.singletonList("e"));
+	}
+
+	@Test
+	public void read_file() throws IOException {
+		final Path file = _tempDir.resolve("identifiers.txt");
+		Files.write(file, Arrays.asList("page:homepage", "media:logo"), StandardCharsets.UTF_8);
+		final List<String> identifiers = new ArrayList<>();
+
+		new IdentifiersFileReader(Collections.emptyList()).read(file.toString(), identifiers::addAll);
+
+		assertThat(identifiers).containsExactly("page:homepage", "media:logo");
+	}
+
+	@Test
+	public void read_missing_file() {
+		assertThatThrownBy(() -> new IdentifiersFileReader(Collections.emptyList()).read(_tempDir.resolve("missing.txt").toString(), chunk -> {
+		})).isInstanceOf(NoSuchFileException.class);
+	}
+
+}
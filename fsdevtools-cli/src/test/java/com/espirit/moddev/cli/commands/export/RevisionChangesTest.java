@@ -0,0 +1,116 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.export;
+
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.storage.Revision;
+import de.espirit.firstspirit.storage.RevisionMetaData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RevisionChangesTest {
+
+	@NotNull
+	private static RevisionMetaData.ElementInfo elementInfo(@Nullable final Store.Type storeType, final long nodeId) {
+		final RevisionMetaData.ElementInfo elementInfo = mock(RevisionMetaData.ElementInfo.class);
+		when(elementInfo.getStoreType()).thenReturn(storeType);
+		when(elementInfo.getNodeId()).thenReturn(nodeId);
+		return elementInfo;
+	}
+
+	@NotNull
+	private static Revision revision(final long id, @NotNull final Set<RevisionMetaData.ElementInfo> created, @NotNull final Set<RevisionMetaData.ElementInfo> changed, @NotNull final Set<RevisionMetaData.ElementInfo> deleted) {
+		final RevisionMetaData metaData = mock(RevisionMetaData.class);
+		when(metaData.getCreatedElements()).thenReturn(created);
+		when(metaData.getChangedElements()).thenReturn(changed);
+		when(metaData.getDeletedElements()).thenReturn(deleted);
+		final Revision revision = mock(Revision.class);
+		when(revision.getId()).thenReturn(id);
+		when(revision.getMetaData()).thenReturn(metaData);
+		return revision;
+	}
+
+	@NotNull
+	private static Set<RevisionMetaData.ElementInfo> elements(@NotNull final RevisionMetaData.ElementInfo... elementInfos) {
+		return new HashSet<>(Arrays.asList(elementInfos));
+	}
+
+	@Test
+	public void collect_no_revisions() {
+		final RevisionChanges changes = RevisionChanges.collect(Collections.emptyList(), 10L);
+		assertThat(changes.isEmpty()).isTrue();
+		assertThat(changes.hasDeletions()).isFalse();
+		assertThat(changes.getRevisionCount()).isZero();
+	}
+
+	@Test
+	public void collect_created_and_changed_elements() {
+		final Revision revision1 = revision(11L, elements(elementInfo(Store.Type.PAGESTORE, 1L)), elements(elementInfo(Store.Type.TEMPLATESTORE, 2L)), elements());
+		final Revision revision2 = revision(12L, elements(), elements(elementInfo(Store.Type.PAGESTORE, 1L), elementInfo(Store.Type.PAGESTORE, 3L)), elements());
+		final RevisionChanges changes = RevisionChanges.collect(Arrays.asList(revision1, revision2), 10L);
+		assertThat(changes.isEmpty()).isFalse();
+		assertThat(changes.hasDeletions()).isFalse();
+		assertThat(changes.getRevisionCount()).isEqualTo(2);
+		assertThat(changes.getModifiedElements().get(Store.Type.PAGESTORE)).containsExactlyInAnyOrder(1L, 3L);
+		assertThat(changes.getModifiedElements().get(Store.Type.TEMPLATESTORE)).containsExactly(2L);
+	}
+
+	@Test
+	public void collect_ignores_already_exported_revisions() {
+		final Revision exported = revision(10L, elements(elementInfo(Store.Type.PAGESTORE, 1L)), elements(), elements(elementInfo(Store.Type.PAGESTORE, 5L)));
+		final Revision revision = revision(11L, elements(), elements(elementInfo(Store.Type.MEDIASTORE, 2L)), elements());
+		final RevisionChanges changes = RevisionChanges.collect(Arrays.asList(exported, revision), 10L);
+		assertThat(changes.getRevisionCount()).isEqualTo(1);
+		assertThat(changes.hasDeletions()).isFalse();
+		assertThat(changes.getModifiedElements()).containsOnlyKeys(Store.Type.MEDIASTORE);
+	}
+
+	@Test
+	public void collect_deleted_element_is_only_reported_as_deleted() {
+		final Revision revision1 = revision(11L, elements(elementInfo(Store.Type.PAGESTORE, 1L)), elements(), elements());
+		final Revision revision2 = revision(12L, elements(), elements(), elements(elementInfo(Store.Type.PAGESTORE, 1L)));
+		final RevisionChanges changes = RevisionChanges.collect(Arrays.asList(revision1, revision2), 10L);
+		assertThat(changes.hasDeletions()).isTrue();
+		assertThat(changes.getModifiedElements().get(Store.Type.PAGESTORE)).isEmpty();
+		assertThat(changes.getDeletedElements().get(Store.Type.PAGESTORE)).containsExactly(1L);
+	}
+
+	@Test
+	public void collect_ignores_non_store_elements() {
+		final Revision revision = revision(11L, elements(), elements(elementInfo(null, 7L)), elements(elementInfo(null, 8L)));
+		final RevisionChanges changes = RevisionChanges.collect(Collections.singletonList(revision), 10L);
+		assertThat(changes.isEmpty()).isTrue();
+		assertThat(changes.getRevisionCount()).isEqualTo(1);
+	}
+
+}
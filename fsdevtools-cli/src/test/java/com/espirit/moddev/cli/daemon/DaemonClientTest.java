@@ -0,0 +1,74 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DaemonClientTest {
+
+	@Test
+	public void connectionLostAfterRequestIsReportedAsFailure(@TempDir final Path tempDir) throws Exception {
+		final Path socketPath = tempDir.resolve("daemon.sock");
+		try (final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			server.bind(UnixDomainSocketAddress.of(socketPath));
+			// daemon stub that reads the request and dies without answering
+			final CompletableFuture<DaemonRequest> receivedRequest = CompletableFuture.supplyAsync(() -> {
+				try (final SocketChannel channel = server.accept()) {
+					return DaemonRequest.readFrom(new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel))));
+				} catch (final Exception e) {
+					throw new IllegalStateException(e);
+				}
+			});
+
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			final OptionalInt exitCode = DaemonClient.execute(socketPath, new String[]{"module", "install"}, new PrintStream(output, true, StandardCharsets.UTF_8));
+
+			assertThat(receivedRequest.get(10, TimeUnit.SECONDS).getArguments()).containsExactly("module", "install");
+			assertThat(exitCode).hasValue(DaemonProtocol.EXIT_FAILURE);
+		}
+	}
+
+	@Test
+	public void missingDaemonFallsBackToLocalExecution(@TempDir final Path tempDir) {
+		final OptionalInt exitCode = DaemonClient.execute(tempDir.resolve("daemon.sock"), new String[]{"test"}, System.out);
+		assertThat(exitCode).isEmpty();
+	}
+
+}
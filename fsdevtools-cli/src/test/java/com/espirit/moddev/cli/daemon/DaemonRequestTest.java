@@ -0,0 +1,78 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.daemon;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DaemonRequestTest {
+
+	@Test
+	public void requestSurvivesRoundTrip() throws Exception {
+		final Map<String, String> environment = new LinkedHashMap<>();
+		environment.put("fshost", "localhost");
+		environment.put("fsproject", "Mithras Energy äöü");
+		final DaemonRequest request = new DaemonRequest("/work", Arrays.asList("-p", "project", "export", "--", "pagestore"), environment);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		request.writeTo(new DataOutputStream(bytes));
+		final DaemonRequest readRequest = DaemonRequest.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(readRequest.getVersion()).isEqualTo(DaemonProtocol.VERSION);
+		assertThat(readRequest.getWorkingDirectory()).isEqualTo("/work");
+		assertThat(readRequest.getArguments()).containsExactly("-p", "project", "export", "--", "pagestore");
+		assertThat(readRequest.getEnvironment()).isEqualTo(environment);
+	}
+
+	@Test
+	public void unknownVersionIsNotParsed() throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new DataOutputStream(bytes).writeInt(DaemonProtocol.VERSION + 1);
+		final DaemonRequest readRequest = DaemonRequest.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		assertThat(readRequest.getVersion()).isEqualTo(DaemonProtocol.VERSION + 1);
+		assertThat(readRequest.getArguments()).isEmpty();
+	}
+
+	@Test
+	public void isStopRequest() {
+		assertThat(CliDaemon.isStopRequest(Arrays.asList("daemon", "stop"))).isTrue();
+		assertThat(CliDaemon.isStopRequest(Arrays.asList("daemon", "start"))).isFalse();
+		assertThat(CliDaemon.isStopRequest(Collections.singletonList("stop"))).isFalse();
+	}
+
+	@Test
+	public void defaultSocketPath() {
+		assertThat(DaemonProtocol.getSocketPath(null)).isEqualTo(DaemonProtocol.getSocketPath("true"));
+		assertThat(DaemonProtocol.getSocketPath(" /tmp/fs.sock ").toString()).isEqualTo("/tmp/fs.sock");
+	}
+
+}
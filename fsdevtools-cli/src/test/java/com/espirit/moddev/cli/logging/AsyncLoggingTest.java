@@ -0,0 +1,199 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.logging;
+
+import com.espirit.moddev.cli.api.configuration.LogQueueFullPolicy;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.filter.ThresholdFilter;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncLoggingTest {
+
+	private LoggerContext _context;
+	private CapturingAppender _capturingAppender;
+
+	@BeforeEach
+	public void setUp() {
+		_context = new LoggerContext(AsyncLoggingTest.class.getSimpleName());
+		final Configuration configuration = new DefaultConfiguration();
+		_context.start(configuration);
+		_capturingAppender = new CapturingAppender();
+		_capturingAppender.start();
+		configuration.addAppender(_capturingAppender);
+		final LoggerConfig rootLogger = configuration.getRootLogger();
+		new ArrayList<>(rootLogger.getAppenders().keySet()).forEach(rootLogger::removeAppender);
+		rootLogger.addAppender(_capturingAppender, null, null);
+		rootLogger.setLevel(Level.INFO);
+		_context.updateLoggers();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		_capturingAppender.release();
+		_context.stop();
+	}
+
+	@Test
+	public void blockPolicyDeliversAllEventsInOrder() {
+		final Logger logger = _context.getLogger(AsyncLoggingTest.class);
+		try (final AsyncLogging ignored = AsyncLogging.start(_context, 4, LogQueueFullPolicy.BLOCK)) {
+			for (int i = 0; i < 100; i++) {
+				logger.info("message {}", i);
+			}
+		}
+		assertThat(_capturingAppender.getMessages()).hasSize(100);
+		for (int i = 0; i < 100; i++) {
+			assertThat(_capturingAppender.getMessages().get(i)).isEqualTo("message " + i);
+		}
+		assertThat(_capturingAppender.getThreadNames()).allMatch(threadName -> threadName.startsWith("fs-cli-log-"));
+	}
+
+	@Test
+	public void closeRestoresOriginalAppenders() {
+		final Logger logger = _context.getLogger(AsyncLoggingTest.class);
+		AsyncLogging.start(_context, 4, LogQueueFullPolicy.BLOCK).close();
+		assertThat(_context.getConfiguration().getRootLogger().getAppenders()).containsOnlyKeys(_capturingAppender.getName());
+		logger.info("after close");
+		assertThat(_capturingAppender.getMessages()).containsExactly("after close");
+		assertThat(_capturingAppender.getThreadNames()).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void discardPolicyDropsInfoButKeepsWarnings() {
+		final Logger logger = _context.getLogger(AsyncLoggingTest.class);
+		_capturingAppender.block();
+		try (final AsyncLogging asyncLogging = AsyncLogging.start(_context, 1, LogQueueFullPolicy.DISCARD)) {
+			logger.info("first");
+			_capturingAppender.awaitBlocked();
+			for (int i = 0; i < 10; i++) {
+				logger.info("dropped {}", i);
+			}
+			logger.warn("warning");
+			assertThat(asyncLogging.getDiscardedEvents()).isGreaterThan(0);
+			assertThat(_capturingAppender.getMessages()).contains("warning");
+			_capturingAppender.release();
+		}
+		assertThat(_capturingAppender.getMessages()).contains("first", "warning");
+		assertThat(_capturingAppender.getMessages()).hasSizeLessThan(12);
+	}
+
+	@Test
+	public void filteredEventsAreNotQueued() {
+		final Logger logger = _context.getLogger(AsyncLoggingTest.class);
+		_capturingAppender.addFilter(ThresholdFilter.createFilter(Level.WARN, Filter.Result.ACCEPT, Filter.Result.DENY));
+		_capturingAppender.block();
+		try (final AsyncLogging asyncLogging = AsyncLogging.start(_context, 1, LogQueueFullPolicy.DISCARD)) {
+			logger.warn("first");
+			_capturingAppender.awaitBlocked();
+			for (int i = 0; i < 10; i++) {
+				logger.info("filtered {}", i);
+			}
+			// the queue is still empty, so the warning is queued and not written ahead of the first one
+			logger.warn("second");
+			assertThat(asyncLogging.getDiscardedEvents()).isZero();
+			_capturingAppender.release();
+		}
+		assertThat(_capturingAppender.getMessages()).containsExactly("first", "second");
+	}
+
+	@Test
+	public void invalidQueueSizeIsRejected() {
+		assertThatThrownBy(() -> AsyncLogging.start(_context, 0, LogQueueFullPolicy.BLOCK)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static final class CapturingAppender extends AbstractAppender {
+
+		private final List<String> _messages = new CopyOnWriteArrayList<>();
+		private final List<String> _threadNames = new CopyOnWriteArrayList<>();
+		private final CountDownLatch _blocked = new CountDownLatch(1);
+		private volatile CountDownLatch _release = new CountDownLatch(0);
+
+		private CapturingAppender() {
+			super("Capturing", null, null, true, Property.EMPTY_ARRAY);
+		}
+
+		@Override
+		public void append(@NotNull final LogEvent event) {
+			// only the background thread is blocked, warnings written synchronously by the logging thread pass
+			if (Thread.currentThread().getName().startsWith("fs-cli-log-")) {
+				_blocked.countDown();
+				try {
+					_release.await(10, TimeUnit.SECONDS);
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			_messages.add(event.getMessage().getFormattedMessage());
+			_threadNames.add(Thread.currentThread().getName());
+		}
+
+		private void block() {
+			_release = new CountDownLatch(1);
+		}
+
+		private void release() {
+			_release.countDown();
+		}
+
+		private void awaitBlocked() {
+			try {
+				_blocked.await(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@NotNull
+		private List<String> getMessages() {
+			return _messages;
+		}
+
+		@NotNull
+		private List<String> getThreadNames() {
+			return _threadNames;
+		}
+
+	}
+
+}
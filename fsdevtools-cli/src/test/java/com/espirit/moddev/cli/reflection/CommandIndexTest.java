@@ -0,0 +1,92 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.reflection;
+
+import com.espirit.moddev.cli.commands.example.ExampleCustomCommand;
+import com.espirit.moddev.cli.commands.example.ExampleCustomGroup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommandIndexTest {
+
+	@Test
+	public void writtenIndexCanBeReadAgain(@TempDir final Path tempDir) throws Exception {
+		final Path indexFile = tempDir.resolve(CommandIndex.INDEX_RESOURCE);
+		CommandIndex.writeIndex(indexFile, Arrays.asList("b.Command", "a.Command"), Collections.singletonList("a.Group"));
+
+		final Set<String> commandNames = new LinkedHashSet<>();
+		final Set<String> groupNames = new LinkedHashSet<>();
+		CommandIndex.readIndex(indexFile.toUri().toURL(), commandNames, groupNames);
+
+		assertThat(commandNames).containsExactly("a.Command", "b.Command");
+		assertThat(groupNames).containsExactly("a.Group");
+	}
+
+	@Test
+	public void readIndexIgnoresCommentsAndInvalidLines(@TempDir final Path tempDir) throws Exception {
+		final Path indexFile = tempDir.resolve("command.index");
+		Files.write(indexFile, Arrays.asList("# comment", "", "invalid", CommandIndex.COMMAND_PREFIX + "a.Command"), StandardCharsets.UTF_8);
+
+		final Set<String> commandNames = new LinkedHashSet<>();
+		final Set<String> groupNames = new LinkedHashSet<>();
+		CommandIndex.readIndex(indexFile.toUri().toURL(), commandNames, groupNames);
+
+		assertThat(commandNames).containsExactly("a.Command");
+		assertThat(groupNames).isEmpty();
+	}
+
+	@Test
+	public void indexedDirectoryIsNotScannedAgain(@TempDir final Path tempDir) throws Exception {
+		final Path indexFile = tempDir.resolve(CommandIndex.INDEX_RESOURCE);
+		CommandIndex.writeIndex(indexFile, Collections.emptyList(), Collections.emptyList());
+		final String oldClassPath = System.getProperty("java.class.path");
+		try {
+			final Path otherDir = Files.createDirectory(tempDir.resolve("other"));
+			System.setProperty("java.class.path", tempDir + File.pathSeparator + otherDir);
+			final List<File> unindexedElements = CommandIndex.getUnindexedClasspathElements(Collections.singletonList(indexFile.toUri().toURL()));
+			assertThat(unindexedElements).containsExactly(otherDir.toAbsolutePath().normalize().toFile());
+		} finally {
+			System.setProperty("java.class.path", oldClassPath);
+		}
+	}
+
+	@Test
+	public void loadFallsBackToClasspathScanWithoutIndex() {
+		// tests run from the class directories, so there is no generated index
+		final CommandIndex commandIndex = CommandIndex.load();
+		assertThat(commandIndex.getCommandClasses()).contains(ExampleCustomCommand.class);
+		assertThat(commandIndex.getGroupClasses()).contains(ExampleCustomGroup.class);
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.results;
+
+import de.espirit.firstspirit.io.FileHandle;
+import de.espirit.firstspirit.store.access.nexport.ExportInfo;
+import de.espirit.firstspirit.store.access.nexport.operations.ExportOperation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MergedExportResultTest {
+
+	@Test
+	public void merges_elements_and_files() {
+		final ExportInfo created1 = mock(ExportInfo.class);
+		final ExportInfo created2 = mock(ExportInfo.class);
+		final ExportInfo updated = mock(ExportInfo.class);
+		final FileHandle file = mock(FileHandle.class);
+		final ExportOperation.Result result1 = mock(ExportOperation.Result.class);
+		when(result1.getCreatedElements()).thenReturn(Collections.singletonList(created1));
+		when(result1.getCreatedFiles()).thenReturn(Collections.singleton(file));
+		final ExportOperation.Result result2 = mock(ExportOperation.Result.class);
+		when(result2.getCreatedElements()).thenReturn(Collections.singletonList(created2));
+		when(result2.getUpdatedElements()).thenReturn(Collections.singletonList(updated));
+		when(result2.getCreatedFiles()).thenReturn(Collections.singleton(file));
+
+		final MergedExportResult merged = new MergedExportResult(Arrays.asList(result1, result2));
+
+		assertThat(merged.getCreatedElements()).containsExactly(created1, created2);
+		assertThat(merged.getUpdatedElements()).containsExactly(updated);
+		assertThat(merged.getDeletedElements()).isEmpty();
+		assertThat(merged.getMovedElements()).isEmpty();
+		assertThat(merged.getCreatedFiles()).containsExactly(file);
+		assertThat(merged.getMovedFileHandles()).isEmpty();
+	}
+
+	@Test
+	public void empty() {
+		final MergedExportResult merged = new MergedExportResult(Collections.emptyList());
+		assertThat(merged.getCreatedElements()).isEmpty();
+		assertThat(merged.getDeletedFileHandles()).isEmpty();
+	}
+
+}
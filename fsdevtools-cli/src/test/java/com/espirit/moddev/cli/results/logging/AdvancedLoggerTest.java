@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.results.logging;
 
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
 import de.espirit.firstspirit.access.store.ElementInfo;
 import de.espirit.firstspirit.access.store.IDProvider;
 import de.espirit.firstspirit.access.store.Store;
@@ -805,6 +806,49 @@ public class AdvancedLoggerTest {
 		}
 	}
 
+	@Test
+	public void testLogExportResultSummaryDetail() {
+		final MockLogger logger = new MockLogger(true);
+		AdvancedLogger.logExportResult(logger, null, new MockedExportResult(), ResultDetail.SUMMARY);
+		final String expected = """
+				[INFO] Export done.
+				[INFO] == DETAILS ==
+				[INFO] Created elements: 7
+				[INFO] Updated elements: 10
+				[INFO] Deleted elements: 7
+				[INFO] Moved elements: 10
+				[INFO] == SUMMARY ==
+				[INFO] Created elements: 7 | project properties: 1 | store elements: 5 ( pagestore: 1, templatestore: 4 ) | entity types: 1 ( schemas: 1, entities: 1 )
+				[INFO] Updated elements: 10 | project properties: 1 | store elements: 6 ( mediastore: 3, sitestore: 3 ) | entity types: 3 ( schemas: 2, entities: 6 )
+				[INFO] Deleted elements: 7 | project properties: 1 | store elements: 4 ( pagestore: 1, sitestore: 3 ) | entity types: 2 ( schemas: 1, entities: 7 )
+				[INFO]   Moved elements: 10 | project properties: 1 | store elements: 7 ( mediastore: 3, templatestore: 4 ) | entity types: 2 ( schemas: 2, entities: 3 )
+				""";
+		assertEquals(expected, logger.toString());
+	}
+
+	@Test
+	public void testLogResultNoneDetail() {
+		{
+			final MockLogger logger = new MockLogger(true);
+			AdvancedLogger.logExportResult(logger, null, new MockedExportResult(), ResultDetail.NONE);
+			assertEquals("[INFO] Export done." + NEW_LINE, logger.toString());
+		}
+		{
+			final MockLogger logger = new MockLogger(true);
+			final MockedImportResult mockedImportResult = new MockedImportResult(true);
+			AdvancedLogger.logImportResult(logger, mockedImportResult.getStoreAgent(), mockedImportResult, ResultDetail.NONE);
+			final String expected = """
+					[INFO] Import done.
+					[INFO] Problems: 4
+					[INFO]  - store: PAGESTORE | uid: pagestore_uid_1337 | reason: IdProvider not found
+					[INFO]  - store: MEDIASTORE | uid: mediastore_uid_123 | reason: Resolution invalid
+					[INFO]  - store: MEDIASTORE | uid: mediastore_uid_1932 | reason: Medium invalid
+					[INFO]  - store: TEMPLATESTORE | name: templatestore_name_1231 | reason: GOM is invalid
+					""";
+			assertEquals(expected, logger.toString());
+		}
+	}
+
 	@Test
 	public void testLogImportResult() {
 		{
@@ -0,0 +1,68 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.results.logging;
+
+import de.espirit.firstspirit.access.store.IDProvider;
+import de.espirit.firstspirit.access.store.Store;
+import de.espirit.firstspirit.agency.StoreAgent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StoreElementLookupTest {
+
+	@Test
+	public void elements_are_resolved_once() {
+		final StoreAgent storeAgent = mock(StoreAgent.class);
+		final Store pageStore = mock(Store.class);
+		final IDProvider page = mock(IDProvider.class);
+		when(storeAgent.getStore(Store.Type.PAGESTORE)).thenReturn(pageStore);
+		when(pageStore.getStoreElement(1337L)).thenReturn(page);
+
+		final StoreElementLookup lookup = new StoreElementLookup(storeAgent);
+		assertThat(lookup.getStoreElement(Store.Type.PAGESTORE, 1337L)).isSameAs(page);
+		assertThat(lookup.getStoreElement(Store.Type.PAGESTORE, 1337L)).isSameAs(page);
+		assertThat(lookup.getStoreElement(Store.Type.PAGESTORE, 42L)).isNull();
+		assertThat(lookup.getStoreElement(Store.Type.PAGESTORE, 42L)).isNull();
+
+		verify(storeAgent, times(1)).getStore(Store.Type.PAGESTORE);
+		verify(pageStore, times(1)).getStoreElement(1337L);
+		verify(pageStore, times(1)).getStoreElement(42L);
+	}
+
+	@Test
+	public void missing_store() {
+		final StoreAgent storeAgent = mock(StoreAgent.class);
+
+		final StoreElementLookup lookup = new StoreElementLookup(storeAgent);
+		assertThat(lookup.getStoreElement(Store.Type.MEDIASTORE, 1L)).isNull();
+		assertThat(lookup.getStoreElement(Store.Type.MEDIASTORE, 2L)).isNull();
+
+		verify(storeAgent, times(1)).getStore(Store.Type.MEDIASTORE);
+	}
+
+}
@@ -23,13 +23,20 @@
 package com.espirit.moddev.cli.commands.feature.cmd.install;
 
 import com.espirit.moddev.cli.api.annotations.ParameterExamples;
+import com.espirit.moddev.cli.api.result.Result;
 import com.espirit.moddev.cli.commands.feature.FeatureCommandGroup;
 import com.espirit.moddev.cli.commands.feature.FeatureCommandNames;
 import com.espirit.moddev.cli.commands.feature.common.AbstractFeatureCommand;
 import com.espirit.moddev.cli.commands.feature.common.ExtendedFeatureAnalyseResult;
+import com.espirit.moddev.cli.commands.feature.common.FeatureFileCache;
 import com.espirit.moddev.cli.commands.feature.common.FeatureHelper;
 import com.espirit.moddev.cli.commands.feature.common.FsObjectsLoggingFormatHelper;
 import com.espirit.moddev.cli.common.StringPropertiesMap;
+import com.espirit.moddev.cli.results.SimpleResult;
+import com.espirit.moddev.cli.utils.ProjectResult;
+import com.espirit.moddev.cli.utils.ProjectRunResult;
+import com.espirit.moddev.cli.utils.ProjectRunner;
+import com.espirit.moddev.cli.utils.ProjectSelection;
 import org.jetbrains.annotations.VisibleForTesting;
 import com.github.rvesse.airline.annotations.Option;
 import com.github.rvesse.airline.annotations.OptionType;
@@ -37,12 +44,14 @@ import com.github.rvesse.airline.annotations.help.Examples;
 import com.github.rvesse.airline.annotations.restrictions.Path;
 import com.github.rvesse.airline.annotations.restrictions.PathKind;
 import com.github.rvesse.airline.annotations.restrictions.Required;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.database.BasicEntityInfo;
 import de.espirit.firstspirit.access.project.Project;
 import de.espirit.firstspirit.access.store.BasicElementInfo;
 import de.espirit.firstspirit.access.store.Store;
 import de.espirit.firstspirit.feature.FeatureAnalyseResult;
+import de.espirit.firstspirit.feature.FeatureFile;
 import de.espirit.firstspirit.feature.FeatureInstallAgent;
 import de.espirit.firstspirit.feature.FeatureInstallResult;
 import de.espirit.firstspirit.store.access.feature.ElementReference;
@@ -78,6 +87,7 @@ import java.util.stream.Collectors;
 				FeatureCommandGroup.NAME + " " + FeatureCommandNames.INSTALL + " --file feature.zip --layerMapping \"featureLayerA=projectLayer1,featureLayerB=projectLayer2,*=FirstSpiritDBA\"",
 				FeatureCommandGroup.NAME + " " + FeatureCommandNames.INSTALL + " --file feature.zip --layerMapping \"featureLayerA=projectLayer1,featureLayerB=projectLayer2,featureLayerC=CREATE_NEW\"",
 				FeatureCommandGroup.NAME + " " + FeatureCommandNames.INSTALL + " --file feature.zip",
+				FeatureCommandGroup.NAME + " " + FeatureCommandNames.INSTALL + " --file feature.zip --projects \"tenant-*,Mithras\" --parallelism 4",
 		},
 		descriptions = {
 				"Upload the feature archive \"feature.zip\" to the FirstSpirit server and import the corresponding feature to the specified FirstSpirit project." +
@@ -102,6 +112,9 @@ import java.util.stream.Collectors;
 				"Upload the feature archive \"feature.zip\" to the FirstSpirit server and import the corresponding feature to the specified FirstSpirit project." +
 						" Empty name-based database layer mapping is going to be used (same behavior as in the external sync import command)." +
 						" If there are any errors reported by the server side feature analysis, abort the import operation.",
+				"Upload the feature archive \"feature.zip\" to the FirstSpirit server once and import the corresponding feature into the project \"Mithras\"" +
+						" and into all projects whose names start with \"tenant-\", installing into up to 4 projects at the same time." +
+						" A failing project does not abort the installation into the other projects.",
 		}
 )
 public class FeatureInstallCommand extends AbstractFeatureCommand {
@@ -132,6 +145,13 @@ public class FeatureInstallCommand extends AbstractFeatureCommand {
 	 */
 	private static final Map<String, String> CREATE_NEW_LAYER_MAPPING = Map.of(WILDCARD, CREATE_NEW);
 
+	static final int DEFAULT_PARALLELISM = 4;
+
+	/**
+	 * Keeps the detailed installation log of one project together when installing into several projects.
+	 */
+	private static final Object LOG_LOCK = new Object();
+
 	@NotNull
 	private final FeatureHelper _featureHelper = new FeatureHelper();
 
@@ -194,10 +214,133 @@ public class FeatureInstallCommand extends AbstractFeatureCommand {
 	)
 	private boolean _includeFeatureModel;
 
+	@Option(
+			type = OptionType.COMMAND,
+			arity = 0,
+			name = {"--reuseUpload"},
+			description = "Remember the SHA-256 hash of uploaded feature archives and skip the upload if an archive with the same content" +
+					" has already been uploaded to the same FirstSpirit server by this process." +
+					" Disabled by default." +
+					" Useful when installing the same feature into several projects, e.g. with the batch command or the daemon."
+	)
+	private boolean _reuseUpload;
+
+	@Option(
+			type = OptionType.COMMAND,
+			arity = 1,
+			name = {"--projects"},
+			description = "Comma-separated list of names of the projects the feature should be installed into, instead of the single project given by the global project option." +
+					" Each entry is either a project name or a pattern with the wildcards \"*\" and \"?\", so \"*\" selects all projects on the server." +
+					" The feature archive is uploaded only once and the projects are processed concurrently." +
+					" A failing project does not abort the other ones, the command reports a result for each project."
+	)
+	@ParameterExamples(
+			examples = {
+					"--projects \"tenant-01,tenant-02\"",
+					"--projects \"tenant-*\"",
+			},
+			descriptions = {
+					"Installs the feature into the projects 'tenant-01' and 'tenant-02'",
+					"Installs the feature into all projects whose names start with 'tenant-'",
+			}
+	)
+	@Nullable
+	private String _projects;
+
+	@Option(
+			type = OptionType.COMMAND,
+			arity = 1,
+			name = {"-par", "--parallelism"},
+			description = "Maximum number of projects the feature is installed into at the same time when using --projects, at least 1. Default is " + DEFAULT_PARALLELISM + "."
+	)
+	@Positive
+	@ParameterExamples(
+			examples = {
+					"-par 8",
+					"--parallelism 1"
+			},
+			descriptions = {
+					"Installs the feature into up to 8 projects at the same time.",
+					"Installs the feature into the projects one after another.",
+			}
+	)
+	private int _parallelism = DEFAULT_PARALLELISM;
+
+	@Nullable
+	private FeatureHelper _cachingFeatureHelper;
+
 	@VisibleForTesting
 	@NotNull
 	FeatureHelper getFeatureHelper() {
-		return _featureHelper;
+		if (!_reuseUpload && _projects == null) {
+			return _featureHelper;
+		}
+		if (_cachingFeatureHelper == null) {
+			// installing into several projects uploads the archive only once, even without --reuseUpload
+			final FeatureFileCache featureFileCache = _reuseUpload ? FeatureFileCache.getSharedInstance() : new FeatureFileCache();
+			_cachingFeatureHelper = new FeatureHelper(featureFileCache);
+		}
+		return _cachingFeatureHelper;
+	}
+
+	@VisibleForTesting
+	void setReuseUpload(final boolean reuseUpload) {
+		_reuseUpload = reuseUpload;
+	}
+
+	@VisibleForTesting
+	void setProjects(@Nullable final String projects) {
+		_projects = projects;
+	}
+
+	@VisibleForTesting
+	void setParallelism(final int parallelism) {
+		_parallelism = parallelism;
+	}
+
+	/**
+	 * Installs the feature into the single project of the global project option
+	 * or, if {@code --projects} is specified, into each of the selected projects.
+	 *
+	 * @return {@link SimpleResult} wrapping {@link Boolean#TRUE} if the feature has been installed into the single project,
+	 * a {@link ProjectRunResult} with the status, duration and error of each project if {@code --projects} is specified
+	 * and {@link SimpleResult} wrapping an {@link Exception} if the projects could not be determined.
+	 */
+	@Override
+	@NotNull
+	public Result<?> call() {
+		if (_projects == null) {
+			return super.call();
+		}
+		try (final Connection connection = getConnection()) {
+			connection.connect();
+			final List<Project> projects = ProjectSelection.getProjects(connection, _projects);
+			// create the shared helper before the workers start using it
+			getFeatureHelper();
+			LOGGER.info("Installing feature archive '{}' into {} projects...", getPathToFeatureZip(), projects.size());
+			return new ProjectRunResult("Installation", installIntoProjects(connection, projects, _parallelism));
+		} catch (final Exception e) {
+			return new SimpleResult<>(e);
+		}
+	}
+
+	/**
+	 * Runs {@link #execute(Connection, Project)} for each of the given projects on a pool of at most
+	 * {@code parallelism} workers. Failures are recorded per project and do not stop the other projects.
+	 *
+	 * @param connection  {@link Connection} to the FirstSpirit server.
+	 * @param projects    the target {@link Project projects}.
+	 * @param parallelism the maximum number of concurrent installations.
+	 * @return one {@link ProjectResult} per project, in the order of the given projects.
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the workers.
+	 */
+	@VisibleForTesting
+	@NotNull
+	List<ProjectResult> installIntoProjects(@NotNull final Connection connection, @NotNull final List<Project> projects, final int parallelism) throws InterruptedException {
+		return ProjectRunner.runForProjects("feature-installer", "Installation", projects, parallelism, project -> {
+			execute(connection, project);
+			return null;
+		});
 	}
 
 	@VisibleForTesting
@@ -232,10 +375,19 @@ public class FeatureInstallCommand extends AbstractFeatureCommand {
 		final LayerMapper layerMapper = getLayerMapper(analyseResult.getFeatureAnalyseResult());
 		final FeatureInstallAgent featureInstallAgent = featureHelper.getFeatureInstallAgent(connection, project);
 		LOGGER.info("Installing {}...", FeatureHelper.getFeatureLoggingString(analyseResult));
-		final FeatureInstallResultImpl installResult = featureHelper.getFeatureInstallResult(featureInstallAgent, featureFile, layerMapper, _includeFeatureModel);
+		// reuse the archive uploaded for the analysis instead of sending it to the server a second time
+		final Optional<FeatureFile> analyzedFeatureFile = analyseResult.getFeatureFile();
+		final FeatureInstallResultImpl installResult;
+		if (analyzedFeatureFile.isPresent()) {
+			installResult = featureHelper.getFeatureInstallResult(featureInstallAgent, analyzedFeatureFile.get(), layerMapper, _includeFeatureModel);
+		} else {
+			installResult = featureHelper.getFeatureInstallResult(featureInstallAgent, featureFile, layerMapper, _includeFeatureModel);
+		}
 		LOGGER.info("Installation of {} has been successfully completed.", FeatureHelper.getFeatureLoggingString(analyseResult));
-		LOGGER.debug("Installation details of {}:", FeatureHelper.getFeatureLoggingString(analyseResult));
-		logFeatureInstallResult(installResult);
+		synchronized (LOG_LOCK) {
+			LOGGER.debug("Installation details of {}:", FeatureHelper.getFeatureLoggingString(analyseResult));
+			logFeatureInstallResult(installResult);
+		}
 	}
 
 	@VisibleForTesting
@@ -24,6 +24,7 @@ package com.espirit.moddev.cli.commands.feature.common;
 
 import com.espirit.moddev.cli.ConnectionBuilder;
 import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.cli.api.result.Result;
 import com.espirit.moddev.cli.commands.SimpleCommand;
 import com.espirit.moddev.cli.results.SimpleResult;
 import com.espirit.moddev.shared.StringUtils;
@@ -37,7 +38,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Common parent for all the feature related commands.
  */
-public abstract class AbstractFeatureCommand extends SimpleCommand<SimpleResult<Boolean>> {
+public abstract class AbstractFeatureCommand extends SimpleCommand<Result<?>> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFeatureCommand.class);
 
@@ -56,7 +57,7 @@ public abstract class AbstractFeatureCommand extends SimpleCommand<SimpleResult<
 	 */
 	@Override
 	@NotNull
-	public SimpleResult<Boolean> call() {
+	public Result<?> call() {
 		try (final Connection connection = getConnection()) {
 			connection.connect();
 			final Project project = getFirstSpiritProject(connection);
@@ -109,7 +110,7 @@ public abstract class AbstractFeatureCommand extends SimpleCommand<SimpleResult<
 	 */
 	@VisibleForTesting
 	@NotNull
-	Connection getConnection() {
+	protected Connection getConnection() {
 		return getConnectionBuilder().build();
 	}
 
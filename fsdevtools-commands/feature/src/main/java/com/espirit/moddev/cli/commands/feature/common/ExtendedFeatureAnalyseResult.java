@@ -23,9 +23,12 @@
 package com.espirit.moddev.cli.commands.feature.common;
 
 import de.espirit.firstspirit.feature.FeatureAnalyseResult;
+import de.espirit.firstspirit.feature.FeatureFile;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Extends {@link FeatureAnalyseResult} with additional information such as e.g. feature name.
@@ -42,16 +45,40 @@ public class ExtendedFeatureAnalyseResult {
 	@NotNull
 	private final String _projectName;
 
+	@Nullable
+	private final FeatureFile _featureFile;
+
 	public ExtendedFeatureAnalyseResult(
 			@NotNull final FeatureAnalyseResult featureAnalyseResult,
 			@NotNull final String featureName,
 			@NotNull final String absolutePathToFeatureFile,
 			@NotNull final String projectName
+	) {
+		this(featureAnalyseResult, featureName, absolutePathToFeatureFile, projectName, null);
+	}
+
+	/**
+	 * Creates a result which also remembers the server side {@link FeatureFile} handle the analysis has been
+	 * performed on, so the same upload can be used again for the installation.
+	 *
+	 * @param featureAnalyseResult      the {@link FeatureAnalyseResult}.
+	 * @param featureName               the name of the feature.
+	 * @param absolutePathToFeatureFile the absolute path to the local feature archive.
+	 * @param projectName               the name of the project the feature has been analyzed for.
+	 * @param featureFile               the uploaded {@link FeatureFile} or {@code null} if unknown.
+	 */
+	public ExtendedFeatureAnalyseResult(
+			@NotNull final FeatureAnalyseResult featureAnalyseResult,
+			@NotNull final String featureName,
+			@NotNull final String absolutePathToFeatureFile,
+			@NotNull final String projectName,
+			@Nullable final FeatureFile featureFile
 	) {
 		_featureAnalyseResult = Objects.requireNonNull(featureAnalyseResult);
 		_featureName = Objects.requireNonNull(featureName);
 		_absolutePathToFeatureFile = Objects.requireNonNull(absolutePathToFeatureFile);
 		_projectName = Objects.requireNonNull(projectName);
+		_featureFile = featureFile;
 	}
 
 	@NotNull
@@ -74,4 +101,14 @@ public class ExtendedFeatureAnalyseResult {
 		return _projectName;
 	}
 
+	/**
+	 * Returns the server side {@link FeatureFile} handle the analysis has been performed on.
+	 *
+	 * @return the uploaded {@link FeatureFile} or {@link Optional#empty()} if unknown.
+	 */
+	@NotNull
+	public Optional<FeatureFile> getFeatureFile() {
+		return Optional.ofNullable(_featureFile);
+	}
+
 }
@@ -0,0 +1,216 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.feature.common;
+
+import de.espirit.firstspirit.access.Connection;
+import de.espirit.firstspirit.feature.FeatureFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Client side cache of uploaded {@link FeatureFile feature files}, keyed by the SHA-256 hash of the archive content.
+ * <p>
+ * Installing the same (unchanged) feature archive into several projects of the same FirstSpirit server only
+ * uploads the archive once. Cached handles are bound to the {@link Connection} they have been uploaded with
+ * and are dropped as soon as the connection is garbage collected.
+ */
+public class FeatureFileCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FeatureFileCache.class);
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final FeatureFileCache SHARED_INSTANCE = new FeatureFileCache();
+
+	/**
+	 * Uploads a feature archive to the FirstSpirit server.
+	 */
+	@FunctionalInterface
+	public interface Uploader {
+		@NotNull
+		FeatureFile upload() throws IOException;
+	}
+
+	private final Map<Connection, Map<String, FeatureFile>> _featureFiles = new WeakHashMap<>();
+	private final Map<FileStamp, String> _hashes = new HashMap<>();
+	private final Map<String, Object> _uploadLocks = new HashMap<>();
+
+	/**
+	 * Returns the process wide cache instance, which is shared between all commands executed
+	 * by the same JVM (e.g. the steps of a batch run or the requests handled by the daemon).
+	 *
+	 * @return the shared {@link FeatureFileCache}.
+	 */
+	@NotNull
+	public static FeatureFileCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * Returns the {@link FeatureFile} previously uploaded with the given connection for an archive with the same
+	 * content as the given file, or uploads the file with the given {@link Uploader} and caches the result.
+	 * Concurrent calls for the same content wait for a single upload instead of uploading in parallel.
+	 *
+	 * @param connection the {@link Connection} the feature file is uploaded with.
+	 * @param file       the local feature archive.
+	 * @param uploader   the {@link Uploader} used on cache misses.
+	 * @return the cached or newly uploaded {@link FeatureFile}.
+	 * @throws IOException if the archive could not be read or uploaded.
+	 */
+	@NotNull
+	public FeatureFile get(@NotNull final Connection connection, @NotNull final File file, @NotNull final Uploader uploader) throws IOException {
+		final String hash = getContentHash(file);
+		final Object uploadLock;
+		synchronized (this) {
+			uploadLock = _uploadLocks.computeIfAbsent(hash, key -> new Object());
+		}
+		synchronized (uploadLock) {
+			final FeatureFile cachedFeatureFile = lookup(connection, hash);
+			if (cachedFeatureFile != null) {
+				LOGGER.info("Reusing already uploaded feature archive '{}' (SHA-256: {}).", file.getAbsolutePath(), hash);
+				return cachedFeatureFile;
+			}
+			final FeatureFile featureFile = Objects.requireNonNull(uploader.upload());
+			synchronized (this) {
+				_featureFiles.computeIfAbsent(connection, key -> new HashMap<>()).put(hash, featureFile);
+			}
+			return featureFile;
+		}
+	}
+
+	@Nullable
+	private synchronized FeatureFile lookup(@NotNull final Connection connection, @NotNull final String hash) {
+		return _featureFiles.getOrDefault(connection, Map.of()).get(hash);
+	}
+
+	/**
+	 * Removes the given {@link FeatureFile} from the cache, e.g. because the server does not know it anymore.
+	 *
+	 * @param connection  the {@link Connection} the feature file has been uploaded with.
+	 * @param featureFile the {@link FeatureFile} to forget.
+	 */
+	public synchronized void evict(@NotNull final Connection connection, @NotNull final FeatureFile featureFile) {
+		final Map<String, FeatureFile> featureFiles = _featureFiles.get(connection);
+		if (featureFiles != null) {
+			featureFiles.values().removeIf(cached -> cached == featureFile);
+		}
+	}
+
+	/**
+	 * Returns the number of cached {@link FeatureFile feature files} over all connections.
+	 *
+	 * @return the number of cached {@link FeatureFile feature files}.
+	 */
+	public synchronized int size() {
+		return _featureFiles.values().stream().mapToInt(Map::size).sum();
+	}
+
+	/**
+	 * Returns the hex encoded SHA-256 hash of the given file. Hashes are remembered per path, size and modification
+	 * time, so an unchanged archive is only read once.
+	 */
+	@VisibleForTesting
+	@NotNull
+	String getContentHash(@NotNull final File file) throws IOException {
+		final FileStamp stamp = new FileStamp(file);
+		synchronized (this) {
+			final String hash = _hashes.get(stamp);
+			if (hash != null) {
+				return hash;
+			}
+		}
+		final String hash = computeHash(file);
+		synchronized (this) {
+			_hashes.put(stamp, hash);
+		}
+		return hash;
+	}
+
+	@NotNull
+	@VisibleForTesting
+	static String computeHash(@NotNull final File file) throws IOException {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM + " is not supported by this JVM.", e);
+		}
+		final byte[] buffer = new byte[BUFFER_SIZE];
+		try (final InputStream inputStream = Files.newInputStream(file.toPath())) {
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		final StringBuilder builder = new StringBuilder();
+		for (final byte b : digest.digest()) {
+			builder.append(String.format("%02x", b));
+		}
+		return builder.toString();
+	}
+
+	private static final class FileStamp {
+
+		private final String _path;
+		private final long _length;
+		private final long _lastModified;
+
+		private FileStamp(@NotNull final File file) {
+			_path = file.getAbsolutePath();
+			_length = file.length();
+			_lastModified = file.lastModified();
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final FileStamp that = (FileStamp) o;
+			return _length == that._length && _lastModified == that._lastModified && _path.equals(that._path);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_path, _length, _lastModified);
+		}
+	}
+}
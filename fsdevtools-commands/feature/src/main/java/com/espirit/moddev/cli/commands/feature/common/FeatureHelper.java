@@ -50,6 +50,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +60,23 @@ public class FeatureHelper {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(FeatureHelper.class);
 
+	@Nullable
+	private final FeatureFileCache _featureFileCache;
+
+	public FeatureHelper() {
+		this(null);
+	}
+
+	/**
+	 * Creates a helper which looks up uploaded feature archives in the given {@link FeatureFileCache}
+	 * before uploading them again.
+	 *
+	 * @param featureFileCache the {@link FeatureFileCache} to use or {@code null} to always upload.
+	 */
+	public FeatureHelper(@Nullable final FeatureFileCache featureFileCache) {
+		_featureFileCache = featureFileCache;
+	}
+
 	/**
 	 * Returns a log string for the given {@link ExtendedFeatureAnalyseResult}.
 	 *
@@ -102,6 +120,27 @@ public class FeatureHelper {
 	@NotNull
 	public FeatureInstallResultImpl getFeatureInstallResult(@NotNull final FeatureInstallAgent featureInstallAgent, @NotNull final File file, @NotNull final LayerMapper layerMapper, final boolean includeFeatureModel) throws Exception {
 		final FeatureFile featureFile = uploadFeatureFile(featureInstallAgent, file);
+		return installFeature(featureInstallAgent, featureFile, layerMapper, includeFeatureModel);
+	}
+
+	/**
+	 * Installs an already uploaded feature archive, e.g. the {@link ExtendedFeatureAnalyseResult#getFeatureFile()
+	 * feature file} of a previous analysis, without uploading it again.
+	 * Returns {@link FeatureInstallResultImpl}.
+	 *
+	 * @param featureInstallAgent {@link FeatureInstallAgent}.
+	 * @param featureFile         the uploaded {@link FeatureFile}.
+	 * @param layerMapper         {@link LayerMapper}.
+	 * @return {@link FeatureInstallResultImpl}
+	 * @throws Exception if server side operation fails.
+	 */
+	@NotNull
+	public FeatureInstallResultImpl getFeatureInstallResult(@NotNull final FeatureInstallAgent featureInstallAgent, @NotNull final FeatureFile featureFile, @NotNull final LayerMapper layerMapper, final boolean includeFeatureModel) throws Exception {
+		return installFeature(featureInstallAgent, featureFile, layerMapper, includeFeatureModel);
+	}
+
+	@NotNull
+	private FeatureInstallResultImpl installFeature(@NotNull final FeatureInstallAgent featureInstallAgent, @NotNull final FeatureFile featureFile, @NotNull final LayerMapper layerMapper, final boolean includeFeatureModel) throws Exception {
 		final ServerActionHandle<? extends FeatureProgress, FeatureInstallResult> serverActionHandle = getServerActionHandleForFeatureInstallation(
 				featureInstallAgent,
 				featureFile,
@@ -158,6 +197,7 @@ public class FeatureHelper {
 
 	/**
 	 * Upload feature archive to the FirstSpirit server and analyze the feature.
+	 * The uploaded {@link FeatureFile} is kept in the returned result, so it can be installed without another upload.
 	 *
 	 * @param connection {@link Connection} to the FirstSpirit server.
 	 * @param project    {@link Project}.
@@ -168,7 +208,8 @@ public class FeatureHelper {
 	@NotNull
 	public ExtendedFeatureAnalyseResult getFeatureAnalyseResult(@NotNull final Connection connection, @NotNull final Project project, @NotNull final File file) throws Exception {
 		final FeatureInstallAgent featureInstallAgent = getFeatureInstallAgent(connection, project);
-		final FeatureFile featureFile = uploadFeatureFile(featureInstallAgent, file);
+		final AtomicBoolean uploaded = new AtomicBoolean();
+		FeatureFile featureFile = obtainFeatureFile(connection, featureInstallAgent, file, uploaded);
 		final String featureName = featureFile.getFeatureName();
 		final String absolutePathToFeatureFile = file.getAbsolutePath();
 		final String projectName = project.getName();
@@ -178,9 +219,22 @@ public class FeatureHelper {
 				projectName
 		);
 		LOGGER.info("Analyzing {}.", loggingStringForExtendedFeatureAnalyseResult);
-		final Optional<FeatureAnalyseResult> featureAnalyseResult = getFeatureAnalyseResult(featureInstallAgent, featureFile);
+		Optional<FeatureAnalyseResult> featureAnalyseResult;
+		try {
+			featureAnalyseResult = getFeatureAnalyseResult(featureInstallAgent, featureFile);
+		} catch (final Exception e) {
+			if (_featureFileCache == null || uploaded.get()) {
+				throw e;
+			}
+			// the server may have discarded the cached upload in the meantime, so retry once with a fresh one
+			LOGGER.debug("Analysis of cached upload failed, uploading {} again.", loggingStringForExtendedFeatureAnalyseResult, e);
+			_featureFileCache.evict(connection, featureFile);
+			featureFile = uploadFeatureFile(featureInstallAgent, file);
+			featureAnalyseResult = getFeatureAnalyseResult(featureInstallAgent, featureFile);
+		}
+		final FeatureFile analyzedFeatureFile = featureFile;
 		final ExtendedFeatureAnalyseResult result = featureAnalyseResult
-				.map(analyseResult -> new ExtendedFeatureAnalyseResult(analyseResult, featureName, absolutePathToFeatureFile, projectName))
+				.map(analyseResult -> new ExtendedFeatureAnalyseResult(analyseResult, featureName, absolutePathToFeatureFile, projectName, analyzedFeatureFile))
 				.orElseThrow(() -> new IllegalStateException(String.format("Error analyzing %s.", loggingStringForExtendedFeatureAnalyseResult)));
 		LOGGER.info("Analysis of {} has been completed.", getFeatureLoggingString(result));
 		return result;
@@ -227,6 +281,22 @@ public class FeatureHelper {
 		}
 	}
 
+	/**
+	 * Returns the {@link FeatureFile} for the given archive, either from the {@link FeatureFileCache} (if configured)
+	 * or by uploading it. The given flag is set if the archive has actually been uploaded.
+	 */
+	@NotNull
+	private FeatureFile obtainFeatureFile(@NotNull final Connection connection, @NotNull final FeatureInstallAgent featureInstallAgent, @NotNull final File file, @NotNull final AtomicBoolean uploaded) throws IOException {
+		if (_featureFileCache == null) {
+			uploaded.set(true);
+			return uploadFeatureFile(featureInstallAgent, file);
+		}
+		return _featureFileCache.get(connection, file, () -> {
+			uploaded.set(true);
+			return uploadFeatureFile(featureInstallAgent, file);
+		});
+	}
+
 	/**
 	 * Delegates to {@link FeatureInstallAgent}
 	 * to analyze the given {@link FeatureFile}.
@@ -25,12 +25,14 @@ package com.espirit.moddev.cli.commands.feature.cmd.install;
 import com.espirit.moddev.cli.commands.feature.common.ExtendedFeatureAnalyseResult;
 import com.espirit.moddev.cli.commands.feature.common.FeatureHelper;
 import com.espirit.moddev.cli.commands.feature.common.FsObjectsLoggingFormatHelper;
+import com.espirit.moddev.cli.utils.ProjectResult;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.database.BasicEntityInfo;
 import de.espirit.firstspirit.access.project.Project;
 import de.espirit.firstspirit.access.store.BasicElementInfo;
 import de.espirit.firstspirit.access.store.Store;
 import de.espirit.firstspirit.feature.FeatureAnalyseResult;
+import de.espirit.firstspirit.feature.FeatureFile;
 import de.espirit.firstspirit.feature.FeatureInstallAgent;
 import de.espirit.firstspirit.store.access.feature.ElementReference;
 import de.espirit.firstspirit.store.access.feature.FeatureInstallResultImpl;
@@ -67,6 +69,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
@@ -74,6 +77,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -131,6 +135,55 @@ class FeatureInstallCommandTest {
 		verify(_subjectUnderTest).logFeatureInstallResult(_featureInstallResult);
 	}
 
+	@Test
+	void execute_installs_feature_file_uploaded_for_analysis() throws Exception {
+		// GIVEN
+		final FeatureFile featureFile = mock(FeatureFile.class);
+		when(_subjectUnderTest.getFeatureHelper()).thenReturn(_featureHelper);
+		when(_subjectUnderTest.getLayerMapper(any())).thenReturn(_layerMapper);
+		when(_subjectUnderTest.getPathToFeatureZip()).thenReturn(PATH_TO_FEATURE_ZIP);
+		when(_featureHelper.getFeatureAnalyseResult(any(), any(), any(File.class))).thenReturn(_extendedFeatureAnalyseResult);
+		when(_extendedFeatureAnalyseResult.getFeatureAnalyseResult()).thenReturn(_featureAnalyseResult);
+		when(_extendedFeatureAnalyseResult.getFeatureFile()).thenReturn(Optional.of(featureFile));
+		when(_featureHelper.getFeatureInstallAgent(any(), any())).thenReturn(_featureInstallAgent);
+		when(_featureHelper.getFeatureInstallResult(any(), any(FeatureFile.class), any(), anyBoolean())).thenReturn(_featureInstallResult);
+		doCallRealMethod().when(_subjectUnderTest).execute(any(), any());
+		// WHEN
+		_subjectUnderTest.execute(_connection, _project);
+		// THEN
+		verify(_featureHelper).getFeatureInstallResult(_featureInstallAgent, featureFile, _layerMapper, false);
+		verify(_featureHelper, never()).getFeatureInstallResult(any(), any(File.class), any(), anyBoolean());
+		verify(_featureHelper, never()).uploadFeatureFile(any(), any());
+		verify(_subjectUnderTest).logFeatureInstallResult(_featureInstallResult);
+	}
+
+	@Test
+	void installIntoProjects_reports_result_per_project() throws Exception {
+		// GIVEN
+		final Project first = mock(Project.class);
+		final Project second = mock(Project.class);
+		final Project third = mock(Project.class);
+		when(first.getName()).thenReturn("tenant-01");
+		when(second.getName()).thenReturn("tenant-02");
+		when(third.getName()).thenReturn("tenant-03");
+		doAnswer(invocation -> {
+			if (invocation.getArgument(1) == second) {
+				throw new IllegalStateException("analysis failed");
+			}
+			return null;
+		}).when(_subjectUnderTest).execute(any(), any());
+		when(_subjectUnderTest.installIntoProjects(any(), anyList(), anyInt())).thenCallRealMethod();
+		// WHEN
+		final List<ProjectResult> results = _subjectUnderTest.installIntoProjects(_connection, List.of(first, second, third), 2);
+		// THEN
+		assertThat(results).extracting(ProjectResult::getProjectName).containsExactly("tenant-01", "tenant-02", "tenant-03");
+		assertThat(results).extracting(ProjectResult::isSuccessful).containsExactly(true, false, true);
+		assertThat(results.get(1).getException()).hasValueSatisfying(exception -> assertThat(exception).hasMessage("analysis failed"));
+		verify(_subjectUnderTest).execute(_connection, first);
+		verify(_subjectUnderTest).execute(_connection, second);
+		verify(_subjectUnderTest).execute(_connection, third);
+	}
+
 	@Test
 	void checkForErrors_no_errors_no_exception() {
 		// GIVEN
@@ -23,7 +23,7 @@
 package com.espirit.moddev.cli.commands.feature.common;
 
 import com.espirit.moddev.cli.ConnectionBuilder;
-import com.espirit.moddev.cli.results.SimpleResult;
+import com.espirit.moddev.cli.api.result.Result;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.project.Project;
 import org.assertj.core.api.Assertions;
@@ -75,7 +75,7 @@ class AbstractFeatureCommandTest {
 		doThrow(testError).when(_connection).connect();
 		when(_subjectUnderTest.call()).thenCallRealMethod();
 		// WHEN
-		final SimpleResult<Boolean> result = _subjectUnderTest.call();
+		final Result<?> result = _subjectUnderTest.call();
 		// THEN
 		assertThat(result)
 				.isNotNull();
@@ -96,7 +96,7 @@ class AbstractFeatureCommandTest {
 		doThrow(testError).when(_subjectUnderTest).getFirstSpiritProject(any());
 		when(_subjectUnderTest.call()).thenCallRealMethod();
 		// WHEN
-		final SimpleResult<Boolean> result = _subjectUnderTest.call();
+		final Result<?> result = _subjectUnderTest.call();
 		// THEN
 		assertThat(result)
 				.isNotNull();
@@ -119,7 +119,7 @@ class AbstractFeatureCommandTest {
 		doThrow(testError).when(_subjectUnderTest).execute(any(), any());
 		when(_subjectUnderTest.call()).thenCallRealMethod();
 		// WHEN
-		final SimpleResult<Boolean> result = _subjectUnderTest.call();
+		final Result<?> result = _subjectUnderTest.call();
 		// THEN
 		assertThat(result)
 				.isNotNull();
@@ -141,13 +141,13 @@ class AbstractFeatureCommandTest {
 		when(_subjectUnderTest.getFirstSpiritProject(any())).thenReturn(_project);
 		when(_subjectUnderTest.call()).thenCallRealMethod();
 		// WHEN
-		final SimpleResult<Boolean> result = _subjectUnderTest.call();
+		final Result<?> result = _subjectUnderTest.call();
 		// THEN
 		assertThat(result)
 				.isNotNull();
 		assertThat(result.isError())
 				.isFalse();
-		assertThat(result.get())
+		assertThat((Boolean) result.get())
 				.isNotNull()
 				.isTrue();
 		verify(_subjectUnderTest).getConnection();
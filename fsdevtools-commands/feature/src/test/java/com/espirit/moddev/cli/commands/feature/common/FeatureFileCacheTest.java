@@ -0,0 +1,124 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.feature.common;
+
+import de.espirit.firstspirit.access.Connection;
+import de.espirit.firstspirit.feature.FeatureFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FeatureFileCacheTest {
+
+	@TempDir
+	Path _tempDir;
+
+	@Test
+	void get_uploads_same_content_only_once() throws IOException {
+		// GIVEN
+		final FeatureFileCache cache = new FeatureFileCache();
+		final Connection connection = mock(Connection.class);
+		final File first = createFile("first.zip", "feature content");
+		final File second = createFile("second.zip", "feature content");
+		final AtomicInteger uploads = new AtomicInteger();
+		final FeatureFile featureFile = mock(FeatureFile.class);
+		// WHEN
+		final FeatureFile firstResult = cache.get(connection, first, () -> {
+			uploads.incrementAndGet();
+			return featureFile;
+		});
+		final FeatureFile secondResult = cache.get(connection, second, () -> {
+			uploads.incrementAndGet();
+			return mock(FeatureFile.class);
+		});
+		// THEN
+		assertThat(uploads).hasValue(1);
+		assertThat(firstResult).isSameAs(featureFile);
+		assertThat(secondResult).isSameAs(featureFile);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void get_uploads_different_content_or_connection_again() throws IOException {
+		// GIVEN
+		final FeatureFileCache cache = new FeatureFileCache();
+		final Connection connection = mock(Connection.class);
+		final Connection otherConnection = mock(Connection.class);
+		final File first = createFile("first.zip", "feature content");
+		final File second = createFile("second.zip", "other feature content");
+		final AtomicInteger uploads = new AtomicInteger();
+		final FeatureFileCache.Uploader uploader = () -> {
+			uploads.incrementAndGet();
+			return mock(FeatureFile.class);
+		};
+		// WHEN
+		cache.get(connection, first, uploader);
+		cache.get(connection, second, uploader);
+		cache.get(otherConnection, first, uploader);
+		// THEN
+		assertThat(uploads).hasValue(3);
+		assertThat(cache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void evict_forces_new_upload() throws IOException {
+		// GIVEN
+		final FeatureFileCache cache = new FeatureFileCache();
+		final Connection connection = mock(Connection.class);
+		final File file = createFile("feature.zip", "feature content");
+		final FeatureFile featureFile = mock(FeatureFile.class);
+		final FeatureFile newFeatureFile = mock(FeatureFile.class);
+		cache.get(connection, file, () -> featureFile);
+		// WHEN
+		cache.evict(connection, featureFile);
+		final FeatureFile result = cache.get(connection, file, () -> newFeatureFile);
+		// THEN
+		assertThat(result).isSameAs(newFeatureFile);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void computeHash_returns_sha256_hex_string() throws IOException {
+		// GIVEN
+		final File file = createFile("feature.zip", "abc");
+		// WHEN
+		final String hash = FeatureFileCache.computeHash(file);
+		// THEN
+		assertThat(hash).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+	}
+
+	private File createFile(final String name, final String content) throws IOException {
+		final Path path = _tempDir.resolve(name);
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+		return path.toFile();
+	}
+}
@@ -152,6 +152,23 @@ class FeatureHelperTest {
 		verify(_featureInstallResult).hasInstallException();
 	}
 
+	@Test
+	void getFeatureInstallResult_with_uploaded_feature_file_does_not_upload_again() throws Exception {
+		// GIVEN
+		Mockito.doReturn(_serverActionHandleWithFeatureInstallResult)
+				.when(_subjectUnderTest)
+				.getServerActionHandleForFeatureInstallation(any(), any(), any(), anyBoolean());
+		when(_serverActionHandleWithFeatureInstallResult.getResult(anyBoolean())).thenReturn(_featureInstallResult);
+		when(_featureInstallResult.hasInstallException()).thenReturn(false);
+		when(_subjectUnderTest.getFeatureInstallResult(any(), any(FeatureFile.class), any(), anyBoolean())).thenCallRealMethod();
+		// WHEN
+		final FeatureInstallResultImpl result = _subjectUnderTest.getFeatureInstallResult(_featureInstallAgent, _featureFile, _layerMapper, false);
+		// THEN
+		assertThat(result).isSameAs(_featureInstallResult);
+		verify(_subjectUnderTest, never()).uploadFeatureFile(any(), any(File.class));
+		verify(_subjectUnderTest).getServerActionHandleForFeatureInstallation(_featureInstallAgent, _featureFile, _layerMapper, false);
+	}
+
 	@Test
 	void getFeatureInstallResult_include_model() throws Exception {
 		// GIVEN
@@ -357,6 +374,7 @@ class FeatureHelperTest {
 		assertThat(result.getAbsolutePathToFeatureFile())
 				.isNotNull()
 				.isEqualTo(file.getAbsolutePath());
+		assertThat(result.getFeatureFile()).contains(_featureFile);
 		assertThat(result.getProjectName())
 				.isNotNull()
 				.isEqualTo("MY TEST PROJECT 71");
@@ -28,6 +28,7 @@ import com.espirit.moddev.shared.webapp.GlobalWebAppIdentifier;
 import com.espirit.moddev.shared.webapp.WebAppIdentifier;
 import com.espirit.moddev.shared.webapp.WebAppIdentifierParser;
 import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.agency.GlobalWebAppId;
@@ -54,6 +55,11 @@ import java.util.stream.Collectors;
  */
 public class ModuleInstallationConfiguration {
 
+	private static final ObjectReader READER = JsonMapper.builder()
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			.build()
+			.readerFor(ModuleInstallationConfiguration[].class);
+
 	/**
 	 * Returns a {@link List list} of configurations for the file at the given path.
 	 *
@@ -67,10 +73,7 @@ public class ModuleInstallationConfiguration {
 			throw new IllegalArgumentException("File '" + pathToFile + "' does not exist.");
 		}
 
-		final JsonMapper jsonMapper = JsonMapper.builder()
-				.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-				.build();
-		final ModuleInstallationConfiguration[] configurations = jsonMapper.readValue(Files.readAllBytes(path), ModuleInstallationConfiguration[].class);
+		final ModuleInstallationConfiguration[] configurations = READER.readValue(Files.readAllBytes(path));
 		return Arrays.asList(configurations);
 	}
 
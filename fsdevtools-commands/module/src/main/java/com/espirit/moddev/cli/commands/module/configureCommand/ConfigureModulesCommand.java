@@ -41,8 +41,10 @@ import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
 import com.github.rvesse.airline.annotations.OptionType;
 import com.github.rvesse.airline.annotations.help.Examples;
+import com.github.rvesse.airline.annotations.restrictions.Once;
 import com.github.rvesse.airline.annotations.restrictions.PathKind;
 import com.github.rvesse.airline.annotations.restrictions.Required;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.agency.ModuleAdminAgent;
 import de.espirit.firstspirit.agency.WebAppId;
@@ -149,6 +151,21 @@ public class ConfigureModulesCommand extends SimpleCommand<ConfigureModulesComma
 	)
 	private String _configFile;
 
+	@Option(arity = 1, type = OptionType.COMMAND, name = {"-dpar", "--deployParallelism"}, description = "Maximum number of web apps that are deployed concurrently, at least 1. Web apps of the same project are always deployed one after another. Default is 1.", title = "deployParallelism")
+	@Once
+	@Positive
+	@ParameterExamples(
+			examples = {
+					"-dpar 4",
+					"--deployParallelism 1"
+			},
+			descriptions = {
+					"Deploys up to 4 web apps at the same time.",
+					"Deploys the web apps one after another.",
+			}
+	)
+	private int _deployParallelism = WebAppUtil.DEFAULT_DEPLOY_PARALLELISM;
+
 	@Override
 	public ConfigureModulesCommandResult call() {
 		try (final Connection connection = ConnectionBuilder.with(this).build()) {
@@ -169,7 +186,7 @@ public class ConfigureModulesCommand extends SimpleCommand<ConfigureModulesComma
 		// configure modules
 		final ExecutionResults configureResults = configureModules(context, moduleConfigurations);
 		// deploy web apps
-		final ExecutionResults deployResults = WebAppUtil.deployWebApps(context.getConnection(), extractWebAppsToDeploy(configureResults));
+		final ExecutionResults deployResults = WebAppUtil.deployWebApps(context.getConnection(), extractWebAppsToDeploy(configureResults), _deployParallelism);
 		// create final result list
 		final ExecutionResults results = new ExecutionResults();
 		results.add(configureResults);
@@ -37,7 +37,6 @@ import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.JacksonException;
-import tools.jackson.databind.json.JsonMapper;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -84,8 +83,7 @@ public class ModuleConfiguration implements Configurable {
 	 */
 	@NotNull
 	public static Collection<ModuleConfiguration> fromBytes(@NotNull final byte[] bytes) throws JacksonException {
-		final JsonMapper jsonMapper = JacksonUtil.createInputMapper();
-		final ModuleConfiguration[] configurations = jsonMapper.readValue(bytes, ModuleConfiguration[].class);
+		final ModuleConfiguration[] configurations = JacksonUtil.getInputReader(ModuleConfiguration[].class).readValue(bytes);
 		return Arrays.asList(configurations);
 	}
 
@@ -33,8 +33,10 @@ import com.espirit.moddev.cli.commands.module.common.ModuleInstallationConfigura
 import com.espirit.moddev.cli.commands.module.common.ModuleInstallationParameters;
 import com.espirit.moddev.cli.commands.module.installCommand.InstallModuleCommandResult;
 import com.espirit.moddev.cli.commands.module.utils.ModuleInstallationResult;
+import com.espirit.moddev.cli.commands.module.utils.ModuleInstallationScheduler;
 import com.espirit.moddev.cli.commands.module.utils.ModuleInstaller;
 import com.espirit.moddev.cli.commands.module.utils.WebAppUtil;
+import com.espirit.moddev.cli.utils.ParallelExecutor;
 import com.espirit.moddev.shared.exception.MultiException;
 import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
@@ -43,6 +45,7 @@ import com.github.rvesse.airline.annotations.help.Examples;
 import com.github.rvesse.airline.annotations.restrictions.Once;
 import com.github.rvesse.airline.annotations.restrictions.PathKind;
 import com.github.rvesse.airline.annotations.restrictions.Required;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.agency.ModuleAdminAgent;
 import de.espirit.firstspirit.agency.WebAppId;
@@ -53,9 +56,9 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Installs a set of modules on a FirstSpirit server. The configuration of this command is done by a config file in
@@ -67,6 +70,7 @@ import java.util.Set;
 		examples = {
 				"module installBulk -mcf \"folder/configFile.json\"",
 				"module installBulk -mcf \"myConfigFile.json\" --deployWebApps false",
+				"module installBulk -mcf \"myConfigFile.json\" --parallelism 4",
 				"[\n" +
 						"\t{\n" +
 						"\t\t\"fsm\": \"H:\\\\path\\\\fs-saml-login-1.1.fsm\"\n" +
@@ -81,6 +85,7 @@ import java.util.Set;
 		descriptions = {
 				"Installs the modules of the given configuration file and deploys all related webapps.",
 				"Installs the modules of the given configuration file but does not deploy the related webapps.",
+				"Installs up to 4 independent modules of the given configuration file at the same time and deploys all related webapps afterwards.",
 				"Example configFile.json:"
 		}
 )
@@ -117,6 +122,36 @@ public class InstallModulesCommand extends SimpleCommand<InstallModulesCommandRe
 	)
 	private boolean _deploy = true;
 
+	@Option(arity = 1, type = OptionType.COMMAND, name = {"-par", "--parallelism"}, description = "Maximum number of modules that are installed concurrently, at least 1. Modules that install the same fsm, into the same project or into the same global web app, and modules that depend on each other are always installed in configured order. Default is 1.", title = "parallelism")
+	@Once
+	@Positive
+	@ParameterExamples(
+			examples = {
+					"-par 4",
+					"--parallelism 1"
+			},
+			descriptions = {
+					"Installs up to 4 independent modules at the same time.",
+					"Installs the modules one after another.",
+			}
+	)
+	private int _parallelism = 1;
+
+	@Option(arity = 1, type = OptionType.COMMAND, name = {"-dpar", "--deployParallelism"}, description = "Maximum number of web apps that are deployed concurrently, at least 1. Web apps of the same project are always deployed one after another. Default is 1.", title = "deployParallelism")
+	@Once
+	@Positive
+	@ParameterExamples(
+			examples = {
+					"-dpar 4",
+					"--deployParallelism 1"
+			},
+			descriptions = {
+					"Deploys up to 4 web apps at the same time.",
+					"Deploys the web apps one after another.",
+			}
+	)
+	private int _deployParallelism = WebAppUtil.DEFAULT_DEPLOY_PARALLELISM;
+
 	@Override
 	public InstallModulesCommandResult call() {
 		try (final Connection connection = ConnectionBuilder.with(this).build()) {
@@ -181,6 +216,9 @@ public class InstallModulesCommand extends SimpleCommand<InstallModulesCommandRe
 	 * - return the list of results
 	 * <p>
 	 * This way we make sure that we collect all installation results, independent of the installation-result of a single module
+	 * <p>
+	 * With a parallelism greater than 1, independent modules are installed concurrently by a {@link ModuleInstallationScheduler}.
+	 * The results are still collected in configured order and the web apps are deployed once after all installations.
 	 *
 	 * @param connection the connection to use for the installation
 	 * @param parameters the list of {@link ModuleInstallationParameters module parameters} used for the installation
@@ -188,27 +226,16 @@ public class InstallModulesCommand extends SimpleCommand<InstallModulesCommandRe
 	 */
 	@NotNull
 	private InstallModulesCommandResult installModulesAndDeploy(@NotNull final Connection connection, @NotNull final List<ModuleInstallationParameters> parameters) {
-		final ArrayList<InstallModuleCommandResult> results = new ArrayList<>();
-		final Set<WebAppId> overallUpdatedWebApps = new HashSet<>();
+		final Set<WebAppId> overallUpdatedWebApps = ConcurrentHashMap.newKeySet();
 		final ModuleInstaller moduleInstaller = new ModuleInstaller(connection);
-		for (final ModuleInstallationParameters singleParameter : parameters) {
-			try {
-				if (!connection.isConnected()) {
-					throw new IllegalStateException("Connection is null or not connected!");
-				}
-				LOGGER.info(AbstractCommandResult.LINE_SEPARATOR);
-				final InstallModuleCommandResult singleInstallResult = moduleInstaller.installModule(singleParameter);
-				final ModuleInstallationResult installationResult = singleInstallResult.getInstallationResult();
-				if (installationResult != null) {
-					final ModuleAdminAgent.ModuleResult moduleResult = installationResult.getModuleResult();
-					final ArrayList<WebAppId> updatedWebApps = new ArrayList<>(moduleResult.getUpdatedWebApps());
-					overallUpdatedWebApps.addAll(updatedWebApps);
-					results.add(singleInstallResult);
-				} else {
-					results.add(singleInstallResult);
-				}
-			} catch (final Throwable throwable) {
-				results.add(new InstallModuleCommandResult(singleParameter.getFsm().getAbsolutePath(), throwable));
+		final List<InstallModuleCommandResult> results;
+		if (_parallelism > 1 && parameters.size() > 1) {
+			LOGGER.info("Installing {} modules with a parallelism of {}...", parameters.size(), _parallelism);
+			results = new ModuleInstallationScheduler(_parallelism).execute(parameters, singleParameter -> installModule(connection, moduleInstaller, singleParameter, overallUpdatedWebApps));
+		} else {
+			results = new ArrayList<>();
+			for (final ModuleInstallationParameters singleParameter : parameters) {
+				results.add(installModule(connection, moduleInstaller, singleParameter, overallUpdatedWebApps));
 			}
 		}
 
@@ -216,12 +243,41 @@ public class InstallModulesCommand extends SimpleCommand<InstallModulesCommandRe
 		final ExecutionResults executionResults = new ExecutionResults();
 		results.forEach(installModuleCommandResult -> executionResults.add(installModuleCommandResult.get()));
 		if (_deploy) {
-			final ExecutionResults deployExecutionResults = WebAppUtil.deployWebApps(connection, overallUpdatedWebApps);
+			final ExecutionResults deployExecutionResults = WebAppUtil.deployWebApps(connection, overallUpdatedWebApps, _deployParallelism);
 			deployExecutionResults.stream().forEach(executionResults::add);
 		}
 		return new InstallModulesCommandResult(executionResults);
 	}
 
+	@NotNull
+	private static InstallModuleCommandResult installModule(@NotNull final Connection connection, @NotNull final ModuleInstaller moduleInstaller, @NotNull final ModuleInstallationParameters singleParameter, @NotNull final Set<WebAppId> overallUpdatedWebApps) {
+		try {
+			if (!connection.isConnected()) {
+				throw new IllegalStateException("Connection is null or not connected!");
+			}
+			LOGGER.info(AbstractCommandResult.LINE_SEPARATOR);
+			final InstallModuleCommandResult singleInstallResult = moduleInstaller.installModule(singleParameter);
+			final ModuleInstallationResult installationResult = singleInstallResult.getInstallationResult();
+			if (installationResult != null) {
+				final ModuleAdminAgent.ModuleResult moduleResult = installationResult.getModuleResult();
+				overallUpdatedWebApps.addAll(moduleResult.getUpdatedWebApps());
+			}
+			return singleInstallResult;
+		} catch (final Throwable throwable) {
+			return new InstallModuleCommandResult(singleParameter.getFsm().getAbsolutePath(), throwable);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of modules that are installed concurrently.
+	 *
+	 * @param parallelism the maximum number of concurrent installations, at least 1
+	 * @throws IllegalArgumentException if the parallelism is less than 1
+	 */
+	public void setParallelism(final int parallelism) {
+		_parallelism = ParallelExecutor.checkParallelism(parallelism);
+	}
+
 	@Override
 	public boolean needsContext() {
 		return false;
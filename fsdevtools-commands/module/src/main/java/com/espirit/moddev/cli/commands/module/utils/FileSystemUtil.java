@@ -25,10 +25,12 @@ package com.espirit.moddev.cli.commands.module.utils;
 import com.espirit.moddev.cli.api.result.ExecutionErrorResult;
 import com.espirit.moddev.cli.api.result.ExecutionResult;
 import com.espirit.moddev.cli.api.result.ExecutionResults;
+import com.espirit.moddev.cli.utils.ParallelExecutor;
 import org.jetbrains.annotations.VisibleForTesting;
 import de.espirit.firstspirit.io.FileHandle;
 import de.espirit.firstspirit.io.FileSystem;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,14 +38,34 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 public class FileSystemUtil {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemUtil.class);
 
+	/**
+	 * The default number of concurrent uploads used by {@link #uploadFiles(Collection, FileSystem)}.
+	 */
+	public static final int DEFAULT_UPLOAD_PARALLELISM = 4;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	@VisibleForTesting
 	@NotNull
 	static String buildPath(@NotNull final String[] childPath) {
@@ -53,58 +75,167 @@ public class FileSystemUtil {
 	/**
 	 * Uploads a collection of files/directories to the {@link FileSystem} returned by the given {@link Supplier}.
 	 * Uploading a directory will also upload the contents of the directory, keeping the current directory structure.
+	 * Uses {@link #DEFAULT_UPLOAD_PARALLELISM} concurrent uploads.
 	 *
 	 * @param files      the collection of files/directories to upload
 	 * @param fileSystem the {@link FileSystem}
 	 * @return a {@link ExecutionResults result} containing information about the uploads
+	 * @see #uploadFiles(Collection, FileSystem, int)
 	 */
 	@NotNull
 	public static ExecutionResults uploadFiles(@NotNull final Collection<String> files, @NotNull final FileSystem<?> fileSystem) {
+		return uploadFiles(files, fileSystem, DEFAULT_UPLOAD_PARALLELISM);
+	}
+
+	/**
+	 * Uploads a collection of files/directories to the given {@link FileSystem}. Uploading a directory will also upload the contents of the
+	 * directory, keeping the current directory structure.
+	 * <p>
+	 * The upload runs in two phases: first the local files are collected and every target directory is created exactly once, then the files
+	 * are uploaded by up to {@code parallelism} concurrent workers. Files whose remote copy already has the same size and checksum are not
+	 * uploaded again. The order of the returned results matches the order in which the files were collected.
+	 *
+	 * @param files       the collection of files/directories to upload
+	 * @param fileSystem  the {@link FileSystem}
+	 * @param parallelism the maximum number of concurrent uploads
+	 * @return a {@link ExecutionResults result} containing information about the uploads
+	 */
+	@NotNull
+	public static ExecutionResults uploadFiles(@NotNull final Collection<String> files, @NotNull final FileSystem<?> fileSystem, final int parallelism) {
+		ParallelExecutor.checkParallelism(parallelism);
 		final ExecutionResults fileResults = new ExecutionResults();
-		if (!files.isEmpty()) {
-			LOGGER.debug("Uploading files [ {} ]...", String.join(", ", files));
-			for (final String file : files) {
-				fileResults.add(uploadFiles(fileSystem, file, new String[0], true));
-			}
+		if (files.isEmpty()) {
+			return fileResults;
+		}
+		LOGGER.debug("Uploading files [ {} ]...", String.join(", ", files));
+		final List<UploadTask> tasks = new ArrayList<>();
+		final Set<Path> visitedDirectories = new HashSet<>();
+		for (final String file : files) {
+			collectFiles(file, new String[0], true, visitedDirectories, tasks);
+		}
+		createTargetDirectories(fileSystem, tasks);
+		final long uploadableFiles = tasks.stream().filter(UploadTask::isUploadable).count();
+		if (parallelism == 1 || uploadableFiles <= 1) {
+			tasks.forEach(task -> fileResults.add(task.execute(fileSystem)));
+		} else {
+			uploadConcurrently(fileSystem, tasks, parallelism).forEach(fileResults::add);
 		}
 		return fileResults;
 	}
 
 	/**
-	 * Uploads a file or directory to the given {@link FileSystem}. Uploading a directory will also upload the contents of the directory,
-	 * keeping the current directory structure.
+	 * Collects the file or directory of the given path as {@link UploadTask upload tasks}. Collecting a directory will also collect
+	 * the contents of the directory, keeping the current directory structure. Directories reachable more than once (e.g. via symbolic
+	 * links pointing to one of their parents) are only collected once.
 	 *
-	 * @param fileSystem the target {@link FileSystem}
-	 * @param path       the local path of the file or directory to upload
-	 * @param parentPath the parent path of the current path
-	 * @param isTopLevel whether the current element is on the top level or not
-	 * @return a {@link ExecutionResult result} containing all information about the upload
+	 * @param path               the local path of the file or directory to upload
+	 * @param parentPath         the parent path of the current path
+	 * @param isTopLevel         whether the current element is on the top level or not
+	 * @param visitedDirectories the real paths of all directories collected so far
+	 * @param tasks              the list to add the collected tasks to
 	 */
-	@NotNull
-	private static ExecutionResult uploadFiles(@NotNull final FileSystem<?> fileSystem, @NotNull final String path, @NotNull final String[] parentPath, final boolean isTopLevel) {
+	private static void collectFiles(@NotNull final String path, @NotNull final String[] parentPath, final boolean isTopLevel, @NotNull final Set<Path> visitedDirectories, @NotNull final List<UploadTask> tasks) {
 		final File file = new File(path);
-		if (file.isDirectory()) {
-			// handle directory
-			final ExecutionResults results = new ExecutionResults();
-			final String[] files = file.list();
-			if (files != null) {
-				final String[] childPath;
-				if (isTopLevel) {
-					// top level directories are not created, otherwise it would be impossible to upload the contents of a directory directly to the root
-					childPath = parentPath;
-				} else {
-					// copy the current path and append the current directory
-					childPath = new String[parentPath.length + 1];
-					System.arraycopy(parentPath, 0, childPath, 0, parentPath.length);
-					childPath[childPath.length - 1] = file.getName();
+		if (!file.isDirectory()) {
+			// upload single file
+			tasks.add(new UploadTask(path, buildPath(parentPath)));
+			return;
+		}
+		try {
+			if (!visitedDirectories.add(file.toPath().toRealPath())) {
+				LOGGER.debug("Directory '{}' has already been collected, skipping it.", path);
+				return;
+			}
+		} catch (final IOException exception) {
+			LOGGER.debug("Could not resolve real path of directory '{}'.", path, exception);
+		}
+		final String[] files = file.list();
+		if (files == null) {
+			return;
+		}
+		final String[] childPath;
+		if (isTopLevel) {
+			// top level directories are not created, otherwise it would be impossible to upload the contents of a directory directly to the root
+			childPath = parentPath;
+		} else {
+			// copy the current path and append the current directory
+			childPath = new String[parentPath.length + 1];
+			System.arraycopy(parentPath, 0, childPath, 0, parentPath.length);
+			childPath[childPath.length - 1] = file.getName();
+		}
+		// collect all inner directories & files
+		Arrays.sort(files);
+		for (final String fileName : files) {
+			collectFiles(file.toPath().toAbsolutePath().resolve(fileName).toString(), childPath, false, visitedDirectories, tasks);
+		}
+	}
+
+	/**
+	 * Creates the target directory of every uploadable task, calling {@link FileHandle#mkDirs()} only once per directory.
+	 * If a directory can not be created, all tasks targeting this directory are marked as failed.
+	 *
+	 * @param fileSystem the target {@link FileSystem}
+	 * @param tasks      the collected tasks
+	 */
+	private static void createTargetDirectories(@NotNull final FileSystem<?> fileSystem, @NotNull final List<UploadTask> tasks) {
+		final Map<String, IOException> createdDirectories = new HashMap<>();
+		for (final UploadTask task : tasks) {
+			if (!task.isUploadable()) {
+				continue;
+			}
+			final String targetDirectory = task.getTargetDirectory();
+			if (!createdDirectories.containsKey(targetDirectory)) {
+				IOException failure = null;
+				try {
+					LOGGER.debug("Creating directory '{}'...", targetDirectory);
+					final FileHandle parent = fileSystem.obtain(task.getTargetFile()).getParent();
+					if (parent != null) {
+						parent.mkDirs();
+					}
+				} catch (final IOException exception) {
+					failure = exception;
 				}
-				// upload all inner directories & files
-				Arrays.stream(files).forEach(fileName -> results.add(uploadFiles(fileSystem, file.toPath().toAbsolutePath().resolve(fileName).toString(), childPath, false)));
+				createdDirectories.put(targetDirectory, failure);
+			}
+			final IOException failure = createdDirectories.get(targetDirectory);
+			if (failure != null) {
+				task.setDirectoryFailure(failure);
+			}
+		}
+	}
+
+	/**
+	 * Executes the given tasks with up to {@code parallelism} concurrent workers.
+	 *
+	 * @param fileSystem  the target {@link FileSystem}
+	 * @param tasks       the tasks to execute
+	 * @param parallelism the maximum number of concurrent uploads
+	 * @return the results of the tasks, in the order of the given tasks
+	 */
+	@NotNull
+	private static List<ExecutionResult> uploadConcurrently(@NotNull final FileSystem<?> fileSystem, @NotNull final List<UploadTask> tasks, final int parallelism) {
+		try (final ParallelExecutor executor = new ParallelExecutor("config-uploader", parallelism, tasks.size())) {
+			final List<Future<ExecutionResult>> futures = new ArrayList<>(tasks.size());
+			for (final UploadTask task : tasks) {
+				futures.add(executor.submit(() -> task.execute(fileSystem)));
+			}
+			final List<ExecutionResult> results = new ArrayList<>(tasks.size());
+			for (int index = 0; index < futures.size(); index++) {
+				results.add(awaitResult(futures.get(index), tasks.get(index)));
 			}
 			return results;
-		} else {
-			// upload single file
-			return uploadFile(fileSystem, path, buildPath(parentPath));
+		}
+	}
+
+	@NotNull
+	private static ExecutionResult awaitResult(@NotNull final Future<ExecutionResult> future, @NotNull final UploadTask task) {
+		try {
+			return future.get();
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			return new FileUploadFailedResult(task.getPath(), new InterruptedIOException("Upload interrupted."));
+		} catch (final ExecutionException exception) {
+			return new FileUploadFailedResult(task.getPath(), new IOException(exception.getCause()));
 		}
 	}
 
@@ -118,6 +249,11 @@ public class FileSystemUtil {
 	@VisibleForTesting
 	@NotNull
 	static ExecutionResult uploadFile(@NotNull final FileSystem<?> fileSystem, @NotNull final String pathToFile, @NotNull final String targetDirectory) {
+		return uploadFile(fileSystem, pathToFile, targetDirectory, true);
+	}
+
+	@NotNull
+	private static ExecutionResult uploadFile(@NotNull final FileSystem<?> fileSystem, @NotNull final String pathToFile, @NotNull final String targetDirectory, final boolean createParent) {
 		final File file = new File(pathToFile);
 		if (!file.exists()) {
 			return new FileNotFoundResult(pathToFile);
@@ -126,17 +262,119 @@ public class FileSystemUtil {
 			return new ObjectIsNotAFileResult(pathToFile);
 		}
 		try {
-			final String targetFile = targetDirectory + FileSystem.SEPARATOR + file.getName();
-			LOGGER.debug("Uploading file '{}' to '{}'...", pathToFile, targetFile);
+			final String targetFile = getTargetFile(targetDirectory, file);
 			final FileHandle handle = fileSystem.obtain(targetFile);
-			handle.getParent().mkDirs();
-			handle.save(new BufferedInputStream(new FileInputStream(file)));
+			if (isUnchanged(handle, file)) {
+				LOGGER.debug("File '{}' is unchanged, skipping upload to '{}'.", pathToFile, targetFile);
+				return new FileUnchangedResult(pathToFile);
+			}
+			LOGGER.debug("Uploading file '{}' to '{}'...", pathToFile, targetFile);
+			if (createParent) {
+				handle.getParent().mkDirs();
+			}
+			try (final InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+				handle.save(inputStream);
+			}
 			return new FileUploadedResult(pathToFile);
 		} catch (final IOException exception) {
 			return new FileUploadFailedResult(pathToFile, exception);
 		}
 	}
 
+	@NotNull
+	private static String getTargetFile(@NotNull final String targetDirectory, @NotNull final File file) {
+		return targetDirectory + FileSystem.SEPARATOR + file.getName();
+	}
+
+	/**
+	 * Checks whether the remote file already has the content of the local file. The sizes are compared first; only if they match, the
+	 * CRC-32 of the remote file is compared with the local file. If the file system does not provide a CRC, the file counts as changed:
+	 * downloading the remote file would cost as much as the upload, and modification times of local files (e.g. extracted from an archive)
+	 * and of the server are not comparable.
+	 *
+	 * @param handle the remote file
+	 * @param file   the local file
+	 * @return {@code true} if both files have the same size and checksum
+	 */
+	@VisibleForTesting
+	static boolean isUnchanged(@NotNull final FileHandle handle, @NotNull final File file) {
+		try {
+			if (!handle.exists() || !handle.isFile() || handle.getSize() != file.length()) {
+				return false;
+			}
+			return handle.hasCrc() && handle.getCrc() == computeCrc(file);
+		} catch (final IOException exception) {
+			LOGGER.debug("Could not compare remote file '{}' with local file '{}', uploading it.", handle.getPath(), file, exception);
+			return false;
+		}
+	}
+
+	private static long computeCrc(@NotNull final File file) throws IOException {
+		final CRC32 crc = new CRC32();
+		try (final InputStream inputStream = new CheckedInputStream(new FileInputStream(file), crc)) {
+			drain(inputStream);
+		}
+		return crc.getValue();
+	}
+
+	private static void drain(@NotNull final InputStream inputStream) throws IOException {
+		final byte[] buffer = new byte[BUFFER_SIZE];
+		//noinspection StatementWithEmptyBody
+		while (inputStream.read(buffer) != -1) {
+			// only consume the stream
+		}
+	}
+
+	/**
+	 * A single file collected for upload, together with its target directory.
+	 */
+	private static class UploadTask {
+
+		private final String _path;
+		private final String _targetDirectory;
+		private final File _file;
+		@Nullable
+		private IOException _directoryFailure;
+
+		private UploadTask(@NotNull final String path, @NotNull final String targetDirectory) {
+			_path = path;
+			_targetDirectory = targetDirectory;
+			_file = new File(path);
+		}
+
+		@NotNull
+		String getPath() {
+			return _path;
+		}
+
+		@NotNull
+		String getTargetDirectory() {
+			return _targetDirectory;
+		}
+
+		@NotNull
+		String getTargetFile() {
+			return FileSystemUtil.getTargetFile(_targetDirectory, _file);
+		}
+
+		boolean isUploadable() {
+			return _file.isFile();
+		}
+
+		void setDirectoryFailure(@NotNull final IOException directoryFailure) {
+			_directoryFailure = directoryFailure;
+		}
+
+		@NotNull
+		ExecutionResult execute(@NotNull final FileSystem<?> fileSystem) {
+			if (_directoryFailure != null) {
+				return new FileUploadFailedResult(_path, _directoryFailure);
+			}
+			return uploadFile(fileSystem, _path, _targetDirectory, false);
+		}
+
+	}
+
 	@VisibleForTesting
 	public static abstract class FileResult {
 
@@ -172,6 +410,18 @@ public class FileSystemUtil {
 
 	}
 
+	@VisibleForTesting
+	static class FileUnchangedResult extends FileResult implements ExecutionResult {
+
+		@VisibleForTesting
+		static final String MESSAGE = "File '%s' is unchanged, upload skipped.";
+
+		private FileUnchangedResult(@NotNull final String fileName) {
+			super(fileName, String.format(MESSAGE, fileName));
+		}
+
+	}
+
 	@VisibleForTesting
 	static class FileNotFoundResult extends FileResult implements ExecutionErrorResult<IOException> {
 
@@ -0,0 +1,148 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.module.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The parts of the module descriptor of a fsm file which are needed before the module is installed: the name of the
+ * module and the names of the modules it depends on.
+ */
+public final class FsmDescriptor {
+
+	static final String ISOLATED_DESCRIPTOR = "META-INF/module-isolated.xml";
+	static final String LEGACY_DESCRIPTOR = "META-INF/module.xml";
+
+	private static final String TAG_NAME = "name";
+	private static final String TAG_DEPENDENCIES = "dependencies";
+	private static final String TAG_DEPENDS = "depends";
+
+	/**
+	 * Reads the module descriptor of the given fsm file. The isolated descriptor is preferred over the legacy one.
+	 *
+	 * @param fsm the fsm file
+	 * @return the descriptor of the fsm
+	 * @throws IOException if the fsm could not be read or contains no valid module descriptor
+	 */
+	@NotNull
+	public static FsmDescriptor read(@NotNull final File fsm) throws IOException {
+		try (final ZipFile zipFile = new ZipFile(fsm)) {
+			ZipEntry entry = zipFile.getEntry(ISOLATED_DESCRIPTOR);
+			if (entry == null) {
+				entry = zipFile.getEntry(LEGACY_DESCRIPTOR);
+			}
+			if (entry == null) {
+				throw new IOException("Fsm '" + fsm + "' contains no module descriptor.");
+			}
+			try (final InputStream inputStream = zipFile.getInputStream(entry)) {
+				return parse(inputStream);
+			} catch (final SAXException | ParserConfigurationException e) {
+				throw new IOException("Module descriptor of fsm '" + fsm + "' could not be parsed.", e);
+			}
+		}
+	}
+
+	@NotNull
+	static FsmDescriptor parse(@NotNull final InputStream inputStream) throws IOException, SAXException, ParserConfigurationException {
+		final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+		factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+		final DocumentBuilder builder = factory.newDocumentBuilder();
+		final Document document = builder.parse(inputStream);
+		final Element module = document.getDocumentElement();
+		final Element name = getChild(module, TAG_NAME);
+		if (name == null || name.getTextContent().isBlank()) {
+			throw new IOException("Module descriptor defines no module name.");
+		}
+		final List<String> dependencies = new ArrayList<>();
+		final Element dependenciesElement = getChild(module, TAG_DEPENDENCIES);
+		if (dependenciesElement != null) {
+			final NodeList children = dependenciesElement.getChildNodes();
+			for (int i = 0; i < children.getLength(); i++) {
+				final Node child = children.item(i);
+				if (child instanceof Element && TAG_DEPENDS.equals(child.getNodeName()) && !child.getTextContent().isBlank()) {
+					dependencies.add(child.getTextContent().trim());
+				}
+			}
+		}
+		return new FsmDescriptor(name.getTextContent().trim(), dependencies);
+	}
+
+	@Nullable
+	private static Element getChild(@NotNull final Element parent, @NotNull final String tagName) {
+		final NodeList children = parent.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			final Node child = children.item(i);
+			if (child instanceof Element && tagName.equals(child.getNodeName())) {
+				return (Element) child;
+			}
+		}
+		return null;
+	}
+
+	private final String _moduleName;
+	private final List<String> _dependencies;
+
+	FsmDescriptor(@NotNull final String moduleName, @NotNull final List<String> dependencies) {
+		_moduleName = moduleName;
+		_dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+	}
+
+	@NotNull
+	public String getModuleName() {
+		return _moduleName;
+	}
+
+	/**
+	 * @return the names of the modules this module depends on, in order of the descriptor
+	 */
+	@NotNull
+	public List<String> getDependencies() {
+		return _dependencies;
+	}
+
+	@Override
+	public String toString() {
+		return _moduleName + (_dependencies.isEmpty() ? "" : " (depends on " + String.join(", ", _dependencies) + ")");
+	}
+
+}
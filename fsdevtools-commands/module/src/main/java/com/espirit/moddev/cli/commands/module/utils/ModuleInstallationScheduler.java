@@ -0,0 +1,191 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.module.utils;
+
+import com.espirit.moddev.cli.commands.module.common.ModuleInstallationParameters;
+import com.espirit.moddev.cli.utils.ParallelExecutor;
+import com.espirit.moddev.shared.StringUtils;
+import com.espirit.moddev.shared.webapp.GlobalWebAppIdentifier;
+import com.espirit.moddev.shared.webapp.WebAppIdentifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Executes module installations concurrently while keeping the configured order of installations that depend on each
+ * other. Two installations depend on each other if they install the same fsm, install into the same project or into
+ * the same global web app, or if one module depends on the other according to the {@link FsmDescriptor module
+ * descriptor} of its fsm. An installation starts as soon as all earlier installations it depends on are finished,
+ * independent installations run in parallel up to the configured parallelism.
+ */
+public class ModuleInstallationScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ModuleInstallationScheduler.class);
+
+	private final int _parallelism;
+
+	/**
+	 * @param parallelism the maximum number of concurrent installations, at least 1
+	 */
+	public ModuleInstallationScheduler(final int parallelism) {
+		_parallelism = ParallelExecutor.checkParallelism(parallelism);
+	}
+
+	/**
+	 * Executes the given installation for all given parameters and returns the results in the order of the parameters.
+	 * The installation must not throw exceptions but return an error result instead.
+	 *
+	 * @param parameters   the {@link ModuleInstallationParameters parameters} in configured order
+	 * @param installation the installation to execute for each parameter set
+	 * @param <R>          the type of the installation results
+	 * @return the results in the order of the given parameters
+	 */
+	@NotNull
+	public <R> List<R> execute(@NotNull final List<ModuleInstallationParameters> parameters, @NotNull final Function<ModuleInstallationParameters, R> installation) {
+		final List<Set<Integer>> predecessors = getPredecessors(parameters, readDescriptors(parameters));
+		try (final ParallelExecutor executor = new ParallelExecutor("module-installer", _parallelism, parameters.size())) {
+			final List<CompletableFuture<R>> futures = new ArrayList<>();
+			for (int i = 0; i < parameters.size(); i++) {
+				final ModuleInstallationParameters parameter = parameters.get(i);
+				final CompletableFuture<?>[] dependencies = predecessors.get(i).stream().map(futures::get).toArray(CompletableFuture[]::new);
+				if (dependencies.length > 0) {
+					LOGGER.debug("Installation of '{}' waits for {} previous installation(s).", parameter.getFsm().getName(), dependencies.length);
+				}
+				// dependencies never complete exceptionally because installations return error results
+				futures.add(CompletableFuture.allOf(dependencies).thenApplyAsync(ignore -> installation.apply(parameter), executor));
+			}
+			final List<R> results = new ArrayList<>();
+			futures.forEach(future -> results.add(future.join()));
+			return results;
+		}
+	}
+
+	/**
+	 * Returns for each parameter set the indices of the earlier parameter sets it has to wait for. For each shared
+	 * resource only the latest earlier user is returned, the remaining ones are covered transitively. An installation
+	 * also waits for the latest earlier installation of each module it depends on and for all earlier installations
+	 * of modules that depend on it. The latter means the configured order is wrong, which is logged.
+	 *
+	 * @param parameters  the {@link ModuleInstallationParameters parameters} in configured order
+	 * @param descriptors the descriptors of the fsm files of the parameters, {@code null} if unknown
+	 * @return the indices of the predecessors for each parameter set
+	 */
+	@VisibleForTesting
+	@NotNull
+	static List<Set<Integer>> getPredecessors(@NotNull final List<ModuleInstallationParameters> parameters, @NotNull final List<FsmDescriptor> descriptors) {
+		final Map<String, Integer> lastUsers = new HashMap<>();
+		final Map<String, Integer> lastInstallations = new HashMap<>();
+		final Map<String, List<Integer>> dependents = new HashMap<>();
+		final List<Set<Integer>> predecessors = new ArrayList<>();
+		for (int i = 0; i < parameters.size(); i++) {
+			final Set<Integer> indices = new LinkedHashSet<>();
+			for (final String resource : getSharedResources(parameters.get(i))) {
+				final Integer previous = lastUsers.put(resource, i);
+				if (previous != null) {
+					indices.add(previous);
+				}
+			}
+			final FsmDescriptor descriptor = descriptors.get(i);
+			if (descriptor != null) {
+				final String moduleName = descriptor.getModuleName().toLowerCase(Locale.ROOT);
+				final List<Integer> earlierDependents = dependents.getOrDefault(moduleName, Collections.emptyList());
+				if (!earlierDependents.isEmpty()) {
+					LOGGER.warn("Module '{}' is configured after {} module(s) depending on it. They are installed in configured order.", descriptor.getModuleName(), earlierDependents.size());
+					indices.addAll(earlierDependents);
+				}
+				for (final String dependency : descriptor.getDependencies()) {
+					final String dependencyName = dependency.toLowerCase(Locale.ROOT);
+					final Integer previous = lastInstallations.get(dependencyName);
+					if (previous != null) {
+						indices.add(previous);
+					}
+					dependents.computeIfAbsent(dependencyName, name -> new ArrayList<>()).add(i);
+				}
+				lastInstallations.put(moduleName, i);
+			}
+			predecessors.add(indices);
+		}
+		return predecessors;
+	}
+
+	@NotNull
+	private static List<FsmDescriptor> readDescriptors(@NotNull final List<ModuleInstallationParameters> parameters) {
+		final List<FsmDescriptor> descriptors = new ArrayList<>(parameters.size());
+		for (final ModuleInstallationParameters parameter : parameters) {
+			descriptors.add(readDescriptor(parameter.getFsm()));
+		}
+		return descriptors;
+	}
+
+	@Nullable
+	private static FsmDescriptor readDescriptor(@NotNull final File fsm) {
+		try {
+			final FsmDescriptor descriptor = FsmDescriptor.read(fsm);
+			LOGGER.debug("Read module descriptor of '{}': {}", fsm.getName(), descriptor);
+			return descriptor;
+		} catch (final IOException e) {
+			LOGGER.warn("Module dependencies of '{}' are unknown, its installation only waits for shared resources: {}", fsm.getName(), e.getMessage());
+			return null;
+		}
+	}
+
+	@VisibleForTesting
+	@NotNull
+	static Set<String> getSharedResources(@NotNull final ModuleInstallationParameters parameters) {
+		final Set<String> resources = new LinkedHashSet<>();
+		resources.add("fsm:" + getCanonicalPath(parameters.getFsm()));
+		if (!StringUtils.isNullOrEmpty(parameters.getProjectName())) {
+			resources.add("project:" + parameters.getProjectName());
+		}
+		for (final WebAppIdentifier scope : parameters.getWebAppScopes()) {
+			if (scope instanceof GlobalWebAppIdentifier) {
+				resources.add("webapp:" + ((GlobalWebAppIdentifier) scope).getGlobalWebAppId());
+			}
+		}
+		return resources;
+	}
+
+	@NotNull
+	private static String getCanonicalPath(@NotNull final File file) {
+		try {
+			return file.getCanonicalPath();
+		} catch (final IOException e) {
+			return file.getAbsolutePath();
+		}
+	}
+
+}
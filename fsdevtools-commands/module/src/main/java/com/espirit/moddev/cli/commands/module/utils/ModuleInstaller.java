@@ -82,7 +82,7 @@ public class ModuleInstaller {
 	}
 
 	@VisibleForTesting
-	ModuleAdminAgent getModuleAdminAgent() {
+	synchronized ModuleAdminAgent getModuleAdminAgent() {
 		if (_moduleAdminAgent == null) {
 			_moduleAdminAgent = _connection.getBroker().requireSpecialist(ModuleAdminAgent.TYPE);
 		}
@@ -25,6 +25,7 @@ package com.espirit.moddev.cli.commands.module.utils;
 import com.espirit.moddev.cli.api.result.ExecutionErrorResult;
 import com.espirit.moddev.cli.api.result.ExecutionResult;
 import com.espirit.moddev.cli.api.result.ExecutionResults;
+import com.espirit.moddev.cli.utils.ParallelExecutor;
 import com.espirit.moddev.shared.StringUtils;
 import org.jetbrains.annotations.VisibleForTesting;
 import com.espirit.moddev.shared.webapp.GlobalWebAppIdentifier;
@@ -44,7 +45,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static de.espirit.firstspirit.access.ConnectionManager.SOCKET_MODE;
@@ -56,6 +62,14 @@ public class WebAppUtil {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(WebAppUtil.class);
 
+	/**
+	 * The default number of web apps that are deployed concurrently.
+	 */
+	public static final int DEFAULT_DEPLOY_PARALLELISM = 1;
+
+	@VisibleForTesting
+	static final String DURATION_MESSAGE = " (%dms)";
+
 	@VisibleForTesting
 	static final String SOCKET_FS_5_ROOT_ERROR_MESSAGE = "Cannot use a non socket connection to deploy the FirstSpirit root web app. You must use SOCKET as connection mode.";
 
@@ -95,7 +109,7 @@ public class WebAppUtil {
 	}
 
 	/**
-	 * Deploys the given {@link WebAppId web apps} and returns the {@link ExecutionResults results}.
+	 * Deploys the given {@link WebAppId web apps} one after another and returns the {@link ExecutionResults results}.
 	 *
 	 * @param connection      the {@link Connection} to use
 	 * @param webAppsToDeploy the {@link WebAppId web apps} that should be deployed
@@ -103,6 +117,23 @@ public class WebAppUtil {
 	 */
 	@NotNull
 	public static ExecutionResults deployWebApps(@NotNull final Connection connection, @NotNull final Collection<WebAppId> webAppsToDeploy) {
+		return deployWebApps(connection, webAppsToDeploy, DEFAULT_DEPLOY_PARALLELISM);
+	}
+
+	/**
+	 * Deploys the given {@link WebAppId web apps} and returns the {@link ExecutionResults results}. Up to the given
+	 * number of web apps are deployed concurrently. Web apps of the same project are always deployed one after another,
+	 * because updating the active web server locks the project. The results are in the order of the given web apps and
+	 * contain the duration of each deployment.
+	 *
+	 * @param connection      the {@link Connection} to use
+	 * @param webAppsToDeploy the {@link WebAppId web apps} that should be deployed
+	 * @param parallelism     the maximum number of concurrent deployments, at least 1
+	 * @return the {@link ExecutionResults results} for the deployment
+	 */
+	@NotNull
+	public static ExecutionResults deployWebApps(@NotNull final Connection connection, @NotNull final Collection<WebAppId> webAppsToDeploy, final int parallelism) {
+		ParallelExecutor.checkParallelism(parallelism);
 		final ExecutionResults results = new ExecutionResults();
 
 		// DEVEX-467: filter inactive projects and project local webapps without an active webserver
@@ -119,37 +150,23 @@ public class WebAppUtil {
 		final ModuleAdminAgent moduleAdminAgent = connection.getBroker().requireSpecialist(ModuleAdminAgent.TYPE);
 
 		LOGGER.info("Deploying web apps {}...", distinctWebApps.stream().map(WebAppUtil::getReadableWebAppName).collect(Collectors.joining(", ", "[ ", " ]")));
-		final List<WebAppId> deployedWebApps = new ArrayList<>();
-		final List<WebAppId> failedWebApps = new ArrayList<>();
-		for (final WebAppId webAppId : distinctWebApps) {
-			// check for fs5root web app if the connection mode != SOCKET
-			if (isRootWebAppAndNotInSocketMode(connection, webAppId)) {
-				LOGGER.error(SOCKET_FS_5_ROOT_ERROR_MESSAGE);
-				results.add(new RootWebAppDeployNotAllowedResult(webAppId));
-				failedWebApps.add(webAppId);
-				continue;
-			}
-
-			final String webAppName = getReadableWebAppName(webAppId);
-
-			// update the active web server
-			final boolean activeServerForProjectSet = setActiveWebServer(connection.getServerConfiguration(), webAppId);
-			if (!activeServerForProjectSet) {
-				results.add(new WebAppDeployFailedResult(webAppId, WebAppDeployFailedResult.ERROR_UPDATING_WEBSERVER));
-				failedWebApps.add(webAppId);
-				continue;
+		final ExecutionResult[] deployResults = new ExecutionResult[distinctWebApps.size()];
+		if (parallelism > 1 && distinctWebApps.size() > 1) {
+			deployConcurrently(connection, moduleAdminAgent, distinctWebApps, deployResults, parallelism);
+		} else {
+			for (int i = 0; i < distinctWebApps.size(); i++) {
+				deployResults[i] = deployWebApp(connection, moduleAdminAgent, distinctWebApps.get(i));
 			}
+		}
 
-			// deploy the web app
-			LOGGER.info("Deploying web app '{}'...", webAppName);
-			if (moduleAdminAgent.deployWebApp(webAppId)) {
-				LOGGER.info("Web app '{}' successfully deployed.", webAppName);
-				results.add(new WebAppDeployedResult(webAppId));
-				deployedWebApps.add(webAppId);
+		final List<WebAppId> deployedWebApps = new ArrayList<>();
+		final List<WebAppId> failedWebApps = new ArrayList<>();
+		for (int i = 0; i < deployResults.length; i++) {
+			results.add(deployResults[i]);
+			if (deployResults[i] instanceof ExecutionErrorResult) {
+				failedWebApps.add(distinctWebApps.get(i));
 			} else {
-				LOGGER.error("Error deploying web app '{}'!", webAppName);
-				results.add(new WebAppDeployFailedResult(webAppId, WebAppDeployFailedResult.ERROR_DEPLOYING));
-				failedWebApps.add(webAppId);
+				deployedWebApps.add(distinctWebApps.get(i));
 			}
 		}
 		// logging
@@ -168,6 +185,84 @@ public class WebAppUtil {
 		return results;
 	}
 
+	private static void deployConcurrently(@NotNull final Connection connection,
+										   @NotNull final ModuleAdminAgent moduleAdminAgent,
+										   @NotNull final List<WebAppId> webApps,
+										   @NotNull final ExecutionResult[] deployResults,
+										   final int parallelism) {
+		// web apps of the same project are deployed by the same task in the given order
+		final Map<String, List<Integer>> indicesByProject = new LinkedHashMap<>();
+		for (int i = 0; i < webApps.size(); i++) {
+			indicesByProject.computeIfAbsent(getDeploymentGroup(webApps.get(i)), group -> new ArrayList<>()).add(i);
+		}
+		LOGGER.info("Deploying {} web apps with a parallelism of {}...", webApps.size(), parallelism);
+		try (final ParallelExecutor executor = new ParallelExecutor("web-app-deployer", parallelism, indicesByProject.size())) {
+			final List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (final List<Integer> indices : indicesByProject.values()) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					for (final int index : indices) {
+						try {
+							deployResults[index] = deployWebApp(connection, moduleAdminAgent, webApps.get(index));
+						} catch (final RuntimeException e) {
+							LOGGER.error("Error deploying web app '" + getReadableWebAppName(webApps.get(index)) + "'!", e);
+							deployResults[index] = new WebAppDeployFailedResult(webApps.get(index), String.valueOf(e));
+						}
+					}
+				}, executor));
+			}
+			for (final CompletableFuture<Void> future : futures) {
+				try {
+					future.join();
+				} catch (final CompletionException | CancellationException e) {
+					LOGGER.error("Web app deployment stopped unexpectedly.", e.getCause() != null ? e.getCause() : e);
+				}
+			}
+		}
+		// web apps of a task that failed or did not finish have no result
+		for (int i = 0; i < deployResults.length; i++) {
+			if (deployResults[i] == null) {
+				deployResults[i] = new WebAppDeployFailedResult(webApps.get(i), WebAppDeployFailedResult.ERROR_NOT_FINISHED);
+			}
+		}
+	}
+
+	@NotNull
+	private static String getDeploymentGroup(@NotNull final WebAppId webAppId) {
+		if (webAppId instanceof ProjectWebAppId) {
+			return "project:" + ((ProjectWebAppId) webAppId).getProject().getName();
+		}
+		return "global:" + getReadableWebAppName(webAppId);
+	}
+
+	@NotNull
+	private static ExecutionResult deployWebApp(@NotNull final Connection connection, @NotNull final ModuleAdminAgent moduleAdminAgent, @NotNull final WebAppId webAppId) {
+		// check for fs5root web app if the connection mode != SOCKET
+		if (isRootWebAppAndNotInSocketMode(connection, webAppId)) {
+			LOGGER.error(SOCKET_FS_5_ROOT_ERROR_MESSAGE);
+			return new RootWebAppDeployNotAllowedResult(webAppId);
+		}
+
+		final String webAppName = getReadableWebAppName(webAppId);
+		final long start = System.currentTimeMillis();
+
+		// update the active web server
+		final boolean activeServerForProjectSet = setActiveWebServer(connection.getServerConfiguration(), webAppId);
+		if (!activeServerForProjectSet) {
+			return new WebAppDeployFailedResult(webAppId, WebAppDeployFailedResult.ERROR_UPDATING_WEBSERVER, System.currentTimeMillis() - start);
+		}
+
+		// deploy the web app
+		LOGGER.info("Deploying web app '{}'...", webAppName);
+		if (moduleAdminAgent.deployWebApp(webAppId)) {
+			final long duration = System.currentTimeMillis() - start;
+			LOGGER.info("Web app '{}' successfully deployed in {}ms.", webAppName, duration);
+			return new WebAppDeployedResult(webAppId, duration);
+		} else {
+			LOGGER.error("Error deploying web app '{}'!", webAppName);
+			return new WebAppDeployFailedResult(webAppId, WebAppDeployFailedResult.ERROR_DEPLOYING, System.currentTimeMillis() - start);
+		}
+	}
+
 	@VisibleForTesting
 	@NotNull
 	static Collection<WebAppId> filterWebApps(@NotNull final Collection<WebAppId> webAppsToDeploy) {
@@ -249,14 +344,28 @@ public class WebAppUtil {
 		static final String MESSAGE = "Web app '%s' successfully deployed.";
 
 		private final WebAppId _webAppId;
+		private final long _durationMillis;
 
 		public WebAppDeployedResult(@NotNull final WebAppId webAppId) {
+			this(webAppId, -1);
+		}
+
+		public WebAppDeployedResult(@NotNull final WebAppId webAppId, final long durationMillis) {
 			_webAppId = webAppId;
+			_durationMillis = durationMillis;
+		}
+
+		/**
+		 * @return the duration of the deployment in milliseconds or {@code -1} if unknown
+		 */
+		public long getDurationMillis() {
+			return _durationMillis;
 		}
 
 		@Override
 		public String toString() {
-			return String.format(MESSAGE, getReadableWebAppName(_webAppId));
+			final String message = String.format(MESSAGE, getReadableWebAppName(_webAppId));
+			return _durationMillis < 0 ? message : message + String.format(DURATION_MESSAGE, _durationMillis);
 		}
 
 	}
@@ -266,12 +375,32 @@ public class WebAppUtil {
 
 		public static final String ERROR_UPDATING_WEBSERVER = "Error updating active web server.";
 		public static final String ERROR_DEPLOYING = "FirstSpirit failed to deploy web app.";
+		public static final String ERROR_NOT_FINISHED = "Deployment did not finish.";
 
 		@VisibleForTesting
 		static final String MESSAGE = "Error deploying web app '%s': %s";
 
+		private final long _durationMillis;
+
 		public WebAppDeployFailedResult(@NotNull final WebAppId webAppId, @NotNull final String reason) {
+			this(webAppId, reason, -1);
+		}
+
+		public WebAppDeployFailedResult(@NotNull final WebAppId webAppId, @NotNull final String reason, final long durationMillis) {
 			super(new IllegalStateException(String.format(MESSAGE, getReadableWebAppName(webAppId), reason)));
+			_durationMillis = durationMillis;
+		}
+
+		/**
+		 * @return the duration until the deployment failed in milliseconds or {@code -1} if unknown
+		 */
+		public long getDurationMillis() {
+			return _durationMillis;
+		}
+
+		@Override
+		public String toString() {
+			return _durationMillis < 0 ? super.toString() : super.toString() + String.format(DURATION_MESSAGE, _durationMillis);
 		}
 
 	}
@@ -25,6 +25,7 @@ package com.espirit.moddev.cli.commands.module.utils;
 import com.espirit.moddev.cli.api.result.ExecutionResult;
 import com.espirit.moddev.cli.api.result.ExecutionResults;
 import com.google.common.collect.Lists;
+import de.espirit.firstspirit.io.FileHandle;
 import de.espirit.firstspirit.io.MemoryFileHandle;
 import de.espirit.firstspirit.io.MemoryFileSystem;
 import org.jetbrains.annotations.NotNull;
@@ -33,13 +34,20 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class FileSystemUtilTest {
 
@@ -227,4 +235,90 @@ public class FileSystemUtilTest {
 		verifyFile(_fileSystem, "subDir/3.json");
 	}
 
+	@Test
+	public void uploadFiles_uploads_same_size_files_with_old_timestamp() throws IOException {
+		final File directory = temporaryFolder.toPath().resolve("unchanged").toFile();
+		directory.mkdir();
+		final File file = new File(directory, "a.txt");
+		Files.write(file.toPath(), "abc".getBytes(StandardCharsets.UTF_8));
+		assertThat(FileSystemUtil.uploadFiles(Lists.newArrayList(directory.getAbsolutePath()), _fileSystem).get(0)).isInstanceOf(FileSystemUtil.FileUploadedResult.class);
+
+		// same size, different content, timestamp older than the remote file (e.g. extracted from an archive)
+		Files.write(file.toPath(), "xyz".getBytes(StandardCharsets.UTF_8));
+		assertThat(file.setLastModified(System.currentTimeMillis() - 3_600_000L)).isTrue();
+		final ExecutionResults results = FileSystemUtil.uploadFiles(Lists.newArrayList(directory.getAbsolutePath()), _fileSystem);
+		assertThat(results.get(0)).isInstanceOf(FileSystemUtil.FileUploadedResult.class);
+		assertThat(results.hasError()).isFalse();
+		assertThat(_fileSystem.getFileAsString("a.txt")).isEqualTo("xyz");
+	}
+
+	@Test
+	public void uploadFiles_concurrently_keeps_order_and_structure() throws IOException {
+		final File directory = temporaryFolder.toPath().resolve("many").toFile();
+		final List<String> expectedFiles = new ArrayList<>();
+		for (int dir = 0; dir < 3; dir++) {
+			final File subDirectory = new File(directory, "sub" + dir);
+			subDirectory.mkdirs();
+			for (int file = 0; file < 10; file++) {
+				final File localFile = new File(subDirectory, "file" + file + ".txt");
+				Files.write(localFile.toPath(), (dir + "/" + file).getBytes(StandardCharsets.UTF_8));
+				expectedFiles.add(localFile.getAbsolutePath());
+			}
+		}
+		final ExecutionResults results = FileSystemUtil.uploadFiles(Lists.newArrayList(directory.getAbsolutePath()), _fileSystem, 4);
+		assertThat(results.hasError()).isFalse();
+		assertThat(results.stream().map(result -> ((FileSystemUtil.FileResult) result).getFileName())).containsExactlyElementsOf(expectedFiles);
+		for (int dir = 0; dir < 3; dir++) {
+			verifyDir(_fileSystem, "sub" + dir);
+			for (int file = 0; file < 10; file++) {
+				assertThat(_fileSystem.getFileAsString("sub" + dir + "/file" + file + ".txt")).isEqualTo(dir + "/" + file);
+			}
+		}
+	}
+
+	@Test
+	public void uploadFiles_invalid_parallelism() {
+		assertThatThrownBy(() -> FileSystemUtil.uploadFiles(Lists.newArrayList("src/test/resources/1.json"), _fileSystem, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void isUnchanged_missing_remote_file() throws IOException {
+		assertThat(FileSystemUtil.isUnchanged(_fileSystem.obtain("missing.json"), new File("src/test/resources/1.json"))).isFalse();
+	}
+
+	@Test
+	public void isUnchanged_compares_crc() throws IOException {
+		final File file = new File(temporaryFolder, "a.txt");
+		Files.write(file.toPath(), "abc".getBytes(StandardCharsets.UTF_8));
+		final CRC32 crc = new CRC32();
+		crc.update("abc".getBytes(StandardCharsets.UTF_8));
+		final FileHandle handle = mockRemoteFile(3L, true, crc.getValue());
+		assertThat(FileSystemUtil.isUnchanged(handle, file)).isTrue();
+
+		crc.update('d');
+		assertThat(FileSystemUtil.isUnchanged(mockRemoteFile(3L, true, crc.getValue()), file)).isFalse();
+		assertThat(FileSystemUtil.isUnchanged(mockRemoteFile(4L, true, crc.getValue()), file)).isFalse();
+	}
+
+	@Test
+	public void isUnchanged_without_crc() throws IOException {
+		final File file = new File(temporaryFolder, "a.txt");
+		Files.write(file.toPath(), "abc".getBytes(StandardCharsets.UTF_8));
+		assertThat(file.setLastModified(0L)).isTrue();
+		// never skipped based on the modification time alone
+		assertThat(FileSystemUtil.isUnchanged(mockRemoteFile(3L, false, 0L), file)).isFalse();
+	}
+
+	@NotNull
+	private static FileHandle mockRemoteFile(final long size, final boolean hasCrc, final long crc) throws IOException {
+		final FileHandle handle = mock(FileHandle.class);
+		when(handle.exists()).thenReturn(true);
+		when(handle.isFile()).thenReturn(true);
+		when(handle.getSize()).thenReturn(size);
+		when(handle.hasCrc()).thenReturn(hasCrc);
+		when(handle.getCrc()).thenReturn(crc);
+		return handle;
+	}
+
 }
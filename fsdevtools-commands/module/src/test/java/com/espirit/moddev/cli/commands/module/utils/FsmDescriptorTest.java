@@ -0,0 +1,94 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.module.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FsmDescriptorTest {
+
+	@TempDir
+	public Path _tempDir;
+
+	@Test
+	public void readIsolatedDescriptor() throws IOException {
+		final File fsm = createFsm(FsmDescriptor.ISOLATED_DESCRIPTOR, "<module>\n" +
+				"\t<name>fs-tpp-api</name>\n" +
+				"\t<version>1.2.11</version>\n" +
+				"\t<dependencies>\n" +
+				"\t\t<depends>fs-saml-login</depends>\n" +
+				"\t\t<depends minVersion=\"1.0\"> fs-base </depends>\n" +
+				"\t</dependencies>\n" +
+				"\t<components/>\n" +
+				"</module>");
+		final FsmDescriptor descriptor = FsmDescriptor.read(fsm);
+		assertThat(descriptor.getModuleName()).isEqualTo("fs-tpp-api");
+		assertThat(descriptor.getDependencies()).containsExactly("fs-saml-login", "fs-base");
+	}
+
+	@Test
+	public void readLegacyDescriptorWithoutDependencies() throws IOException {
+		final File fsm = createFsm(FsmDescriptor.LEGACY_DESCRIPTOR, "<module><name>fs-saml-login</name></module>");
+		final FsmDescriptor descriptor = FsmDescriptor.read(fsm);
+		assertThat(descriptor.getModuleName()).isEqualTo("fs-saml-login");
+		assertThat(descriptor.getDependencies()).isEmpty();
+	}
+
+	@Test
+	public void fsmWithoutDescriptor() throws IOException {
+		final File fsm = createFsm("lib/some.jar", "");
+		assertThatThrownBy(() -> FsmDescriptor.read(fsm))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("contains no module descriptor");
+	}
+
+	@Test
+	public void descriptorWithoutName() throws IOException {
+		final File fsm = createFsm(FsmDescriptor.ISOLATED_DESCRIPTOR, "<module><version>1.0</version></module>");
+		assertThatThrownBy(() -> FsmDescriptor.read(fsm)).isInstanceOf(IOException.class);
+	}
+
+	private File createFsm(final String entryName, final String content) throws IOException {
+		final Path fsm = _tempDir.resolve("module.fsm");
+		try (final OutputStream outputStream = Files.newOutputStream(fsm);
+			 final ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			zipOutputStream.putNextEntry(new ZipEntry(entryName));
+			zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+			zipOutputStream.closeEntry();
+		}
+		return fsm.toFile();
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.commands.module.utils;
+
+import com.espirit.moddev.cli.commands.module.common.ModuleInstallationParameters;
+import com.espirit.moddev.shared.webapp.WebAppIdentifier;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ModuleInstallationSchedulerTest {
+
+	@Test
+	public void invalidParallelism() {
+		assertThatThrownBy(() -> new ModuleInstallationScheduler(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void sharedResources() throws Exception {
+		final ModuleInstallationParameters parameters = createParameters("a.fsm", "Mithras", WebAppIdentifier.FS5_ROOT, WebAppIdentifier.WEBEDIT);
+		final Set<String> resources = ModuleInstallationScheduler.getSharedResources(parameters);
+		assertThat(resources).containsExactly("fsm:" + new File("a.fsm").getCanonicalPath(), "project:Mithras", "webapp:fs5root");
+	}
+
+	@Test
+	public void predecessors() {
+		final List<ModuleInstallationParameters> parameters = Arrays.asList(
+				createParameters("a.fsm", "Mithras"),
+				createParameters("b.fsm", null),
+				createParameters("c.fsm", "Mithras"),
+				createParameters("d.fsm", null, WebAppIdentifier.FS5_ROOT),
+				createParameters("e.fsm", "Other", WebAppIdentifier.FS5_ROOT),
+				createParameters("b.fsm", "Mithras")
+		);
+		final List<Set<Integer>> predecessors = ModuleInstallationScheduler.getPredecessors(parameters, Collections.nCopies(parameters.size(), null));
+		assertThat(predecessors.get(0)).isEmpty();
+		assertThat(predecessors.get(1)).isEmpty();
+		assertThat(predecessors.get(2)).containsExactly(0);
+		assertThat(predecessors.get(3)).isEmpty();
+		assertThat(predecessors.get(4)).containsExactly(3);
+		assertThat(predecessors.get(5)).containsExactlyInAnyOrder(1, 2);
+	}
+
+	@Test
+	public void predecessorsOfModuleDependencies() {
+		final List<ModuleInstallationParameters> parameters = Arrays.asList(
+				createParameters("lib.fsm", null),
+				createParameters("app.fsm", null),
+				createParameters("other.fsm", null),
+				createParameters("plugin.fsm", null),
+				createParameters("base.fsm", null)
+		);
+		final List<FsmDescriptor> descriptors = Arrays.asList(
+				new FsmDescriptor("lib", Collections.emptyList()),
+				new FsmDescriptor("app", Arrays.asList("LIB", "base")),
+				new FsmDescriptor("other", Collections.emptyList()),
+				new FsmDescriptor("plugin", Collections.singletonList("app")),
+				new FsmDescriptor("base", Collections.emptyList())
+		);
+		final List<Set<Integer>> predecessors = ModuleInstallationScheduler.getPredecessors(parameters, descriptors);
+		assertThat(predecessors.get(0)).isEmpty();
+		assertThat(predecessors.get(1)).containsExactly(0);
+		assertThat(predecessors.get(2)).isEmpty();
+		assertThat(predecessors.get(3)).containsExactly(1);
+		// 'base' is configured after 'app' which depends on it
+		assertThat(predecessors.get(4)).containsExactly(1);
+	}
+
+	@Test
+	public void resultsAreInConfiguredOrder() {
+		final List<ModuleInstallationParameters> parameters = Arrays.asList(
+				createParameters("a.fsm", null),
+				createParameters("b.fsm", null),
+				createParameters("c.fsm", null),
+				createParameters("d.fsm", null)
+		);
+		final List<String> results = new ModuleInstallationScheduler(4).execute(parameters, parameter -> {
+			sleep("a.fsm".equals(parameter.getFsm().getName()) ? 100 : 0);
+			return parameter.getFsm().getName();
+		});
+		assertThat(results).containsExactly("a.fsm", "b.fsm", "c.fsm", "d.fsm");
+	}
+
+	@Test
+	public void independentInstallationsRunConcurrently() {
+		final CountDownLatch bothStarted = new CountDownLatch(2);
+		final List<ModuleInstallationParameters> parameters = Arrays.asList(createParameters("a.fsm", "A"), createParameters("b.fsm", "B"));
+		final List<Boolean> results = new ModuleInstallationScheduler(2).execute(parameters, parameter -> {
+			bothStarted.countDown();
+			try {
+				return bothStarted.await(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		});
+		assertThat(results).containsExactly(true, true);
+	}
+
+	@Test
+	public void dependentInstallationsDoNotOverlap() {
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final List<ModuleInstallationParameters> parameters = Arrays.asList(
+				createParameters("a.fsm", "Mithras"),
+				createParameters("b.fsm", "Mithras"),
+				createParameters("c.fsm", "Mithras")
+		);
+		new ModuleInstallationScheduler(3).execute(parameters, parameter -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(20);
+			return running.decrementAndGet();
+		});
+		assertThat(maxRunning.get()).isEqualTo(1);
+	}
+
+	@NotNull
+	private static ModuleInstallationParameters createParameters(@NotNull final String fsm, final String projectName, @NotNull final WebAppIdentifier... scopes) {
+		final ModuleInstallationParameters parameters = mock(ModuleInstallationParameters.class);
+		when(parameters.getFsm()).thenReturn(new File(fsm));
+		when(parameters.getProjectName()).thenReturn(projectName);
+		when(parameters.getWebAppScopes()).thenReturn(scopes.length == 0 ? Collections.emptyList() : Arrays.asList(scopes));
+		return parameters;
+	}
+
+	private static void sleep(final long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -39,6 +39,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static de.espirit.firstspirit.access.ConnectionManager.HTTP_MODE;
 import static de.espirit.firstspirit.access.ConnectionManager.SOCKET_MODE;
@@ -195,9 +197,53 @@ public class WebAppUtilTest {
 		assertThat(results.size()).isEqualTo(3);
 		assertThat(results.get(0)).isInstanceOf(WebAppUtil.RootWebAppDeployNotAllowedResult.class);
 		assertThat(results.get(1)).isInstanceOf(WebAppUtil.WebAppDeployedResult.class);
-		assertThat(results.get(1).toString()).isEqualTo(String.format(WebAppUtil.WebAppDeployedResult.MESSAGE, WebAppUtil.getReadableWebAppName(webApp1)));
+		final long duration = ((WebAppUtil.WebAppDeployedResult) results.get(1)).getDurationMillis();
+		assertThat(duration).isGreaterThanOrEqualTo(0);
+		assertThat(results.get(1).toString()).isEqualTo(String.format(WebAppUtil.WebAppDeployedResult.MESSAGE, WebAppUtil.getReadableWebAppName(webApp1)) + String.format(WebAppUtil.DURATION_MESSAGE, duration));
 		assertThat(results.get(2)).isInstanceOf(WebAppUtil.WebAppDeployFailedResult.class);
 		assertThat(((ExecutionErrorResult<?>) results.get(2)).getThrowable().getMessage()).isEqualTo(String.format(WebAppUtil.WebAppDeployFailedResult.MESSAGE, WebAppUtil.getReadableWebAppName(webApp2), WebAppUtil.WebAppDeployFailedResult.ERROR_DEPLOYING));
 	}
 
+	@Test
+	public void deployWebApps_concurrently() {
+		// setup
+		when(_connection.getMode()).thenReturn(SOCKET_MODE);
+		final WebAppId rootWebApp = WebAppIdentifier.FS5_ROOT.createWebAppId(null);
+		final WebAppId webApp1 = WebAppIdentifier.forGlobalWebApp("global-web-app#1").createWebAppId(null);
+		final WebAppId webApp2 = WebAppIdentifier.forGlobalWebApp("global-web-app#2").createWebAppId(null);
+		final CountDownLatch allStarted = new CountDownLatch(2);
+		when(_moduleAdminAgent.deployWebApp(rootWebApp)).thenReturn(true);
+		when(_moduleAdminAgent.deployWebApp(webApp1)).thenAnswer(invocation -> {
+			allStarted.countDown();
+			return allStarted.await(10, TimeUnit.SECONDS);
+		});
+		when(_moduleAdminAgent.deployWebApp(webApp2)).thenAnswer(invocation -> {
+			allStarted.countDown();
+			return allStarted.await(10, TimeUnit.SECONDS);
+		});
+		// test
+		final ExecutionResults results = WebAppUtil.deployWebApps(_connection, Lists.newArrayList(rootWebApp, webApp1, webApp2), 3);
+		assertThat(results.size()).isEqualTo(3);
+		assertThat(results.hasError()).isFalse();
+		assertThat(results.get(0).toString()).startsWith(String.format(WebAppUtil.WebAppDeployedResult.MESSAGE, WebAppUtil.getReadableWebAppName(rootWebApp)));
+		assertThat(results.get(1).toString()).startsWith(String.format(WebAppUtil.WebAppDeployedResult.MESSAGE, WebAppUtil.getReadableWebAppName(webApp1)));
+		assertThat(results.get(2).toString()).startsWith(String.format(WebAppUtil.WebAppDeployedResult.MESSAGE, WebAppUtil.getReadableWebAppName(webApp2)));
+	}
+
+	@Test
+	public void deployWebApps_concurrently_failedDeployment() {
+		// setup
+		when(_connection.getMode()).thenReturn(SOCKET_MODE);
+		final WebAppId webApp1 = WebAppIdentifier.forGlobalWebApp("global-web-app#1").createWebAppId(null);
+		final WebAppId webApp2 = WebAppIdentifier.forGlobalWebApp("global-web-app#2").createWebAppId(null);
+		when(_moduleAdminAgent.deployWebApp(webApp1)).thenThrow(new IllegalStateException("broken"));
+		when(_moduleAdminAgent.deployWebApp(webApp2)).thenReturn(true);
+		// test
+		final ExecutionResults results = WebAppUtil.deployWebApps(_connection, Lists.newArrayList(webApp1, webApp2), 2);
+		assertThat(results.size()).isEqualTo(2);
+		assertThat(results.get(0)).isInstanceOf(WebAppUtil.WebAppDeployFailedResult.class);
+		assertThat(((ExecutionErrorResult<?>) results.get(0)).getThrowable().getMessage()).contains("broken");
+		assertThat(results.get(1)).isInstanceOf(WebAppUtil.WebAppDeployedResult.class);
+	}
+
 }
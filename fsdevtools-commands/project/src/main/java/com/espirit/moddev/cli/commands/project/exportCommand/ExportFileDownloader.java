@@ -0,0 +1,246 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.project.exportCommand;
+
+import com.espirit.moddev.cli.utils.ParallelExecutor;
+import de.espirit.firstspirit.access.admin.ProjectStorage;
+import de.espirit.firstspirit.access.export.ExportFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Downloads {@link ExportFile export files} from the FirstSpirit server into a local directory.
+ * <p>
+ * Several export files are downloaded concurrently. Each file is first written to a {@code .part} file through a
+ * {@link FileChannel} with a large buffer and only moved to its final name once it is complete. If the connection
+ * drops, the download is retried and continues behind the bytes already written: the already downloaded prefix is
+ * compared byte by byte with the fresh stream before new data is appended, so a changed export on the server
+ * restarts the file instead of corrupting it. A SHA-256 checksum of each downloaded file is written next to it.
+ */
+public class ExportFileDownloader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExportFileDownloader.class);
+
+	public static final int DEFAULT_PARALLELISM = 4;
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	static final String PART_FILE_SUFFIX = ".part";
+	static final String CHECKSUM_FILE_SUFFIX = ".sha256";
+
+	private static final int BUFFER_SIZE = 1024 * 1024;
+	private static final long RETRY_WAIT_MS = 1000;
+	private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+	@NotNull
+	private final ProjectStorage _projectStorage;
+	private final int _parallelism;
+	private final int _maxAttempts;
+
+	public ExportFileDownloader(@NotNull final ProjectStorage projectStorage, final int parallelism) {
+		this(projectStorage, parallelism, DEFAULT_MAX_ATTEMPTS);
+	}
+
+	public ExportFileDownloader(@NotNull final ProjectStorage projectStorage, final int parallelism, final int maxAttempts) {
+		_projectStorage = projectStorage;
+		_parallelism = ParallelExecutor.checkParallelism(parallelism);
+		_maxAttempts = Math.max(1, maxAttempts);
+	}
+
+	/**
+	 * Downloads all given export files into the given directory.
+	 * A failing file does not stop the download of the other files.
+	 *
+	 * @param directory   the existing target directory.
+	 * @param exportFiles the files to download.
+	 * @return {@code true} if all files have been downloaded, {@code false} otherwise.
+	 */
+	public boolean downloadAll(@NotNull final File directory, @NotNull final List<ExportFile> exportFiles) {
+		try (final ParallelExecutor executor = new ParallelExecutor("export-downloader", _parallelism, exportFiles.size())) {
+			final List<Future<Boolean>> futures = new ArrayList<>();
+			for (final ExportFile exportFile : exportFiles) {
+				futures.add(executor.submit(() -> downloadWithRetries(exportFile, new File(directory, exportFile.getName()))));
+			}
+			boolean success = true;
+			for (final Future<Boolean> future : futures) {
+				try {
+					success &= future.get();
+				} catch (final ExecutionException e) {
+					LOGGER.error("Export file download failed.", e.getCause());
+					success = false;
+				}
+			}
+			return success;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Export file download has been interrupted.");
+			return false;
+		}
+	}
+
+	private boolean downloadWithRetries(@NotNull final ExportFile exportFile, @NotNull final File target) throws InterruptedException {
+		for (int attempt = 1; attempt <= _maxAttempts; attempt++) {
+			try {
+				download(exportFile, target);
+				return true;
+			} catch (final IOException e) {
+				if (attempt == _maxAttempts) {
+					LOGGER.error("Download of export file '{}' failed after {} attempts. The partial download is kept and resumed by the next export.", exportFile.getName(), attempt, e);
+					return false;
+				}
+				LOGGER.warn("Download of export file '{}' failed (attempt {} of {}), resuming... ({})", exportFile.getName(), attempt, _maxAttempts, e.getMessage());
+				Thread.sleep(RETRY_WAIT_MS * attempt);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Downloads a single export file, resuming a matching {@code .part} file if there is one.
+	 *
+	 * @param exportFile the file to download.
+	 * @param target     the final local file.
+	 * @return the hex encoded SHA-256 checksum of the downloaded file.
+	 * @throws IOException if the download fails.
+	 */
+	@VisibleForTesting
+	@NotNull
+	String download(@NotNull final ExportFile exportFile, @NotNull final File target) throws IOException {
+		final Path partFile = target.toPath().resolveSibling(target.getName() + PART_FILE_SUFFIX);
+		final MessageDigest digest = createDigest();
+		final long start = System.nanoTime();
+		long resumedBytes = 0;
+		long totalBytes = 0;
+		try (final InputStream inputStream = _projectStorage.downloadExportFile(exportFile);
+			 final FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			final byte[] buffer = new byte[BUFFER_SIZE];
+			final long existingBytes = channel.size();
+			if (existingBytes > 0) {
+				resumedBytes = resumePartialDownload(exportFile.getName(), inputStream, channel, existingBytes, buffer, digest);
+			}
+			totalBytes = resumedBytes;
+			channel.position(resumedBytes);
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+				final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+				while (byteBuffer.hasRemaining()) {
+					channel.write(byteBuffer);
+				}
+				totalBytes += read;
+			}
+			channel.force(false);
+		}
+		Files.move(partFile, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		final String checksum = toHex(digest.digest());
+		Files.write(target.toPath().resolveSibling(target.getName() + CHECKSUM_FILE_SUFFIX), (checksum + "  " + target.getName() + "\n").getBytes(StandardCharsets.UTF_8));
+		final long durationNanos = Math.max(1, System.nanoTime() - start);
+		final double megaBytes = (totalBytes - resumedBytes) / BYTES_PER_MB;
+		LOGGER.info(String.format(Locale.ROOT, "Downloaded export file '%s' (%.1f MB in %.1fs, %.1f MB/s, SHA-256 %s).",
+				exportFile.getName(), totalBytes / BYTES_PER_MB, durationNanos / 1e9, megaBytes / (durationNanos / 1e9), checksum));
+		return checksum;
+	}
+
+	/**
+	 * Compares the existing part file with the beginning of the stream, which is consumed up to the length of the
+	 * part file. Where the contents differ (e.g. because the export has been recreated on the server), the part
+	 * file is overwritten with the stream content and cut off behind the consumed bytes.
+	 *
+	 * @return the number of bytes consumed from the stream, which is the position to continue writing at.
+	 */
+	private static long resumePartialDownload(@NotNull final String name, @NotNull final InputStream inputStream, @NotNull final FileChannel channel,
+											  final long existingBytes, @NotNull final byte[] buffer, @NotNull final MessageDigest digest) throws IOException {
+		final ByteBuffer localBuffer = ByteBuffer.allocate(buffer.length);
+		long position = 0;
+		boolean matches = true;
+		while (position < existingBytes) {
+			final int read = inputStream.readNBytes(buffer, 0, (int) Math.min(buffer.length, existingBytes - position));
+			if (read == 0) {
+				// the file on the server is shorter than the local one
+				matches = false;
+				break;
+			}
+			digest.update(buffer, 0, read);
+			if (matches) {
+				localBuffer.clear().limit(read);
+				while (localBuffer.hasRemaining() && channel.read(localBuffer, position + localBuffer.position()) >= 0) {
+					// read the local chunk completely
+				}
+				matches = Arrays.equals(localBuffer.array(), 0, read, buffer, 0, read);
+			}
+			if (!matches) {
+				final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+				long writePosition = position;
+				while (byteBuffer.hasRemaining()) {
+					writePosition += channel.write(byteBuffer, writePosition);
+				}
+			}
+			position += read;
+		}
+		if (matches) {
+			LOGGER.info("Resuming download of '{}' after {} bytes.", name, position);
+		} else {
+			LOGGER.info("Partial download of '{}' does not match the export on the server and has been rewritten.", name);
+			channel.truncate(position);
+		}
+		return position;
+	}
+
+	@NotNull
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+	@NotNull
+	private static String toHex(@NotNull final byte[] bytes) {
+		final StringBuilder builder = new StringBuilder(bytes.length * 2);
+		for (final byte b : bytes) {
+			builder.append(String.format("%02x", b));
+		}
+		return builder.toString();
+	}
+}
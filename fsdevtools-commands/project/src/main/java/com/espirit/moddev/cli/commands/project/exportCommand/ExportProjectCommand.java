@@ -31,11 +31,14 @@ import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
 import com.github.rvesse.airline.annotations.OptionType;
 import com.github.rvesse.airline.annotations.help.Examples;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.Connection;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 @Command(name = ProjectCommandNames.EXPORT, groupNames = ProjectCommandGroup.NAME, description = "Exports an existing FirstSpirit project from a FirstSpirit Server.")
 @Examples(
 		examples = {
@@ -60,6 +63,12 @@ public class ExportProjectCommand extends SimpleCommand<SimpleResult<Boolean>> {
 	private long maxRevisionCount = -1L;
 	@Option(type = OptionType.COMMAND, name = {"-sde", "--skipDeletedElements"}, description = "Do not add deleted elements to the export.")
 	private boolean skipDeletedElements;
+	@Option(type = OptionType.COMMAND, name = {"-dpar", "--downloadParallelism"}, description = "Maximum number of export files downloaded at the same time, at least 1. Default is " + ExportFileDownloader.DEFAULT_PARALLELISM + ".")
+	@Positive
+	private int downloadParallelism = ExportFileDownloader.DEFAULT_PARALLELISM;
+	@Option(type = OptionType.COMMAND, name = {"-to", "--timeout"}, description = "The time in seconds to wait for the export on the server, 0 to wait until it has finished. Default is 0.", title = "timeoutInSeconds")
+	@Positive(includesZero = true)
+	private long timeoutInSeconds;
 
 	@Override
 	public SimpleResult<Boolean> call() {
@@ -79,7 +88,8 @@ public class ExportProjectCommand extends SimpleCommand<SimpleResult<Boolean>> {
 				exportParametersBuilder.exportDeletedElements();
 			}
 
-			final ProjectExporter projectExporter = new ProjectExporter();
+			final ProjectExporter projectExporter = new ProjectExporter(downloadParallelism);
+			projectExporter.setTimeout(timeoutInSeconds > 0 ? Duration.ofSeconds(timeoutInSeconds) : null);
 			boolean exported = callExportProject(projectExporter, connection, getProjectExportParameters(exportParametersBuilder));
 
 			return new SimpleResult(exported ? exported : new IllegalStateException("Export was not successful"));
@@ -22,6 +22,8 @@
 
 package com.espirit.moddev.cli.commands.project.exportCommand;
 
+import com.espirit.moddev.cli.utils.ProgressAwaiter;
+import com.espirit.moddev.cli.utils.ProgressAwaiter.Progress;
 import de.espirit.firstspirit.access.AdminService;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.ServerActionHandle;
@@ -38,17 +40,48 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Class that can export a given FirstSpirit project from a server.
  */
 public class ProjectExporter {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectExporter.class);
+	private static final Duration PROGRESS_LOG_INTERVAL = Duration.ofSeconds(10);
+
+	private final int _downloadParallelism;
+	@Nullable
+	private Duration _timeout;
+
+	/**
+	 * Creates an exporter which downloads up to {@link ExportFileDownloader#DEFAULT_PARALLELISM} export files concurrently.
+	 */
+	public ProjectExporter() {
+		this(ExportFileDownloader.DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Creates an exporter with the given number of concurrent export file downloads.
+	 *
+	 * @param downloadParallelism the maximum number of export files downloaded at the same time.
+	 */
+	public ProjectExporter(final int downloadParallelism) {
+		_downloadParallelism = downloadParallelism;
+	}
+
+	/**
+	 * Limits the time to wait for the export on the server. Without a timeout the exporter waits until the export has
+	 * finished.
+	 *
+	 * @param timeout the maximum time to wait or {@code null} to wait until the export has finished.
+	 */
+	public void setTimeout(@Nullable final Duration timeout) {
+		_timeout = timeout;
+	}
 
 	/**
 	 * Exports a project specified by projectExportParameters from a FirstSpirit server.
@@ -204,25 +237,34 @@ public class ProjectExporter {
 	 * @param exportHandle Handle of the active export job.
 	 */
 	protected List<ExportFile> waitUntilExportFinished(ServerActionHandle<ExportProgress, Boolean> exportHandle) {
-		ExportProgress exportProgress = exportHandle.getProgress(true);
-		while (!exportProgress.isFinished()) {
-			exportProgress = exportHandle.getProgress(true);
-			LOGGER.info("Exporting...");
-			try {
-				Thread.sleep(2500);
-			} catch (InterruptedException e) {
-				LOGGER.error("Thread sleep failed!", e);
-				Thread.currentThread().interrupt();
+		final AtomicReference<ExportProgress> exportProgress = new AtomicReference<>();
+		try {
+			final boolean finished = ProgressAwaiter.of("Export")
+					.withTimeout(_timeout)
+					.withListener(ProgressAwaiter.loggingListener(LOGGER, PROGRESS_LOG_INTERVAL))
+					.awaitProgress(() -> {
+						final ExportProgress progress = exportHandle.getProgress(true);
+						exportProgress.set(progress);
+						return progress.isFinished() ? Progress.finished() : Progress.of(progress.getProgress());
+					});
+			if (!finished) {
+				LOGGER.error("Export did not finish within {}s.", _timeout.getSeconds());
+				return Collections.emptyList();
 			}
+		} catch (InterruptedException e) {
+			LOGGER.error("Waiting for the export has been interrupted!", e);
+			Thread.currentThread().interrupt();
+			return Collections.emptyList();
 		}
 
 		LOGGER.info("ExportProgress finished");
-		return exportProgress.getExportFiles();
+		return exportProgress.get().getExportFiles();
 	}
 
 	/**
-	 * Downloads the exported file(s) to the filesystem.
+	 * Downloads the exported file(s) to the filesystem, several files concurrently.
 	 * Ensures that the export directory exists beforehand.
+	 * Interrupted downloads are resumed and a SHA-256 checksum file is written for each file, see {@link ExportFileDownloader}.
 	 *
 	 * @param projectExportPath The download directory for the exported project.
 	 * @param projectStorage    ProjectStorage who processed the export.
@@ -245,32 +287,17 @@ public class ProjectExporter {
 			}
 		}
 
-		for (ExportFile exportFile : exportFiles) {
-			File projectExportFile = new File(projectParentDir + File.separator + exportFile.getName());
-
-			try (InputStream downloadInputStream = projectStorage.downloadExportFile(exportFile); FileOutputStream exportFileOutputStream = new FileOutputStream(projectExportFile)) {
-
-				int read;
-				byte[] bytes = new byte[8192];
-				while ((read = downloadInputStream.read(bytes)) != -1) {
-					exportFileOutputStream.write(bytes, 0, read);
-				}
-
-				if (projectExportFile.exists()) {
-					LOGGER.info("Export file download successful.");
-				} else {
-					LOGGER.info("Export file download failed.");
-					return false;
-				}
-			} catch (FileNotFoundException e) {
-				LOGGER.error("", e);
-				return false;
-			} catch (IOException e) {
-				LOGGER.error("", e);
-				return false;
-			}
+		final boolean downloaded = createExportFileDownloader(projectStorage).downloadAll(projectParentDir, exportFiles);
+		if (downloaded) {
+			LOGGER.info("Export file download successful.");
+		} else {
+			LOGGER.error("Export file download failed.");
 		}
+		return downloaded;
+	}
 
-		return true;
+	@NotNull
+	protected ExportFileDownloader createExportFileDownloader(@NotNull final ProjectStorage projectStorage) {
+		return new ExportFileDownloader(projectStorage, _downloadParallelism);
 	}
 }
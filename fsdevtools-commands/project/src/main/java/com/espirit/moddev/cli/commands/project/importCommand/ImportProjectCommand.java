@@ -34,12 +34,14 @@ import com.github.rvesse.airline.annotations.Option;
 import com.github.rvesse.airline.annotations.OptionType;
 import com.github.rvesse.airline.annotations.help.Examples;
 import com.github.rvesse.airline.annotations.restrictions.Required;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.Connection;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.time.Duration;
 
 @Command(name = ProjectCommandNames.IMPORT, groupNames = ProjectCommandGroup.NAME, description = "Imports a FirstSpirit project export into a FirstSpirit Server as a new project.")
 @Examples(
@@ -75,6 +77,10 @@ public class ImportProjectCommand extends SimpleCommand<SimpleResult<Boolean>> {
 	@Option(type = OptionType.COMMAND, name = {"-dlm", "--databaseLayerMapping"}, description = "Define a map-like layerMapping with comma-separated key-value pairs by : or =; . See command examples.", title = "layerMapping")
 	private String _layerMapping;
 
+	@Option(type = OptionType.COMMAND, name = {"-to", "--timeout"}, description = "The time in seconds to wait for the import on the server, 0 to wait until it has finished. Default is 0.", title = "timeoutInSeconds")
+	@Positive(includesZero = true)
+	private long _timeoutInSeconds;
+
 	@Override
 	public SimpleResult<Boolean> call() {
 		try (final Connection connection = create()) {
@@ -101,7 +107,9 @@ public class ImportProjectCommand extends SimpleCommand<SimpleResult<Boolean>> {
 				.setLayerMapping(new StringPropertiesMap(_layerMapping));
 
 		// import project
-		final boolean imported = new ProjectImporter().importProject(connection, importParametersBuilder.create());
+		final ProjectImporter projectImporter = new ProjectImporter();
+		projectImporter.setTimeout(_timeoutInSeconds > 0 ? Duration.ofSeconds(_timeoutInSeconds) : null);
+		final boolean imported = projectImporter.importProject(connection, importParametersBuilder.create());
 		// return result
 		return new SimpleResult(imported ? true : new IllegalStateException("Import was not successful"));
 	}
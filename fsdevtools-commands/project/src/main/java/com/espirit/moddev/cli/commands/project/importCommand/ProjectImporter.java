@@ -22,6 +22,8 @@
 
 package com.espirit.moddev.cli.commands.project.importCommand;
 
+import com.espirit.moddev.cli.utils.ProgressAwaiter;
+import com.espirit.moddev.cli.utils.ProgressAwaiter.Progress;
 import org.jetbrains.annotations.VisibleForTesting;
 import de.espirit.firstspirit.access.AdminService;
 import de.espirit.firstspirit.access.Connection;
@@ -47,11 +49,13 @@ import de.espirit.firstspirit.server.scheduler.ScheduleTaskDTO;
 import de.espirit.firstspirit.server.scheduler.ScheduleTaskTemplateDTO;
 import de.espirit.firstspirit.server.scheduler.ScriptTaskDTO;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,13 +70,26 @@ import java.util.Set;
 public class ProjectImporter {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectImporter.class);
-	private static final int WAIT_MS_UNTIL_CHECK_FOR_IMPORT = 250;
+	private static final Duration PROGRESS_LOG_INTERVAL = Duration.ofSeconds(5);
 	private static final String LAYER_CREATE_NEW = "CREATE_NEW";
 
+	@Nullable
+	private Duration _timeout;
+
 	public ProjectImporter() {
 		// Nothing to do here
 	}
 
+	/**
+	 * Limits the time to wait for the import on the server. Without a timeout the importer waits until the import has
+	 * finished.
+	 *
+	 * @param timeout the maximum time to wait or {@code null} to wait until the import has finished.
+	 */
+	public void setTimeout(@Nullable final Duration timeout) {
+		_timeout = timeout;
+	}
+
 	/**
 	 * Imports a project specified by projectImportParameters into a FirstSpirit server.
 	 * Uses the given connection to obtain all necessary managers.
@@ -186,24 +203,23 @@ public class ProjectImporter {
 		adminService.getProjectStorage().refreshProjects();
 	}
 
-	private static boolean waitUntilImportFinished(@NotNull final ServerActionHandle<ImportProgress, Boolean> handle) throws Exception {
-		while (true) {
-			// sleep some time
-			try {
-				Thread.sleep(WAIT_MS_UNTIL_CHECK_FOR_IMPORT);
-			} catch (final InterruptedException e) {
-				Thread.currentThread().interrupt();
-				return Boolean.FALSE;
-			}
-
-			// get the current progress and print it
-			final ImportProgress progress = handle.getProgress(false);
-			LOGGER.info(progress.getProgress() + "%");
-
-			// progress is finished --> break
-			if (progress.isFinished()) {
-				break;
+	private boolean waitUntilImportFinished(@NotNull final ServerActionHandle<ImportProgress, Boolean> handle) throws Exception {
+		// poll quickly at first so small imports return right away, then back off
+		try {
+			final boolean finished = ProgressAwaiter.of("Import")
+					.withTimeout(_timeout)
+					.withListener(ProgressAwaiter.loggingListener(LOGGER, PROGRESS_LOG_INTERVAL))
+					.awaitProgress(() -> {
+						final ImportProgress progress = handle.getProgress(false);
+						return progress.isFinished() ? Progress.finished() : Progress.of(progress.getProgress());
+					});
+			if (!finished) {
+				LOGGER.error("Import did not finish within {}s.", _timeout.getSeconds());
+				return false;
 			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Boolean.FALSE;
 		}
 
 		// check the result of the import
@@ -0,0 +1,192 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.project.exportCommand;
+
+import de.espirit.firstspirit.access.admin.ProjectStorage;
+import de.espirit.firstspirit.access.export.ExportFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExportFileDownloaderTest {
+
+	@TempDir
+	Path _tempDir;
+
+	@Test
+	public void downloadAll_downloads_all_files_with_checksum() throws Exception {
+		// Arrange
+		final ProjectStorage projectStorage = mock(ProjectStorage.class);
+		final ExportFile first = mockExportFile(projectStorage, "first.tar.gz", "abc".getBytes(StandardCharsets.UTF_8));
+		final ExportFile second = mockExportFile(projectStorage, "second.tar.gz", randomBytes(3 * 1024 * 1024 + 17));
+		final ExportFileDownloader downloader = new ExportFileDownloader(projectStorage, 2);
+
+		// Act
+		final boolean downloaded = downloader.downloadAll(_tempDir.toFile(), List.of(first, second));
+
+		// Assert
+		assertThat(downloaded).isTrue();
+		assertThat(_tempDir.resolve("first.tar.gz")).hasContent("abc");
+		assertThat(Files.size(_tempDir.resolve("second.tar.gz"))).isEqualTo(3 * 1024 * 1024 + 17);
+		assertThat(_tempDir.resolve("first.tar.gz" + ExportFileDownloader.CHECKSUM_FILE_SUFFIX))
+				.hasContent("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad  first.tar.gz");
+		assertThat(_tempDir.resolve("first.tar.gz" + ExportFileDownloader.PART_FILE_SUFFIX)).doesNotExist();
+	}
+
+	@Test
+	public void download_resumes_matching_part_file() throws Exception {
+		// Arrange
+		final byte[] content = randomBytes(2 * 1024 * 1024 + 5);
+		final ProjectStorage projectStorage = mock(ProjectStorage.class);
+		final ExportFile exportFile = mockExportFile(projectStorage, "export.tar.gz", content);
+		Files.write(_tempDir.resolve("export.tar.gz" + ExportFileDownloader.PART_FILE_SUFFIX), Arrays.copyOf(content, 1024 * 1024 + 3));
+		final File target = _tempDir.resolve("export.tar.gz").toFile();
+
+		// Act
+		final String checksum = new ExportFileDownloader(projectStorage, 1).download(exportFile, target);
+
+		// Assert
+		assertThat(Files.readAllBytes(target.toPath())).isEqualTo(content);
+		assertThat(checksum).isEqualTo(sha256(content));
+	}
+
+	@Test
+	public void download_rewrites_part_file_of_other_export() throws Exception {
+		// Arrange
+		final byte[] content = randomBytes(4096);
+		final ProjectStorage projectStorage = mock(ProjectStorage.class);
+		final ExportFile exportFile = mockExportFile(projectStorage, "export.tar.gz", content);
+		Files.write(_tempDir.resolve("export.tar.gz" + ExportFileDownloader.PART_FILE_SUFFIX), randomBytes(8192));
+		final File target = _tempDir.resolve("export.tar.gz").toFile();
+
+		// Act
+		final String checksum = new ExportFileDownloader(projectStorage, 1).download(exportFile, target);
+
+		// Assert
+		assertThat(Files.readAllBytes(target.toPath())).isEqualTo(content);
+		assertThat(checksum).isEqualTo(sha256(content));
+	}
+
+	@Test
+	public void downloadAll_resumes_after_dropped_connection() throws Exception {
+		// Arrange
+		final byte[] content = randomBytes(100_000);
+		final ProjectStorage projectStorage = mock(ProjectStorage.class);
+		final ExportFile exportFile = mock(ExportFile.class);
+		when(exportFile.getName()).thenReturn("export.tar.gz");
+		when(projectStorage.downloadExportFile(exportFile))
+				.thenReturn(new FailingInputStream(content, 40_000))
+				.thenReturn(new ByteArrayInputStream(content));
+
+		// Act
+		final boolean downloaded = new ExportFileDownloader(projectStorage, 1, 2).downloadAll(_tempDir.toFile(), List.of(exportFile));
+
+		// Assert
+		assertThat(downloaded).isTrue();
+		assertThat(Files.readAllBytes(_tempDir.resolve("export.tar.gz"))).isEqualTo(content);
+	}
+
+	@Test
+	public void downloadAll_keeps_part_file_if_all_attempts_fail() throws Exception {
+		// Arrange
+		final byte[] content = randomBytes(10_000);
+		final ProjectStorage projectStorage = mock(ProjectStorage.class);
+		final ExportFile exportFile = mock(ExportFile.class);
+		when(exportFile.getName()).thenReturn("export.tar.gz");
+		when(projectStorage.downloadExportFile(exportFile)).thenReturn(new FailingInputStream(content, 5_000));
+
+		// Act
+		final boolean downloaded = new ExportFileDownloader(projectStorage, 1, 1).downloadAll(_tempDir.toFile(), List.of(exportFile));
+
+		// Assert
+		assertThat(downloaded).isFalse();
+		assertThat(_tempDir.resolve("export.tar.gz")).doesNotExist();
+		assertThat(Files.size(_tempDir.resolve("export.tar.gz" + ExportFileDownloader.PART_FILE_SUFFIX))).isEqualTo(5_000);
+	}
+
+	private static ExportFile mockExportFile(final ProjectStorage projectStorage, final String name, final byte[] content) throws IOException {
+		final ExportFile exportFile = mock(ExportFile.class);
+		when(exportFile.getName()).thenReturn(name);
+		when(projectStorage.downloadExportFile(exportFile)).thenAnswer(invocation -> new ByteArrayInputStream(content));
+		return exportFile;
+	}
+
+	private static byte[] randomBytes(final int length) {
+		final byte[] bytes = new byte[length];
+		new Random(length).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static String sha256(final byte[] content) throws Exception {
+		final StringBuilder builder = new StringBuilder();
+		for (final byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+			builder.append(String.format("%02x", b));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Delivers the first bytes of the content and then fails like a dropped connection.
+	 */
+	private static final class FailingInputStream extends InputStream {
+
+		private final ByteArrayInputStream _delegate;
+		private int _remaining;
+
+		private FailingInputStream(final byte[] content, final int failAfter) {
+			_delegate = new ByteArrayInputStream(content);
+			_remaining = failAfter;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] single = new byte[1];
+			return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			if (_remaining <= 0) {
+				throw new IOException("Connection reset");
+			}
+			final int read = _delegate.read(b, off, Math.min(len, _remaining));
+			_remaining -= read;
+			return read;
+		}
+	}
+}
@@ -26,12 +26,14 @@ import com.espirit.moddev.cli.ConnectionBuilder;
 import com.espirit.moddev.cli.commands.SimpleCommand;
 import com.espirit.moddev.cli.commands.schedule.ScheduleCommandGroup;
 import com.espirit.moddev.cli.commands.schedule.ScheduleCommandNames;
+import com.espirit.moddev.cli.utils.ProgressAwaiter;
 import org.jetbrains.annotations.VisibleForTesting;
 import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
 import com.github.rvesse.airline.annotations.OptionType;
 import com.github.rvesse.airline.annotations.help.Examples;
 import com.github.rvesse.airline.annotations.restrictions.Required;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.AdminService;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.ServicesBroker;
@@ -50,6 +52,7 @@ import org.slf4j.LoggerFactory;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 
@@ -67,11 +70,16 @@ import java.util.List;
 public class ScheduleStartCommand extends SimpleCommand<ScheduleStartResult> {
 
 	protected static final Logger LOGGER = LoggerFactory.getLogger(ScheduleStartCommand.class);
+	private static final Duration PROGRESS_LOG_INTERVAL = Duration.ofSeconds(5);
 
 	@Option(type = OptionType.COMMAND, name = {"-n", "--name"}, description = "Name of the target schedule task")
 	@Required
 	private String _scheduleName;
 
+	@Option(type = OptionType.COMMAND, name = {"-to", "--timeout"}, description = "The time in seconds to wait for the schedule task, 0 to wait until it has finished. Default is 0.", title = "timeoutInSeconds")
+	@Positive(includesZero = true)
+	private long _timeoutInSeconds;
+
 	@Override
 	public ScheduleStartResult call() {
 		try (final Connection connection = getConnection()) {
@@ -138,15 +146,17 @@ public class ScheduleStartCommand extends SimpleCommand<ScheduleStartResult> {
 				throw new IllegalStateException("Schedule task is already running!");
 			}
 			final Date startTime = new Date();
-			ScheduleEntryControl scheduleEntryControl = scheduleEntry.execute();
-			int counter = 0;
-			while (scheduleEntryControl.getState().getState() == RunState.NOT_STARTED || scheduleEntryControl.isRunning()) {
-				Thread.sleep(100);
-				scheduleEntryControl.refresh();
-				if (counter % 50 == 0) {
-					LOGGER.info("Schedule task '" + scheduleEntry.getName() + "' is still running. Please wait...");
-				}
-				counter++;
+			final ScheduleEntryControl scheduleEntryControl = scheduleEntry.execute();
+			final boolean finished = ProgressAwaiter.of("Schedule task '" + scheduleEntry.getName() + "'")
+					.withTimeout(_timeoutInSeconds > 0 ? Duration.ofSeconds(_timeoutInSeconds) : null)
+					.withListener(ProgressAwaiter.loggingListener(LOGGER, PROGRESS_LOG_INTERVAL))
+					.await(() -> {
+						// refresh before checking, otherwise every check sees the state of the previous poll
+						scheduleEntryControl.refresh();
+						return scheduleEntryControl.getState().getState() != RunState.NOT_STARTED && !scheduleEntryControl.isRunning();
+					});
+			if (!finished) {
+				throw new IllegalStateException("Schedule task '" + scheduleEntry.getName() + "' did not finish within " + _timeoutInSeconds + "s. It keeps running on the server.");
 			}
 			final RunState state = scheduleEntryControl.getState().getState();
 			if (state == RunState.SUCCESS) {
@@ -222,4 +232,9 @@ public class ScheduleStartCommand extends SimpleCommand<ScheduleStartResult> {
 	void setScheduleName(final String scheduleName) {
 		_scheduleName = scheduleName;
 	}
+
+	@VisibleForTesting
+	void setTimeoutInSeconds(final long timeoutInSeconds) {
+		_timeoutInSeconds = timeoutInSeconds;
+	}
 }
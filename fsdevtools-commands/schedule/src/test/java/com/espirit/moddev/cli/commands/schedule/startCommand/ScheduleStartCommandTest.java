@@ -38,14 +38,19 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.espirit.moddev.cli.commands.schedule.Messages.EXCEPTION_PROJECT_NOT_FOUND;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ScheduleStartCommandTest {
@@ -307,6 +312,48 @@ public class ScheduleStartCommandTest {
 
 	}
 
+	@Test
+	public void executeSchedule_refreshes_before_checking_the_state() throws ScheduleEntryRunningException, InterruptedException {
+		//setup
+		final ScheduleEntry createdEntry = ScheduleTestUtils.createScheduleEntry(1, "test Task");
+		final ScheduleEntryControl scheduleEntryControl = mock(ScheduleEntryControl.class);
+		final ScheduleEntryState taskState = mock(ScheduleEntryState.class);
+		// the task has finished on the server, the control only knows after a refresh
+		final AtomicBoolean refreshed = new AtomicBoolean();
+		doAnswer(invocation -> {
+			refreshed.set(true);
+			return null;
+		}).when(scheduleEntryControl).refresh();
+		when(scheduleEntryControl.isRunning()).thenAnswer(invocation -> !refreshed.get());
+		when(taskState.getState()).thenAnswer(invocation -> refreshed.get() ? RunState.SUCCESS : RunState.RUNNING);
+		when(scheduleEntryControl.getState()).thenReturn(taskState);
+		when(createdEntry.execute()).thenReturn(scheduleEntryControl);
+		final ScheduleStartCommand scheduleStartCommand = new ScheduleStartCommand();
+		//test
+		scheduleStartCommand.executeSchedule(createdEntry);
+		//verify
+		verify(scheduleEntryControl, times(1)).refresh();
+		verify(scheduleEntryControl, times(1)).isRunning();
+	}
+
+	@Test
+	public void executeSchedule_timeout() {
+		//setup
+		final ScheduleEntry createdEntry = ScheduleTestUtils.createScheduleEntry(1, "test Task");
+		final ScheduleEntryControl scheduleEntryControl = mock(ScheduleEntryControl.class);
+		when(scheduleEntryControl.isRunning()).thenReturn(true);
+		final ScheduleEntryState taskState = mock(ScheduleEntryState.class);
+		when(taskState.getState()).thenReturn(RunState.NOT_STARTED);
+		when(scheduleEntryControl.getState()).thenReturn(taskState);
+		when(createdEntry.execute()).thenReturn(scheduleEntryControl);
+		final ScheduleStartCommand scheduleStartCommand = new ScheduleStartCommand();
+		scheduleStartCommand.setTimeoutInSeconds(1);
+		//test
+		final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> scheduleStartCommand.executeSchedule(createdEntry));
+		//verify
+		assertTrue(exception.getMessage().contains("did not finish within 1s"), "timeout message expected");
+	}
+
 	@Test
 	public void call_exception_handling() {
 		// setup
@@ -24,6 +24,7 @@ package com.espirit.moddev.cli.commands.script.common;
 
 import com.espirit.moddev.cli.ConnectionBuilder;
 import com.espirit.moddev.cli.api.annotations.ParameterExamples;
+import com.espirit.moddev.cli.api.result.Result;
 import com.espirit.moddev.cli.api.script.ScriptEngine;
 import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
 import com.espirit.moddev.cli.api.script.exception.ScriptParsingException;
@@ -38,6 +39,7 @@ import com.github.rvesse.airline.annotations.restrictions.Required;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.project.Project;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,7 +51,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public abstract class AbstractScriptCommand extends SimpleCommand<SimpleResult<Boolean>> {
+public abstract class AbstractScriptCommand extends SimpleCommand<Result<?>> {
 
 	@VisibleForTesting
 	static final String ATTR_CONTEXT = "context";
@@ -88,26 +90,32 @@ public abstract class AbstractScriptCommand extends SimpleCommand<SimpleResult<B
 		_logger = LoggerFactory.getLogger(getClass());
 	}
 
-	protected abstract void executeCommand(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, @NotNull final Path scriptPath, @NotNull final String scriptSource) throws ScriptParsingException, ScriptExecutionException;
+	/**
+	 * Executes the command with the given script.
+	 *
+	 * @return the result of the command, e.g. {@link SimpleResult} wrapping {@code true}.
+	 */
+	@NotNull
+	protected abstract Result<?> executeCommand(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, @NotNull final Path scriptPath, @NotNull final String scriptSource) throws ScriptParsingException, ScriptExecutionException;
 
 	@Override
-	public final SimpleResult<Boolean> call() {
+	public final Result<?> call() {
 		final Path scriptPath = new java.io.File(_scriptFile).toPath();
 		try (final Connection connection = ConnectionBuilder.with(this).build()) {
 			connection.connect();
 			// initialize script engines
 			_logger.debug("Initializing script engines registry...");
-			final ScriptEngineRegistry scriptEngineRegistry = new ScriptEngineRegistry();
-			scriptEngineRegistry.initialize();
+			final ScriptEngineRegistry scriptEngineRegistry = ScriptEngineRegistry.getShared();
 			// get script engine
 			_logger.debug("Retrieving script engine '{}'...", _engineName);
 			final ScriptEngine scriptEngine = scriptEngineRegistry.requireEngine(_engineName);
 			// read script file
 			_logger.debug("Reading script source from '{}'...", _scriptFile);
 			final String scriptSource = Files.readString(scriptPath);
+			// before anything is compiled, engines may keep a reference to System.out
+			ScriptOutputRouter.install();
 
-			executeCommand(connection, scriptEngine, scriptPath, scriptSource);
-			return new SimpleResult<>(true);
+			return executeCommand(connection, scriptEngine, scriptPath, scriptSource);
 		} catch (final Exception e) {
 			_logger.error("Error during script command command '{}': {}", scriptPath.toAbsolutePath(), e.getMessage());
 			return new SimpleResult<>(e);
@@ -121,7 +129,19 @@ public abstract class AbstractScriptCommand extends SimpleCommand<SimpleResult<B
 
 	@NotNull
 	protected Map<String, Object> createScriptContext(@NotNull final Connection connection) {
-		final Map<String, Object> context = new HashMap<>();
+		return createScriptContext(connection, (ScriptOutput) null);
+	}
+
+	/**
+	 * Creates the variables of a script execution for the project of the global project option.
+	 *
+	 * @param connection The connection to the FirstSpirit server.
+	 * @param output     The output channel of the execution, may be {@code null}.
+	 * @return The variables of the script.
+	 * @see #createScriptContext(Connection, Project, ScriptOutput)
+	 */
+	@NotNull
+	protected Map<String, Object> createScriptContext(@NotNull final Connection connection, @Nullable final ScriptOutput output) {
 		final String projectName = getProject();
 		Project project = null;
 		if (projectName != null) {
@@ -130,8 +150,27 @@ public abstract class AbstractScriptCommand extends SimpleCommand<SimpleResult<B
 				throw new IllegalStateException(String.format("Project '%s' not found (typo in the project name?).", projectName));
 			}
 		}
-		final CLIScriptContext scriptContext = new CLIScriptContext(connection, project, parseParameterList(_parameterList));
+		return createScriptContext(connection, project, output);
+	}
+
+	/**
+	 * Creates the variables of a script execution for the given project.
+	 *
+	 * @param connection The connection to the FirstSpirit server.
+	 * @param project    The project the script is executed for, {@code null} for a server script.
+	 * @param output     The output channel of the execution, may be {@code null}.
+	 * @return The variables of the script, the {@link CLIScriptContext} is bound to {@value #ATTR_CONTEXT} and the
+	 * streams of the output to {@value ScriptOutput#OUT} and {@value ScriptOutput#ERR}.
+	 */
+	@NotNull
+	protected Map<String, Object> createScriptContext(@NotNull final Connection connection, @Nullable final Project project, @Nullable final ScriptOutput output) {
+		final Map<String, Object> context = new HashMap<>();
+		final CLIScriptContext scriptContext = new CLIScriptContext(connection, project, parseParameterList(_parameterList), output);
 		context.put(ATTR_CONTEXT, scriptContext);
+		if (output != null) {
+			context.put(ScriptOutput.OUT, output.getOut());
+			context.put(ScriptOutput.ERR, output.getErr());
+		}
 		return context;
 	}
 
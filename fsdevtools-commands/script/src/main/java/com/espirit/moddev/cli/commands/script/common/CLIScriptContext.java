@@ -34,6 +34,7 @@ import de.espirit.firstspirit.agency.SpecialistsBroker;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,9 +50,16 @@ public class CLIScriptContext implements ProjectScriptContext {
 	private final Map<String, Object> _properties;
 	private final SpecialistsBroker _broker;
 	private final UserService _userService;
+	@Nullable
+	private final ScriptOutput _output;
 
 	public CLIScriptContext(@NotNull final Connection connection, @Nullable final Project project, @NotNull final Map<String, String> properties) {
+		this(connection, project, properties, null);
+	}
+
+	public CLIScriptContext(@NotNull final Connection connection, @Nullable final Project project, @NotNull final Map<String, String> properties, @Nullable final ScriptOutput output) {
 		_connection = connection;
+		_output = output;
 		_project = project;
 		_properties = new HashMap<>(properties);
 		_properties.put("connection", connection);
@@ -75,6 +83,26 @@ public class CLIScriptContext implements ProjectScriptContext {
 		return _broker;
 	}
 
+	/**
+	 * Returns the standard output of this script execution.
+	 *
+	 * @return the stream of the {@link ScriptOutput} of the execution, or {@link System#out} if there is none
+	 */
+	@NotNull
+	public PrintStream getOut() {
+		return _output != null ? _output.getOut() : System.out;
+	}
+
+	/**
+	 * Returns the error output of this script execution.
+	 *
+	 * @return the stream of the {@link ScriptOutput} of the execution, or {@link System#err} if there is none
+	 */
+	@NotNull
+	public PrintStream getErr() {
+		return _output != null ? _output.getErr() : System.err;
+	}
+
 	@Override
 	public Connection getConnection() {
 		return _connection;
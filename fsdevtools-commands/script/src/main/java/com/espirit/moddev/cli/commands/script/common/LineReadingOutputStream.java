@@ -23,10 +23,17 @@
 package com.espirit.moddev.cli.commands.script.common;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -34,36 +41,88 @@ import java.util.function.Consumer;
  * Custom implementation of {@link OutputStream} that reads input bytes and processes them line by line.
  * It buffers incoming bytes, detects line breaks, and invokes a consumer for each complete line.
  * This class is designed to handle various line break conventions (CR, LF, CRLF).
+ * <p>
+ * Lines are split on the raw bytes and decoded as a whole, so multibyte characters may be split across several
+ * writes. A line which is completely contained in one write is decoded directly from the given array, only incomplete
+ * lines are copied into a reusable buffer. Optionally, several lines are passed to the consumer at once.
  */
 public class LineReadingOutputStream extends OutputStream {
 
 	private static final byte CR = '\r';
 	private static final byte LF = '\n';
+	private static final int INITIAL_BUFFER_SIZE = 256;
+	// buffers grown by a very long line are not kept
+	private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
 
 	private final Consumer<String> _consumer;
-	private final StringBuilder _currentLine = new StringBuilder();
+	private final CharsetDecoder _decoder;
+	private final int _batchSize;
+	@Nullable
+	private final StringBuilder _batch;
+	private int _batchedLines;
+	private byte[] _lineBuffer = new byte[INITIAL_BUFFER_SIZE];
+	private int _lineLength;
+	private CharBuffer _chars = CharBuffer.allocate(INITIAL_BUFFER_SIZE);
 	private boolean _wasCR = false;
 
 	/**
-	 * Constructs a {@code LineReadingOutputStream} with the specified consumer.
+	 * Constructs a {@code LineReadingOutputStream} with the specified consumer, which is invoked for every single UTF-8
+	 * encoded line.
 	 *
 	 * @param consumer The consumer to be invoked with each complete line.
 	 * @throws NullPointerException If the specified consumer is null.
 	 */
 	public LineReadingOutputStream(@NotNull final Consumer<String> consumer) {
+		this(consumer, StandardCharsets.UTF_8, 1);
+	}
+
+	/**
+	 * Constructs a {@code LineReadingOutputStream} with the specified consumer, charset and batch size. With a batch size
+	 * greater than one, the consumer is invoked with up to {@code batchSize} lines joined by {@code '\n'}; pending lines
+	 * are passed on by {@link #flush()} and {@link #close()}.
+	 *
+	 * @param consumer  The consumer to be invoked with the complete lines.
+	 * @param charset   The charset of the written bytes, must encode CR and LF as single ASCII bytes.
+	 * @param batchSize The maximum number of lines per invocation of the consumer.
+	 * @throws NullPointerException     If the specified consumer or charset is null.
+	 * @throws IllegalArgumentException If the charset is not ASCII compatible or the batch size is less than one.
+	 */
+	public LineReadingOutputStream(@NotNull final Consumer<String> consumer, @NotNull final Charset charset, final int batchSize) {
+		if (!Arrays.equals("\r\n".getBytes(charset), new byte[]{CR, LF})) {
+			throw new IllegalArgumentException("Charset " + charset.name() + " does not encode line breaks as single bytes.");
+		}
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size must be positive, but is " + batchSize + '.');
+		}
 		this._consumer = Objects.requireNonNull(consumer);
+		this._decoder = charset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this._batchSize = batchSize;
+		this._batch = batchSize > 1 ? new StringBuilder() : null;
 	}
 
 	/**
 	 * Writes a byte to the output stream.
-	 * This method delegates to the {@link #write(byte[], int, int)} method.
 	 *
 	 * @param b The byte to be written.
-	 * @throws IOException If an I/O error occurs.
 	 */
 	@Override
-	public void write(final int b) throws IOException {
-		write(new byte[]{(byte) b});
+	public void write(final int b) {
+		final byte value = (byte) b;
+		if (this._wasCR) {
+			this._wasCR = false;
+			if (value == LF) {
+				return;
+			}
+		}
+		if (value == LF || value == CR) {
+			this._wasCR = value == CR;
+			consumeBufferedLine();
+		} else {
+			ensureLineCapacity(this._lineLength + 1);
+			this._lineBuffer[this._lineLength++] = value;
+		}
 	}
 
 	/**
@@ -75,43 +134,51 @@ public class LineReadingOutputStream extends OutputStream {
 	 * @param len   The number of bytes to write.
 	 */
 	@Override
-	public void write(final byte[] b, int start, final int len) {
-		if (b == null) {
-			throw new NullPointerException();
-		}
-		if (len < 0) {
-			throw new IndexOutOfBoundsException();
-		}
+	public void write(final byte[] b, final int start, final int len) {
+		Objects.checkFromIndexSize(start, len, b.length);
 		final int end = start + len;
-		if ((start < 0) || (start > b.length) || (end < 0) || (end > b.length)) {
-			throw new IndexOutOfBoundsException();
-		}
-
-		if (this._wasCR && start < end && b[start] == LF) {
-			start++;
+		int index = start;
+		if (this._wasCR && index < end) {
 			this._wasCR = false;
-		} else if (start < end) {
-			this._wasCR = b[end - 1] == CR;
+			if (b[index] == LF) {
+				index++;
+			}
 		}
-
-		int lineStart = start;
-		for (int i = start; i < end; i++) {
-			if (b[i] == LF || b[i] == CR) {
-				this._currentLine.append(asString(b, lineStart, i));
-				consume();
+		int lineStart = index;
+		for (; index < end; index++) {
+			final byte value = b[index];
+			if (value != LF && value != CR) {
+				continue;
 			}
-			if (b[i] == LF) {
-				lineStart = i + 1;
-			} else if (b[i] == CR) {
-				if (i < end - 1 && b[i + 1] == LF) {
-					lineStart = i + 2;
-					i++;
-				} else {
-					lineStart = i + 1;
+			if (this._lineLength == 0) {
+				consumeLine(decode(b, lineStart, index - lineStart));
+			} else {
+				appendToLine(b, lineStart, index - lineStart);
+				consumeBufferedLine();
+			}
+			if (value == CR) {
+				if (index + 1 == end) {
+					this._wasCR = true;
+				} else if (b[index + 1] == LF) {
+					index++;
 				}
 			}
+			lineStart = index + 1;
+		}
+		appendToLine(b, lineStart, end - lineStart);
+	}
+
+	/**
+	 * Passes the pending lines of a batch to the consumer. An incomplete line is kept until its line break is written.
+	 */
+	@Override
+	public void flush() {
+		if (this._batch != null && this._batchedLines > 0) {
+			final String lines = this._batch.toString();
+			this._batch.setLength(0);
+			this._batchedLines = 0;
+			this._consumer.accept(lines);
 		}
-		this._currentLine.append(asString(b, lineStart, end));
 	}
 
 	/**
@@ -120,37 +187,81 @@ public class LineReadingOutputStream extends OutputStream {
 	 */
 	@Override
 	public void close() {
-		if (this._currentLine.length() != 0) {
-			consume();
+		if (this._lineLength != 0) {
+			consumeBufferedLine();
+		}
+		flush();
+	}
+
+	private void appendToLine(final byte[] bytes, final int offset, final int length) {
+		if (length == 0) {
+			return;
+		}
+		ensureLineCapacity(this._lineLength + length);
+		System.arraycopy(bytes, offset, this._lineBuffer, this._lineLength, length);
+		this._lineLength += length;
+	}
+
+	private void ensureLineCapacity(final int capacity) {
+		if (capacity > this._lineBuffer.length) {
+			this._lineBuffer = Arrays.copyOf(this._lineBuffer, Math.max(capacity, this._lineBuffer.length * 2));
 		}
 	}
 
 	/**
-	 * Converts a portion of a byte array to a string using UTF-8 encoding.
-	 *
-	 * @param bytes The byte array.
-	 * @param start The start index of the portion to convert.
-	 * @param end   The end index of the portion to convert.
-	 * @return The string representation of the specified portion of the byte array.
-	 * @throws IllegalArgumentException If the start index is greater than the end index.
+	 * Decodes the buffered line, invokes the consumer and clears the line buffer.
 	 */
-	@NotNull
-	private static String asString(final byte[] bytes, final int start, final int end) {
-		if (start > end) {
-			throw new IllegalArgumentException();
+	private void consumeBufferedLine() {
+		final String line = decode(this._lineBuffer, 0, this._lineLength);
+		this._lineLength = 0;
+		if (this._lineBuffer.length > MAX_RETAINED_BUFFER_SIZE) {
+			this._lineBuffer = new byte[INITIAL_BUFFER_SIZE];
 		}
-		if (start == end) {
-			return "";
+		consumeLine(line);
+	}
+
+	private void consumeLine(@NotNull final String line) {
+		if (this._batch == null) {
+			this._consumer.accept(line);
+			return;
+		}
+		if (this._batchedLines > 0) {
+			this._batch.append('\n');
+		}
+		this._batch.append(line);
+		if (++this._batchedLines >= this._batchSize) {
+			flush();
 		}
-		return new String(bytes, start, end - start, StandardCharsets.UTF_8);
 	}
 
 	/**
-	 * Invokes the consumer with the current line content and clears the line buffer.
+	 * Decodes a portion of a byte array with the reusable decoder, malformed input is replaced.
+	 *
+	 * @param bytes  The byte array.
+	 * @param offset The start index of the portion to decode.
+	 * @param length The number of bytes to decode.
+	 * @return The decoded string.
 	 */
-	private void consume() {
-		this._consumer.accept(this._currentLine.toString());
-		this._currentLine.setLength(0);
+	@NotNull
+	private String decode(final byte[] bytes, final int offset, final int length) {
+		if (length == 0) {
+			return "";
+		}
+		final int capacity = (int) Math.ceil(length * (double) this._decoder.maxCharsPerByte());
+		if (capacity > this._chars.capacity() || this._chars.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+			this._chars = CharBuffer.allocate(Math.max(capacity, INITIAL_BUFFER_SIZE));
+		}
+		this._chars.clear();
+		this._decoder.reset();
+		CoderResult result = this._decoder.decode(ByteBuffer.wrap(bytes, offset, length), this._chars, true);
+		if (result.isUnderflow()) {
+			result = this._decoder.flush(this._chars);
+		}
+		if (!result.isUnderflow()) {
+			// cannot happen, the buffer is sized for the maximum number of chars and errors are replaced
+			throw new IllegalStateException("Decoding the line failed: " + result);
+		}
+		return new String(this._chars.array(), 0, this._chars.position());
 	}
 
-}
\ No newline at end of file
+}
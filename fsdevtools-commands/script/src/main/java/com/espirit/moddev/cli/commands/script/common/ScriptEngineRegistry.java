@@ -62,6 +62,18 @@ public class ScriptEngineRegistry {
 
 	private final Map<String, ScriptEngine> _engines = new HashMap<>();
 
+	/**
+	 * Returns the initialized registry shared by all script commands of this process. The engines, and with them their
+	 * compiled script caches, are kept across command executions, e.g. when running as a daemon. The plugins directory
+	 * is only scanned once.
+	 *
+	 * @return The shared registry.
+	 */
+	@NotNull
+	public static ScriptEngineRegistry getShared() {
+		return SharedRegistryHolder.INSTANCE;
+	}
+
 	/**
 	 * Initializes the registry by scanning the classpath for implementations of {@link ScriptEngine}.
 	 * It calls {@link #registerEngine(ScriptEngine)} to register the default script engine.
@@ -292,4 +304,16 @@ public class ScriptEngineRegistry {
 		return Optional.empty();
 	}
 
+	private static final class SharedRegistryHolder {
+
+		private static final ScriptEngineRegistry INSTANCE = createShared();
+
+		@NotNull
+		private static ScriptEngineRegistry createShared() {
+			final ScriptEngineRegistry registry = new ScriptEngineRegistry();
+			registry.initialize();
+			return registry;
+		}
+	}
+
 }
@@ -0,0 +1,89 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.script.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Output channel of a single script execution. The lines written to {@link #getOut()} and {@link #getErr()} are passed
+ * to the given consumers. The streams are bound to the script variables {@value #OUT} and {@value #ERR}, are
+ * available by {@link CLIScriptContext#getOut()} and {@link CLIScriptContext#getErr()} and, while the output is bound
+ * by {@link ScriptOutputRouter#bind(ScriptOutput)}, receive what the executing thread writes to {@link System#out}
+ * and {@link System#err}.
+ */
+public final class ScriptOutput implements AutoCloseable {
+
+	/**
+	 * Name of the script variable with the standard output stream.
+	 */
+	public static final String OUT = "out";
+
+	/**
+	 * Name of the script variable with the error output stream.
+	 */
+	public static final String ERR = "err";
+
+	private final PrintStream _out;
+	private final PrintStream _err;
+	private volatile boolean _closed;
+
+	/**
+	 * Creates the output channel.
+	 *
+	 * @param outConsumer receives each line of the standard output
+	 * @param errConsumer receives each line of the error output
+	 */
+	public ScriptOutput(@NotNull final Consumer<String> outConsumer, @NotNull final Consumer<String> errConsumer) {
+		_out = new PrintStream(new LineReadingOutputStream(outConsumer), false, StandardCharsets.UTF_8);
+		_err = new PrintStream(new LineReadingOutputStream(errConsumer), false, StandardCharsets.UTF_8);
+	}
+
+	@NotNull
+	public PrintStream getOut() {
+		return _out;
+	}
+
+	@NotNull
+	public PrintStream getErr() {
+		return _err;
+	}
+
+	public boolean isClosed() {
+		return _closed;
+	}
+
+	/**
+	 * Closes both streams, an unterminated last line is passed to the consumer.
+	 */
+	@Override
+	public void close() {
+		_closed = true;
+		_out.close();
+		_err.close();
+	}
+
+}
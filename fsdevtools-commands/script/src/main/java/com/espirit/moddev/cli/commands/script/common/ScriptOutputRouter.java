@@ -0,0 +1,299 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.script.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Routes {@link System#out} and {@link System#err} to the {@link ScriptOutput} bound to the current thread, so that
+ * scripts running concurrently in one process keep their output apart. Threads without a bound output, including
+ * threads started by a script, write to the original streams.
+ * <p>
+ * The routing streams are installed once and stay in place, scripts may keep a reference to {@link System#out}
+ * beyond a single execution, e.g. a cached Beanshell interpreter.
+ */
+public final class ScriptOutputRouter {
+
+	private static final ThreadLocal<ScriptOutput> CURRENT_OUTPUT = new ThreadLocal<>();
+
+	private ScriptOutputRouter() {
+		// utility class
+	}
+
+	/**
+	 * Replaces {@link System#out} and {@link System#err} with the routing streams, if not done yet.
+	 */
+	public static synchronized void install() {
+		if (!(System.out instanceof RoutingPrintStream)) {
+			System.setOut(new RoutingPrintStream(System.out, ScriptOutput::getOut));
+		}
+		if (!(System.err instanceof RoutingPrintStream)) {
+			System.setErr(new RoutingPrintStream(System.err, ScriptOutput::getErr));
+		}
+	}
+
+	/**
+	 * Restores the original streams.
+	 */
+	@VisibleForTesting
+	static synchronized void uninstall() {
+		if (System.out instanceof RoutingPrintStream) {
+			System.setOut(((RoutingPrintStream) System.out)._fallback);
+		}
+		if (System.err instanceof RoutingPrintStream) {
+			System.setErr(((RoutingPrintStream) System.err)._fallback);
+		}
+	}
+
+	/**
+	 * Binds the given output to the current thread until the returned binding is closed.
+	 *
+	 * @param output the output of the script executed by the current thread
+	 * @return the binding, closing it restores the previous binding of the thread
+	 */
+	@NotNull
+	public static Binding bind(@NotNull final ScriptOutput output) {
+		final ScriptOutput previous = CURRENT_OUTPUT.get();
+		CURRENT_OUTPUT.set(output);
+		return () -> {
+			if (previous != null) {
+				CURRENT_OUTPUT.set(previous);
+			} else {
+				CURRENT_OUTPUT.remove();
+			}
+		};
+	}
+
+	/**
+	 * Binding of a {@link ScriptOutput} to a thread.
+	 */
+	@FunctionalInterface
+	public interface Binding extends AutoCloseable {
+
+		@Override
+		void close();
+	}
+
+	/**
+	 * Delegates every call to the stream of the bound {@link ScriptOutput} or to the original stream.
+	 */
+	private static final class RoutingPrintStream extends PrintStream {
+
+		private final PrintStream _fallback;
+		private final Function<ScriptOutput, PrintStream> _streamSelector;
+
+		private RoutingPrintStream(@NotNull final PrintStream fallback, @NotNull final Function<ScriptOutput, PrintStream> streamSelector) {
+			super(fallback, true);
+			_fallback = fallback;
+			_streamSelector = streamSelector;
+		}
+
+		@NotNull
+		private PrintStream target() {
+			final ScriptOutput output = CURRENT_OUTPUT.get();
+			return output != null && !output.isClosed() ? _streamSelector.apply(output) : _fallback;
+		}
+
+		@Override
+		public void flush() {
+			target().flush();
+		}
+
+		@Override
+		public void close() {
+			// the shared streams are never closed by a script
+			flush();
+		}
+
+		@Override
+		public boolean checkError() {
+			return target().checkError();
+		}
+
+		@Override
+		public void write(final int b) {
+			target().write(b);
+		}
+
+		@Override
+		public void write(@NotNull final byte[] buf, final int off, final int len) {
+			target().write(buf, off, len);
+		}
+
+		@Override
+		public void write(@NotNull final byte[] buf) throws IOException {
+			target().write(buf);
+		}
+
+		@Override
+		public void writeBytes(@NotNull final byte[] buf) {
+			target().writeBytes(buf);
+		}
+
+		@Override
+		public void print(final boolean b) {
+			target().print(b);
+		}
+
+		@Override
+		public void print(final char c) {
+			target().print(c);
+		}
+
+		@Override
+		public void print(final int i) {
+			target().print(i);
+		}
+
+		@Override
+		public void print(final long l) {
+			target().print(l);
+		}
+
+		@Override
+		public void print(final float f) {
+			target().print(f);
+		}
+
+		@Override
+		public void print(final double d) {
+			target().print(d);
+		}
+
+		@Override
+		public void print(@NotNull final char[] s) {
+			target().print(s);
+		}
+
+		@Override
+		public void print(@Nullable final String s) {
+			target().print(s);
+		}
+
+		@Override
+		public void print(@Nullable final Object obj) {
+			target().print(obj);
+		}
+
+		@Override
+		public void println() {
+			target().println();
+		}
+
+		@Override
+		public void println(final boolean x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(final char x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(final int x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(final long x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(final float x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(final double x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(@NotNull final char[] x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(@Nullable final String x) {
+			target().println(x);
+		}
+
+		@Override
+		public void println(@Nullable final Object x) {
+			target().println(x);
+		}
+
+		@Override
+		public PrintStream printf(@NotNull final String format, final Object... args) {
+			target().printf(format, args);
+			return this;
+		}
+
+		@Override
+		public PrintStream printf(@Nullable final Locale l, @NotNull final String format, final Object... args) {
+			target().printf(l, format, args);
+			return this;
+		}
+
+		@Override
+		public PrintStream format(@NotNull final String format, final Object... args) {
+			target().format(format, args);
+			return this;
+		}
+
+		@Override
+		public PrintStream format(@Nullable final Locale l, @NotNull final String format, final Object... args) {
+			target().format(l, format, args);
+			return this;
+		}
+
+		@Override
+		public PrintStream append(@Nullable final CharSequence csq) {
+			target().append(csq);
+			return this;
+		}
+
+		@Override
+		public PrintStream append(@Nullable final CharSequence csq, final int start, final int end) {
+			target().append(csq, start, end);
+			return this;
+		}
+
+		@Override
+		public PrintStream append(final char c) {
+			target().append(c);
+			return this;
+		}
+
+	}
+
+}
@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.commands.script.common.beanshell;
 
+import com.espirit.moddev.cli.api.script.CompiledScriptCache;
 import com.espirit.moddev.cli.api.script.ScriptEngine;
 import com.espirit.moddev.cli.api.script.ScriptExecutable;
 import org.jetbrains.annotations.NotNull;
@@ -37,6 +38,7 @@ public class BeanshellScriptEngine implements ScriptEngine {
 	public static final String NAME = "BEANSHELL";
 
 	private final ClassLoader _classLoader;
+	private final CompiledScriptCache<PreparsedScriptPool> _cache = new CompiledScriptCache<>();
 
 	public BeanshellScriptEngine() {
 		_classLoader = BeanshellScriptEngine.class.getClassLoader();
@@ -51,7 +53,7 @@ public class BeanshellScriptEngine implements ScriptEngine {
 	@NotNull
 	@Override
 	public ScriptExecutable getExecutable(@NotNull final String scriptSource) {
-		return new BeanshellScriptExecutable(_classLoader, scriptSource);
+		return new BeanshellScriptExecutable(_classLoader, _cache, scriptSource);
 	}
 
 }
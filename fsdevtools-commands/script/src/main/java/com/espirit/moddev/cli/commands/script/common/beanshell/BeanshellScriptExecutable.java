@@ -27,6 +27,7 @@ import bsh.ParseException;
 import bsh.PreparsedScript;
 import bsh.Primitive;
 import bsh.TargetError;
+import com.espirit.moddev.cli.api.script.CompiledScriptCache;
 import com.espirit.moddev.cli.api.script.ScriptExecutable;
 import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
 import com.espirit.moddev.cli.api.script.exception.ScriptParsingException;
@@ -41,17 +42,20 @@ import java.util.Map;
 class BeanshellScriptExecutable implements ScriptExecutable {
 
 	private final ClassLoader _classLoader;
+	private final CompiledScriptCache<PreparsedScriptPool> _cache;
 	private final String _source;
+	private volatile PreparsedScriptPool _pool;
 
-	BeanshellScriptExecutable(@NotNull final ClassLoader classLoader, @NotNull final String source) {
+	BeanshellScriptExecutable(@NotNull final ClassLoader classLoader, @NotNull final CompiledScriptCache<PreparsedScriptPool> cache, @NotNull final String source) {
 		_classLoader = classLoader;
+		_cache = cache;
 		_source = source;
 	}
 
 	@Override
 	public void parse(@NotNull final Map<String, Object> context) throws ScriptParsingException {
 		try {
-			new PreparsedScript(_source, _classLoader);
+			getPool();
 		} catch (final EvalError e) {
 			try {
 				throw new ScriptParsingException(e, e.getErrorLineNumber(), -1);
@@ -71,8 +75,13 @@ class BeanshellScriptExecutable implements ScriptExecutable {
 			localContext.put(entry.getKey(), value);
 		}
 		try {
-			final PreparsedScript script = new PreparsedScript(_source, _classLoader);
-			return script.invoke(localContext);
+			final PreparsedScriptPool pool = getPool();
+			final PreparsedScript script = pool.borrow();
+			try {
+				return script.invoke(localContext);
+			} finally {
+				pool.release(script);
+			}
 		} catch (final TargetError e) {
 			throw new ScriptExecutionException(e.getMessage(), e.getTarget(), e.getErrorLineNumber(), -1);
 		} catch (final EvalError e) {
@@ -86,4 +95,21 @@ class BeanshellScriptExecutable implements ScriptExecutable {
 		}
 	}
 
+	/**
+	 * Returns the pool of preparsed scripts, parsing the source only if neither this executable nor the cache of the
+	 * engine holds it.
+	 *
+	 * @return the pool of preparsed scripts of the source
+	 * @throws EvalError if the source could not be parsed
+	 */
+	@NotNull
+	private PreparsedScriptPool getPool() throws EvalError {
+		PreparsedScriptPool pool = _pool;
+		if (pool == null) {
+			pool = _cache.get(_source, source -> new PreparsedScriptPool(source, _classLoader));
+			_pool = pool;
+		}
+		return pool;
+	}
+
 }
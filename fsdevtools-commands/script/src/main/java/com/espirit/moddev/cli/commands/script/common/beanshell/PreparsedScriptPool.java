@@ -0,0 +1,97 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.script.common.beanshell;
+
+import bsh.EvalError;
+import bsh.PreparsedScript;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Idle {@link PreparsedScript preparsed scripts} of one Beanshell source.
+ * <p>
+ * A preparsed script wraps one interpreter with its namespace and must not be invoked by two threads at the same time.
+ * The pool hands every execution a script of its own: an idle one if there is any, a newly parsed one otherwise.
+ * Released scripts are kept for later executions, up to {@link #MAX_IDLE_SCRIPTS}.
+ */
+final class PreparsedScriptPool {
+
+	@VisibleForTesting
+	static final int MAX_IDLE_SCRIPTS = 8;
+
+	private final String _source;
+	private final ClassLoader _classLoader;
+	private final Deque<PreparsedScript> _idleScripts = new ArrayDeque<>();
+
+	/**
+	 * Creates a pool and parses its first script, so that a source with syntax errors never ends up in a cache.
+	 *
+	 * @param source      the source of the script
+	 * @param classLoader the class loader of the interpreters
+	 * @throws EvalError if the source could not be parsed
+	 */
+	PreparsedScriptPool(@NotNull final String source, @NotNull final ClassLoader classLoader) throws EvalError {
+		_source = source;
+		_classLoader = classLoader;
+		_idleScripts.push(new PreparsedScript(source, classLoader));
+	}
+
+	/**
+	 * Returns a script for exclusive use by the caller. Hand it back with {@link #release(PreparsedScript)} when done.
+	 *
+	 * @return an idle or newly parsed script
+	 * @throws EvalError if the source could not be parsed
+	 */
+	@NotNull
+	PreparsedScript borrow() throws EvalError {
+		final PreparsedScript script;
+		synchronized (_idleScripts) {
+			script = _idleScripts.poll();
+		}
+		return script != null ? script : new PreparsedScript(_source, _classLoader);
+	}
+
+	/**
+	 * Returns a script obtained by {@link #borrow()} to the pool.
+	 *
+	 * @param script the script which is no longer used
+	 */
+	void release(@NotNull final PreparsedScript script) {
+		synchronized (_idleScripts) {
+			if (_idleScripts.size() < MAX_IDLE_SCRIPTS) {
+				_idleScripts.push(script);
+			}
+		}
+	}
+
+	@VisibleForTesting
+	int getIdleCount() {
+		synchronized (_idleScripts) {
+			return _idleScripts.size();
+		}
+	}
+
+}
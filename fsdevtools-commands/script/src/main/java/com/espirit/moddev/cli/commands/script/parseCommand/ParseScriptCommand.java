@@ -22,12 +22,14 @@
 
 package com.espirit.moddev.cli.commands.script.parseCommand;
 
+import com.espirit.moddev.cli.api.result.Result;
 import com.espirit.moddev.cli.api.script.ScriptEngine;
 import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
 import com.espirit.moddev.cli.api.script.exception.ScriptParsingException;
 import com.espirit.moddev.cli.commands.script.ScriptCommandGroup;
 import com.espirit.moddev.cli.commands.script.ScriptCommandNames;
 import com.espirit.moddev.cli.commands.script.common.AbstractScriptCommand;
+import com.espirit.moddev.cli.results.SimpleResult;
 import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.help.Examples;
 import de.espirit.firstspirit.access.Connection;
@@ -49,11 +51,13 @@ import java.nio.file.Path;
 public class ParseScriptCommand extends AbstractScriptCommand {
 
 	@Override
-	protected void executeCommand(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, @NotNull final Path scriptPath, @NotNull final String scriptSource) throws ScriptParsingException, ScriptExecutionException {
+	@NotNull
+	protected Result<?> executeCommand(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, @NotNull final Path scriptPath, @NotNull final String scriptSource) throws ScriptParsingException, ScriptExecutionException {
 		// parse script
 		_logger.info("Parsing script '{}'...", scriptPath.toAbsolutePath());
 		scriptEngine.getExecutable(scriptSource).parse(createScriptContext(connection));
 		_logger.info("Script '{}' successfully parsed without errors!", scriptPath.toAbsolutePath());
+		return new SimpleResult<>(true);
 	}
 
 }
@@ -22,6 +22,8 @@
 
 package com.espirit.moddev.cli.commands.script.runCommand;
 
+import com.espirit.moddev.cli.api.annotations.ParameterExamples;
+import com.espirit.moddev.cli.api.result.Result;
 import com.espirit.moddev.cli.api.script.ScriptEngine;
 import com.espirit.moddev.cli.api.script.ScriptExecutable;
 import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
@@ -29,53 +31,166 @@ import com.espirit.moddev.cli.api.script.exception.ScriptParsingException;
 import com.espirit.moddev.cli.commands.script.ScriptCommandGroup;
 import com.espirit.moddev.cli.commands.script.ScriptCommandNames;
 import com.espirit.moddev.cli.commands.script.common.AbstractScriptCommand;
-import com.espirit.moddev.cli.commands.script.common.LineReadingOutputStream;
+import com.espirit.moddev.cli.commands.script.common.ScriptOutput;
+import com.espirit.moddev.cli.commands.script.common.ScriptOutputRouter;
+import com.espirit.moddev.cli.results.SimpleResult;
+import com.espirit.moddev.cli.utils.ProjectResult;
+import com.espirit.moddev.cli.utils.ProjectRunResult;
+import com.espirit.moddev.cli.utils.ProjectRunner;
+import com.espirit.moddev.cli.utils.ProjectSelection;
 import com.github.rvesse.airline.annotations.Command;
+import com.github.rvesse.airline.annotations.Option;
+import com.github.rvesse.airline.annotations.OptionType;
 import com.github.rvesse.airline.annotations.help.Examples;
+import com.github.rvesse.airline.annotations.restrictions.ranges.Positive;
 import de.espirit.firstspirit.access.Connection;
+import de.espirit.firstspirit.access.project.Project;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.PrintStream;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
-@Command(name = ScriptCommandNames.RUN, groupNames = ScriptCommandGroup.NAME, description = "Execute a script by using the given script engine.\n\n**NOTE**\nThe reserved parameter *context* can be used to access the FirstSpirit API - the context is a [ProjectScriptContext](https://docs.e-spirit.com/odfs/access/de/espirit/firstspirit/access/project/ProjectScriptContext.html).\n\nSimple example beanshell script with access to the context:\n`context.logInfo(\"ProjectId: \" + context.getProject().getId());`")
+@Command(name = ScriptCommandNames.RUN, groupNames = ScriptCommandGroup.NAME, description = "Execute a script by using the given script engine.\n\n**NOTE**\nThe reserved parameter *context* can be used to access the FirstSpirit API - the context is a [ProjectScriptContext](https://docs.e-spirit.com/odfs/access/de/espirit/firstspirit/access/project/ProjectScriptContext.html).\nThe reserved parameters *out* and *err* are the print streams of the script, their output is logged.\n\nSimple example beanshell script with access to the context:\n`context.logInfo(\"ProjectId: \" + context.getProject().getId());`")
 @Examples(
 		examples = {
 				"script run -sf \"script.bsh\"",
 				"script run -se \"beanshell\" -sf \"script.bsh\"",
+				"script run -sf \"script.bsh\" --projects \"tenant-*\"",
 		},
 		descriptions = {
 				"Executes the given script file with the default script engine.",
 				"Executes the given script file with the beanshell script engine.",
+				"Executes the given script file for every project whose name starts with 'tenant-'.",
 		}
 )
 public class RunScriptCommand extends AbstractScriptCommand {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(RunScriptCommand.class);
 
+	static final int DEFAULT_PARALLELISM = 4;
+
+	@Option(
+			type = OptionType.COMMAND,
+			arity = 1,
+			name = {"--projects"},
+			description = "Comma-separated list of names of the projects the script should be executed for, instead of the single project given by the global project option." +
+					" Each entry is either a project name or a pattern with the wildcards \"*\" and \"?\", so \"*\" selects all projects on the server." +
+					" The script is compiled only once and executed for the projects concurrently over one connection." +
+					" The output of the script is logged with the name of the project." +
+					" A failing project does not abort the other ones, the command reports a result for each project."
+	)
+	@ParameterExamples(
+			examples = {
+					"--projects \"tenant-01,tenant-02\"",
+					"--projects \"tenant-*\"",
+					"--projects \"*\"",
+			},
+			descriptions = {
+					"Executes the script for the projects 'tenant-01' and 'tenant-02'",
+					"Executes the script for all projects whose names start with 'tenant-'",
+					"Executes the script for all projects on the server",
+			}
+	)
+	@Nullable
+	private String _projects;
+
+	@Option(
+			type = OptionType.COMMAND,
+			arity = 1,
+			name = {"-par", "--parallelism"},
+			description = "Maximum number of projects the script is executed for at the same time when using --projects, at least 1. Default is " + DEFAULT_PARALLELISM + "."
+	)
+	@Positive
+	@ParameterExamples(
+			examples = {
+					"-par 8",
+					"--parallelism 1"
+			},
+			descriptions = {
+					"Executes the script for up to 8 projects at the same time.",
+					"Executes the script for the projects one after another.",
+			}
+	)
+	private int _parallelism = DEFAULT_PARALLELISM;
+
+	@VisibleForTesting
+	void setProjects(@Nullable final String projects) {
+		_projects = projects;
+	}
+
+	@VisibleForTesting
+	void setParallelism(final int parallelism) {
+		_parallelism = parallelism;
+	}
+
 	@Override
-	protected void executeCommand(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, final Path scriptPath, @NotNull final String scriptSource) throws ScriptParsingException, ScriptExecutionException {
-		// create script context
-		_logger.debug("Creating script context...");
-		final Map<String, Object> scriptContext = createScriptContext(connection);
-		_logger.debug("Creating script executable...");
-		// execute script
-		final ScriptExecutable executable = scriptEngine.getExecutable(scriptSource);
-		_logger.info("Executing script '{}'...", scriptPath.toAbsolutePath());
-		final PrintStream out = System.out;
-		final PrintStream err = System.err;
-		try {
-			System.setOut(new PrintStream(new LineReadingOutputStream(LOGGER::info)));
-			System.setErr(new PrintStream(new LineReadingOutputStream(LOGGER::error)));
+	@NotNull
+	protected Result<?> executeCommand(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, final Path scriptPath, @NotNull final String scriptSource) throws ScriptParsingException, ScriptExecutionException {
+		if (_projects != null) {
+			return executeForSelectedProjects(connection, scriptEngine, scriptPath, scriptSource, ProjectSelection.getProjects(connection, _projects));
+		}
+		// the output is closed after the binding, so an unterminated last line is logged as well
+		try (final ScriptOutput output = new ScriptOutput(LOGGER::info, LOGGER::error);
+			 final ScriptOutputRouter.Binding ignored = ScriptOutputRouter.bind(output)) {
+			// create script context
+			_logger.debug("Creating script context...");
+			final Map<String, Object> scriptContext = createScriptContext(connection, output);
+			_logger.debug("Creating script executable...");
+			// execute script
+			final ScriptExecutable executable = scriptEngine.getExecutable(scriptSource);
+			_logger.info("Executing script '{}'...", scriptPath.toAbsolutePath());
 			executable.execute(scriptContext);
-		} finally {
-			System.setOut(out);
-			System.setErr(err);
 		}
 		_logger.info("Script '{}' successfully executed!", scriptPath.toAbsolutePath());
+		return new SimpleResult<>(true);
+	}
+
+	@NotNull
+	private ProjectRunResult executeForSelectedProjects(@NotNull final Connection connection, @NotNull final ScriptEngine scriptEngine, final Path scriptPath, @NotNull final String scriptSource, @NotNull final List<Project> projects) throws ScriptParsingException {
+		// compile once, all projects share the compiled script
+		final ScriptExecutable executable = scriptEngine.getExecutable(scriptSource);
+		executable.parse(Collections.emptyMap());
+		_logger.info("Executing script '{}' for {} projects...", scriptPath.toAbsolutePath(), projects.size());
+		try {
+			return new ProjectRunResult("Script execution", executeForProjects(connection, executable, projects, _parallelism));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while executing script '" + scriptPath.toAbsolutePath() + "'.", e);
+		}
+	}
+
+	/**
+	 * Executes the given script for each of the given projects on a pool of at most {@code parallelism} workers.
+	 * Failures are recorded per project and do not stop the other projects.
+	 *
+	 * @param connection  {@link Connection} to the FirstSpirit server.
+	 * @param executable  the compiled script.
+	 * @param projects    the target {@link Project projects}.
+	 * @param parallelism the maximum number of concurrent executions.
+	 * @return one {@link ProjectResult} per project with the return value of the script, in the order of the given projects.
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the workers.
+	 */
+	@VisibleForTesting
+	@NotNull
+	List<ProjectResult> executeForProjects(@NotNull final Connection connection, @NotNull final ScriptExecutable executable, @NotNull final List<Project> projects, final int parallelism) throws InterruptedException {
+		return ProjectRunner.runForProjects("script-runner", "Script execution", projects, parallelism, project -> executeForProject(connection, executable, project));
+	}
+
+	@Nullable
+	private Object executeForProject(@NotNull final Connection connection, @NotNull final ScriptExecutable executable, @NotNull final Project project) throws ScriptExecutionException {
+		final String projectName = project.getName();
+		// the output of each project goes to its own channel, System.out included
+		try (final ScriptOutput output = new ScriptOutput(line -> LOGGER.info("[{}] {}", projectName, line), line -> LOGGER.error("[{}] {}", projectName, line));
+			 final ScriptOutputRouter.Binding ignored = ScriptOutputRouter.bind(output)) {
+			final Map<String, Object> scriptContext = createScriptContext(connection, project, output);
+			return executable.execute(scriptContext);
+		}
 	}
 
 }
@@ -82,6 +82,25 @@ class AbstractScriptCommandTest {
 		assertThat(context.getProject()).isSameAs(project);
 	}
 
+	@Test
+	void createScriptContext_with_output() {
+		// setup
+		final Connection connection = mock(Connection.class);
+		final RunScriptCommand command = new RunScriptCommand();
+		final ScriptOutput output = new ScriptOutput(line -> {}, line -> {});
+
+		// test
+		final Map<String, Object> scriptContext = command.createScriptContext(connection, output);
+
+		// verify
+		assertThat(scriptContext).hasSize(3);
+		assertThat(scriptContext.get(ScriptOutput.OUT)).isSameAs(output.getOut());
+		assertThat(scriptContext.get(ScriptOutput.ERR)).isSameAs(output.getErr());
+		final CLIScriptContext context = (CLIScriptContext) scriptContext.get(AbstractScriptCommand.ATTR_CONTEXT);
+		assertThat(context.getOut()).isSameAs(output.getOut());
+		assertThat(context.getErr()).isSameAs(output.getErr());
+	}
+
 	@Test
 	void createScriptContext_project_not_found() {
 		// setup
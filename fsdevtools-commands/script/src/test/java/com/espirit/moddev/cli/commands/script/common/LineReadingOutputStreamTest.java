@@ -0,0 +1,143 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.script.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LineReadingOutputStreamTest {
+
+	private static final String OUTPUT = "first\nsecond\r\nthird\rübersicht € 😀\r\n\nlast";
+
+	@Test
+	void writeArray() {
+		// setup
+		final List<String> lines = new ArrayList<>();
+		final byte[] bytes = OUTPUT.getBytes(StandardCharsets.UTF_8);
+
+		// test
+		try (final LineReadingOutputStream stream = new LineReadingOutputStream(lines::add)) {
+			stream.write(bytes, 0, bytes.length);
+		}
+
+		// verify
+		assertThat(lines).containsExactly("first", "second", "third", "übersicht € 😀", "", "last");
+	}
+
+	@Test
+	void writeSingleBytes() {
+		// setup
+		final List<String> lines = new ArrayList<>();
+
+		// test
+		try (final LineReadingOutputStream stream = new LineReadingOutputStream(lines::add)) {
+			for (final byte value : OUTPUT.getBytes(StandardCharsets.UTF_8)) {
+				stream.write(value);
+			}
+		}
+
+		// verify
+		assertThat(lines).containsExactly("first", "second", "third", "übersicht € 😀", "", "last");
+	}
+
+	@Test
+	void writeChunksSplitsMultibyteCharactersAndLineBreaks() {
+		// setup
+		final byte[] bytes = OUTPUT.getBytes(StandardCharsets.UTF_8);
+
+		for (int chunkSize = 2; chunkSize < 8; chunkSize++) {
+			final List<String> lines = new ArrayList<>();
+
+			// test
+			try (final LineReadingOutputStream stream = new LineReadingOutputStream(lines::add)) {
+				for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+					stream.write(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+				}
+			}
+
+			// verify
+			assertThat(lines).as("chunk size %d", chunkSize).containsExactly("first", "second", "third", "übersicht € 😀", "", "last");
+		}
+	}
+
+	@Test
+	void writeMalformedInputIsReplaced() {
+		// setup
+		final List<String> lines = new ArrayList<>();
+
+		// test
+		try (final LineReadingOutputStream stream = new LineReadingOutputStream(lines::add)) {
+			stream.write(new byte[]{'a', (byte) 0xC3, 'b', '\n'}, 0, 4);
+		}
+
+		// verify
+		assertThat(lines).containsExactly("a�b");
+	}
+
+	@Test
+	void batching() {
+		// setup
+		final List<String> batches = new ArrayList<>();
+		final byte[] bytes = OUTPUT.getBytes(StandardCharsets.UTF_8);
+		final LineReadingOutputStream stream = new LineReadingOutputStream(batches::add, StandardCharsets.UTF_8, 2);
+
+		// test
+		stream.write(bytes, 0, bytes.length);
+		stream.flush();
+		final List<String> flushed = new ArrayList<>(batches);
+		stream.close();
+
+		// verify
+		assertThat(flushed).containsExactly("first\nsecond", "third\nübersicht € 😀", "");
+		assertThat(batches).containsExactly("first\nsecond", "third\nübersicht € 😀", "", "last");
+	}
+
+	@Test
+	void closeWithoutPendingLine() {
+		// setup
+		final List<String> lines = new ArrayList<>();
+		final byte[] bytes = "line\r".getBytes(StandardCharsets.UTF_8);
+
+		// test
+		try (final LineReadingOutputStream stream = new LineReadingOutputStream(lines::add)) {
+			stream.write(bytes, 0, bytes.length);
+		}
+
+		// verify
+		assertThat(lines).containsExactly("line");
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThatThrownBy(() -> new LineReadingOutputStream(line -> {}, StandardCharsets.UTF_16, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new LineReadingOutputStream(line -> {}, StandardCharsets.UTF_8, 0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new LineReadingOutputStream(line -> {}).write(new byte[2], 1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.script.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScriptOutputRouterTest {
+
+	private PrintStream _originalOut;
+	private PrintStream _originalErr;
+	private ByteArrayOutputStream _processOut;
+
+	@BeforeEach
+	void setUp() {
+		_originalOut = System.out;
+		_originalErr = System.err;
+		_processOut = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(_processOut, true, StandardCharsets.UTF_8));
+		ScriptOutputRouter.install();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ScriptOutputRouter.uninstall();
+		System.setOut(_originalOut);
+		System.setErr(_originalErr);
+	}
+
+	@Test
+	void concurrentExecutionsKeepTheirOutput() throws InterruptedException {
+		// setup
+		final List<String> firstLines = new CopyOnWriteArrayList<>();
+		final List<String> secondLines = new CopyOnWriteArrayList<>();
+		final CountDownLatch bothBound = new CountDownLatch(2);
+		final Thread first = new Thread(() -> printLines(firstLines, "first", bothBound));
+		final Thread second = new Thread(() -> printLines(secondLines, "second", bothBound));
+
+		// test
+		first.start();
+		second.start();
+		first.join();
+		second.join();
+
+		// verify
+		assertThat(firstLines).hasSize(100).allMatch(line -> line.startsWith("first "));
+		assertThat(secondLines).hasSize(100).allMatch(line -> line.startsWith("second "));
+		assertThat(_processOut.toString(StandardCharsets.UTF_8)).isEmpty();
+	}
+
+	@Test
+	void unboundThreadWritesToOriginalStream() {
+		// setup
+		final List<String> lines = new CopyOnWriteArrayList<>();
+
+		// test
+		try (final ScriptOutput output = new ScriptOutput(lines::add, lines::add);
+			 final ScriptOutputRouter.Binding ignored = ScriptOutputRouter.bind(output)) {
+			System.out.println("bound");
+		}
+		System.out.println("unbound");
+
+		// verify
+		assertThat(lines).containsExactly("bound");
+		assertThat(_processOut.toString(StandardCharsets.UTF_8)).isEqualTo("unbound" + System.lineSeparator());
+	}
+
+	@Test
+	void installIsIdempotent() {
+		// setup
+		final PrintStream router = System.out;
+
+		// test
+		ScriptOutputRouter.install();
+
+		// verify
+		assertThat(System.out).isSameAs(router);
+	}
+
+	private static void printLines(final List<String> lines, final String prefix, final CountDownLatch bothBound) {
+		try (final ScriptOutput output = new ScriptOutput(lines::add, lines::add);
+			 final ScriptOutputRouter.Binding ignored = ScriptOutputRouter.bind(output)) {
+			bothBound.countDown();
+			bothBound.await();
+			for (int i = 0; i < 100; i++) {
+				System.out.println(prefix + ' ' + i);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -25,8 +25,13 @@ package com.espirit.moddev.cli.commands.script.common.beanshell;
 import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -47,6 +52,41 @@ class BeanshellScriptEngineTest {
 		assertThat(executable.execute(Map.of("myValue", "23"))).isEqualTo("23");
 	}
 
+	@Test
+	void reuseParsedScript() throws Exception {
+		final var engine = new BeanshellScriptEngine();
+		final var executable = engine.getExecutable("return myValue;");
+		executable.parse(Collections.emptyMap());
+		assertThat(executable.execute(Map.of("myValue", "1"))).isEqualTo("1");
+		assertThat(engine.getExecutable("return myValue;").execute(Map.of("myValue", "2"))).isEqualTo("2");
+	}
+
+	@Test
+	void executeCachedScriptConcurrently() throws Exception {
+		final var engine = new BeanshellScriptEngine();
+		final var executable = engine.getExecutable("""
+				first = myValue;
+				Thread.yield();
+				second = myValue;
+				return first + "/" + second;
+				""");
+		executable.parse(Collections.emptyMap());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<Object>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				final String value = "value-" + i;
+				futures.add(executor.submit(() -> executable.execute(Map.of("myValue", value))));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertThat(futures.get(i).get()).isEqualTo("value-" + i + "/value-" + i);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	void lineNumber() {
 		final var engine = new BeanshellScriptEngine();
@@ -0,0 +1,131 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.commands.script.runCommand;
+
+import com.espirit.moddev.cli.api.result.Result;
+import com.espirit.moddev.cli.api.script.ScriptEngine;
+import com.espirit.moddev.cli.api.script.ScriptExecutable;
+import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
+import com.espirit.moddev.cli.commands.script.common.CLIScriptContext;
+import com.espirit.moddev.cli.commands.script.common.ScriptOutput;
+import com.espirit.moddev.cli.utils.ProjectResult;
+import com.espirit.moddev.cli.utils.ProjectRunResult;
+import de.espirit.firstspirit.access.Connection;
+import de.espirit.firstspirit.access.project.Project;
+import de.espirit.firstspirit.agency.BrokerAgent;
+import de.espirit.firstspirit.agency.SpecialistsBroker;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class RunScriptCommandTest {
+
+	@Test
+	void executeForProjects_reports_a_result_per_project() throws InterruptedException {
+		// setup
+		final Connection connection = mockConnection();
+		final List<Project> projects = List.of(mockProject("tenant-01", 1L), mockProject("tenant-02", 2L), mockProject("tenant-03", 3L));
+
+		// test
+		final List<ProjectResult> results = new RunScriptCommand().executeForProjects(connection, createExecutable(), projects, 2);
+
+		// verify
+		assertThat(results).extracting(ProjectResult::getProjectName).containsExactly("tenant-01", "tenant-02", "tenant-03");
+		assertThat(results).extracting(ProjectResult::isSuccessful).containsExactly(true, false, true);
+		assertThat(results.get(0).getReturnValue()).contains("tenant-01");
+		assertThat(results.get(1).getException()).containsInstanceOf(ScriptExecutionException.class);
+	}
+
+	@Test
+	void executeCommand_returns_the_project_results_for_selected_projects() throws Exception {
+		// setup
+		final Connection connection = mockConnection();
+		doReturn(new Project[]{mockProject("tenant-01", 1L), mockProject("tenant-02", 2L), mockProject("other", 3L)}).when(connection).getProjects();
+		final ScriptEngine scriptEngine = mock(ScriptEngine.class);
+		final ScriptExecutable executable = createExecutable();
+		doReturn(executable).when(scriptEngine).getExecutable("source");
+		final RunScriptCommand command = new RunScriptCommand();
+		command.setProjects("tenant-*");
+		command.setParallelism(2);
+
+		// test
+		final Result<?> result = command.executeCommand(connection, scriptEngine, Path.of("script.bsh"), "source");
+
+		// verify
+		assertThat(result).isInstanceOf(ProjectRunResult.class);
+		assertThat(result.isError()).isTrue();
+		assertThat(((ProjectRunResult) result).getProjectResults()).extracting(ProjectResult::getProjectName).containsExactly("tenant-01", "tenant-02");
+		assertThat(((ProjectRunResult) result).get().size()).isEqualTo(2);
+	}
+
+	@NotNull
+	private static ScriptExecutable createExecutable() {
+		return new ScriptExecutable() {
+			@Override
+			public void parse(@NotNull final Map<String, Object> context) {
+			}
+
+			@Override
+			public Object execute(@NotNull final Map<String, Object> context) throws ScriptExecutionException {
+				final CLIScriptContext scriptContext = (CLIScriptContext) context.get("context");
+				assertThat(context.get(ScriptOutput.OUT)).isInstanceOf(PrintStream.class);
+				assertThat(context.get(ScriptOutput.ERR)).isInstanceOf(PrintStream.class);
+				final String projectName = scriptContext.getProject().getName();
+				if ("tenant-02".equals(projectName)) {
+					throw new ScriptExecutionException(new IllegalStateException("broken"));
+				}
+				return projectName;
+			}
+		};
+	}
+
+	@NotNull
+	private static Connection mockConnection() {
+		final Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+		final SpecialistsBroker broker = mock(SpecialistsBroker.class);
+		final BrokerAgent brokerAgent = mock(BrokerAgent.class);
+		doReturn(broker).when(connection).getBroker();
+		doReturn(brokerAgent).when(broker).requireSpecialist(BrokerAgent.TYPE);
+		doReturn(broker).when(brokerAgent).getBrokerByProjectId(any(Long.class));
+		return connection;
+	}
+
+	@NotNull
+	private static Project mockProject(@NotNull final String name, final long id) {
+		final Project project = mock(Project.class, RETURNS_DEEP_STUBS);
+		doReturn(id).when(project).getId();
+		doReturn(name).when(project).getName();
+		return project;
+	}
+
+}
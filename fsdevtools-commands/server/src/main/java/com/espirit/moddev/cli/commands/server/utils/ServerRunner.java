@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.commands.server.utils;
 
+import com.espirit.moddev.cli.utils.ProgressAwaiter;
 import com.espirit.moddev.connection.FsConnection;
 import com.espirit.moddev.connection.FsConnectionConfig;
 import com.espirit.moddev.connection.FsConnectionType;
@@ -53,7 +54,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
+import java.util.function.BooleanSupplier;
 
 public class ServerRunner {
 
@@ -103,26 +104,21 @@ public class ServerRunner {
 	}
 
 	/**
-	 * Waits for a given condition, retrying if necessary, blocking the thread in between.
+	 * Waits for a given condition, blocking the thread in between. The condition is checked often at first
+	 * and then less frequently, with at most {@link #LOG_LOOKUP_RETRY_WAIT} between two checks.
 	 *
 	 * @param condition the condition to be checked
-	 * @param waitTime  the time to wait between queries to `condition`
-	 * @param triesLeft the number of tries that should be used at max until the condition needs to be true. Should be larger than 0.
-	 * @return the value of the last call of `condition`.
+	 * @param timeout   the maximum time to wait for the condition
+	 * @return {@code true} if the condition has been met in time, {@code false} otherwise.
 	 */
-	static boolean waitForCondition(@NotNull final Supplier<Boolean> condition, @NotNull final Duration waitTime, final int triesLeft) {
-		if (triesLeft > 0) {
-			if (condition.get()) {
-				return true;
-			} else {
-				try {
-					Thread.sleep(waitTime.toMillis());
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt(); //reset interrupt flag
-				}
-				return waitForCondition(condition, waitTime, triesLeft - 1);
-			}
-		} else {
+	static boolean waitForCondition(@NotNull final BooleanSupplier condition, @NotNull final Duration timeout) {
+		try {
+			return ProgressAwaiter.of("Server")
+					.withMaxDelay(LOG_LOOKUP_RETRY_WAIT)
+					.withTimeout(timeout)
+					.await(condition);
+		} catch (final InterruptedException ie) {
+			Thread.currentThread().interrupt(); //reset interrupt flag
 			return false;
 		}
 	}
@@ -144,7 +140,6 @@ public class ServerRunner {
 		connection.setUserCredentials(_user, _password);
 		final AtomicLong lastCheck = new AtomicLong(0);
 		final long fiveSeconds = Duration.ofSeconds(5).toMillis();
-		final int retryCount = (int) (_timeout.toMillis() / LOG_LOOKUP_RETRY_WAIT.toMillis());
 		if (!waitForCondition(() -> {
 			if (wrapperFailedToExecute()) {
 				throw new IllegalStateException("Wrapper failed unexpectedly! See fs-wrapper.log for details...");
@@ -169,7 +164,7 @@ public class ServerRunner {
 				final RunLevelAgent runLevelAgent = connection.getBroker().requestSpecialist(RunLevelAgent.TYPE);
 				return runLevelAgent.getRunLevel().level() >= _runLevel.level();
 			}
-		}, LOG_LOOKUP_RETRY_WAIT, retryCount)) {
+		}, _timeout)) {
 			throw new IllegalStateException("Could not detect a started FirstSpirit server!");
 		} else {
 			LOGGER.info("Server successfully started.");
@@ -192,8 +187,7 @@ public class ServerRunner {
 				adminService.stopServer();
 				connection.disconnect();
 				// wait for the connection to get closed (maximum: 2 minutes)
-				final int connectionRetryCount = (int) (Duration.ofMinutes(2).toMillis() / LOG_LOOKUP_RETRY_WAIT.toMillis());
-				if (waitForCondition(() -> !connection.isConnected(), LOG_LOOKUP_RETRY_WAIT, connectionRetryCount)) {
+				if (waitForCondition(() -> !connection.isConnected(), Duration.ofMinutes(2))) {
 					LOGGER.info("Connection disconnected.");
 				} else {
 					throw new IOException("Server shutdown failed, server may still be running...");
@@ -201,8 +195,7 @@ public class ServerRunner {
 				// wait for the ".fs.lock" file to get deleted (maximum: 3 minutes)
 				if (_serverDir != null) {
 					LOGGER.info("Server shutdown initiated. Waiting for server to shutdown...");
-					final int lockFileRetryCount = (int) (Duration.ofMinutes(3).toMillis() / LOG_LOOKUP_RETRY_WAIT.toMillis());
-					if (waitForCondition(() -> !FsUtil.lockFileExists(_serverDir), LOG_LOOKUP_RETRY_WAIT, lockFileRetryCount)) {
+					if (waitForCondition(() -> !FsUtil.lockFileExists(_serverDir), Duration.ofMinutes(3))) {
 						LOGGER.info("FirstSpirit server shutdown completed!");
 					} else {
 						throw new IOException("Server shutdown initiated but the server is still shutting down. Server may hang on shutdown...");
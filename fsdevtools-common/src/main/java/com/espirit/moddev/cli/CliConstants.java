@@ -124,11 +124,42 @@ public enum CliConstants {
 	 */
 	KEY_RESULT_FILE("resultFile"),
 
+	/**
+	 * Key result file format cli constant.
+	 */
+	KEY_RESULT_FILE_FORMAT("resultFileFormat"),
+
+	/**
+	 * Key result detail cli constant.
+	 */
+	KEY_RESULT_DETAIL("resultDetail"),
+
+	/**
+	 * Key log async cli constant.
+	 */
+	KEY_LOG_ASYNC("logAsync"),
+
+	/**
+	 * Key log queue size cli constant.
+	 */
+	KEY_LOG_QUEUE_SIZE("logQueueSize"),
+
+	/**
+	 * Key log queue full policy cli constant.
+	 */
+	KEY_LOG_QUEUE_FULL_POLICY("logQueueFullPolicy"),
+
 	/**
 	 * Key fs project cli constant.
 	 */
 	KEY_FS_PROJECT("fsproject"),
 
+	/**
+	 * Key fs daemon cli constant. If set, commands are forwarded to a running daemon ({@code true} for the default
+	 * socket or the path of the daemon socket).
+	 */
+	KEY_FS_DAEMON("fsdaemon"),
+
 	/**
 	 * Key fs import comment cli constant.
 	 */
@@ -27,6 +27,7 @@ import com.espirit.moddev.cli.api.configuration.Config;
 import com.espirit.moddev.cli.exception.CliError;
 import com.espirit.moddev.cli.exception.CliException;
 import com.espirit.moddev.shared.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import de.espirit.firstspirit.access.AdminService;
 import de.espirit.firstspirit.access.Connection;
 import de.espirit.firstspirit.access.UserService;
@@ -54,6 +55,8 @@ public class CliContextImpl implements CliContext {
 
 	private final Map<String, Object> properties;
 	private final Config clientConfig;
+	@Nullable
+	private final ConnectionPool connectionPool;
 	private Connection connection;
 	private SpecialistsBroker projectBroker;
 	private Project project;
@@ -66,16 +69,37 @@ public class CliContextImpl implements CliContext {
 	 * @throws IllegalArgumentException if clientConfig is null
 	 */
 	public CliContextImpl(final Config clientConfig) {
+		this(clientConfig, null);
+	}
+
+	/**
+	 * Create a new instance that uses the given {@link com.espirit.moddev.cli.api.configuration.Config}. If a
+	 * {@link ConnectionPool} is given, a pooled connection is reused if possible and a newly established connection is
+	 * added to the pool. Pooled connections are not closed by {@link #close()}.
+	 *
+	 * @param clientConfig   the configuration to be used
+	 * @param connectionPool the pool to take the connection from, may be {@code null}
+	 * @throws IllegalArgumentException if clientConfig is null
+	 */
+	public CliContextImpl(final Config clientConfig, @Nullable final ConnectionPool connectionPool) {
 		if (clientConfig == null) {
 			throw new IllegalArgumentException("Config is null!");
 		}
 		this.clientConfig = clientConfig;
+		this.connectionPool = connectionPool;
 		properties = new HashMap<>();
 		openConnection();
 		requireProjectSpecificBroker();
 	}
 
 	protected void openConnection() {
+		if (connectionPool != null) {
+			final Connection pooledConnection = connectionPool.get(clientConfig);
+			if (pooledConnection != null) {
+				connection = pooledConnection;
+				return;
+			}
+		}
 		try {
 			connection = obtainConnection();
 		} catch (NullPointerException | IllegalArgumentException e) {
@@ -96,6 +120,9 @@ public class CliContextImpl implements CliContext {
 		} catch (RuntimeException e) {
 			throw new CliException(CliError.UNEXPECTED, clientConfig, e);
 		}
+		if (connectionPool != null) {
+			connectionPool.put(clientConfig, connection);
+		}
 	}
 
 	protected Connection obtainConnection() {
@@ -146,7 +173,7 @@ public class CliContextImpl implements CliContext {
 		if (project == null && clientConfig.isCreatingProjectIfMissing()) {
 			project = createProject(projectName);
 		}
-		LOGGER.debug("activate project if deactivated: " + clientConfig.isActivateProjectIfDeactivated());
+		LOGGER.debug("activate project if deactivated: {}", clientConfig.isActivateProjectIfDeactivated());
 		if (clientConfig.isActivateProjectIfDeactivated()) {
 			activateProject(projectName, project);
 		}
@@ -252,6 +279,10 @@ public class CliContextImpl implements CliContext {
 
 	@Override
 	public void close() throws Exception {
+		if (connectionPool != null) {
+			LOGGER.debug("Keeping pooled connection to FirstSpirit open.");
+			return;
+		}
 		LOGGER.debug("Closing connection to FirstSpirit ...");
 		connection.close();
 		LOGGER.info("Connection to FirstSpirit closed!");
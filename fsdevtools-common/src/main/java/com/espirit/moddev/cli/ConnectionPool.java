@@ -0,0 +1,179 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli;
+
+import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.connection.FsConnectionCompression;
+import com.espirit.moddev.connection.FsConnectionEncryption;
+import com.espirit.moddev.connection.FsConnectionType;
+import de.espirit.firstspirit.access.Connection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps established FirstSpirit {@link Connection}s open so that they can be reused by several command executions
+ * (e.g. in daemon or batch mode). Connections are keyed by all connection relevant values of a {@link Config},
+ * including the password, so a connection is only handed out for exactly the same credentials.
+ * <p>
+ * A {@link CliContextImpl} created with a pool takes its connection from the pool and does not close it on
+ * {@link CliContextImpl#close()}. The pool itself closes all of its connections on {@link #close()}.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPool.class);
+
+	private final Map<Key, Connection> _connections = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns a pooled and still connected connection for the given config. Pooled connections that are no longer
+	 * connected are removed from the pool.
+	 *
+	 * @param config the config to get the connection for
+	 * @return the pooled connection or {@code null} if there is none
+	 */
+	@Nullable
+	public Connection get(@NotNull final Config config) {
+		final Key key = new Key(config);
+		final Connection connection = _connections.get(key);
+		if (connection == null) {
+			return null;
+		}
+		if (!connection.isConnected()) {
+			LOGGER.debug("Pooled connection for {} is no longer connected, removing it.", key);
+			_connections.remove(key, connection);
+			closeQuietly(connection);
+			return null;
+		}
+		LOGGER.debug("Reusing pooled connection for {}.", key);
+		return connection;
+	}
+
+	/**
+	 * Adds an established connection to the pool. A connection that was pooled for the same config before is closed.
+	 *
+	 * @param config     the config the connection was established for
+	 * @param connection the connection
+	 */
+	public void put(@NotNull final Config config, @NotNull final Connection connection) {
+		final Key key = new Key(config);
+		final Connection previous = _connections.put(key, connection);
+		if (previous != null && previous != connection) {
+			closeQuietly(previous);
+		}
+		LOGGER.debug("Pooled connection for {}.", key);
+	}
+
+	/**
+	 * @return the number of pooled connections
+	 */
+	public int size() {
+		return _connections.size();
+	}
+
+	/**
+	 * Closes all pooled connections.
+	 */
+	@Override
+	public void close() {
+		LOGGER.debug("Closing {} pooled connection(s) to FirstSpirit...", _connections.size());
+		_connections.values().forEach(ConnectionPool::closeQuietly);
+		_connections.clear();
+	}
+
+	private static void closeQuietly(@NotNull final Connection connection) {
+		try {
+			connection.close();
+		} catch (final IOException | RuntimeException e) {
+			LOGGER.debug("Closing pooled connection caused an exception.", e);
+		}
+	}
+
+	/**
+	 * The connection relevant values of a {@link Config}. Two configs with equal keys share a pooled connection.
+	 */
+	public static final class Key {
+
+		private final String _host;
+		private final Integer _port;
+		private final FsConnectionType _mode;
+		private final String _servletZone;
+		private final String _user;
+		private final String _password;
+		private final FsConnectionEncryption _encryption;
+		private final FsConnectionCompression _compression;
+		private final String _httpProxyHost;
+		private final Integer _httpProxyPort;
+
+		public Key(@NotNull final Config config) {
+			_host = config.getHost();
+			_port = config.getPort();
+			_mode = config.getConnectionMode();
+			_servletZone = config.getServletZone();
+			_user = config.getUser();
+			_password = config.getPassword();
+			_encryption = config.getConnectionEncryption();
+			_compression = config.getConnectionCompression();
+			_httpProxyHost = config.getHttpProxyHost();
+			_httpProxyPort = config.getHttpProxyPort();
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return Objects.equals(_host, key._host)
+					&& Objects.equals(_port, key._port)
+					&& _mode == key._mode
+					&& Objects.equals(_servletZone, key._servletZone)
+					&& Objects.equals(_user, key._user)
+					&& Objects.equals(_password, key._password)
+					&& _encryption == key._encryption
+					&& _compression == key._compression
+					&& Objects.equals(_httpProxyHost, key._httpProxyHost)
+					&& Objects.equals(_httpProxyPort, key._httpProxyPort);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_host, _port, _mode, _servletZone, _user, _password, _encryption, _compression, _httpProxyHost, _httpProxyPort);
+		}
+
+		@Override
+		public String toString() {
+			// never log the password
+			return "'" + _user + "@" + _host + ":" + _port + "' (" + _mode + ")";
+		}
+	}
+
+}
@@ -24,6 +24,9 @@ package com.espirit.moddev.cli.configuration;
 
 import com.espirit.moddev.cli.CliConstants;
 import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.cli.api.configuration.LogQueueFullPolicy;
+import com.espirit.moddev.cli.api.configuration.ResultDetail;
+import com.espirit.moddev.cli.api.configuration.ResultFileFormat;
 import com.espirit.moddev.cli.extsync.SyncDirectoryFactory;
 import com.espirit.moddev.connection.FsConnectionCompression;
 import com.espirit.moddev.connection.FsConnectionEncryption;
@@ -109,6 +112,27 @@ public class GlobalConfig implements Config {
 	@Option(type = OptionType.GLOBAL, name = {"-rf", "--resultFile"}, description = "The path of the JSON-Result. Default is '" + FsUtil.VALUE_DEFAULT_RESULT_FILE + "'.", title = "resultFile")
 	private String _resultFile;
 
+	@Option(type = OptionType.GLOBAL, name = {"--resultFileFormat"}, description = "The format of the result file: JSON (a single document) or NDJSON (one JSON object per line, for huge results). Default is JSON.", title = "resultFileFormat")
+	@AllowedRawValues(ignoreCase = true, allowedValues = {"JSON", "NDJSON"})
+	private ResultFileFormat _resultFileFormat;
+
+	@Option(type = OptionType.GLOBAL, name = {"--resultFileGzip"}, description = "Compresses the result file with gzip. Always enabled for result files ending with '.gz'.", title = "resultFileGzip")
+	private boolean _resultFileGzip;
+
+	@Option(type = OptionType.GLOBAL, name = {"--resultDetail"}, description = "The amount of detail logged for the result of a command: NONE (problems only), SUMMARY (counts only, no line per element) or FULL. Default is FULL.", title = "resultDetail")
+	@AllowedRawValues(ignoreCase = true, allowedValues = {"NONE", "SUMMARY", "FULL"})
+	private ResultDetail _resultDetail;
+
+	@Option(type = OptionType.GLOBAL, name = {"--logAsync"}, description = "Hands log events over to the console and file appenders in a background thread, so verbose commands are not slowed down by the log output.", title = "logAsync")
+	private boolean _logAsync;
+
+	@Option(type = OptionType.GLOBAL, name = {"--logQueueSize"}, description = "The number of log events buffered with --logAsync. Default is 8192.", title = "logQueueSize")
+	private Integer _logQueueSize;
+
+	@Option(type = OptionType.GLOBAL, name = {"--logQueueFullPolicy"}, description = "What happens with --logAsync if the log queue is full: BLOCK waits for room in the queue, DISCARD drops events with level INFO or lower and writes warnings and errors right away, ahead of the events still in the queue. Default is BLOCK.", title = "logQueueFullPolicy")
+	@AllowedRawValues(allowedValues = {"BLOCK", "DISCARD"})
+	private LogQueueFullPolicy _logQueueFullPolicy;
+
 	public GlobalConfig() {
 	}
 
@@ -279,6 +303,63 @@ public class GlobalConfig implements Config {
 		return _resultFile != null ? _resultFile : FsUtil.VALUE_DEFAULT_RESULT_FILE;
 	}
 
+	@Override
+	@NotNull
+	public ResultFileFormat getResultFileFormat() {
+		if (_resultFileFormat == null) {
+			if (getEnvironment().containsKey(CliConstants.KEY_RESULT_FILE_FORMAT.value())) {
+				return ResultFileFormat.fromString(getEnvironment().get(CliConstants.KEY_RESULT_FILE_FORMAT.value()));
+			}
+			return ResultFileFormat.JSON;
+		}
+		return _resultFileFormat;
+	}
+
+	@Override
+	public boolean isResultFileCompressed() {
+		return _resultFileGzip || getResultFile().toLowerCase(Locale.ROOT).endsWith(".gz");
+	}
+
+	@Override
+	@NotNull
+	public ResultDetail getResultDetail() {
+		if (_resultDetail == null) {
+			if (getEnvironment().containsKey(CliConstants.KEY_RESULT_DETAIL.value())) {
+				return ResultDetail.fromString(getEnvironment().get(CliConstants.KEY_RESULT_DETAIL.value()));
+			}
+			return ResultDetail.FULL;
+		}
+		return _resultDetail;
+	}
+
+	@Override
+	public boolean isLogAsync() {
+		return _logAsync || Boolean.parseBoolean(getEnvironment().get(CliConstants.KEY_LOG_ASYNC.value()));
+	}
+
+	@Override
+	public int getLogQueueSize() {
+		if (_logQueueSize == null) {
+			if (getEnvironment().containsKey(CliConstants.KEY_LOG_QUEUE_SIZE.value())) {
+				return Integer.parseInt(getEnvironment().get(CliConstants.KEY_LOG_QUEUE_SIZE.value()).trim());
+			}
+			return Config.super.getLogQueueSize();
+		}
+		return _logQueueSize;
+	}
+
+	@Override
+	@NotNull
+	public LogQueueFullPolicy getLogQueueFullPolicy() {
+		if (_logQueueFullPolicy == null) {
+			if (getEnvironment().containsKey(CliConstants.KEY_LOG_QUEUE_FULL_POLICY.value())) {
+				return LogQueueFullPolicy.valueOf(getEnvironment().get(CliConstants.KEY_LOG_QUEUE_FULL_POLICY.value()).trim().toUpperCase(Locale.ROOT));
+			}
+			return LogQueueFullPolicy.BLOCK;
+		}
+		return _logQueueFullPolicy;
+	}
+
 	@Override
 	public String getProject() {
 		if (_project == null || _project.isEmpty()) {
@@ -436,6 +517,60 @@ public class GlobalConfig implements Config {
 		_project = project;
 	}
 
+	/**
+	 * Set the format of the result file.
+	 *
+	 * @param resultFileFormat the {@link ResultFileFormat} to write, or {@code null} to use the default
+	 */
+	public void setResultFileFormat(@Nullable final ResultFileFormat resultFileFormat) {
+		_resultFileFormat = resultFileFormat;
+	}
+
+	/**
+	 * Enable or disable the gzip compression of the result file.
+	 *
+	 * @param resultFileGzip a boolean value indicating if the result file should be compressed with gzip
+	 */
+	public void setResultFileGzip(final boolean resultFileGzip) {
+		_resultFileGzip = resultFileGzip;
+	}
+
+	/**
+	 * Set the amount of detail logged for the result of a command.
+	 *
+	 * @param resultDetail the {@link ResultDetail} to log, or {@code null} to use the default
+	 */
+	public void setResultDetail(@Nullable final ResultDetail resultDetail) {
+		_resultDetail = resultDetail;
+	}
+
+	/**
+	 * Enable or disable the asynchronous logging.
+	 *
+	 * @param logAsync a boolean value indicating if the log should be written asynchronously
+	 */
+	public void setLogAsync(final boolean logAsync) {
+		_logAsync = logAsync;
+	}
+
+	/**
+	 * Set the number of log events buffered by the asynchronous logging.
+	 *
+	 * @param logQueueSize the size of the log queue, or {@code null} to use the default
+	 */
+	public void setLogQueueSize(@Nullable final Integer logQueueSize) {
+		_logQueueSize = logQueueSize;
+	}
+
+	/**
+	 * Set the behaviour of the asynchronous logging if its queue is full.
+	 *
+	 * @param logQueueFullPolicy the {@link LogQueueFullPolicy}, or {@code null} to use the default
+	 */
+	public void setLogQueueFullPolicy(@Nullable final LogQueueFullPolicy logQueueFullPolicy) {
+		_logQueueFullPolicy = logQueueFullPolicy;
+	}
+
 	/**
 	 * Enable or disable the automatic activation of the synchronized project.
 	 *
@@ -57,7 +57,7 @@ public class SyncDirectoryFactory {
 		LOGGER.debug("Check sync dir: {}", syncDirStr);
 		try {
 			File syncDir = new File(syncDirStr);
-			LOGGER.debug("Sync dir absolute path: " + syncDir.getAbsolutePath());
+			LOGGER.debug("Sync dir absolute path: {}", syncDir.getAbsolutePath());
 			makeSyncDirIfNeeded(syncDir);
 			if (!syncDir.isDirectory()) {
 				throw new IllegalArgumentException(
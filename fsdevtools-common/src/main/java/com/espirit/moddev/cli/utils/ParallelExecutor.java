@@ -0,0 +1,118 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed pool of named daemon threads which runs a known number of tasks concurrently. The pool never has more threads
+ * than tasks, and {@link #close()} stops it right away, interrupting tasks which are still running. Use it with
+ * try-with-resources:
+ * <pre>
+ * try (final ParallelExecutor executor = new ParallelExecutor("uploader", parallelism, tasks.size())) {
+ *     for (final Task task : tasks) {
+ *         futures.add(executor.submit(task::execute));
+ *     }
+ *     // wait for the futures
+ * }
+ * </pre>
+ */
+public final class ParallelExecutor implements Executor, AutoCloseable {
+
+	private final ExecutorService _executor;
+	private final int _threadCount;
+
+	/**
+	 * Creates the pool.
+	 *
+	 * @param threadNamePrefix the name of the threads, followed by a counter
+	 * @param parallelism      the maximum number of concurrent tasks, at least 1
+	 * @param taskCount        the number of tasks which will be submitted
+	 * @throws IllegalArgumentException if {@code parallelism} is less than 1
+	 */
+	public ParallelExecutor(@NotNull final String threadNamePrefix, final int parallelism, final int taskCount) {
+		_threadCount = Math.min(checkParallelism(parallelism), Math.max(1, taskCount));
+		final AtomicInteger threadCounter = new AtomicInteger();
+		_executor = Executors.newFixedThreadPool(_threadCount, runnable -> {
+			final Thread thread = new Thread(runnable, threadNamePrefix + '-' + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Checks the value of a parallelism option or parameter.
+	 *
+	 * @param parallelism the maximum number of concurrent tasks
+	 * @return the given parallelism
+	 * @throws IllegalArgumentException if {@code parallelism} is less than 1
+	 */
+	public static int checkParallelism(final int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism + '.');
+		}
+		return parallelism;
+	}
+
+	/**
+	 * Returns the number of threads of the pool.
+	 *
+	 * @return the smaller one of the parallelism and the number of tasks
+	 */
+	public int getThreadCount() {
+		return _threadCount;
+	}
+
+	/**
+	 * Submits a task to the pool.
+	 *
+	 * @param task the task to execute
+	 * @param <T>  the type of the result of the task
+	 * @return the future of the task
+	 */
+	@NotNull
+	public <T> Future<T> submit(@NotNull final Callable<T> task) {
+		return _executor.submit(task);
+	}
+
+	@Override
+	public void execute(@NotNull final Runnable command) {
+		_executor.execute(command);
+	}
+
+	/**
+	 * Stops the pool, tasks which are still running get interrupted.
+	 */
+	@Override
+	public void close() {
+		_executor.shutdownNow();
+	}
+
+}
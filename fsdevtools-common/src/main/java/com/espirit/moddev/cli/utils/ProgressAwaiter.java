@@ -0,0 +1,396 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Waits for long running (server side) operations by polling their progress with an adaptive backoff.
+ * <p>
+ * Polling starts with a short delay, so quick operations return almost immediately. The delay grows with each poll up
+ * to a maximum, so long running operations are not polled needlessly often. Whenever the reported progress changes,
+ * the delay is limited to the progress delay, so an operation which is moving is still polled regularly.
+ * Each poll is reported to an optional {@link ProgressListener} and an optional overall timeout limits the wait.
+ * <pre>{@code
+ * final boolean finished = ProgressAwaiter.of("Export")
+ *         .withTimeout(Duration.ofHours(1))
+ *         .withListener(ProgressAwaiter.loggingListener(LOGGER, Duration.ofSeconds(10)))
+ *         .awaitProgress(() -> {
+ *             final ExportProgress progress = handle.getProgress(true);
+ *             return progress.isFinished() ? Progress.finished() : Progress.of(progress.getProgress());
+ *         });
+ * }</pre>
+ */
+public class ProgressAwaiter {
+
+	public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(50);
+	public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+	public static final Duration DEFAULT_PROGRESS_DELAY = Duration.ofSeconds(1);
+	public static final double DEFAULT_BACKOFF_FACTOR = 2;
+
+	/**
+	 * Sleeps for the given number of milliseconds.
+	 */
+	@FunctionalInterface
+	public interface Sleeper {
+		void sleep(long millis) throws InterruptedException;
+	}
+
+	/**
+	 * Receives a {@link ProgressEvent} after each poll.
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+		void onProgress(@NotNull ProgressEvent event);
+	}
+
+	@NotNull
+	private final String _phase;
+	@NotNull
+	private Duration _initialDelay = DEFAULT_INITIAL_DELAY;
+	@NotNull
+	private Duration _maxDelay = DEFAULT_MAX_DELAY;
+	@NotNull
+	private Duration _progressDelay = DEFAULT_PROGRESS_DELAY;
+	private double _backoffFactor = DEFAULT_BACKOFF_FACTOR;
+	@Nullable
+	private Duration _timeout;
+	@Nullable
+	private ProgressListener _listener;
+	@NotNull
+	private Sleeper _sleeper = Thread::sleep;
+	@NotNull
+	private LongSupplier _nanoClock = System::nanoTime;
+
+	private ProgressAwaiter(@NotNull final String phase) {
+		_phase = Objects.requireNonNull(phase);
+	}
+
+	/**
+	 * Creates an awaiter for the given phase (e.g. "Export"), which is passed to the {@link ProgressListener}.
+	 *
+	 * @param phase the name of the awaited operation.
+	 * @return the awaiter.
+	 */
+	@NotNull
+	public static ProgressAwaiter of(@NotNull final String phase) {
+		return new ProgressAwaiter(phase);
+	}
+
+	/**
+	 * Sets the delay before the second poll. Default is {@link #DEFAULT_INITIAL_DELAY}.
+	 *
+	 * @param initialDelay the initial delay.
+	 * @return this awaiter.
+	 */
+	@NotNull
+	public ProgressAwaiter withInitialDelay(@NotNull final Duration initialDelay) {
+		_initialDelay = requirePositive(initialDelay);
+		return this;
+	}
+
+	/**
+	 * Sets the maximum delay between two polls. Default is {@link #DEFAULT_MAX_DELAY}.
+	 *
+	 * @param maxDelay the maximum delay.
+	 * @return this awaiter.
+	 */
+	@NotNull
+	public ProgressAwaiter withMaxDelay(@NotNull final Duration maxDelay) {
+		_maxDelay = requirePositive(maxDelay);
+		return this;
+	}
+
+	/**
+	 * Sets the delay the polling returns to whenever the reported progress changes. A longer delay is reduced to it,
+	 * a shorter one keeps growing. Default is {@link #DEFAULT_PROGRESS_DELAY}.
+	 *
+	 * @param progressDelay the delay after a progress change.
+	 * @return this awaiter.
+	 */
+	@NotNull
+	public ProgressAwaiter withProgressDelay(@NotNull final Duration progressDelay) {
+		_progressDelay = requirePositive(progressDelay);
+		return this;
+	}
+
+	/**
+	 * Sets the factor the delay grows with after each poll. Default is {@link #DEFAULT_BACKOFF_FACTOR}.
+	 *
+	 * @param backoffFactor the backoff factor, at least 1.
+	 * @return this awaiter.
+	 */
+	@NotNull
+	public ProgressAwaiter withBackoffFactor(final double backoffFactor) {
+		if (backoffFactor < 1) {
+			throw new IllegalArgumentException("Backoff factor must be at least 1 but was " + backoffFactor);
+		}
+		_backoffFactor = backoffFactor;
+		return this;
+	}
+
+	/**
+	 * Limits the overall time to wait. Without a timeout the awaiter waits until the operation has finished.
+	 *
+	 * @param timeout the overall timeout or {@code null} to wait forever.
+	 * @return this awaiter.
+	 */
+	@NotNull
+	public ProgressAwaiter withTimeout(@Nullable final Duration timeout) {
+		_timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link ProgressListener} which is notified after each poll.
+	 *
+	 * @param listener the listener or {@code null}.
+	 * @return this awaiter.
+	 */
+	@NotNull
+	public ProgressAwaiter withListener(@Nullable final ProgressListener listener) {
+		_listener = listener;
+		return this;
+	}
+
+	@VisibleForTesting
+	@NotNull
+	ProgressAwaiter withSleeper(@NotNull final Sleeper sleeper) {
+		_sleeper = sleeper;
+		return this;
+	}
+
+	@VisibleForTesting
+	@NotNull
+	ProgressAwaiter withNanoClock(@NotNull final LongSupplier nanoClock) {
+		_nanoClock = nanoClock;
+		return this;
+	}
+
+	/**
+	 * Waits until the given condition becomes {@code true}.
+	 *
+	 * @param condition the condition, polled with an adaptive backoff.
+	 * @return {@code true} if the condition has been met, {@code false} if the timeout elapsed before.
+	 * @throws InterruptedException if the current thread has been interrupted while waiting.
+	 */
+	public boolean await(@NotNull final BooleanSupplier condition) throws InterruptedException {
+		return awaitProgress(() -> condition.getAsBoolean() ? Progress.finished() : Progress.unknown());
+	}
+
+	/**
+	 * Waits until the given supplier reports a {@link Progress#isFinished() finished} progress.
+	 * The delay between two polls is limited to the {@link #withProgressDelay(Duration) progress delay} whenever the
+	 * reported progress changes.
+	 *
+	 * @param progressSupplier supplies the current {@link Progress} of the awaited operation.
+	 * @return {@code true} if the operation has finished, {@code false} if the timeout elapsed before.
+	 * @throws InterruptedException if the current thread has been interrupted while waiting.
+	 */
+	public boolean awaitProgress(@NotNull final Supplier<Progress> progressSupplier) throws InterruptedException {
+		final long start = _nanoClock.getAsLong();
+		final long timeoutNanos = _timeout == null ? Long.MAX_VALUE : _timeout.toNanos();
+		long delayMillis = _initialDelay.toMillis();
+		int lastPercent = Progress.UNKNOWN;
+		int polls = 0;
+		while (true) {
+			final Progress progress = Objects.requireNonNull(progressSupplier.get(), "progress");
+			polls++;
+			final long elapsedNanos = _nanoClock.getAsLong() - start;
+			notifyListener(progress, elapsedNanos, polls);
+			if (progress.isFinished()) {
+				return true;
+			}
+			final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(timeoutNanos - elapsedNanos);
+			if (remainingMillis <= 0) {
+				return false;
+			}
+			if (progress.getPercent() != lastPercent) {
+				// the operation is moving, so do not back off further than the progress delay
+				lastPercent = progress.getPercent();
+				delayMillis = Math.min(delayMillis, _progressDelay.toMillis());
+			}
+			_sleeper.sleep(Math.min(delayMillis, remainingMillis));
+			delayMillis = Math.min(_maxDelay.toMillis(), Math.max(delayMillis + 1, (long) (delayMillis * _backoffFactor)));
+		}
+	}
+
+	private void notifyListener(@NotNull final Progress progress, final long elapsedNanos, final int polls) {
+		if (_listener == null) {
+			return;
+		}
+		_listener.onProgress(new ProgressEvent(_phase, progress, Duration.ofNanos(elapsedNanos), polls));
+	}
+
+	/**
+	 * Creates a {@link ProgressListener} which logs the progress on info level, at most once per interval.
+	 * Completion is only logged if the progress has been logged before, so quick operations stay quiet.
+	 *
+	 * @param logger   the logger to use.
+	 * @param interval the minimum time between two log messages.
+	 * @return the listener.
+	 */
+	@NotNull
+	public static ProgressListener loggingListener(@NotNull final Logger logger, @NotNull final Duration interval) {
+		final long[] lastLogged = {Long.MIN_VALUE};
+		return event -> {
+			final long elapsedMillis = event.getElapsed().toMillis();
+			final boolean loggedBefore = lastLogged[0] != Long.MIN_VALUE;
+			final boolean log = event.getProgress().isFinished() ? loggedBefore : !loggedBefore || elapsedMillis - lastLogged[0] >= interval.toMillis();
+			if (log) {
+				lastLogged[0] = elapsedMillis;
+				logger.info("{}", event);
+			}
+		};
+	}
+
+	@NotNull
+	private static Duration requirePositive(@NotNull final Duration duration) {
+		if (duration.isNegative() || duration.isZero()) {
+			throw new IllegalArgumentException("Duration must be positive but was " + duration);
+		}
+		return duration;
+	}
+
+	/**
+	 * Progress of an awaited operation.
+	 */
+	public static final class Progress {
+
+		public static final int UNKNOWN = -1;
+
+		private static final Progress FINISHED = new Progress(100, true);
+		private static final Progress UNKNOWN_PROGRESS = new Progress(UNKNOWN, false);
+
+		private final int _percent;
+		private final boolean _finished;
+
+		private Progress(final int percent, final boolean finished) {
+			_percent = percent;
+			_finished = finished;
+		}
+
+		/**
+		 * @param percent the progress in percent (0-100) or {@link #UNKNOWN}.
+		 * @return a not yet finished progress.
+		 */
+		@NotNull
+		public static Progress of(final int percent) {
+			return new Progress(percent, false);
+		}
+
+		@NotNull
+		public static Progress unknown() {
+			return UNKNOWN_PROGRESS;
+		}
+
+		@NotNull
+		public static Progress finished() {
+			return FINISHED;
+		}
+
+		public int getPercent() {
+			return _percent;
+		}
+
+		public boolean isFinished() {
+			return _finished;
+		}
+	}
+
+	/**
+	 * Snapshot of an awaited operation, passed to {@link ProgressListener}s.
+	 */
+	public static final class ProgressEvent {
+
+		@NotNull
+		private final String _phase;
+		@NotNull
+		private final Progress _progress;
+		@NotNull
+		private final Duration _elapsed;
+		private final int _polls;
+
+		ProgressEvent(@NotNull final String phase, @NotNull final Progress progress, @NotNull final Duration elapsed, final int polls) {
+			_phase = phase;
+			_progress = progress;
+			_elapsed = elapsed;
+			_polls = polls;
+		}
+
+		@NotNull
+		public String getPhase() {
+			return _phase;
+		}
+
+		@NotNull
+		public Progress getProgress() {
+			return _progress;
+		}
+
+		@NotNull
+		public Duration getElapsed() {
+			return _elapsed;
+		}
+
+		public int getPolls() {
+			return _polls;
+		}
+
+		/**
+		 * Returns the average throughput since the start in percent per second.
+		 *
+		 * @return the throughput or {@link Double#NaN} if the progress is unknown.
+		 */
+		public double getPercentPerSecond() {
+			final long elapsedMillis = _elapsed.toMillis();
+			if (_progress.getPercent() == Progress.UNKNOWN || elapsedMillis == 0) {
+				return Double.NaN;
+			}
+			return _progress.getPercent() * 1000.0 / elapsedMillis;
+		}
+
+		@Override
+		public String toString() {
+			final long elapsedSeconds = _elapsed.getSeconds();
+			if (_progress.isFinished()) {
+				return String.format("%s finished after %ds.", _phase, elapsedSeconds);
+			}
+			if (_progress.getPercent() == Progress.UNKNOWN) {
+				return String.format("%s running for %ds...", _phase, elapsedSeconds);
+			}
+			return String.format(Locale.ROOT, "%s %d%% (%.1f%%/s, %ds elapsed)...", _phase, _progress.getPercent(), getPercentPerSecond(), elapsedSeconds);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import com.espirit.moddev.cli.api.result.ExecutionErrorResult;
+import org.jetbrains.annotations.NotNull;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * The {@link ExecutionErrorResult result} of a project the command failed for.
+ *
+ * @see ProjectRunner
+ */
+@JsonSerialize
+public class ProjectErrorResult extends ProjectResult implements ExecutionErrorResult<Exception> {
+
+	public ProjectErrorResult(@NotNull final String projectName, final long durationMillis, @NotNull final Exception exception) {
+		super(projectName, durationMillis, null, exception);
+	}
+
+	@NotNull
+	@Override
+	public Exception getThrowable() {
+		return getException().orElseThrow();
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + ": " + getThrowable().getMessage();
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import com.espirit.moddev.cli.api.result.ExecutionResult;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_ERROR;
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_EXCEPTION;
+import static com.espirit.moddev.cli.api.json.common.AttributeNames.ATTR_PROJECT_NAME;
+
+/**
+ * Outcome of executing a command for a single project when the command targets several projects. Failures are
+ * reported as {@link ProjectErrorResult}.
+ *
+ * @see ProjectRunner
+ * @see ProjectRunResult
+ */
+@JsonSerialize
+public class ProjectResult implements ExecutionResult {
+
+	static final String ATTR_DURATION = "durationMillis";
+
+	@NotNull
+	@JsonProperty(value = ATTR_PROJECT_NAME)
+	private final String _projectName;
+	@JsonProperty(value = ATTR_ERROR)
+	private final boolean _hasError;
+	@JsonProperty(value = ATTR_DURATION)
+	private final long _durationMillis;
+	@Nullable
+	private final Object _returnValue;
+	@Nullable
+	@JsonProperty(value = ATTR_EXCEPTION)
+	private final Exception _exception;
+
+	public ProjectResult(@NotNull final String projectName, final long durationMillis, @Nullable final Object returnValue) {
+		this(projectName, durationMillis, returnValue, null);
+	}
+
+	protected ProjectResult(@NotNull final String projectName, final long durationMillis, @Nullable final Object returnValue, @Nullable final Exception exception) {
+		_projectName = Objects.requireNonNull(projectName);
+		_hasError = exception != null;
+		_durationMillis = durationMillis;
+		_returnValue = returnValue;
+		_exception = exception;
+	}
+
+	@NotNull
+	public String getProjectName() {
+		return _projectName;
+	}
+
+	public long getDurationMillis() {
+		return _durationMillis;
+	}
+
+	@NotNull
+	public Optional<Object> getReturnValue() {
+		return Optional.ofNullable(_returnValue);
+	}
+
+	@NotNull
+	public Optional<Exception> getException() {
+		return Optional.ofNullable(_exception);
+	}
+
+	public boolean isSuccessful() {
+		return !_hasError;
+	}
+
+	@Override
+	public String toString() {
+		return _projectName + (isSuccessful() ? ": OK" : ": FAILED") + " (" + _durationMillis + "ms)";
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import com.espirit.moddev.cli.api.result.AbstractCommandResult;
+import com.espirit.moddev.cli.api.result.ExecutionResults;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Implementation of a {@link com.espirit.moddev.cli.api.result.Result} for commands executed for several projects. Contains
+ * one {@link ProjectResult} per project, so the result file holds the status, the duration and the error of each project.
+ *
+ * @see ProjectRunner
+ */
+public class ProjectRunResult extends AbstractCommandResult {
+
+	@NotNull
+	private final String _actionName;
+	@NotNull
+	private final List<ProjectResult> _projectResults;
+
+	/**
+	 * @param actionName     the name of the action in log messages, e.g. {@code "Installation"}.
+	 * @param projectResults the results of {@link ProjectRunner#runForProjects(String, String, List, int, ProjectRunner.ProjectAction)}.
+	 */
+	public ProjectRunResult(@NotNull final String actionName, @NotNull final List<ProjectResult> projectResults) {
+		super(createErrorMessage(actionName, projectResults), createExecutionResults(projectResults));
+		_actionName = actionName;
+		_projectResults = List.copyOf(projectResults);
+	}
+
+	@NotNull
+	private static String createErrorMessage(@NotNull final String actionName, @NotNull final List<ProjectResult> projectResults) {
+		final List<String> failedProjects = ProjectRunner.getFailedProjectNames(projectResults);
+		return String.format("%s failed for %d of %d projects: %s", actionName, failedProjects.size(), projectResults.size(), String.join(", ", failedProjects));
+	}
+
+	@NotNull
+	private static ExecutionResults createExecutionResults(@NotNull final List<ProjectResult> projectResults) {
+		final ExecutionResults results = new ExecutionResults();
+		projectResults.forEach(results::add);
+		return results;
+	}
+
+	/**
+	 * @return one {@link ProjectResult} per project, in the order of execution.
+	 */
+	@NotNull
+	public List<ProjectResult> getProjectResults() {
+		return _projectResults;
+	}
+
+	@Override
+	public void log() {
+		_logger.info("");
+		_logger.info(LINE_SEPARATOR);
+		_logger.info("{} results:\n{}", _actionName, ProjectRunner.formatResultMatrix(_projectResults));
+		_logger.info(LINE_SEPARATOR);
+		if (isError()) {
+			_logger.error(createErrorMessage(_actionName, _projectResults));
+		} else {
+			_logger.info("{} successful for {} projects.", _actionName, _projectResults.size());
+		}
+		_logger.info("");
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.utils;
+
+import de.espirit.firstspirit.access.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Executes an action for each of the projects selected by a {@code --projects} option (see {@link ProjectSelection}) on a pool
+ * of concurrent workers and reports a {@link ProjectResult} per project. Commands return the results as a
+ * {@link ProjectRunResult}.
+ */
+public final class ProjectRunner {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectRunner.class);
+
+	private ProjectRunner() {
+		// utility class
+	}
+
+	/**
+	 * The action to execute for a single project.
+	 */
+	@FunctionalInterface
+	public interface ProjectAction {
+
+		/**
+		 * Executes the action for the given project.
+		 *
+		 * @param project the target {@link Project}.
+		 * @return the return value of the action, may be {@code null}.
+		 * @throws Exception if the action failed for the project.
+		 */
+		@Nullable
+		Object execute(@NotNull Project project) throws Exception;
+	}
+
+	/**
+	 * Runs the given action for each of the given projects on a pool of at most {@code parallelism} workers.
+	 * Failures are recorded per project and do not stop the other projects.
+	 *
+	 * @param threadNamePrefix the name of the worker threads.
+	 * @param actionName       the name of the action in log messages, e.g. {@code "Installation"}.
+	 * @param projects         the target {@link Project projects}.
+	 * @param parallelism      the maximum number of concurrent executions, at least 1.
+	 * @param action           the action to execute for each project.
+	 * @return one {@link ProjectResult} per project, in the order of the given projects.
+	 * @throws InterruptedException if the current thread gets interrupted while waiting for the workers.
+	 */
+	@NotNull
+	public static List<ProjectResult> runForProjects(@NotNull final String threadNamePrefix, @NotNull final String actionName, @NotNull final List<Project> projects, final int parallelism, @NotNull final ProjectAction action) throws InterruptedException {
+		try (final ParallelExecutor executor = new ParallelExecutor(threadNamePrefix, parallelism, projects.size())) {
+			final List<Future<ProjectResult>> futures = new ArrayList<>();
+			for (final Project project : projects) {
+				futures.add(executor.submit(() -> runForProject(actionName, project, action)));
+			}
+			final List<ProjectResult> results = new ArrayList<>();
+			for (final Future<ProjectResult> future : futures) {
+				try {
+					results.add(future.get());
+				} catch (final ExecutionException e) {
+					// runForProject catches everything, so this should never happen
+					throw new IllegalStateException(e.getCause());
+				}
+			}
+			return results;
+		}
+	}
+
+	@NotNull
+	private static ProjectResult runForProject(@NotNull final String actionName, @NotNull final Project project, @NotNull final ProjectAction action) {
+		final String projectName = project.getName();
+		final long start = System.currentTimeMillis();
+		try {
+			final Object returnValue = action.execute(project);
+			return new ProjectResult(projectName, System.currentTimeMillis() - start, returnValue);
+		} catch (final Exception e) {
+			LOGGER.error("{} for project '{}' failed: {}", actionName, projectName, e.getMessage());
+			LOGGER.debug("{} for project '{}' failed.", actionName, projectName, e);
+			return new ProjectErrorResult(projectName, System.currentTimeMillis() - start, e);
+		}
+	}
+
+	/**
+	 * Gets the names of the projects the action failed for.
+	 *
+	 * @param results the results of {@link #runForProjects(String, String, List, int, ProjectAction)}.
+	 * @return the names of the failed projects, in the order of the results.
+	 */
+	@NotNull
+	public static List<String> getFailedProjectNames(@NotNull final List<ProjectResult> results) {
+		return results.stream()
+				.filter(result -> !result.isSuccessful())
+				.map(ProjectResult::getProjectName)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Formats the given results as a table with one row per project.
+	 *
+	 * @param results the results to format.
+	 * @return the formatted table.
+	 */
+	@NotNull
+	public static String formatResultMatrix(@NotNull final List<ProjectResult> results) {
+		final int nameWidth = results.stream()
+				.mapToInt(result -> result.getProjectName().length())
+				.reduce("PROJECT".length(), Math::max);
+		final String rowFormat = "%-" + nameWidth + "s | %-6s | %10s | %s";
+		final StringBuilder builder = new StringBuilder(String.format(rowFormat, "PROJECT", "RESULT", "DURATION", "ERROR").trim());
+		for (final ProjectResult result : results) {
+			final String error = result.getException()
+					.map(exception -> exception.getMessage() != null ? exception.getMessage() : exception.getClass().getName())
+					.orElse("");
+			builder.append('\n').append(String.format(
+					rowFormat,
+					result.getProjectName(),
+					result.isSuccessful() ? "OK" : "FAILED",
+					result.getDurationMillis() + "ms",
+					error
+			).trim());
+		}
+		return builder.toString();
+	}
+
+}
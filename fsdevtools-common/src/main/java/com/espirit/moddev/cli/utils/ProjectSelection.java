@@ -0,0 +1,126 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import de.espirit.firstspirit.access.Connection;
+import de.espirit.firstspirit.access.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the value of a {@code --projects} option, a comma-separated list of project names or wildcard patterns,
+ * to the selected projects of a FirstSpirit server.
+ */
+public final class ProjectSelection {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectSelection.class);
+
+	private ProjectSelection() {
+		// utility class
+	}
+
+	/**
+	 * Resolves the projects selected by the given {@code --projects} value.
+	 *
+	 * @param connection     {@link Connection} to the FirstSpirit server.
+	 * @param projectsOption comma-separated list of project names or wildcard patterns.
+	 * @return the selected {@link Project projects} in the order of the option.
+	 */
+	@NotNull
+	public static List<Project> getProjects(@NotNull final Connection connection, @NotNull final String projectsOption) {
+		final Map<String, Project> projectsByName = new LinkedHashMap<>();
+		for (final Project project : connection.getProjects()) {
+			projectsByName.put(project.getName(), project);
+		}
+		return resolveProjectNames(new ArrayList<>(projectsByName.keySet()), projectsOption)
+				.stream()
+				.map(projectsByName::get)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Matches the entries of the given {@code --projects} value against the available project names.
+	 * Plain names must exist, patterns may use {@code *} and {@code ?} and are matched in sorted order.
+	 * Duplicates are removed, the first occurrence wins.
+	 *
+	 * @param availableProjectNames names of all projects on the server.
+	 * @param projectsOption        comma-separated list of project names or wildcard patterns.
+	 * @return the selected project names.
+	 * @throws IllegalStateException if a project does not exist or nothing has been selected at all.
+	 */
+	@NotNull
+	public static List<String> resolveProjectNames(@NotNull final List<String> availableProjectNames, @NotNull final String projectsOption) {
+		final List<String> sortedProjectNames = availableProjectNames.stream().sorted().collect(Collectors.toList());
+		final Set<String> result = new LinkedHashSet<>();
+		for (final String rawEntry : projectsOption.split(",")) {
+			final String entry = rawEntry.trim();
+			if (entry.isEmpty()) {
+				continue;
+			}
+			if (entry.contains("*") || entry.contains("?")) {
+				final Pattern pattern = toPattern(entry);
+				final List<String> matches = sortedProjectNames.stream()
+						.filter(name -> pattern.matcher(name).matches())
+						.collect(Collectors.toList());
+				if (matches.isEmpty()) {
+					LOGGER.warn("Pattern '{}' does not match any project.", entry);
+				}
+				result.addAll(matches);
+			} else if (availableProjectNames.contains(entry)) {
+				result.add(entry);
+			} else {
+				throw new IllegalStateException(String.format("Could not find project '%s' on the server (typo in the project name?)", entry));
+			}
+		}
+		if (result.isEmpty()) {
+			throw new IllegalStateException(String.format("No project matches '%s'.", projectsOption));
+		}
+		return new ArrayList<>(result);
+	}
+
+	@NotNull
+	private static Pattern toPattern(@NotNull final String wildcardPattern) {
+		final StringBuilder regex = new StringBuilder();
+		for (final String part : wildcardPattern.split("(?=[*?])|(?<=[*?])")) {
+			if ("*".equals(part)) {
+				regex.append(".*");
+			} else if ("?".equals(part)) {
+				regex.append('.');
+			} else {
+				regex.append(Pattern.quote(part));
+			}
+		}
+		return Pattern.compile(regex.toString());
+	}
+
+}
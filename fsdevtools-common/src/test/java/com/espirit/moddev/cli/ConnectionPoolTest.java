@@ -0,0 +1,104 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli;
+
+import com.espirit.moddev.cli.api.configuration.Config;
+import com.espirit.moddev.connection.FsConnectionType;
+import de.espirit.firstspirit.access.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectionPoolTest {
+
+	private ConnectionPool _pool;
+	private Config _config;
+	private Connection _connection;
+
+	@BeforeEach
+	public void setUp() {
+		_pool = new ConnectionPool();
+		_config = createConfig("Admin", "secret");
+		_connection = mock(Connection.class);
+		when(_connection.isConnected()).thenReturn(true);
+	}
+
+	@Test
+	public void pooledConnectionIsReused() {
+		_pool.put(_config, _connection);
+		assertThat(_pool.get(createConfig("Admin", "secret"))).isSameAs(_connection);
+	}
+
+	@Test
+	public void connectionIsNotSharedWithOtherCredentials() {
+		_pool.put(_config, _connection);
+		assertThat(_pool.get(createConfig("Admin", "wrong"))).isNull();
+		assertThat(_pool.get(createConfig("Editor", "secret"))).isNull();
+	}
+
+	@Test
+	public void disconnectedConnectionIsRemoved() throws Exception {
+		_pool.put(_config, _connection);
+		when(_connection.isConnected()).thenReturn(false);
+		assertThat(_pool.get(_config)).isNull();
+		assertThat(_pool.size()).isZero();
+		verify(_connection, times(1)).close();
+	}
+
+	@Test
+	public void closeClosesAllConnections() throws Exception {
+		_pool.put(_config, _connection);
+		verify(_connection, never()).close();
+		_pool.close();
+		verify(_connection, times(1)).close();
+		assertThat(_pool.size()).isZero();
+	}
+
+	@Test
+	public void contextDoesNotClosePooledConnection() throws Exception {
+		_pool.put(_config, _connection);
+		when(_config.getProject()).thenReturn(null);
+		try (final CliContextImpl context = new CliContextImpl(_config, _pool)) {
+			assertThat(context.getConnection()).isSameAs(_connection);
+		}
+		verify(_connection, never()).connect();
+		verify(_connection, never()).close();
+	}
+
+	private static Config createConfig(final String user, final String password) {
+		final Config config = mock(Config.class);
+		when(config.getHost()).thenReturn("localhost");
+		when(config.getPort()).thenReturn(8000);
+		when(config.getConnectionMode()).thenReturn(FsConnectionType.HTTP);
+		when(config.getUser()).thenReturn(user);
+		when(config.getPassword()).thenReturn(password);
+		when(config.getHttpProxyHost()).thenReturn("");
+		return config;
+	}
+
+}
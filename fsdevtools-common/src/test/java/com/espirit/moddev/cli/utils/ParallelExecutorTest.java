@@ -0,0 +1,99 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelExecutorTest {
+
+	@Test
+	void invalid_parallelism_is_rejected() {
+		assertThatThrownBy(() -> new ParallelExecutor("test", 0, 1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> ParallelExecutor.checkParallelism(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(ParallelExecutor.checkParallelism(1)).isEqualTo(1);
+	}
+
+	@Test
+	void thread_count_is_limited_by_tasks() {
+		try (final ParallelExecutor executor = new ParallelExecutor("test", 4, 2)) {
+			assertThat(executor.getThreadCount()).isEqualTo(2);
+		}
+		try (final ParallelExecutor executor = new ParallelExecutor("test", 4, 0)) {
+			assertThat(executor.getThreadCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void tasks_run_on_named_daemon_threads() throws InterruptedException, ExecutionException {
+		final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		final CountDownLatch started = new CountDownLatch(2);
+		try (final ParallelExecutor executor = new ParallelExecutor("test-worker", 2, 2)) {
+			final List<Future<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				futures.add(executor.submit(() -> {
+					threadNames.add(Thread.currentThread().getName());
+					started.countDown();
+					// both tasks have to run at the same time
+					assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+					return Thread.currentThread().isDaemon();
+				}));
+			}
+			for (final Future<Boolean> future : futures) {
+				assertThat(future.get()).isTrue();
+			}
+		}
+		assertThat(threadNames).containsExactlyInAnyOrder("test-worker-1", "test-worker-2");
+	}
+
+	@Test
+	void close_interrupts_running_tasks() throws InterruptedException {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		try (final ParallelExecutor executor = new ParallelExecutor("test", 1, 1)) {
+			CompletableFuture.runAsync(() -> {
+				started.countDown();
+				try {
+					Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+				} catch (final InterruptedException e) {
+					interrupted.countDown();
+				}
+			}, executor);
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+}
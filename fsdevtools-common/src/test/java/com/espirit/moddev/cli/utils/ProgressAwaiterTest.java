@@ -0,0 +1,113 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import com.espirit.moddev.cli.utils.ProgressAwaiter.Progress;
+import com.espirit.moddev.cli.utils.ProgressAwaiter.ProgressEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressAwaiterTest {
+
+	private final AtomicLong _nanos = new AtomicLong();
+	private final List<Long> _sleeps = new ArrayList<>();
+
+	private ProgressAwaiter createAwaiter() {
+		return ProgressAwaiter.of("Test")
+				.withInitialDelay(Duration.ofMillis(10))
+				.withMaxDelay(Duration.ofMillis(80))
+				.withProgressDelay(Duration.ofMillis(20))
+				.withNanoClock(_nanos::get)
+				.withSleeper(millis -> {
+					_sleeps.add(millis);
+					_nanos.addAndGet(Duration.ofMillis(millis).toNanos());
+				});
+	}
+
+	@Test
+	void await_returns_immediately_if_condition_is_met() throws InterruptedException {
+		final boolean result = createAwaiter().await(() -> true);
+		assertThat(result).isTrue();
+		assertThat(_sleeps).isEmpty();
+	}
+
+	@Test
+	void await_backs_off_up_to_max_delay() throws InterruptedException {
+		final Iterator<Boolean> results = List.of(false, false, false, false, false, false, true).iterator();
+		final boolean result = createAwaiter().await(results::next);
+		assertThat(result).isTrue();
+		assertThat(_sleeps).containsExactly(10L, 20L, 40L, 80L, 80L, 80L);
+	}
+
+	@Test
+	void awaitProgress_limits_delay_when_progress_changes() throws InterruptedException {
+		final Iterator<Progress> results = List.of(
+				Progress.of(0), Progress.of(0), Progress.of(0), Progress.of(50), Progress.of(50), Progress.finished()
+		).iterator();
+		final boolean result = createAwaiter().awaitProgress(results::next);
+		assertThat(result).isTrue();
+		assertThat(_sleeps).containsExactly(10L, 20L, 40L, 20L, 40L);
+	}
+
+	@Test
+	void awaitProgress_keeps_backing_off_while_progress_moves() throws InterruptedException {
+		final Iterator<Progress> results = List.of(
+				Progress.of(10), Progress.of(20), Progress.of(30), Progress.of(40), Progress.of(50), Progress.finished()
+		).iterator();
+		final boolean result = createAwaiter().awaitProgress(results::next);
+		assertThat(result).isTrue();
+		// grows from the initial delay up to the progress delay instead of polling at the initial pace
+		assertThat(_sleeps).containsExactly(10L, 20L, 20L, 20L, 20L);
+	}
+
+	@Test
+	void await_returns_false_after_timeout() throws InterruptedException {
+		final boolean result = createAwaiter().withTimeout(Duration.ofMillis(100)).await(() -> false);
+		assertThat(result).isFalse();
+		// 10 + 20 + 40 = 70ms, the last sleep is cut to the remaining 30ms
+		assertThat(_sleeps).containsExactly(10L, 20L, 40L, 30L);
+	}
+
+	@Test
+	void listener_receives_phase_progress_and_throughput() throws InterruptedException {
+		final List<ProgressEvent> events = new ArrayList<>();
+		final Iterator<Progress> results = List.of(Progress.of(0), Progress.of(10), Progress.finished()).iterator();
+		createAwaiter().withListener(events::add).awaitProgress(results::next);
+		assertThat(events).hasSize(3);
+		assertThat(events).allSatisfy(event -> assertThat(event.getPhase()).isEqualTo("Test"));
+		assertThat(events).extracting(ProgressEvent::getPolls).containsExactly(1, 2, 3);
+		final ProgressEvent second = events.get(1);
+		assertThat(second.getElapsed()).isEqualTo(Duration.ofMillis(10));
+		assertThat(second.getPercentPerSecond()).isEqualTo(1000.0);
+		assertThat(second).hasToString("Test 10% (1000.0%/s, 0s elapsed)...");
+		assertThat(events.get(2).getProgress().isFinished()).isTrue();
+		assertThat(events.get(0).getPercentPerSecond()).isNaN();
+	}
+}
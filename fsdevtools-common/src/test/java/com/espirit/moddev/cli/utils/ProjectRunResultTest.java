@@ -0,0 +1,80 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+
+package com.espirit.moddev.cli.utils;
+
+import com.espirit.moddev.util.JacksonUtil;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectRunResultTest {
+
+	@Test
+	void successful_projects() {
+		final ProjectRunResult result = new ProjectRunResult("Installation", List.of(new ProjectResult("tenant-01", 12, null), new ProjectResult("tenant-02", 34, null)));
+
+		assertThat(result.isError()).isFalse();
+		assertThat(result.getError()).isNull();
+		assertThat(result.get().hasError()).isFalse();
+		assertThat(result.get().size()).isEqualTo(2);
+		assertThat(result.getProjectResults()).extracting(ProjectResult::getProjectName).containsExactly("tenant-01", "tenant-02");
+	}
+
+	@Test
+	void failed_project() {
+		final IllegalStateException exception = new IllegalStateException("broken");
+		final ProjectRunResult result = new ProjectRunResult("Installation", List.of(new ProjectResult("tenant-01", 12, null), new ProjectErrorResult("tenant-02", 34, exception)));
+
+		assertThat(result.isError()).isTrue();
+		assertThat(result.getError()).hasMessageContaining("Installation failed for 1 of 2 projects: tenant-02");
+		assertThat(result.get().hasError()).isTrue();
+	}
+
+	@Test
+	void result_file_contains_one_entry_per_project() throws JacksonException {
+		final JsonMapper jsonMapper = JacksonUtil.createOutputMapper();
+		final ProjectRunResult result = new ProjectRunResult("Installation", List.of(new ProjectResult("tenant-01", 12, "ignored"), new ProjectErrorResult("tenant-02", 34, new IllegalStateException("broken"))));
+
+		final JsonNode root = jsonMapper.readTree(jsonMapper.writeValueAsString(result.get()));
+
+		assertThat(root.get("error").asBoolean()).isTrue();
+		assertThat(root.get("results")).hasSize(2);
+		final JsonNode successful = root.get("results").get(0);
+		assertThat(successful.get("projectName").asString()).isEqualTo("tenant-01");
+		assertThat(successful.get("error").asBoolean()).isFalse();
+		assertThat(successful.get("durationMillis").asLong()).isEqualTo(12);
+		assertThat(successful.has("exception")).isFalse();
+		final JsonNode failed = root.get("results").get(1);
+		assertThat(failed.get("projectName").asString()).isEqualTo("tenant-02");
+		assertThat(failed.get("error").asBoolean()).isTrue();
+		assertThat(failed.get("durationMillis").asLong()).isEqualTo(34);
+		assertThat(failed.get("exception").get("class").asString()).isEqualTo("java.lang.IllegalStateException");
+		assertThat(failed.get("exception").get("message").asString()).isEqualTo("broken");
+	}
+
+}
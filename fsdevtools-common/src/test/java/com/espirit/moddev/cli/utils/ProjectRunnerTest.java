@@ -0,0 +1,77 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.utils;
+
+import de.espirit.firstspirit.access.project.Project;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectRunnerTest {
+
+	@Test
+	void runForProjects_reports_a_result_per_project() throws InterruptedException {
+		final List<Project> projects = List.of(mockProject("tenant-01"), mockProject("tenant-02"), mockProject("tenant-03"));
+
+		final List<ProjectResult> results = ProjectRunner.runForProjects("test", "Test", projects, 2, project -> {
+			if ("tenant-02".equals(project.getName())) {
+				throw new IllegalStateException("broken");
+			}
+			return project.getName();
+		});
+
+		assertThat(results).extracting(ProjectResult::getProjectName).containsExactly("tenant-01", "tenant-02", "tenant-03");
+		assertThat(results).extracting(ProjectResult::isSuccessful).containsExactly(true, false, true);
+		assertThat(results.get(0).getReturnValue()).contains("tenant-01");
+		assertThat(results.get(1).getReturnValue()).isEmpty();
+		assertThat(results.get(1)).isInstanceOf(ProjectErrorResult.class);
+		assertThat(results.get(1).getException()).hasValueSatisfying(exception -> assertThat(exception).hasMessage("broken"));
+		assertThat(ProjectRunner.getFailedProjectNames(results)).containsExactly("tenant-02");
+	}
+
+	@Test
+	void formatResultMatrix() {
+		final List<ProjectResult> results = List.of(
+				new ProjectResult("tenant-01", 12, null),
+				new ProjectErrorResult("a-much-longer-name", 1234, new IllegalStateException("broken")),
+				new ProjectErrorResult("x", 5, new IllegalStateException())
+		);
+
+		assertThat(ProjectRunner.formatResultMatrix(results).split("\n")).containsExactly(
+				"PROJECT            | RESULT |   DURATION | ERROR",
+				"tenant-01          | OK     |       12ms |",
+				"a-much-longer-name | FAILED |     1234ms | broken",
+				"x                  | FAILED |        5ms | java.lang.IllegalStateException"
+		);
+	}
+
+	private static Project mockProject(final String name) {
+		final Project project = mock(Project.class);
+		when(project.getName()).thenReturn(name);
+		return project;
+	}
+
+}
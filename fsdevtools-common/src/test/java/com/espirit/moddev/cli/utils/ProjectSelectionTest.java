@@ -0,0 +1,90 @@
+/*
+ *
+ * *********************************************************************
+ * fsdevtools
+ * %%
+ * Copyright (C) 2026 Crownpeak Technology GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * *********************************************************************
+ *
+ */
+package com.espirit.moddev.cli.utils;
+
+import de.espirit.firstspirit.access.Connection;
+import de.espirit.firstspirit.access.project.Project;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectSelectionTest {
+
+	@Test
+	void resolveProjectNames_keeps_order_and_removes_duplicates() {
+		final List<String> available = List.of("tenant-02", "Mithras", "tenant-01", "other");
+		final List<String> result = ProjectSelection.resolveProjectNames(available, "Mithras, tenant-*,tenant-01");
+		assertThat(result).containsExactly("Mithras", "tenant-01", "tenant-02");
+	}
+
+	@Test
+	void resolveProjectNames_supports_single_character_wildcard_and_all() {
+		final List<String> available = List.of("tenant-1", "tenant-10", "other");
+		assertThat(ProjectSelection.resolveProjectNames(available, "tenant-?")).containsExactly("tenant-1");
+		assertThat(ProjectSelection.resolveProjectNames(available, "*")).containsExactly("other", "tenant-1", "tenant-10");
+	}
+
+	@Test
+	void resolveProjectNames_quotes_regex_characters() {
+		final List<String> available = List.of("a.b", "axb");
+		assertThat(ProjectSelection.resolveProjectNames(available, "a.*")).containsExactly("a.b");
+	}
+
+	@Test
+	void resolveProjectNames_throws_for_unknown_project() {
+		final List<String> available = List.of("tenant-01");
+		assertThatThrownBy(() -> ProjectSelection.resolveProjectNames(available, "tenant-01,tenant-99"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("tenant-99");
+	}
+
+	@Test
+	void resolveProjectNames_throws_if_nothing_matches() {
+		final List<String> available = List.of("tenant-01");
+		assertThatThrownBy(() -> ProjectSelection.resolveProjectNames(available, "other-*"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("No project matches 'other-*'.");
+	}
+
+	@Test
+	void getProjects_returns_projects_in_option_order() {
+		final Project first = mockProject("tenant-01");
+		final Project second = mockProject("tenant-02");
+		final Project other = mockProject("other");
+		final Connection connection = mock(Connection.class);
+		when(connection.getProjects()).thenReturn(new Project[]{first, other, second});
+
+		assertThat(ProjectSelection.getProjects(connection, "tenant-02,tenant-*")).containsExactly(second, first);
+	}
+
+	private static Project mockProject(final String name) {
+		final Project project = mock(Project.class);
+		when(project.getName()).thenReturn(name);
+		return project;
+	}
+
+}
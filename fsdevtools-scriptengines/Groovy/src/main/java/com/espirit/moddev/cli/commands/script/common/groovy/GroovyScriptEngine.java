@@ -22,8 +22,10 @@
 
 package com.espirit.moddev.cli.commands.script.common.groovy;
 
+import com.espirit.moddev.cli.api.script.CompiledScriptCache;
 import com.espirit.moddev.cli.api.script.ScriptEngine;
 import com.espirit.moddev.cli.api.script.ScriptExecutable;
+import groovy.lang.Script;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -37,6 +39,7 @@ public class GroovyScriptEngine implements ScriptEngine {
 	public static final String NAME = "GROOVY";
 
 	private final ClassLoader _classLoader;
+	private final CompiledScriptCache<Class<? extends Script>> _cache = new CompiledScriptCache<>();
 
 	public GroovyScriptEngine() {
 		_classLoader = GroovyScriptEngine.class.getClassLoader();
@@ -51,7 +54,7 @@ public class GroovyScriptEngine implements ScriptEngine {
 	@NotNull
 	@Override
 	public ScriptExecutable getExecutable(@NotNull final String scriptSource) {
-		return new GroovyScriptExecutable(_classLoader, scriptSource);
+		return new GroovyScriptExecutable(_classLoader, _cache, scriptSource);
 	}
 
 }
@@ -22,6 +22,7 @@
 
 package com.espirit.moddev.cli.commands.script.common.groovy;
 
+import com.espirit.moddev.cli.api.script.CompiledScriptCache;
 import com.espirit.moddev.cli.api.script.ScriptExecutable;
 import com.espirit.moddev.cli.api.script.exception.ScriptExecutionException;
 import com.espirit.moddev.cli.api.script.exception.ScriptParsingException;
@@ -29,6 +30,7 @@ import groovy.lang.Binding;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
@@ -39,18 +41,24 @@ import java.util.Map;
 public class GroovyScriptExecutable implements ScriptExecutable {
 
 	private final ClassLoader _classLoader;
+	private final CompiledScriptCache<Class<? extends Script>> _cache;
 	private final String _source;
+	private volatile Class<? extends Script> _scriptClass;
 
 	public GroovyScriptExecutable(@NotNull final ClassLoader classLoader, @NotNull final String source) {
+		this(classLoader, new CompiledScriptCache<>(1, CompiledScriptCache.DEFAULT_MAX_WEIGHT), source);
+	}
+
+	public GroovyScriptExecutable(@NotNull final ClassLoader classLoader, @NotNull final CompiledScriptCache<Class<? extends Script>> cache, @NotNull final String source) {
 		_classLoader = classLoader;
+		_cache = cache;
 		_source = source;
 	}
 
 	@Override
 	public void parse(@NotNull final Map<String, Object> context) throws ScriptParsingException {
 		try {
-			final GroovyShell groovyShell = new GroovyShell(_classLoader);
-			groovyShell.parse(_source);
+			getScriptClass();
 		} catch (final CompilationFailedException e) {
 			throw new ScriptParsingException(e);
 		}
@@ -59,12 +67,28 @@ public class GroovyScriptExecutable implements ScriptExecutable {
 	@Override
 	public Object execute(@NotNull final Map<String, Object> context) throws ScriptExecutionException {
 		try {
-			final GroovyShell groovyShell = new GroovyShell(_classLoader);
-			final Script script = groovyShell.parse(_source);
-			script.setBinding(new Binding(context));
+			// a new script instance per execution, the compiled class is shared
+			final Script script = InvokerHelper.createScript(getScriptClass(), new Binding(context));
 			return script.run();
 		} catch (final Exception | Error e) {
 			throw new ScriptExecutionException(e);
 		}
 	}
+
+	/**
+	 * Returns the compiled script class, compiling it only if neither this executable nor the cache of the engine holds
+	 * it. Every compilation uses a new {@link GroovyShell}, so the class can be unloaded once it is evicted.
+	 *
+	 * @return the compiled script class
+	 * @throws CompilationFailedException if the source could not be compiled
+	 */
+	@NotNull
+	private Class<? extends Script> getScriptClass() throws CompilationFailedException {
+		Class<? extends Script> scriptClass = _scriptClass;
+		if (scriptClass == null) {
+			scriptClass = _cache.get(_source, source -> new GroovyShell(_classLoader).parse(source).getClass());
+			_scriptClass = scriptClass;
+		}
+		return scriptClass;
+	}
 }
@@ -41,6 +41,10 @@ dependencyResolutionManagement {
             library("guava", "com.google.guava:guava:33.4.7-jre")
             library("jackson-databind", "tools.jackson.core:jackson-databind:3.2.0")
             library("slf4j-api", "org.slf4j:slf4j-api:2.0.17")
+
+            version("jmh", "1.37")
+            library("jmh-core", "org.openjdk.jmh", "jmh-core").versionRef("jmh")
+            library("jmh-generator-annprocess", "org.openjdk.jmh", "jmh-generator-annprocess").versionRef("jmh")
         }
         create("testlibs") {
             library("assertj", "org.assertj:assertj-core:3.27.3")
@@ -58,6 +62,7 @@ include("fsdevtools-serverrunner")
 include("fsdevtools-commands")
 include("fsdevtools-docs")
 include("fsdevtools-docs-generator")
+include("fsdevtools-benchmarks")
 include("fsdevtools-commands:feature")
 include("fsdevtools-commands:module")
 include("fsdevtools-commands:project")